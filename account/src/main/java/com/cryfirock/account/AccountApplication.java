@@ -2,6 +2,7 @@ package com.cryfirock.account;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Clase principal para la aplicación de cuentas.
@@ -11,7 +12,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @since 2025-01-17
  * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
  */
-@SpringBootApplication
+@SpringBootApplication @EnableScheduling
 public class AccountApplication {
     public static void main(String[] args) {
         SpringApplication.run(AccountApplication.class, args);
@@ -0,0 +1,55 @@
+package com.cryfirock.account.controller;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cryfirock.account.dto.AccountChangePageDto;
+import com.cryfirock.account.service.api.IAccountChangeService;
+
+/**
+ * 1. Controlador REST para el feed de cambios de cuentas.
+ * 2. Permite a otros servicios sincronizarse de forma incremental sin consultar cada cuenta.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController @RequestMapping("/api/accounts/changes")
+public class AccountChangeController {
+    // Servicio del feed de cambios.
+    private final IAccountChangeService accountChangeService;
+
+    /**
+     * Constructor que inyecta el servicio del feed de cambios.
+     *
+     * @param accountChangeService Servicio del feed de cambios.
+     */
+    public AccountChangeController(IAccountChangeService accountChangeService) {
+        this.accountChangeService = accountChangeService;
+    }
+
+    /**
+     * 1. Obtiene los cambios de cuentas posteriores a una posición.
+     * 2. Con wait mayor que cero la petición espera a que haya cambios (long-poll).
+     * 3. El consumidor envía el campo next de la respuesta como since de la siguiente petición.
+     *
+     * @param since Última posición leída, cero para empezar desde el principio.
+     * @param limit Número máximo de cambios.
+     * @param wait Segundos de espera si no hay cambios.
+     * @return Página de cambios.
+     */
+    @GetMapping
+    public CompletableFuture<ResponseEntity<AccountChangePageDto>> findChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") int wait) {
+        return accountChangeService
+                .findChanges(since, limit, wait)
+                .thenApply(ResponseEntity::ok);
+    }
+}
@@ -1,8 +1,13 @@
 package com.cryfirock.account.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,12 +15,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.cryfirock.account.dto.AccountBatchResponseDto;
+import com.cryfirock.account.dto.AccountIdsRequestDto;
+import com.cryfirock.account.dto.AccountPageResponseDto;
 import com.cryfirock.account.dto.AccountRequestDto;
 import com.cryfirock.account.dto.AccountResponseDto;
+import com.cryfirock.account.helper.IdempotencyHelper;
+import com.cryfirock.account.service.api.IAccountImportService;
 import com.cryfirock.account.service.api.IAccountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * 1. Controlador REST para operaciones CRUD de cuentas.
@@ -29,42 +43,98 @@ import com.cryfirock.account.service.api.IAccountService;
 public class AccountController {
     // Servicio para operaciones de cuentas.
     private final IAccountService accountService;
+    // Servicio de importación de cuentas en bloque.
+    private final IAccountImportService accountImportService;
+    // Serializador JSON para emitir cuentas en formato NDJSON.
+    private final ObjectMapper objectMapper;
+    // Almacén de respuestas de las escrituras con clave de idempotencia.
+    private final IdempotencyHelper idempotencyHelper;
 
     /**
      * Constructor que inyecta el servicio de cuentas.
      *
      * @param accountService Servicio de cuentas.
+     * @param accountImportService Servicio de importación de cuentas.
+     * @param objectMapper Serializador JSON.
+     * @param idempotencyHelper Almacén de respuestas por clave de idempotencia.
      */
-    public AccountController(IAccountService accountService) {
+    public AccountController(
+            IAccountService accountService,
+            IAccountImportService accountImportService,
+            ObjectMapper objectMapper,
+            IdempotencyHelper idempotencyHelper) {
         this.accountService = accountService;
+        this.accountImportService = accountImportService;
+        this.objectMapper = objectMapper;
+        this.idempotencyHelper = idempotencyHelper;
     }
 
     /**
      * 1. Crea una cuenta con usuarios y productos asociados.
+     * 2. Con la misma clave de idempotencia se repite la respuesta sin volver a ejecutarla.
      *
+     * @param idempotencyKey Clave de idempotencia opcional.
      * @param request Datos de la cuenta y relaciones.
      * @return Cuenta creada con relaciones.
      */
     @PostMapping
-    public ResponseEntity<AccountResponseDto> create(@RequestBody AccountRequestDto request) {
+    public ResponseEntity<AccountResponseDto> create(
+            @RequestHeader(value = IdempotencyHelper.KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody AccountRequestDto request) {
         Objects.requireNonNull(request, "Request must not be null");
-        return ResponseEntity.ok(accountService.create(request));
+        return idempotencyHelper.execute(
+                idempotencyKey,
+                "POST /api/accounts",
+                request,
+                AccountResponseDto.class,
+                () -> ResponseEntity.ok(accountService.create(request)));
+    }
+
+    /**
+     * 1. Importa cuentas en bloque desde un cuerpo NDJSON con una cuenta por línea.
+     * 2. Responde en NDJSON con el resultado de cada línea según se conoce.
+     * 3. Ni la petición ni la respuesta se cargan completas en memoria.
+     *
+     * @param body Cuerpo NDJSON de la petición.
+     * @return Cuerpo de respuesta que se escribe en streaming.
+     */
+    @PostMapping(
+            value = "/import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importAccounts(InputStream body) {
+        Objects.requireNonNull(body, "Body must not be null");
+        StreamingResponseBody report = outputStream -> accountImportService.importAccounts(
+                body,
+                result -> writeLine(outputStream, result));
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(report);
     }
 
     /**
      * 1. Actualiza una cuenta y sus relaciones asociadas.
+     * 2. Con la misma clave de idempotencia se repite la respuesta sin volver a ejecutarla.
      *
+     * @param idempotencyKey Clave de idempotencia opcional.
      * @param id Identificador de la cuenta.
      * @param request Datos actualizados de la cuenta y relaciones.
      * @return Cuenta actualizada con relaciones.
      */
     @PutMapping("/{id}")
     public ResponseEntity<AccountResponseDto> update(
+            @RequestHeader(value = IdempotencyHelper.KEY_HEADER, required = false) String idempotencyKey,
             @PathVariable Long id,
             @RequestBody AccountRequestDto request) {
         Objects.requireNonNull(id, "ID must not be null");
         Objects.requireNonNull(request, "Request must not be null");
-        return ResponseEntity.ok(accountService.update(id, request));
+        return idempotencyHelper.execute(
+                idempotencyKey,
+                "PUT /api/accounts/" + id,
+                request,
+                AccountResponseDto.class,
+                () -> ResponseEntity.ok(accountService.update(id, request)));
     }
 
     /**
@@ -79,6 +149,34 @@ public class AccountController {
         return ResponseEntity.ok(accountService.findById(id));
     }
 
+    /**
+     * 1. Obtiene varias cuentas con usuarios y productos asociados.
+     * 2. Retorna las cuentas en el orden de los ids y los ids que no existen.
+     *
+     * @param ids Identificadores de las cuentas.
+     * @return Cuentas encontradas e ids no encontrados.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<AccountBatchResponseDto> findAllByIds(@RequestParam List<Long> ids) {
+        Objects.requireNonNull(ids, "IDs must not be null");
+        return ResponseEntity.ok(accountService.findAllByIds(ids));
+    }
+
+    /**
+     * 1. Obtiene varias cuentas enviando los ids en el cuerpo de la petición.
+     * 2. Permite listas de ids demasiado largas para la query string.
+     *
+     * @param request Identificadores de las cuentas.
+     * @return Cuentas encontradas e ids no encontrados.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<AccountBatchResponseDto> findAllByIds(
+            @RequestBody AccountIdsRequestDto request) {
+        Objects.requireNonNull(request, "Request must not be null");
+        return ResponseEntity.ok(accountService.findAllByIds(
+                request.ids() == null ? List.of() : request.ids()));
+    }
+
     /**
      * 1. Obtiene cuentas asociadas a un usuario.
      * 2. Incluye productos asociados a cada cuenta.
@@ -92,16 +190,80 @@ public class AccountController {
         return ResponseEntity.ok(accountService.findByUserId(userId));
     }
 
+    /**
+     * 1. Obtiene una página de cuentas asociadas a un usuario.
+     * 2. Usa paginación por clave con el último id recibido como cursor.
+     *
+     * @param userId Identificador del usuario.
+     * @param after Último id de cuenta de la página anterior.
+     * @param limit Número máximo de cuentas de la página.
+     * @return Página de cuentas con el cursor de la página siguiente.
+     */
+    @GetMapping(value = "/users/{userId}", params = "limit")
+    public ResponseEntity<AccountPageResponseDto> findPageByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long after,
+            @RequestParam int limit) {
+        Objects.requireNonNull(userId, "User ID must not be null");
+        return ResponseEntity.ok(accountService.findPageByUserId(userId, after, limit));
+    }
+
+    /**
+     * 1. Emite las cuentas asociadas a un usuario en formato NDJSON.
+     * 2. Cada línea es una cuenta con relaciones y se envía según se lee.
+     * 3. Se selecciona con la cabecera Accept: application/x-ndjson.
+     *
+     * @param userId Identificador del usuario.
+     * @return Cuerpo de respuesta que se escribe en streaming.
+     */
+    @GetMapping(value = "/users/{userId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamByUserId(@PathVariable Long userId) {
+        Objects.requireNonNull(userId, "User ID must not be null");
+        StreamingResponseBody body = outputStream -> accountService.streamByUserId(
+                userId,
+                account -> writeLine(outputStream, account));
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * 1. Elimina una cuenta y sus relaciones.
+     * 2. Con la misma clave de idempotencia se repite la respuesta sin volver a ejecutarla.
      *
+     * @param idempotencyKey Clave de idempotencia opcional.
      * @param id Identificador de la cuenta.
      * @return Respuesta sin contenido.
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
+    public ResponseEntity<Void> delete(
+            @RequestHeader(value = IdempotencyHelper.KEY_HEADER, required = false) String idempotencyKey,
+            @PathVariable Long id) {
         Objects.requireNonNull(id, "ID must not be null");
-        accountService.delete(id);
-        return ResponseEntity.noContent().build();
+        return idempotencyHelper.execute(
+                idempotencyKey,
+                "DELETE /api/accounts/" + id,
+                null,
+                Void.class,
+                () -> {
+                    accountService.delete(id);
+                    return ResponseEntity.noContent().build();
+                });
+    }
+
+    /**
+     * Escribe un objeto como una línea NDJSON.
+     *
+     * @param outputStream Flujo de salida de la respuesta.
+     * @param value Objeto a escribir.
+     */
+    private void writeLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
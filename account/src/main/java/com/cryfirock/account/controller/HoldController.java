@@ -0,0 +1,105 @@
+package com.cryfirock.account.controller;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cryfirock.account.dto.AccountAvailabilityDto;
+import com.cryfirock.account.dto.HoldCaptureRequestDto;
+import com.cryfirock.account.dto.HoldRequestDto;
+import com.cryfirock.account.dto.HoldResponseDto;
+import com.cryfirock.account.service.api.IHoldService;
+
+/**
+ * 1. Controlador REST para las retenciones de fondos de las cuentas.
+ * 2. Expone endpoints para retener, capturar y liberar fondos y consultar el disponible.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController @RequestMapping("/api/accounts/holds")
+public class HoldController {
+    // Servicio de retenciones.
+    private final IHoldService holdService;
+
+    /**
+     * Constructor que inyecta el servicio de retenciones.
+     *
+     * @param holdService Servicio de retenciones.
+     */
+    public HoldController(IHoldService holdService) {
+        this.holdService = holdService;
+    }
+
+    /**
+     * 1. Retiene un importe de una cuenta durante un plazo.
+     *
+     * @param request Datos de la retención.
+     * @return Retención creada.
+     */
+    @PostMapping
+    public ResponseEntity<HoldResponseDto> create(@RequestBody HoldRequestDto request) {
+        Objects.requireNonNull(request, "Request must not be null");
+        return ResponseEntity.ok(holdService.create(request));
+    }
+
+    /**
+     * 1. Obtiene una retención por su identificador.
+     *
+     * @param holdId Identificador de la retención.
+     * @return Retención encontrada.
+     */
+    @GetMapping("/{holdId}")
+    public ResponseEntity<HoldResponseDto> findById(@PathVariable UUID holdId) {
+        Objects.requireNonNull(holdId, "Hold ID must not be null");
+        return ResponseEntity.ok(holdService.findById(holdId));
+    }
+
+    /**
+     * 1. Captura una retención transfiriendo su importe a otra cuenta.
+     *
+     * @param holdId Identificador de la retención.
+     * @param request Cuenta de destino e importe a capturar.
+     * @return Retención capturada.
+     */
+    @PostMapping("/{holdId}/capture")
+    public ResponseEntity<HoldResponseDto> capture(
+            @PathVariable UUID holdId,
+            @RequestBody HoldCaptureRequestDto request) {
+        Objects.requireNonNull(holdId, "Hold ID must not be null");
+        Objects.requireNonNull(request, "Request must not be null");
+        return ResponseEntity.ok(holdService.capture(holdId, request));
+    }
+
+    /**
+     * 1. Libera una retención activa sin mover fondos.
+     *
+     * @param holdId Identificador de la retención.
+     * @return Retención liberada.
+     */
+    @PostMapping("/{holdId}/release")
+    public ResponseEntity<HoldResponseDto> release(@PathVariable UUID holdId) {
+        Objects.requireNonNull(holdId, "Hold ID must not be null");
+        return ResponseEntity.ok(holdService.release(holdId));
+    }
+
+    /**
+     * 1. Obtiene el saldo de una cuenta desglosado en reservado y disponible.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @return Saldo reservado y disponible.
+     */
+    @GetMapping("/accounts/{accountId}")
+    public ResponseEntity<AccountAvailabilityDto> findAvailability(@PathVariable Long accountId) {
+        Objects.requireNonNull(accountId, "Account ID must not be null");
+        return ResponseEntity.ok(holdService.findAvailability(accountId));
+    }
+}
@@ -0,0 +1,50 @@
+package com.cryfirock.account.controller;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cryfirock.account.dto.InterestAccrualResultDto;
+import com.cryfirock.account.service.api.IInterestAccrualService;
+
+/**
+ * 1. Controlador REST para el devengo de intereses de las cuentas.
+ * 2. Expone el endpoint que lanza o reanuda el devengo de un día.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController @RequestMapping("/api/accounts/interest")
+public class InterestController {
+    // Servicio de devengo de intereses.
+    private final IInterestAccrualService interestAccrualService;
+
+    /**
+     * Constructor que inyecta el servicio de devengo.
+     *
+     * @param interestAccrualService Servicio de devengo de intereses.
+     */
+    public InterestController(IInterestAccrualService interestAccrualService) {
+        this.interestAccrualService = interestAccrualService;
+    }
+
+    /**
+     * 1. Devenga los intereses de un día o reanuda un devengo interrumpido.
+     *
+     * @param date Día a devengar en formato ISO.
+     * @return Resumen de la ejecución.
+     */
+    @PostMapping("/accruals")
+    public ResponseEntity<InterestAccrualResultDto> accrue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        Objects.requireNonNull(date, "Date must not be null");
+        return ResponseEntity.ok(interestAccrualService.accrue(date));
+    }
+}
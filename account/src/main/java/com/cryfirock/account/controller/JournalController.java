@@ -0,0 +1,63 @@
+package com.cryfirock.account.controller;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cryfirock.account.dto.JournalEntryRequestDto;
+import com.cryfirock.account.dto.JournalEntryResponseDto;
+import com.cryfirock.account.service.api.IJournalService;
+
+/**
+ * 1. Controlador REST para el diario contable de las cuentas.
+ * 2. Expone endpoints para registrar asientos y reconstruir saldos.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController @RequestMapping("/api/accounts/journal")
+public class JournalController {
+    // Servicio del diario contable.
+    private final IJournalService journalService;
+
+    /**
+     * Constructor que inyecta el servicio del diario.
+     *
+     * @param journalService Servicio del diario contable.
+     */
+    public JournalController(IJournalService journalService) {
+        this.journalService = journalService;
+    }
+
+    /**
+     * 1. Registra un asiento cuyos apuntes suman cero.
+     *
+     * @param request Datos del asiento y sus apuntes.
+     * @return Asiento registrado.
+     */
+    @PostMapping
+    public ResponseEntity<JournalEntryResponseDto> post(
+            @RequestBody JournalEntryRequestDto request) {
+        Objects.requireNonNull(request, "Request must not be null");
+        return ResponseEntity.ok(journalService.post(request));
+    }
+
+    /**
+     * 1. Reconstruye el saldo de una cuenta a partir de sus apuntes.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @return Saldo reconstruido.
+     */
+    @PostMapping("/accounts/{accountId}/rebuild")
+    public ResponseEntity<BigDecimal> rebuildBalance(@PathVariable Long accountId) {
+        Objects.requireNonNull(accountId, "Account ID must not be null");
+        return ResponseEntity.ok(journalService.rebuildBalance(accountId).toBigDecimal());
+    }
+}
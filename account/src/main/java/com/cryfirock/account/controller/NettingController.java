@@ -0,0 +1,50 @@
+package com.cryfirock.account.controller;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cryfirock.account.dto.NettingResultDto;
+import com.cryfirock.account.service.api.INettingService;
+
+/**
+ * 1. Controlador REST para el lote de compensación multilateral.
+ * 2. Expone el endpoint que lanza la compensación de un día.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController @RequestMapping("/api/accounts/netting")
+public class NettingController {
+    // Servicio de compensación.
+    private final INettingService nettingService;
+
+    /**
+     * Constructor que inyecta el servicio de compensación.
+     *
+     * @param nettingService Servicio de compensación.
+     */
+    public NettingController(INettingService nettingService) {
+        this.nettingService = nettingService;
+    }
+
+    /**
+     * 1. Compensa las obligaciones de un día y devuelve las instrucciones de liquidación.
+     *
+     * @param date Día a compensar en formato ISO.
+     * @return Posiciones netas e instrucciones de liquidación.
+     */
+    @PostMapping
+    public ResponseEntity<NettingResultDto> net(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        Objects.requireNonNull(date, "Date must not be null");
+        return ResponseEntity.ok(nettingService.net(date));
+    }
+}
@@ -0,0 +1,58 @@
+package com.cryfirock.account.controller;
+
+import java.util.Objects;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cryfirock.account.dto.OwnerSummaryDto;
+import com.cryfirock.account.service.api.IOwnerRollupService;
+
+/**
+ * 1. Controlador REST para los resúmenes de saldos por titular principal.
+ * 2. Expone la consulta del resumen de un titular y su reconstrucción completa.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController @RequestMapping("/api/accounts/owners")
+public class OwnerController {
+    // Servicio de resúmenes por titular.
+    private final IOwnerRollupService ownerRollupService;
+
+    /**
+     * Constructor que inyecta el servicio de resúmenes por titular.
+     *
+     * @param ownerRollupService Servicio de resúmenes por titular.
+     */
+    public OwnerController(IOwnerRollupService ownerRollupService) {
+        this.ownerRollupService = ownerRollupService;
+    }
+
+    /**
+     * Obtiene el saldo total por divisa de un titular principal.
+     *
+     * @param ownerId Identificador del titular principal.
+     * @return Resumen del titular.
+     */
+    @GetMapping("/{ownerId}/balances")
+    public ResponseEntity<OwnerSummaryDto> findByOwnerId(@PathVariable Long ownerId) {
+        Objects.requireNonNull(ownerId, "Owner ID must not be null");
+        return ResponseEntity.ok(ownerRollupService.findByOwnerId(ownerId));
+    }
+
+    /**
+     * Reconstruye desde cero los resúmenes de todos los titulares.
+     *
+     * @return Número de cuentas cargadas.
+     */
+    @PostMapping("/balances/rebuild")
+    public ResponseEntity<Integer> rebuild() {
+        return ResponseEntity.ok(ownerRollupService.rebuild());
+    }
+}
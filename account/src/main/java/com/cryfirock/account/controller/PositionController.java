@@ -0,0 +1,42 @@
+package com.cryfirock.account.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cryfirock.account.dto.FxPositionsDto;
+import com.cryfirock.account.service.api.IFxPositionService;
+
+/**
+ * 1. Controlador REST para la exposición agregada por divisa.
+ * 2. Expone las posiciones valoradas en la divisa base.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController @RequestMapping("/api/accounts/positions")
+public class PositionController {
+    // Servicio de posiciones por divisa.
+    private final IFxPositionService fxPositionService;
+
+    /**
+     * Constructor que inyecta el servicio de posiciones.
+     *
+     * @param fxPositionService Servicio de posiciones por divisa.
+     */
+    public PositionController(IFxPositionService fxPositionService) {
+        this.fxPositionService = fxPositionService;
+    }
+
+    /**
+     * Obtiene las posiciones por clase de activo y divisa con sus totales en divisa base.
+     *
+     * @return Posiciones y totales.
+     */
+    @GetMapping
+    public ResponseEntity<FxPositionsDto> findPositions() {
+        return ResponseEntity.ok(fxPositionService.findPositions());
+    }
+}
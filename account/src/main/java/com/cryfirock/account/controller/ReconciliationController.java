@@ -0,0 +1,65 @@
+package com.cryfirock.account.controller;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cryfirock.account.dto.ReconciliationBreakDto;
+import com.cryfirock.account.dto.ReconciliationResultDto;
+import com.cryfirock.account.service.api.IReconciliationService;
+
+/**
+ * 1. Controlador REST para la conciliación de saldos con extractos externos.
+ * 2. Expone endpoints para conciliar un extracto y leer su informe de diferencias.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController @RequestMapping("/api/accounts/reconciliations")
+public class ReconciliationController {
+    // Servicio de conciliación.
+    private final IReconciliationService reconciliationService;
+
+    /**
+     * Constructor que inyecta el servicio de conciliación.
+     *
+     * @param reconciliationService Servicio de conciliación.
+     */
+    public ReconciliationController(IReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    /**
+     * 1. Concilia un extracto CSV de líneas IBAN,saldo ordenadas por IBAN.
+     * 2. El cuerpo se lee en streaming sin cargarlo completo en memoria.
+     *
+     * @param body Flujo del extracto.
+     * @return Resumen de la ejecución.
+     */
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<ReconciliationResultDto> reconcile(InputStream body) {
+        Objects.requireNonNull(body, "Body must not be null");
+        return ResponseEntity.ok(reconciliationService.reconcile(body));
+    }
+
+    /**
+     * 1. Obtiene el informe de partidas en suspenso de una ejecución.
+     *
+     * @param runId Identificador de la ejecución.
+     * @return Diferencias ordenadas por IBAN.
+     */
+    @GetMapping("/{runId}/breaks")
+    public ResponseEntity<List<ReconciliationBreakDto>> findBreaks(@PathVariable UUID runId) {
+        Objects.requireNonNull(runId, "Run ID must not be null");
+        return ResponseEntity.ok(reconciliationService.findBreaks(runId));
+    }
+}
@@ -0,0 +1,63 @@
+package com.cryfirock.account.controller;
+
+import java.util.Objects;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cryfirock.account.dto.JournalEntryResponseDto;
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.helper.IdempotencyHelper;
+import com.cryfirock.account.service.api.ITransferService;
+
+/**
+ * 1. Controlador REST para transferencias entre cuentas.
+ * 2. Expone el endpoint para mover saldo de una cuenta a otra.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@RestController @RequestMapping("/api/accounts/transfers")
+public class TransferController {
+    // Servicio de transferencias.
+    private final ITransferService transferService;
+    // Almacén de respuestas de las escrituras con clave de idempotencia.
+    private final IdempotencyHelper idempotencyHelper;
+
+    /**
+     * Constructor que inyecta el servicio de transferencias.
+     *
+     * @param transferService Servicio de transferencias.
+     * @param idempotencyHelper Almacén de respuestas por clave de idempotencia.
+     */
+    public TransferController(ITransferService transferService, IdempotencyHelper idempotencyHelper) {
+        this.transferService = transferService;
+        this.idempotencyHelper = idempotencyHelper;
+    }
+
+    /**
+     * 1. Transfiere un importe entre dos cuentas.
+     * 2. Con la misma clave de idempotencia se repite la respuesta sin volver a transferir.
+     *
+     * @param idempotencyKey Clave de idempotencia opcional.
+     * @param request Datos de la transferencia.
+     * @return Asiento registrado.
+     */
+    @PostMapping
+    public ResponseEntity<JournalEntryResponseDto> transfer(
+            @RequestHeader(value = IdempotencyHelper.KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody TransferRequestDto request) {
+        Objects.requireNonNull(request, "Request must not be null");
+        return idempotencyHelper.execute(
+                idempotencyKey,
+                "POST /api/accounts/transfers",
+                request,
+                JournalEntryResponseDto.class,
+                () -> ResponseEntity.ok(transferService.transfer(request)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. DTO con los datos de una cuenta necesarios para devengar sus intereses.
+ * 2. Se construye directamente desde la consulta JPQL sin cargar entidades.
+ * 3. El saldo incluye las fracciones de las cuentas concurridas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountAccrualDto(
+        Long accountId,
+        String currencyCode,
+        Money balance) {
+    /**
+     * Constructor usado por la consulta con el total de las fracciones.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param currencyCode Código de la divisa.
+     * @param balance Saldo base de la cuenta.
+     * @param slotTotal Suma decimal de las fracciones.
+     */
+    public AccountAccrualDto(Long accountId, String currencyCode, Money balance, BigDecimal slotTotal) {
+        this(accountId, currencyCode, balance.plus(Money.of(slotTotal)));
+    }
+}
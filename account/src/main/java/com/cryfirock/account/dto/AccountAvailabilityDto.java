@@ -0,0 +1,18 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 1. DTO con el saldo de una cuenta desglosado en reservado y disponible.
+ * 2. El disponible es el saldo menos el importe de las retenciones activas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountAvailabilityDto(
+        Long accountId,
+        BigDecimal balance,
+        BigDecimal reserved,
+        BigDecimal available) {
+}
@@ -0,0 +1,39 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. DTO con el total acumulado en las fracciones de saldo de una cuenta o su saldo completo.
+ * 2. Se construye directamente desde la consulta JPQL agrupada.
+ * 3. La suma llega como decimal y se convierte a coma fija al construirlo.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountBalanceTotalDto(
+        Long accountId,
+        Money balance) {
+    /**
+     * Constructor usado por la consulta agrupada.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param balance Suma decimal de las fracciones.
+     */
+    public AccountBalanceTotalDto(Long accountId, BigDecimal balance) {
+        this(accountId, Money.of(balance));
+    }
+
+    /**
+     * Constructor usado por la consulta del saldo completo de una cuenta.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param balance Saldo base de la cuenta.
+     * @param slotTotal Suma decimal de las fracciones.
+     */
+    public AccountBalanceTotalDto(Long accountId, Money balance, BigDecimal slotTotal) {
+        this(accountId, balance.plus(Money.of(slotTotal)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.cryfirock.account.dto;
+
+import java.util.List;
+
+/**
+ * 1. DTO de respuesta para la consulta de varias cuentas por id.
+ * 2. Las cuentas encontradas siguen el orden de los ids solicitados.
+ * 3. Los ids que no existen se informan aparte sin fallar la consulta.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountBatchResponseDto(
+        List<AccountResponseDto> items,
+        List<Long> missingIds) {
+}
@@ -0,0 +1,19 @@
+package com.cryfirock.account.dto;
+
+import java.time.Instant;
+
+import com.cryfirock.account.type.AccountChangeType;
+
+/**
+ * DTO con un cambio de cuenta publicado y su posición en el feed de cambios.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountChangeDto(
+        long position,
+        Long accountId,
+        AccountChangeType changeType,
+        Instant occurredAt) {
+}
@@ -0,0 +1,16 @@
+package com.cryfirock.account.dto;
+
+import java.util.List;
+
+/**
+ * 1. DTO con una página del feed de cambios de cuentas.
+ * 2. El cursor next se envía como since en la siguiente consulta.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountChangePageDto(
+        List<AccountChangeDto> changes,
+        long next) {
+}
@@ -0,0 +1,15 @@
+package com.cryfirock.account.dto;
+
+import java.util.List;
+
+/**
+ * 1. DTO con una lista de ids de cuentas a consultar.
+ * 2. Se usa cuando la lista es demasiado larga para la query string.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountIdsRequestDto(
+        List<Long> ids) {
+}
@@ -0,0 +1,18 @@
+package com.cryfirock.account.dto;
+
+import com.cryfirock.account.type.AccountImportStatus;
+
+/**
+ * 1. DTO con el resultado de importar una línea NDJSON de cuentas.
+ * 2. Incluye el id de la cuenta creada o el motivo por el que no se creó.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountImportResultDto(
+        long line,
+        AccountImportStatus status,
+        Long accountId,
+        String error) {
+}
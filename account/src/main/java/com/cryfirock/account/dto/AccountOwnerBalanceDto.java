@@ -0,0 +1,37 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. DTO con el saldo completo de una cuenta, su titular principal y su divisa.
+ * 2. Se usa para reconstruir los saldos por titular sin construir entidades.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountOwnerBalanceDto(
+        Long accountId,
+        Long mainOwnerId,
+        String currencyCode,
+        Money balance) {
+    /**
+     * Constructor usado por la consulta con el total de las fracciones.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param mainOwnerId Identificador del titular principal.
+     * @param currencyCode Código de la divisa.
+     * @param balance Saldo base de la cuenta.
+     * @param slotTotal Suma decimal de las fracciones.
+     */
+    public AccountOwnerBalanceDto(
+            Long accountId,
+            Long mainOwnerId,
+            String currencyCode,
+            Money balance,
+            BigDecimal slotTotal) {
+        this(accountId, mainOwnerId, currencyCode, balance.plus(Money.of(slotTotal)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.cryfirock.account.dto;
+
+import java.util.List;
+
+/**
+ * 1. DTO de respuesta para una página de cuentas paginada por clave.
+ * 2. Incluye el cursor para solicitar la página siguiente.
+ * 3. El cursor es null cuando no quedan más cuentas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountPageResponseDto(
+        List<AccountResponseDto> items,
+        Long nextAfter) {
+}
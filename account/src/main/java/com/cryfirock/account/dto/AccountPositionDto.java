@@ -0,0 +1,38 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+import com.cryfirock.account.type.AccountAssets;
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. DTO con el saldo completo de una cuenta y el grupo de divisa al que pertenece.
+ * 2. Se usa para cargar las posiciones por divisa sin construir entidades.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountPositionDto(
+        Long accountId,
+        AccountAssets financialAssetClass,
+        String currencyCode,
+        Money balance) {
+    /**
+     * Constructor usado por la consulta con el total de las fracciones.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param financialAssetClass Clase de activo de la cuenta.
+     * @param currencyCode Código de la divisa.
+     * @param balance Saldo base de la cuenta.
+     * @param slotTotal Suma decimal de las fracciones.
+     */
+    public AccountPositionDto(
+            Long accountId,
+            AccountAssets financialAssetClass,
+            String currencyCode,
+            Money balance,
+            BigDecimal slotTotal) {
+        this(accountId, financialAssetClass, currencyCode, balance.plus(Money.of(slotTotal)));
+    }
+}
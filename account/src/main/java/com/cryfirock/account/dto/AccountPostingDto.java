@@ -0,0 +1,17 @@
+package com.cryfirock.account.dto;
+
+import com.cryfirock.account.type.AccountStatus;
+
+/**
+ * 1. DTO con los datos de una cuenta necesarios para validar un apunte.
+ * 2. Se construye directamente desde la consulta JPQL sin cargar entidades.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountPostingDto(
+        Long accountId,
+        String currencyCode,
+        AccountStatus status) {
+}
@@ -0,0 +1,31 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. DTO con el saldo guardado de una cuenta para conciliarlo con un extracto.
+ * 2. Se construye directamente desde la consulta JPQL sin cargar entidades.
+ * 3. El saldo incluye el total de las fracciones de la cuenta.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AccountReconciliationDto(
+        Long accountId,
+        String ibanNumber,
+        Money balance) {
+    /**
+     * Constructor usado por la consulta con el total de las fracciones.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param ibanNumber IBAN de la cuenta.
+     * @param balance Saldo base de la cuenta.
+     * @param slotTotal Suma decimal de las fracciones.
+     */
+    public AccountReconciliationDto(Long accountId, String ibanNumber, Money balance, BigDecimal slotTotal) {
+        this(accountId, ibanNumber, balance.plus(Money.of(slotTotal)));
+    }
+}
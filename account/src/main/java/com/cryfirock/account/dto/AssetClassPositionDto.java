@@ -0,0 +1,17 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+import com.cryfirock.account.type.AccountAssets;
+
+/**
+ * DTO con el contravalor en divisa base de todas las posiciones de una clase de activo.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record AssetClassPositionDto(
+        AccountAssets financialAssetClass,
+        BigDecimal baseTotal) {
+}
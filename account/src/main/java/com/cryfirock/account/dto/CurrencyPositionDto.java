@@ -0,0 +1,21 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+import com.cryfirock.account.type.AccountAssets;
+
+/**
+ * 1. DTO con la posición agregada de una divisa dentro de una clase de activo.
+ * 2. El tipo y el contravalor son null si la divisa no tiene cambio publicado.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record CurrencyPositionDto(
+        AccountAssets financialAssetClass,
+        String currencyCode,
+        BigDecimal total,
+        BigDecimal rate,
+        BigDecimal baseTotal) {
+}
@@ -0,0 +1,22 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 1. DTO con la exposición agregada por divisa y su contravalor en divisa base.
+ * 2. Las divisas sin cambio publicado no suman en los totales y se listan aparte.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record FxPositionsDto(
+        String baseCurrency,
+        Instant ratesLoadedAt,
+        List<CurrencyPositionDto> positions,
+        List<AssetClassPositionDto> assetClasses,
+        BigDecimal baseTotal,
+        List<String> unpricedCurrencies) {
+}
@@ -0,0 +1,16 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 1. DTO para capturar una retención transfiriendo su importe a otra cuenta.
+ * 2. Sin importe se captura la retención completa, el resto se libera.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record HoldCaptureRequestDto(
+        Long targetAccountId,
+        BigDecimal amount) {
+}
@@ -0,0 +1,18 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 1. DTO para retener fondos de una cuenta durante un plazo.
+ * 2. El importe debe ser positivo y no superar el saldo disponible.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record HoldRequestDto(
+        String reference,
+        Long accountId,
+        BigDecimal amount,
+        Long expiresInSeconds) {
+}
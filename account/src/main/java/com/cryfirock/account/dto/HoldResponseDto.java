@@ -0,0 +1,24 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.cryfirock.account.type.HoldStatus;
+
+/**
+ * DTO de respuesta con los datos de una retención de fondos.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record HoldResponseDto(
+        UUID id,
+        String reference,
+        Long accountId,
+        BigDecimal amount,
+        BigDecimal capturedAmount,
+        HoldStatus status,
+        Instant expiresAt) {
+}
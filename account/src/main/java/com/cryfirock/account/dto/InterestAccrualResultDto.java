@@ -0,0 +1,18 @@
+package com.cryfirock.account.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 1. DTO con el resultado de una ejecución del devengo de intereses.
+ * 2. Los bloques reanudados son los que ya estaban completados antes de la ejecución.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record InterestAccrualResultDto(
+        LocalDate businessDate,
+        int chunks,
+        int resumedChunks,
+        long accounts) {
+}
@@ -0,0 +1,20 @@
+package com.cryfirock.account.dto;
+
+import java.util.List;
+
+import com.cryfirock.account.type.JournalEntryType;
+
+/**
+ * 1. DTO para registrar un asiento en el diario contable.
+ * 2. Los apuntes de un asiento deben sumar cero.
+ * 3. Si no se indica el tipo se registra como TRANSFER.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record JournalEntryRequestDto(
+        String reference,
+        JournalEntryType entryType,
+        List<PostingDto> postings) {
+}
@@ -0,0 +1,22 @@
+package com.cryfirock.account.dto;
+
+import java.util.List;
+
+import com.cryfirock.account.entity.Audit;
+import com.cryfirock.account.type.JournalEntryType;
+
+/**
+ * 1. DTO de respuesta para exponer un asiento del diario contable.
+ * 2. Incluye los apuntes registrados en el asiento.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record JournalEntryResponseDto(
+        Long id,
+        String reference,
+        JournalEntryType type,
+        Audit audit,
+        List<PostingDto> postings) {
+}
@@ -0,0 +1,17 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 1. DTO con la posición neta de un participante en una divisa.
+ * 2. Es negativa cuando el participante debe pagar.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record NetPositionDto(
+        Long participantId,
+        String currencyCode,
+        BigDecimal amount) {
+}
@@ -0,0 +1,17 @@
+package com.cryfirock.account.dto;
+
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. DTO con una obligación de un participante en el lote de compensación.
+ * 2. Se construye directamente desde la consulta JPQL sin cargar entidades.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record NettingObligationDto(
+        Long participantId,
+        String currencyCode,
+        Money amount) {
+}
@@ -0,0 +1,19 @@
+package com.cryfirock.account.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 1. DTO con el resultado del lote de compensación de un día.
+ * 2. Incluye las posiciones netas y las instrucciones que las liquidan.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record NettingResultDto(
+        LocalDate businessDate,
+        long obligations,
+        List<NetPositionDto> positions,
+        List<SettlementInstructionDto> instructions) {
+}
@@ -0,0 +1,16 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO con el saldo total y el número de cuentas de un titular en una divisa.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record OwnerBalanceDto(
+        String currencyCode,
+        BigDecimal balance,
+        long accounts) {
+}
@@ -0,0 +1,15 @@
+package com.cryfirock.account.dto;
+
+import java.util.List;
+
+/**
+ * DTO con el resumen de saldos de un titular principal por divisa.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record OwnerSummaryDto(
+        Long mainOwnerId,
+        List<OwnerBalanceDto> balances) {
+}
@@ -0,0 +1,16 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 1. DTO de un apunte sobre una cuenta.
+ * 2. Un importe positivo aumenta el saldo y uno negativo lo disminuye.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record PostingDto(
+        Long accountId,
+        BigDecimal amount) {
+}
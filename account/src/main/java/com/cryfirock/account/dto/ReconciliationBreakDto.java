@@ -0,0 +1,20 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+import com.cryfirock.account.type.ReconciliationBreakType;
+
+/**
+ * DTO de respuesta con una diferencia del informe de partidas en suspenso.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record ReconciliationBreakDto(
+        String ibanNumber,
+        Long accountId,
+        BigDecimal storedBalance,
+        BigDecimal statementBalance,
+        ReconciliationBreakType breakType) {
+}
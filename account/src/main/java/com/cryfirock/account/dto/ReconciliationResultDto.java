@@ -0,0 +1,20 @@
+package com.cryfirock.account.dto;
+
+import java.util.UUID;
+
+/**
+ * 1. DTO con el resultado de una ejecución de la conciliación.
+ * 2. Las diferencias se consultan en el informe de partidas en suspenso de la ejecución.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record ReconciliationResultDto(
+        UUID runId,
+        long accounts,
+        long matched,
+        long breaks,
+        long elapsedMillis,
+        double accountsPerSecond) {
+}
@@ -0,0 +1,17 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO con una instrucción de pago entre dos participantes del lote de compensación.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record SettlementInstructionDto(
+        String currencyCode,
+        Long payerId,
+        Long payeeId,
+        BigDecimal amount) {
+}
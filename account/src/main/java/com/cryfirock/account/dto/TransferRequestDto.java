@@ -0,0 +1,18 @@
+package com.cryfirock.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 1. DTO para transferir un importe entre dos cuentas.
+ * 2. El importe debe ser positivo y las cuentas distintas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record TransferRequestDto(
+        String reference,
+        Long sourceAccountId,
+        Long targetAccountId,
+        BigDecimal amount) {
+}
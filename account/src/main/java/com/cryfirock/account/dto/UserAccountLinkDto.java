@@ -0,0 +1,14 @@
+package com.cryfirock.account.dto;
+
+/**
+ * 1. DTO con la relación entre un usuario y una cuenta.
+ * 2. Se construye directamente desde la consulta JPQL sin cargar entidades.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record UserAccountLinkDto(
+        Long userId,
+        Long accountId) {
+}
@@ -1,11 +1,10 @@
 package com.cryfirock.account.entity;
 
-import java.math.BigDecimal;
-
 import com.cryfirock.account.type.AccountAssets;
 import com.cryfirock.account.type.AccountNature;
 import com.cryfirock.account.type.AccountOperational;
 import com.cryfirock.account.type.AccountStatus;
+import com.cryfirock.account.type.Money;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
@@ -16,7 +15,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -38,8 +39,13 @@ public class Account {
     // --- Registros asociados a la cuenta bancaria ---
     // ============================================================================================
     // 1. Refiere al número identificador único de la cuenta en la base de datos.
-    // 2. Ejemplo: 1001
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 2. Se genera con una secuencia para poder insertar cuentas por lotes.
+    // 3. Ejemplo: 1001
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq")
+    @SequenceGenerator(
+            name = "account_seq",
+            sequenceName = "account_seq",
+            allocationSize = 50)
     private Long id;
 
     // 1. Refiere al número identificador único del usuario principal de la cuenta.
@@ -69,9 +75,12 @@ public class Account {
     private String ibanNumber;
 
     // 1. Refiere al saldo actual de la cuenta bancaria.
-    // 2. Ejemplo: 1500.75
-    @Column(name = "current_balance", nullable = false, precision = 19, scale = 4)
-    private BigDecimal currentBalance;
+    // 2. Es una proyección del diario contable que solo cambia mediante apuntes.
+    // 3. No se actualiza al guardar la entidad para no pisar apuntes concurrentes.
+    // 4. Se guarda en memoria como unidades mínimas en un long.
+    // 5. Ejemplo: 1500.75
+    @Column(name = "current_balance", nullable = false, updatable = false, precision = 19, scale = 4)
+    private Money currentBalance;
 
     // ============================================================================================
     // --- Representaciones asociadas a la cuenta bancaria ---
@@ -97,13 +106,18 @@ public class Account {
     // 1. Metadatos de manipulación de la cuenta bancarias.
     // 2. Ejemplo: 07/01/2025 10:15:30
     @Embedded
-    private Audit audit;
+    private Audit audit = new Audit();
+
+    // 1. Versión de la fila para el control de concurrencia optimista.
+    // 2. Una escritura con una versión antigua falla en lugar de pisar otra.
+    @Version @Column(name = "version")
+    private Long version;
 
     // 1. Metadatos para establecer valores predeterminados.
     // 2. Ejemplo: ACTIVE
     @PrePersist
     public void prePersist() {
         if (this.bankAccountStatus == null) this.bankAccountStatus = AccountStatus.ACTIVE;
-        if (this.currentBalance == null) this.currentBalance = BigDecimal.ZERO;
+        if (this.currentBalance == null) this.currentBalance = Money.ZERO;
     }
 }
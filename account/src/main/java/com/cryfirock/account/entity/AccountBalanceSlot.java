@@ -0,0 +1,70 @@
+package com.cryfirock.account.entity;
+
+import com.cryfirock.account.type.Money;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 1. Entidad que representa una fracción del saldo de una cuenta muy concurrida.
+ * 2. El saldo de la cuenta es su saldo base más la suma de todas sus fracciones.
+ * 3. Reparte las escrituras entre varias filas para no serializarlas en una sola.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity @Table(
+        // Tabla de fracciones de saldo de las cuentas concurridas.
+        name = "account_balance_slot",
+        // Restricción de una única fracción por índice en cada cuenta.
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = { "account_id", "slot_index" })
+        }) @Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class AccountBalanceSlot {
+    // 1. Identificador único de la fracción.
+    // 2. Secuencia con reserva de bloques para permitir inserciones por lotes.
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_balance_slot_seq")
+    @SequenceGenerator(
+            name = "account_balance_slot_seq",
+            sequenceName = "account_balance_slot_seq",
+            allocationSize = 50)
+    private Long id;
+
+    // 1. Identificador de la cuenta a la que pertenece la fracción.
+    // 2. Ejemplo: 1001
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // 1. Posición de la fracción dentro de la cuenta.
+    // 2. Ejemplo: 3
+    @Column(name = "slot_index", nullable = false)
+    private Integer slotIndex;
+
+    // 1. Parte del saldo acumulada en la fracción.
+    // 2. Ejemplo: -250.0000
+    @Column(name = "balance", nullable = false, precision = 19, scale = 4)
+    private Money balance;
+
+    /**
+     * Constructor personalizado.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param slotIndex Posición de la fracción.
+     */
+    public AccountBalanceSlot(Long accountId, Integer slotIndex) {
+        this.accountId = accountId;
+        this.slotIndex = slotIndex;
+        this.balance = Money.ZERO;
+    }
+}
@@ -0,0 +1,87 @@
+package com.cryfirock.account.entity;
+
+import java.time.Instant;
+
+import com.cryfirock.account.type.AccountChangeType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 1. Entidad de la tabla outbox con los cambios de las cuentas pendientes de publicar.
+ * 2. Se inserta en la misma transacción que el cambio de la cuenta.
+ * 3. Al publicarse recibe una posición consecutiva en el feed de cambios.
+ * 4. La posición se asigna en orden de publicación y no de inserción, así un cambio
+ *    confirmado tarde nunca queda por detrás de una posición ya leída.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity @Table(
+        // Tabla outbox de cambios de cuentas.
+        name = "account_change",
+        // Índice para buscar los cambios pendientes y leer el feed por posición.
+        // Índice para borrar los cambios publicados antiguos.
+        indexes = {
+                @Index(name = "idx_account_change_feed_position", columnList = "feed_position", unique = true),
+                @Index(name = "idx_account_change_published_at", columnList = "published_at")
+        }) @Getter @Setter @NoArgsConstructor
+public class AccountChange {
+    // 1. Identificador único del cambio.
+    // 2. Secuencia con reserva de bloques para permitir inserciones por lotes.
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_change_seq")
+    @SequenceGenerator(
+            name = "account_change_seq",
+            sequenceName = "account_change_seq",
+            allocationSize = 50)
+    private Long id;
+
+    // 1. Identificador de la cuenta modificada.
+    // 2. Ejemplo: 1001
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // 1. Tipo de cambio.
+    // 2. Ejemplo: UPDATED
+    @Enumerated(EnumType.STRING) @Column(name = "change_type", nullable = false)
+    private AccountChangeType changeType;
+
+    // 1. Posición del cambio en el feed, null mientras no se publica.
+    // 2. Ejemplo: 42
+    @Column(name = "feed_position")
+    private Long feedPosition;
+
+    // 1. Instante de la publicación, null mientras no se publica.
+    // 2. Ejemplo: 07/01/2025 10:15:31
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    // 1. Metadatos de manipulación del cambio.
+    // 2. Ejemplo: 07/01/2025 10:15:30
+    @Embedded
+    private Audit audit = new Audit();
+
+    /**
+     * Constructor personalizado.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param changeType Tipo de cambio.
+     */
+    public AccountChange(Long accountId, AccountChangeType changeType) {
+        this.accountId = accountId;
+        this.changeType = changeType;
+    }
+}
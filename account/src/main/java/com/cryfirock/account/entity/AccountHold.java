@@ -0,0 +1,122 @@
+package com.cryfirock.account.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import com.cryfirock.account.type.HoldStatus;
+import com.cryfirock.account.type.Money;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 1. Entidad que representa una retención de fondos sobre una cuenta.
+ * 2. El estado vigente vive en memoria y la tabla se escribe de forma asíncrona.
+ * 3. El identificador se asigna en memoria para no esperar a la base de datos.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity @Table(
+        // Tabla de retenciones de fondos.
+        name = "account_hold",
+        // Índice para recuperar las retenciones activas al arrancar.
+        indexes = {
+                @Index(name = "idx_account_hold_status", columnList = "status")
+        }) @Getter @Setter @NoArgsConstructor
+public class AccountHold implements Persistable<UUID> {
+    // 1. Identificador único de la retención.
+    // 2. Ejemplo: 3f2b6c1e-8d4a-4e1b-9c55-0a7f1d2e3b4c
+    @Id
+    private UUID id;
+
+    // 1. Identificador de la cuenta cuyos fondos se retienen.
+    // 2. Ejemplo: 1001
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // 1. Importe retenido.
+    // 2. Ejemplo: 25.5000
+    @Column(name = "amount", nullable = false, precision = 19, scale = 4)
+    private Money amount;
+
+    // 1. Importe cobrado al capturar la retención.
+    // 2. Ejemplo: 20.0000
+    @Column(name = "captured_amount", precision = 19, scale = 4)
+    private Money capturedAmount;
+
+    // 1. Estado de la retención.
+    // 2. Ejemplo: ACTIVE
+    @Enumerated(EnumType.STRING) @Column(name = "status", nullable = false, length = 16)
+    private HoldStatus status;
+
+    // 1. Referencia externa de la retención.
+    // 2. Ejemplo: AUTH-2026-000123
+    @Column(name = "reference", length = 64)
+    private String reference;
+
+    // 1. Instante en el que vence la retención.
+    // 2. Ejemplo: 07/01/2025 10:15:30
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // 1. Metadatos de manipulación de la retención.
+    // 2. Ejemplo: 07/01/2025 10:15:30
+    @Embedded
+    private Audit audit = new Audit();
+
+    // 1. Indica si la retención aún no se ha insertado.
+    // 2. Evita la consulta previa de merge al guardar con un identificador asignado.
+    @Transient
+    private boolean newEntity = true;
+
+    /**
+     * Constructor personalizado.
+     *
+     * @param id Identificador de la retención.
+     * @param accountId Identificador de la cuenta.
+     * @param amount Importe retenido.
+     * @param status Estado de la retención.
+     * @param reference Referencia externa.
+     * @param expiresAt Instante de vencimiento.
+     */
+    public AccountHold(UUID id, Long accountId, Money amount, HoldStatus status, String reference, Instant expiresAt) {
+        this.id = id;
+        this.accountId = accountId;
+        this.amount = amount;
+        this.status = status;
+        this.reference = reference;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * Marca la retención como existente tras insertarla o leerla.
+     */
+    @PostLoad @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
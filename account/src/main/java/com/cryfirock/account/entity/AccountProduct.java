@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -37,7 +38,12 @@ import lombok.Setter;
 public class AccountProduct {
     // 1. En la base de datos no existe un id autogenerado.
     // 2. Todas las entidades deben tener un id autogenerado.
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 3. Secuencia con reserva de bloques para permitir inserciones por lotes.
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_product_seq")
+    @SequenceGenerator(
+            name = "account_product_seq",
+            sequenceName = "account_product_seq",
+            allocationSize = 50)
     private Long id;
 
     // 1. Identificador de la cuenta asociada.
@@ -59,7 +65,7 @@ public class AccountProduct {
     // 2. Fecha en la que el producto se relaciona con la cuenta.
     // 3. Ejemplo: 07/01/2025 10:15:30
     @Embedded
-    private Audit audit;
+    private Audit audit = new Audit();
 
     /**
      * Constructor personalizado.
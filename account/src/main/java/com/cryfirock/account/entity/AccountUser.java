@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -44,7 +45,12 @@ public class AccountUser {
 
     // 1. En la base de datos no existe un id autogenerado.
     // 2. Todas las entidades deben tener un id autogenerado.
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 3. Secuencia con reserva de bloques para permitir inserciones por lotes.
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_user_seq")
+    @SequenceGenerator(
+            name = "account_user_seq",
+            sequenceName = "account_user_seq",
+            allocationSize = 50)
     private Long id;
 
     // 1. Identificador de la cuenta asociada.
@@ -61,5 +67,5 @@ public class AccountUser {
     // 2. Fecha en la que el usuario se relaciona con la cuenta o cambia de propietario.
     // 3. Ejemplo: 07/01/2025 10:15:30
     @Embedded
-    private Audit audit;
+    private Audit audit = new Audit();
 }
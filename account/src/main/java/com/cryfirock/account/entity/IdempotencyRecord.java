@@ -0,0 +1,111 @@
+package com.cryfirock.account.entity;
+
+import java.time.Instant;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 1. Entidad con la respuesta guardada de una escritura con clave de idempotencia.
+ * 2. Solo se usa cuando el almacén en memoria está respaldado en la base de datos.
+ * 3. Es inmutable, se inserta una vez y se borra al caducar.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity @Table(
+        // Tabla de respuestas por clave de idempotencia.
+        name = "idempotency_record",
+        // Índice para borrar las respuestas caducadas.
+        indexes = {
+                @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at")
+        }) @Getter @NoArgsConstructor
+public class IdempotencyRecord implements Persistable<String> {
+    // 1. Clave de idempotencia enviada por el cliente.
+    // 2. Ejemplo: 5b1f0c2e-7a34-4d4e-9f0a-2c6d8e1b3a77
+    @Id @Column(name = "idempotency_key", length = 255)
+    private String idempotencyKey;
+
+    // 1. Huella SHA-256 de la operación y del cuerpo de la petición.
+    // 2. Detecta que la misma clave se reutiliza con otra petición.
+    @Column(name = "fingerprint", nullable = false, length = 32)
+    private byte[] fingerprint;
+
+    // 1. Código de estado HTTP de la respuesta.
+    // 2. Ejemplo: 200
+    @Column(name = "status", nullable = false)
+    private int status;
+
+    // 1. Cuerpo JSON de la respuesta.
+    // 2. Vacío si la respuesta no tiene cuerpo.
+    @Column(name = "body", nullable = false, length = 1_048_576)
+    private byte[] body;
+
+    // 1. Instante a partir del cual la respuesta deja de repetirse.
+    // 2. Ejemplo: 08/01/2025 10:15:30
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // 1. Metadatos de manipulación de la respuesta.
+    // 2. Ejemplo: 07/01/2025 10:15:30
+    @Embedded
+    private Audit audit = new Audit();
+
+    // 1. Indica si la respuesta aún no se ha insertado.
+    // 2. Evita la consulta previa de merge al guardar con un identificador asignado.
+    @Transient
+    private boolean newEntity = true;
+
+    /**
+     * Constructor personalizado.
+     *
+     * @param idempotencyKey Clave de idempotencia.
+     * @param fingerprint Huella de la petición.
+     * @param status Código de estado HTTP.
+     * @param body Cuerpo JSON de la respuesta.
+     * @param expiresAt Instante de caducidad.
+     */
+    public IdempotencyRecord(String idempotencyKey, byte[] fingerprint, int status, byte[] body, Instant expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.fingerprint = fingerprint;
+        this.status = status;
+        this.body = body;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * Marca la respuesta como existente tras insertarla o leerla.
+     */
+    @PostLoad @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,88 @@
+package com.cryfirock.account.entity;
+
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 1. Entidad que representa un rango fijo de ids de cuenta ya devengado en un día.
+ * 2. Se inserta en la misma transacción que los apuntes de intereses del bloque.
+ * 3. Permite reanudar el devengo tras un fallo sin volver a leer los bloques completados.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity @Immutable @Table(
+        // Tabla de puntos de control del devengo de intereses.
+        name = "interest_accrual_chunk",
+        // Un bloque se devenga una sola vez por día.
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_interest_accrual_chunk_date_after",
+                        columnNames = { "business_date", "after_account_id" })
+        }) @Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class InterestAccrualChunk {
+    // 1. Identificador único del bloque.
+    // 2. Secuencia con reserva de bloques para permitir inserciones por lotes.
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interest_accrual_chunk_seq")
+    @SequenceGenerator(
+            name = "interest_accrual_chunk_seq",
+            sequenceName = "interest_accrual_chunk_seq",
+            allocationSize = 50)
+    private Long id;
+
+    // 1. Día devengado.
+    // 2. Ejemplo: 2026-10-17
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    // 1. Id de cuenta tras el que empieza el rango, no incluido, múltiplo del tamaño de bloque.
+    // 2. Ejemplo: 1000
+    @Column(name = "after_account_id", nullable = false)
+    private Long afterAccountId;
+
+    // 1. Último id de cuenta del rango, incluido, aunque esa cuenta no exista.
+    // 2. Ejemplo: 2000
+    @Column(name = "last_account_id", nullable = false)
+    private Long lastAccountId;
+
+    // 1. Número de cuentas que han recibido intereses en el bloque.
+    // 2. Ejemplo: 998
+    @Column(name = "accounts", nullable = false)
+    private Integer accounts;
+
+    // 1. Metadatos de manipulación del bloque.
+    // 2. Ejemplo: 07/01/2025 10:15:30
+    @Embedded
+    private Audit audit = new Audit();
+
+    /**
+     * Constructor personalizado.
+     *
+     * @param businessDate Día devengado.
+     * @param afterAccountId Id tras el que empieza el bloque.
+     * @param lastAccountId Último id del bloque.
+     * @param accounts Número de cuentas con intereses.
+     */
+    public InterestAccrualChunk(LocalDate businessDate, Long afterAccountId, Long lastAccountId, Integer accounts) {
+        this.businessDate = businessDate;
+        this.afterAccountId = afterAccountId;
+        this.lastAccountId = lastAccountId;
+        this.accounts = accounts;
+    }
+}
@@ -0,0 +1,67 @@
+package com.cryfirock.account.entity;
+
+import org.hibernate.annotations.Immutable;
+
+import com.cryfirock.account.type.JournalEntryType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 1. Entidad que representa un asiento del diario contable.
+ * 2. Agrupa los apuntes que se registran de forma atómica.
+ * 3. Es inmutable: el diario solo admite inserciones.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity @Immutable @Table(name = "journal_entry") @Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class JournalEntry {
+    // 1. Identificador único del asiento.
+    // 2. Secuencia con reserva de bloques para permitir inserciones por lotes.
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "journal_entry_seq")
+    @SequenceGenerator(
+            name = "journal_entry_seq",
+            sequenceName = "journal_entry_seq",
+            allocationSize = 50)
+    private Long id;
+
+    // 1. Referencia externa del asiento.
+    // 2. Ejemplo: TRX-2026-000123
+    @Column(name = "reference", length = 64)
+    private String reference;
+
+    // 1. Tipo de asiento.
+    // 2. Ejemplo: TRANSFER
+    @Enumerated(EnumType.STRING) @Column(name = "entry_type", nullable = false)
+    private JournalEntryType entryType;
+
+    // 1. Metadatos de manipulación del asiento.
+    // 2. Ejemplo: 07/01/2025 10:15:30
+    @Embedded
+    private Audit audit = new Audit();
+
+    /**
+     * Constructor personalizado.
+     *
+     * @param reference Referencia externa del asiento.
+     * @param entryType Tipo de asiento.
+     */
+    public JournalEntry(String reference, JournalEntryType entryType) {
+        this.reference = reference;
+        this.entryType = entryType;
+    }
+}
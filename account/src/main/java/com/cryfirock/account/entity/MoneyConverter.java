@@ -0,0 +1,42 @@
+package com.cryfirock.account.entity;
+
+import java.math.BigDecimal;
+
+import com.cryfirock.account.type.Money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 1. Conversor JPA entre importes en coma fija y columnas numéricas de escala 4.
+ * 2. Se aplica automáticamente a todos los atributos de tipo Money.
+ * 3. Las columnas conservan su tipo decimal, solo cambia la representación en memoria.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+    /**
+     * Convierte el importe en el valor de la columna.
+     *
+     * @param money Importe de la entidad.
+     * @return Valor decimal de la columna.
+     */
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    /**
+     * Convierte el valor de la columna en un importe.
+     *
+     * @param value Valor decimal de la columna.
+     * @return Importe de la entidad.
+     */
+    @Override
+    public Money convertToEntityAttribute(BigDecimal value) {
+        return value == null ? null : Money.of(value);
+    }
+}
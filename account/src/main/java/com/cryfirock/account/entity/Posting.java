@@ -0,0 +1,81 @@
+package com.cryfirock.account.entity;
+
+import org.hibernate.annotations.Immutable;
+
+import com.cryfirock.account.type.Money;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 1. Entidad que representa un apunte de un asiento sobre una cuenta.
+ * 2. Un importe positivo aumenta el saldo y uno negativo lo disminuye.
+ * 3. Es inmutable: el saldo de una cuenta es la suma de sus apuntes.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity @Immutable @Table(
+        // Tabla de apuntes del diario contable.
+        name = "posting",
+        // Índice para reconstruir el saldo de una cuenta a partir de sus apuntes.
+        // Índice para recorrer los apuntes de un día en el lote de compensación.
+        indexes = {
+                @Index(name = "idx_posting_account_id", columnList = "account_id"),
+                @Index(name = "idx_posting_created_at", columnList = "created_at")
+        }) @Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class Posting {
+    // 1. Identificador único del apunte.
+    // 2. Secuencia con reserva de bloques para permitir inserciones por lotes.
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posting_seq")
+    @SequenceGenerator(
+            name = "posting_seq",
+            sequenceName = "posting_seq",
+            allocationSize = 50)
+    private Long id;
+
+    // 1. Identificador del asiento al que pertenece el apunte.
+    // 2. Ejemplo: 77
+    @Column(name = "journal_entry_id", nullable = false)
+    private Long journalEntryId;
+
+    // 1. Identificador de la cuenta afectada.
+    // 2. Ejemplo: 1001
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    // 1. Importe con signo del apunte.
+    // 2. Ejemplo: -25.5000
+    @Column(name = "amount", nullable = false, precision = 19, scale = 4)
+    private Money amount;
+
+    // 1. Metadatos de manipulación del apunte.
+    // 2. Ejemplo: 07/01/2025 10:15:30
+    @Embedded
+    private Audit audit = new Audit();
+
+    /**
+     * Constructor personalizado.
+     *
+     * @param journalEntryId Identificador del asiento.
+     * @param accountId Identificador de la cuenta.
+     * @param amount Importe con signo del apunte.
+     */
+    public Posting(Long journalEntryId, Long accountId, Money amount) {
+        this.journalEntryId = journalEntryId;
+        this.accountId = accountId;
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,111 @@
+package com.cryfirock.account.entity;
+
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import com.cryfirock.account.type.Money;
+import com.cryfirock.account.type.ReconciliationBreakType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 1. Entidad que representa una diferencia de conciliación en el informe de partidas en suspenso.
+ * 2. Cada ejecución de la conciliación agrupa sus diferencias por su identificador.
+ * 3. Es inmutable: el informe solo admite inserciones.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity @Immutable @Table(
+        // Tabla del informe de partidas en suspenso.
+        name = "reconciliation_break",
+        // Índice para leer el informe de una ejecución.
+        indexes = {
+                @Index(name = "idx_reconciliation_break_run_id", columnList = "run_id")
+        }) @Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class ReconciliationBreak {
+    // 1. Identificador único de la diferencia.
+    // 2. Secuencia con reserva de bloques para permitir inserciones por lotes.
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reconciliation_break_seq")
+    @SequenceGenerator(
+            name = "reconciliation_break_seq",
+            sequenceName = "reconciliation_break_seq",
+            allocationSize = 50)
+    private Long id;
+
+    // 1. Identificador de la ejecución de la conciliación.
+    // 2. Ejemplo: 3f2b6c1e-8d4a-4e1b-9c55-0a7f1d2e3b4c
+    @Column(name = "run_id", nullable = false)
+    private UUID runId;
+
+    // 1. IBAN de la cuenta conciliada.
+    // 2. Ejemplo: ES7620770024003102575766
+    @Column(name = "iban_number", nullable = false, length = 34)
+    private String ibanNumber;
+
+    // 1. Identificador de la cuenta si existe.
+    // 2. Ejemplo: 1001
+    @Column(name = "account_id")
+    private Long accountId;
+
+    // 1. Saldo guardado de la cuenta incluyendo sus fracciones.
+    // 2. Ejemplo: 100.0000
+    @Column(name = "stored_balance", precision = 19, scale = 4)
+    private Money storedBalance;
+
+    // 1. Saldo según el extracto externo.
+    // 2. Ejemplo: 99.5000
+    @Column(name = "statement_balance", precision = 19, scale = 4)
+    private Money statementBalance;
+
+    // 1. Tipo de diferencia.
+    // 2. Ejemplo: AMOUNT_MISMATCH
+    @Enumerated(EnumType.STRING) @Column(name = "break_type", nullable = false, length = 32)
+    private ReconciliationBreakType breakType;
+
+    // 1. Metadatos de manipulación de la diferencia.
+    // 2. Ejemplo: 07/01/2025 10:15:30
+    @Embedded
+    private Audit audit = new Audit();
+
+    /**
+     * Constructor personalizado.
+     *
+     * @param runId Identificador de la ejecución.
+     * @param ibanNumber IBAN de la cuenta.
+     * @param accountId Identificador de la cuenta o null.
+     * @param storedBalance Saldo guardado o null.
+     * @param statementBalance Saldo del extracto o null.
+     * @param breakType Tipo de diferencia.
+     */
+    public ReconciliationBreak(
+            UUID runId,
+            String ibanNumber,
+            Long accountId,
+            Money storedBalance,
+            Money statementBalance,
+            ReconciliationBreakType breakType) {
+        this.runId = runId;
+        this.ibanNumber = ibanNumber;
+        this.accountId = accountId;
+        this.storedBalance = storedBalance;
+        this.statementBalance = statementBalance;
+        this.breakType = breakType;
+    }
+}
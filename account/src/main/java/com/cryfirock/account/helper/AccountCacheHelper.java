@@ -0,0 +1,102 @@
+package com.cryfirock.account.helper;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cryfirock.account.dto.AccountResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 1. Helper que mantiene en memoria las respuestas de cuentas ya ensambladas.
+ * 2. Acota la caché por número de entradas y por tiempo de vida.
+ * 3. Las escrituras invalidan la cuenta al momento y de nuevo tras el commit.
+ * 4. Publica aciertos, fallos y expulsiones en Actuator como account.responses.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class AccountCacheHelper {
+    // Nombre de la caché en las métricas de Actuator.
+    private static final String CACHE_NAME = "account.responses";
+    // Caché de respuestas de cuentas por identificador.
+    private final Cache<Long, AccountResponseDto> cache;
+
+    /**
+     * Constructor que crea la caché y registra sus métricas.
+     *
+     * @param meterRegistry Registro de métricas.
+     * @param maximumSize Número máximo de cuentas en caché.
+     * @param timeToLive Tiempo de vida de cada cuenta en caché.
+     */
+    public AccountCacheHelper(
+            MeterRegistry meterRegistry,
+            @Value("${account.cache.maximum-size:10000}") long maximumSize,
+            @Value("${account.cache.ttl:5m}") Duration timeToLive) {
+        this.cache = Caffeine
+                .newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 1. Obtiene la cuenta de la caché o la carga si no está.
+     * 2. Las cargas simultáneas de la misma cuenta se ejecutan una sola vez.
+     * 3. Dentro de una transacción se omite la caché para ver sus propios cambios.
+     *
+     * @param id Identificador de la cuenta.
+     * @param loader Función que carga la cuenta desde la base de datos.
+     * @return Cuenta con relaciones.
+     */
+    public AccountResponseDto get(Long id, Function<Long, AccountResponseDto> loader) {
+        // Un estado sin confirmar no debe quedar en caché.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) return loader.apply(id);
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Invalida una cuenta de la caché.
+     *
+     * @param id Identificador de la cuenta.
+     */
+    public void invalidate(Long id) {
+        invalidateAll(List.of(id));
+    }
+
+    /**
+     * 1. Invalida varias cuentas de la caché.
+     * 2. Si hay una transacción activa se vuelven a invalidar tras el commit.
+     * 3. Así una lectura concurrente no deja en caché el estado anterior.
+     *
+     * @param ids Identificadores de las cuentas.
+     */
+    public void invalidateAll(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        // Copia los ids para que no cambien antes del commit.
+        List<Long> keys = List.copyOf(ids);
+        cache.invalidateAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            cache.invalidateAll(keys);
+                        }
+                    });
+    }
+}
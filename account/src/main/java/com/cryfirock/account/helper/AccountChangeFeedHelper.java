@@ -0,0 +1,117 @@
+package com.cryfirock.account.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountChangeDto;
+import com.cryfirock.account.dto.AccountChangePageDto;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 1. Helper con las consultas long-poll del feed de cambios que esperan cambios nuevos.
+ * 2. El relay le entrega cada lote publicado y responde a las consultas al día sin leer la base de datos.
+ * 3. Una consulta solo se responde con el lote si este empieza justo tras su cursor.
+ * 4. Las esperas solo se despiertan en la instancia que ejecuta el relay, en el resto vencen y se repiten.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class AccountChangeFeedHelper {
+    // Consultas en espera.
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    // Número máximo de consultas en espera a la vez.
+    private final int maxWaiters;
+    // Última posición publicada y confirmada por el relay de esta instancia.
+    private volatile long publishedPosition;
+
+    /**
+     * Constructor que registra las métricas.
+     *
+     * @param meterRegistry Registro de métricas.
+     * @param maxWaiters Número máximo de consultas en espera.
+     */
+    public AccountChangeFeedHelper(
+            MeterRegistry meterRegistry,
+            @Value("${account.outbox.feed.max-waiters:10000}") int maxWaiters) {
+        this.maxWaiters = maxWaiters;
+        Gauge.builder("account.outbox.feed.waiters", waiters, Set::size).register(meterRegistry);
+        Gauge.builder("account.outbox.feed.position", this, helper -> helper.publishedPosition)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. Registra una consulta que espera cambios posteriores a su cursor.
+     * 2. La consulta se retira al completarse, ya sea con cambios o al vencer.
+     * 3. Si hay demasiadas consultas en espera se rechaza con 503 SERVICE_UNAVAILABLE.
+     *
+     * @param since Última posición leída por el consumidor.
+     * @param limit Número máximo de cambios de la respuesta.
+     * @param result Respuesta pendiente de la consulta.
+     */
+    public void register(long since, int limit, CompletableFuture<AccountChangePageDto> result) {
+        if (waiters.size() >= maxWaiters)
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many waiting change feed requests");
+        Waiter waiter = new Waiter(since, limit, result);
+        waiters.add(waiter);
+        result.whenComplete((page, exception) -> waiters.remove(waiter));
+    }
+
+    /**
+     * 1. Recibe un lote confirmado por el relay y responde a las consultas que esperaban.
+     * 2. Las consultas con el cursor por detrás del lote las responde su propia lectura.
+     *
+     * @param changes Cambios publicados ordenados por posición.
+     */
+    public void published(List<AccountChangeDto> changes) {
+        if (changes.isEmpty()) return;
+        long first = changes.get(0).position();
+        long last = changes.get(changes.size() - 1).position();
+        publishedPosition = last;
+        for (Waiter waiter : waiters) {
+            if (waiter.since() >= last || first > waiter.since() + 1) continue;
+            // El lote es consecutivo, el primer cambio posterior al cursor está en since + 1 - first.
+            int from = (int) (waiter.since() + 1 - first);
+            List<AccountChangeDto> page = new ArrayList<>(
+                    changes.subList(from, Math.min(changes.size(), from + waiter.limit())));
+            waiter.result().complete(new AccountChangePageDto(page, page.get(page.size() - 1).position()));
+        }
+    }
+
+    /**
+     * Establece la posición publicada al arrancar el relay.
+     *
+     * @param position Última posición publicada.
+     */
+    public void resetPosition(long position) {
+        publishedPosition = position;
+    }
+
+    /**
+     * @return Última posición publicada y confirmada por el relay de esta instancia.
+     */
+    public long publishedPosition() {
+        return publishedPosition;
+    }
+
+    /**
+     * Consulta en espera.
+     *
+     * @param since Última posición leída por el consumidor.
+     * @param limit Número máximo de cambios de la respuesta.
+     * @param result Respuesta pendiente de la consulta.
+     */
+    private record Waiter(long since, int limit, CompletableFuture<AccountChangePageDto> result) {
+    }
+}
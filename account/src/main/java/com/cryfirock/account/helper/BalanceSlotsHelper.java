@@ -0,0 +1,177 @@
+package com.cryfirock.account.helper;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountBalanceTotalDto;
+import com.cryfirock.account.entity.Account;
+import com.cryfirock.account.entity.AccountBalanceSlot;
+import com.cryfirock.account.repository.JpaAccountBalanceSlotRepository;
+import com.cryfirock.account.repository.JpaAccountRepository;
+import com.cryfirock.account.type.AccountNature;
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. Helper que reparte el saldo de las cuentas muy concurridas en varias fracciones.
+ * 2. Las cuentas de tesorería, sistema u ómnibus son contrapartida de casi todo movimiento.
+ * 3. Cada movimiento se suma a una fracción aleatoria en lugar de a la fila de la cuenta.
+ * 4. El saldo de la cuenta es su saldo base más la suma de sus fracciones.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class BalanceSlotsHelper {
+    // Repositorio de acceso a los datos de las cuentas bancarias.
+    private final JpaAccountRepository accountRepository;
+    // Repositorio de acceso a las fracciones de saldo.
+    private final JpaAccountBalanceSlotRepository slotRepository;
+    // Naturalezas de cuenta cuyo saldo se reparte en fracciones.
+    private final Set<AccountNature> slottedNatures;
+    // Número de fracciones que se crean por cuenta.
+    private final int slotCount;
+
+    /**
+     * Constructor que inyecta los repositorios y la configuración de las fracciones.
+     *
+     * @param accountRepository Repositorio de cuentas.
+     * @param slotRepository Repositorio de fracciones de saldo.
+     * @param slottedNatures Naturalezas de cuenta con saldo fraccionado.
+     * @param slotCount Número de fracciones por cuenta.
+     */
+    public BalanceSlotsHelper(
+            JpaAccountRepository accountRepository,
+            JpaAccountBalanceSlotRepository slotRepository,
+            @Value("${account.balance-slots.natures:TREASURY,SYSTEM,OMNIBUS}") List<AccountNature> slottedNatures,
+            @Value("${account.balance-slots.count:8}") int slotCount) {
+        if (slotCount < 1) throw new IllegalStateException("Balance slot count must be positive");
+        this.accountRepository = accountRepository;
+        this.slotRepository = slotRepository;
+        this.slottedNatures = slottedNatures.isEmpty()
+                ? EnumSet.noneOf(AccountNature.class)
+                : EnumSet.copyOf(slottedNatures);
+        this.slotCount = slotCount;
+    }
+
+    /**
+     * Indica si el saldo de las cuentas de una naturaleza se reparte en fracciones.
+     *
+     * @param nature Naturaleza de la cuenta.
+     * @return true si el saldo se fracciona.
+     */
+    public boolean isSlotted(AccountNature nature) {
+        return nature != null && slottedNatures.contains(nature);
+    }
+
+    /**
+     * Crea las fracciones de saldo vacías de una cuenta.
+     *
+     * @param accountId Identificador de la cuenta.
+     */
+    public void createSlots(Long accountId) {
+        slotRepository.saveAll(IntStream
+                .range(0, slotCount)
+                .mapToObj(slotIndex -> new AccountBalanceSlot(accountId, slotIndex))
+                .toList());
+    }
+
+    /**
+     * 1. Traslada el total de las fracciones al saldo base de la cuenta.
+     * 2. Elimina las fracciones una vez trasladadas.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @return Total trasladado al saldo base.
+     */
+    public Money foldSlots(Long accountId) {
+        // Bloquea las fracciones para que no reciban importes mientras se trasladan.
+        long total = 0;
+        for (AccountBalanceSlot slot : slotRepository.findAllByAccountIdOrderBySlotIndex(accountId))
+            total = Money.add(total, slot.getBalance().minorUnits());
+        Money folded = new Money(total);
+        if (!folded.isZero()) accountRepository.addToBalance(accountId, folded);
+        slotRepository.deleteAllByAccountId(accountId);
+        return folded;
+    }
+
+    /**
+     * 1. Bloquea y pone a cero las fracciones de una cuenta.
+     * 2. Se usa al reconstruir el saldo completo en el saldo base.
+     *
+     * @param accountId Identificador de la cuenta.
+     */
+    public void resetSlots(Long accountId) {
+        slotRepository.findAllByAccountIdOrderBySlotIndex(accountId);
+        slotRepository.resetByAccountId(accountId);
+    }
+
+    /**
+     * Elimina las fracciones de una cuenta.
+     *
+     * @param accountId Identificador de la cuenta.
+     */
+    public void deleteSlots(Long accountId) {
+        slotRepository.deleteAllByAccountId(accountId);
+    }
+
+    /**
+     * 1. Suma a cada cuenta su importe con una sentencia UPDATE.
+     * 2. Las cuentas fraccionadas reciben el importe en una fracción aleatoria.
+     * 3. El resto de cuentas lo reciben en su propia fila.
+     * 4. Las cuentas se recorren en el orden del mapa para evitar interbloqueos.
+     *
+     * @param deltas Importes con signo por identificador de cuenta.
+     */
+    public void addToBalances(Map<Long, Money> deltas) {
+        // Cuentas del movimiento que tienen el saldo fraccionado.
+        Set<Long> slottedAccountIds = new HashSet<>(
+                slotRepository.findSlottedAccountIds(deltas.keySet()));
+        deltas.forEach((accountId, delta) -> {
+            // Si la fracción elegida existe el importe queda registrado en ella.
+            if (slottedAccountIds.contains(accountId)
+                    && slotRepository.addToSlot(
+                            accountId,
+                            ThreadLocalRandom.current().nextInt(slotCount),
+                            delta) == 1)
+                return;
+            // Si una cuenta no existe se revierte el movimiento completo.
+            if (accountRepository.addToBalance(accountId, delta) == 0)
+                throw new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Account " + accountId + " not found");
+        });
+    }
+
+    /**
+     * 1. Obtiene el total de las fracciones de las cuentas con saldo fraccionado.
+     * 2. Solo consulta la base de datos si alguna cuenta tiene naturaleza fraccionada.
+     *
+     * @param accounts Cuentas a consultar.
+     * @return Total de las fracciones por identificador de cuenta.
+     */
+    public Map<Long, Money> slotTotals(List<Account> accounts) {
+        List<Long> slottedAccountIds = accounts
+                .stream()
+                .filter(account -> isSlotted(account.getBankAccountPurpose()))
+                .map(Account::getId)
+                .toList();
+        if (slottedAccountIds.isEmpty()) return Map.of();
+        return slotRepository
+                .sumBalanceByAccountIdIn(slottedAccountIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        AccountBalanceTotalDto::accountId,
+                        AccountBalanceTotalDto::balance));
+    }
+}
@@ -0,0 +1,324 @@
+package com.cryfirock.account.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cryfirock.account.dto.AccountPositionDto;
+import com.cryfirock.account.entity.Account;
+import com.cryfirock.account.repository.JpaAccountRepository;
+import com.cryfirock.account.type.AccountAssets;
+import com.cryfirock.account.type.Money;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 1. Helper con los totales en memoria por clase de activo y divisa.
+ * 2. Se carga al arrancar y después solo se actualiza con los cambios de saldo.
+ * 3. Cada cuenta recuerda su grupo y su saldo para moverlo si cambia de divisa o se elimina.
+ * 4. Los totales son sumadores sin bloqueo, leerlos cuesta O(divisas) sin recorrer cuentas.
+ * 5. Los cambios se aplican tras el commit de la transacción que los produce.
+ * 6. Una carga completa bloquea los commits con cambios para no contarlos dos veces.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class FxPositionHelper implements SmartInitializingSingleton {
+    // Repositorio de acceso a los datos de las cuentas bancarias.
+    private final JpaAccountRepository accountRepository;
+    // Plantilla de transacciones de solo lectura para la carga completa.
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    // 1. Cerrojo que separa los cambios de la carga completa.
+    // 2. Los cambios comparten el cerrojo de lectura y no se bloquean entre sí.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Saldo y grupo de cada cuenta, se sustituye completo en cada carga.
+    private volatile Map<Long, Holding> holdings = new ConcurrentHashMap<>();
+    // Total de cada grupo de clase de activo y divisa, se sustituye junto a holdings.
+    private volatile Map<Bucket, Total> totals = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor que inyecta las dependencias y registra las métricas.
+     *
+     * @param accountRepository Repositorio de cuentas.
+     * @param transactionManager Gestor de transacciones.
+     * @param meterRegistry Registro de métricas.
+     */
+    public FxPositionHelper(
+            JpaAccountRepository accountRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        Gauge.builder("account.positions.accounts", this, helper -> helper.holdings.size())
+                .register(meterRegistry);
+        Gauge.builder("account.positions.buckets", this, helper -> helper.totals.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Carga los totales cuando todos los beans están creados, antes de aceptar peticiones.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        warm();
+    }
+
+    /**
+     * 1. Reconstruye los totales completos desde la base de datos.
+     * 2. Los saldos se leen en streaming y se cargan en mapas nuevos.
+     * 3. Las transacciones que confirman durante la carga esperan a que termine.
+     * 4. Así la carga incluye cada cambio o lo recibe después, nunca las dos cosas.
+     */
+    public void warm() {
+        lock.writeLock().lock();
+        try {
+            Map<Long, Holding> loadedHoldings = new ConcurrentHashMap<>();
+            Map<Bucket, Total> loadedTotals = new ConcurrentHashMap<>();
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                try (Stream<AccountPositionDto> positions = accountRepository.streamPositions()) {
+                    positions.forEach(position -> {
+                        Total total = loadedTotals.computeIfAbsent(
+                                new Bucket(position.financialAssetClass(), position.currencyCode()),
+                                Total::new);
+                        total.sum.add(position.balance().minorUnits());
+                        loadedHoldings.put(
+                                position.accountId(),
+                                new Holding(total, position.balance().minorUnits()));
+                    });
+                }
+            });
+            holdings = loadedHoldings;
+            totals = loadedTotals;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Registra una cuenta nueva con su saldo de apertura.
+     *
+     * @param account Cuenta guardada.
+     */
+    public void open(Account account) {
+        openAll(List.of(account));
+    }
+
+    /**
+     * Registra varias cuentas nuevas con sus saldos de apertura.
+     *
+     * @param accounts Cuentas guardadas.
+     */
+    public void openAll(List<Account> accounts) {
+        if (accounts.isEmpty()) return;
+        List<AccountPositionDto> positions = new ArrayList<>(accounts.size());
+        for (Account account : accounts)
+            positions.add(new AccountPositionDto(
+                    account.getId(),
+                    account.getFinancialAssetClass(),
+                    account.getCurrencyCode(),
+                    account.getCurrentBalance() == null ? Money.ZERO : account.getCurrentBalance()));
+        afterCommit(() -> positions.forEach(position -> {
+            Total total = totals.computeIfAbsent(
+                    new Bucket(position.financialAssetClass(), position.currencyCode()),
+                    Total::new);
+            holdings.compute(position.accountId(), (accountId, holding) -> {
+                total.sum.add(position.balance().minorUnits());
+                if (holding != null) holding.total.sum.add(-holding.balance);
+                return new Holding(total, position.balance().minorUnits());
+            });
+        }));
+    }
+
+    /**
+     * Suma a las cuentas los importes de un asiento.
+     *
+     * @param deltas Importe neto por cuenta.
+     */
+    public void apply(Map<Long, Money> deltas) {
+        Map<Long, Long> changes = new HashMap<>(deltas.size());
+        deltas.forEach((accountId, delta) -> changes.put(accountId, delta.minorUnits()));
+        afterCommit(() -> changes.forEach((accountId, delta) -> holdings.computeIfPresent(
+                accountId,
+                (key, holding) -> {
+                    holding.balance = Money.add(holding.balance, delta);
+                    holding.total.sum.add(delta);
+                    return holding;
+                })));
+    }
+
+    /**
+     * Sustituye el saldo de una cuenta tras recalcularlo desde el diario.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param balance Saldo recalculado.
+     */
+    public void reset(Long accountId, Money balance) {
+        afterCommit(() -> holdings.computeIfPresent(accountId, (key, holding) -> {
+            holding.total.sum.add(Money.subtract(balance.minorUnits(), holding.balance));
+            holding.balance = balance.minorUnits();
+            return holding;
+        }));
+    }
+
+    /**
+     * Traslada el saldo de una cuenta al grupo de su nueva clase de activo o divisa.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param financialAssetClass Clase de activo nueva.
+     * @param currencyCode Divisa nueva.
+     */
+    public void reclassify(Long accountId, AccountAssets financialAssetClass, String currencyCode) {
+        Bucket bucket = new Bucket(financialAssetClass, currencyCode);
+        afterCommit(() -> {
+            Total target = totals.computeIfAbsent(bucket, Total::new);
+            holdings.computeIfPresent(accountId, (key, holding) -> {
+                holding.total.sum.add(-holding.balance);
+                target.sum.add(holding.balance);
+                holding.total = target;
+                return holding;
+            });
+        });
+    }
+
+    /**
+     * Retira una cuenta eliminada y su saldo de los totales.
+     *
+     * @param accountId Identificador de la cuenta.
+     */
+    public void close(Long accountId) {
+        afterCommit(() -> {
+            Holding holding = holdings.remove(accountId);
+            if (holding != null) holding.total.sum.add(-holding.balance);
+        });
+    }
+
+    /**
+     * 1. Obtiene el total de cada grupo de clase de activo y divisa.
+     * 2. Cuesta O(grupos), no depende del número de cuentas.
+     *
+     * @return Totales por grupo.
+     */
+    public List<Position> positions() {
+        List<Position> positions = new ArrayList<>(totals.size());
+        totals.values().forEach(total -> positions.add(new Position(
+                total.bucket.financialAssetClass(),
+                total.bucket.currencyCode(),
+                total.sum.sum())));
+        return positions;
+    }
+
+    /**
+     * 1. Aplica un cambio cuando la transacción activa confirma.
+     * 2. La transacción toma el cerrojo compartido antes del commit y lo suelta al terminar.
+     * 3. Así un commit y su cambio quedan los dos antes o los dos después de una carga.
+     * 4. Sin transacción activa el cambio se aplica al momento.
+     *
+     * @param change Cambio a aplicar.
+     */
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    // Indica si la transacción tiene el cerrojo compartido.
+                    private boolean locked;
+
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        lock.readLock().lock();
+                        locked = true;
+                    }
+
+                    @Override
+                    public void afterCommit() {
+                        change.run();
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (locked) lock.readLock().unlock();
+                    }
+                });
+    }
+
+    /**
+     * Aplica un cambio con el cerrojo compartido.
+     *
+     * @param change Cambio a aplicar.
+     */
+    private void write(Runnable change) {
+        lock.readLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Total de un grupo de clase de activo y divisa.
+     *
+     * @param financialAssetClass Clase de activo.
+     * @param currencyCode Código de la divisa.
+     * @param minorUnits Saldo agregado en unidades mínimas.
+     */
+    public record Position(AccountAssets financialAssetClass, String currencyCode, long minorUnits) {
+    }
+
+    /**
+     * Grupo de clase de activo y divisa.
+     *
+     * @param financialAssetClass Clase de activo.
+     * @param currencyCode Código de la divisa.
+     */
+    private record Bucket(AccountAssets financialAssetClass, String currencyCode) {
+    }
+
+    /**
+     * Sumador de un grupo, compartido por todas sus cuentas.
+     */
+    private static final class Total {
+        // Grupo del total.
+        private final Bucket bucket;
+        // Saldo agregado en unidades mínimas.
+        private final LongAdder sum = new LongAdder();
+
+        private Total(Bucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+
+    /**
+     * Saldo de una cuenta y total del grupo en el que suma, solo se modifican dentro de compute.
+     */
+    private static final class Holding {
+        // Total del grupo de la cuenta.
+        private Total total;
+        // Saldo de la cuenta en unidades mínimas.
+        private long balance;
+
+        private Holding(Total total, long balance) {
+            this.total = total;
+            this.balance = balance;
+        }
+    }
+}
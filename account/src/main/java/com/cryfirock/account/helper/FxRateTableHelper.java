@@ -0,0 +1,102 @@
+package com.cryfirock.account.helper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cryfirock.account.service.api.IFxRateProvider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 1. Helper con la tabla de tipos de cambio guardada en memoria.
+ * 2. La tabla es inmutable y se sustituye completa en cada recarga.
+ * 3. Los lectores obtienen siempre una tabla coherente sin cerrojos.
+ * 4. Si la fuente falla se mantiene la última tabla cargada.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class FxRateTableHelper {
+    // Fuente de los tipos de cambio.
+    private final IFxRateProvider rateProvider;
+    // Código de la divisa base.
+    private final String baseCurrency;
+    // Recargas fallidas de la tabla.
+    private final Counter failures;
+    // Tabla vigente.
+    private volatile RateTable table;
+
+    /**
+     * Constructor que inyecta la fuente y carga la primera tabla.
+     *
+     * @param rateProvider Fuente de los tipos de cambio.
+     * @param meterRegistry Registro de métricas.
+     * @param baseCurrency Código de la divisa base.
+     */
+    public FxRateTableHelper(
+            IFxRateProvider rateProvider,
+            MeterRegistry meterRegistry,
+            @Value("${account.fx.base-currency:EUR}") String baseCurrency) {
+        this.rateProvider = rateProvider;
+        this.baseCurrency = baseCurrency.toUpperCase(Locale.ROOT);
+        this.failures = Counter.builder("account.fx.refresh_failures").register(meterRegistry);
+        this.table = new RateTable(this.baseCurrency, Map.of(this.baseCurrency, BigDecimal.ONE), Instant.EPOCH);
+        refresh();
+    }
+
+    /**
+     * 1. Carga los tipos de la fuente y publica una tabla nueva.
+     * 2. La divisa base siempre vale uno.
+     */
+    @Scheduled(
+            fixedDelayString = "${account.fx.refresh-ms:60000}",
+            initialDelayString = "${account.fx.refresh-ms:60000}")
+    public void refresh() {
+        try {
+            Map<String, BigDecimal> rates = new HashMap<>();
+            rateProvider.loadRates().forEach((currencyCode, rate) -> rates.put(
+                    currencyCode.toUpperCase(Locale.ROOT),
+                    rate));
+            rates.put(baseCurrency, BigDecimal.ONE);
+            table = new RateTable(baseCurrency, Map.copyOf(rates), Instant.now());
+        } catch (RuntimeException exception) {
+            failures.increment();
+        }
+    }
+
+    /**
+     * @return Tabla vigente.
+     */
+    public RateTable current() {
+        return table;
+    }
+
+    /**
+     * Tabla inmutable de tipos de cambio.
+     *
+     * @param baseCurrency Código de la divisa base.
+     * @param rates Unidades de divisa base por unidad de cada divisa.
+     * @param loadedAt Instante de la carga.
+     */
+    public record RateTable(String baseCurrency, Map<String, BigDecimal> rates, Instant loadedAt) {
+        /**
+         * Obtiene el tipo de una divisa sin distinguir mayúsculas.
+         *
+         * @param currencyCode Código de la divisa.
+         * @return Tipo o null si no está publicado.
+         */
+        public BigDecimal rate(String currencyCode) {
+            return currencyCode == null ? null : rates.get(currencyCode.toUpperCase(Locale.ROOT));
+        }
+    }
+}
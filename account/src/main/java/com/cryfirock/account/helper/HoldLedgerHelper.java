@@ -0,0 +1,202 @@
+package com.cryfirock.account.helper;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.cryfirock.account.type.Money;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 1. Helper con el libro en memoria de las retenciones activas.
+ * 2. Guarda el importe reservado de cada cuenta repartido en franjas con su propio cerrojo.
+ * 3. Las cuentas de franjas distintas se reservan en paralelo sin bloquearse.
+ * 4. Comprobar el disponible y reservar se hacen de forma atómica dentro de la franja.
+ * 5. Quien retira una retención del libro es el único que puede finalizarla.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class HoldLedgerHelper {
+    // Franjas del libro, su número es potencia de dos.
+    private final Stripe[] stripes;
+    // Retenciones activas por identificador.
+    private final Map<UUID, Reservation> holds = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor que crea las franjas y registra las métricas.
+     *
+     * @param stripeCount Número mínimo de franjas.
+     * @param meterRegistry Registro de métricas.
+     */
+    public HoldLedgerHelper(
+            @Value("${account.holds.stripes:64}") int stripeCount,
+            MeterRegistry meterRegistry) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) stripes[i] = new Stripe();
+        Gauge.builder("account.holds.active", holds, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 1. Reserva el importe de una retención si el saldo disponible lo cubre.
+     * 2. El disponible es el saldo menos lo ya reservado en la cuenta.
+     *
+     * @param reservation Retención a registrar.
+     * @param balance Saldo actual de la cuenta.
+     * @return true si se ha reservado el importe.
+     */
+    public boolean tryReserve(Reservation reservation, Money balance) {
+        Stripe stripe = stripe(reservation.accountId());
+        stripe.lock.lock();
+        try {
+            long reserved = stripe.reserved.getOrDefault(reservation.accountId(), 0L);
+            if (Money.subtract(balance.minorUnits(), reserved) < reservation.amount().minorUnits()) return false;
+            stripe.reserved.put(reservation.accountId(), Money.add(reserved, reservation.amount().minorUnits()));
+            holds.put(reservation.id(), reservation);
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 1. Registra una retención sin comprobar el saldo disponible.
+     * 2. Se usa al cargar el libro y al restaurar una captura fallida.
+     *
+     * @param reservation Retención a registrar.
+     */
+    public void restore(Reservation reservation) {
+        Stripe stripe = stripe(reservation.accountId());
+        stripe.lock.lock();
+        try {
+            stripe.reserved.merge(reservation.accountId(), reservation.amount().minorUnits(), Money::add);
+            holds.put(reservation.id(), reservation);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 1. Retira una retención del libro para finalizarla.
+     * 2. Su importe sigue reservado hasta que se llame a release.
+     * 3. Solo un llamante obtiene la retención aunque varios la reclamen a la vez.
+     *
+     * @param holdId Identificador de la retención.
+     * @return Retención retirada o null si no está activa.
+     */
+    public Reservation claim(UUID holdId) {
+        return holds.remove(holdId);
+    }
+
+    /**
+     * 1. Libera el importe de una retención reclamada.
+     * 2. Elimina la cuenta del libro cuando ya no tiene nada reservado.
+     *
+     * @param reservation Retención reclamada.
+     */
+    public void release(Reservation reservation) {
+        Stripe stripe = stripe(reservation.accountId());
+        stripe.lock.lock();
+        try {
+            long reserved = Money.subtract(
+                    stripe.reserved.getOrDefault(reservation.accountId(), 0L),
+                    reservation.amount().minorUnits());
+            if (reserved == 0) stripe.reserved.remove(reservation.accountId());
+            else stripe.reserved.put(reservation.accountId(), reserved);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 1. Devuelve al libro una retención reclamada que no se ha podido finalizar.
+     * 2. Su importe no se ha liberado, por lo que solo vuelve a estar activa.
+     *
+     * @param reservation Retención reclamada.
+     */
+    public void unclaim(Reservation reservation) {
+        holds.put(reservation.id(), reservation);
+    }
+
+    /**
+     * Obtiene una retención activa.
+     *
+     * @param holdId Identificador de la retención.
+     * @return Retención o null si no está activa.
+     */
+    public Reservation get(UUID holdId) {
+        return holds.get(holdId);
+    }
+
+    /**
+     * Obtiene el importe reservado en una cuenta.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @return Importe reservado.
+     */
+    public Money reserved(Long accountId) {
+        Stripe stripe = stripe(accountId);
+        stripe.lock.lock();
+        try {
+            return new Money(stripe.reserved.getOrDefault(accountId, 0L));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * @return Número de retenciones activas.
+     */
+    public int size() {
+        return holds.size();
+    }
+
+    /**
+     * Obtiene la franja de una cuenta mezclando los bits de su identificador.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @return Franja de la cuenta.
+     */
+    private Stripe stripe(Long accountId) {
+        long hash = accountId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (hash ^ (hash >>> 32)) & (stripes.length - 1)];
+    }
+
+    /**
+     * Retención activa con los datos necesarios para finalizarla.
+     *
+     * @param id Identificador de la retención.
+     * @param reference Referencia externa.
+     * @param accountId Identificador de la cuenta.
+     * @param amount Importe retenido.
+     * @param expiresAt Instante de vencimiento.
+     */
+    public record Reservation(
+            UUID id,
+            String reference,
+            Long accountId,
+            Money amount,
+            Instant expiresAt) {
+    }
+
+    /**
+     * Franja del libro con su cerrojo y el reservado de sus cuentas.
+     */
+    private static final class Stripe {
+        // Cerrojo de la franja.
+        private final ReentrantLock lock = new ReentrantLock();
+        // Importe reservado por cuenta en unidades mínimas.
+        private final Map<Long, Long> reserved = new HashMap<>();
+    }
+}
@@ -0,0 +1,303 @@
+package com.cryfirock.account.helper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.entity.AccountHold;
+import com.cryfirock.account.helper.HoldLedgerHelper.Reservation;
+import com.cryfirock.account.repository.JpaAccountHoldRepository;
+import com.cryfirock.account.type.HoldStatus;
+import com.cryfirock.account.type.Money;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 1. Helper que persiste las retenciones de forma asíncrona.
+ * 2. Las altas y cambios de estado se encolan sin esperar a la base de datos.
+ * 3. Solo las altas tienen límite, los cambios de estado nunca se rechazan ni bloquean al llamante.
+ * 4. Un único hilo vacía la cola por lotes, cada lote en su propia transacción.
+ * 5. Los cambios de una misma retención dentro de un lote se agrupan en una sola escritura.
+ * 6. Un lote que falla se reintenta con espera creciente, nunca se descarta.
+ * 7. La captura escribe su estado en la transacción de la transferencia, no en la cola.
+ * 8. Al cerrar la aplicación se escriben los cambios pendientes.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class HoldWriterHelper implements DisposableBean {
+    // Repositorio de acceso a los datos de las retenciones.
+    private final JpaAccountHoldRepository holdRepository;
+    // Plantilla que abre una transacción por lote.
+    private final TransactionTemplate transactionTemplate;
+    // 1. Cambios pendientes de escribir en orden de llegada.
+    // 2. No tiene límite, los cambios de estado como mucho igualan a las altas.
+    private final BlockingQueue<HoldWrite> queue = new LinkedBlockingQueue<>();
+    // Número máximo de altas pendientes.
+    private final int queueCapacity;
+    // Número de altas encoladas que aún no se han procesado.
+    private final AtomicInteger pendingInserts = new AtomicInteger();
+    // Número máximo de cambios por lote.
+    private final int batchSize;
+    // Espera inicial y máxima entre reintentos de un lote en milisegundos.
+    private final long retryDelayMillis;
+    private final long maxRetryDelayMillis;
+    // Lotes que no se han podido escribir.
+    private final Counter failures;
+    // Hilo que escribe los lotes.
+    private final Thread worker;
+    // Número de cambios encolados desde el arranque.
+    private final AtomicLong submitted = new AtomicLong();
+    // Número de cambios procesados desde el arranque, protegido por el monitor del helper.
+    private long completed;
+    // Indica si el hilo debe seguir esperando cambios.
+    private volatile boolean running = true;
+
+    /**
+     * Constructor que inyecta las dependencias y arranca el hilo de escritura.
+     *
+     * @param holdRepository Repositorio de retenciones.
+     * @param transactionManager Gestor de transacciones.
+     * @param meterRegistry Registro de métricas.
+     * @param queueCapacity Número máximo de altas pendientes.
+     * @param batchSize Número máximo de cambios por lote.
+     * @param retryDelayMillis Espera inicial entre reintentos de un lote.
+     * @param maxRetryDelayMillis Espera máxima entre reintentos de un lote.
+     */
+    public HoldWriterHelper(
+            JpaAccountHoldRepository holdRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${account.holds.writer.queue-capacity:100000}") int queueCapacity,
+            @Value("${account.holds.writer.batch-size:500}") int batchSize,
+            @Value("${account.holds.writer.retry-delay-ms:100}") long retryDelayMillis,
+            @Value("${account.holds.writer.max-retry-delay-ms:30000}") long maxRetryDelayMillis) {
+        this.holdRepository = holdRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.retryDelayMillis = Math.max(1, retryDelayMillis);
+        this.maxRetryDelayMillis = Math.max(this.retryDelayMillis, maxRetryDelayMillis);
+        this.failures = Counter.builder("account.holds.write_failures").register(meterRegistry);
+        Gauge.builder("account.holds.pending_writes", queue, BlockingQueue::size).register(meterRegistry);
+        this.worker = new Thread(this::run, "account-hold-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 1. Encola el alta de una retención.
+     * 2. Si hay demasiadas altas pendientes se rechaza con 503 para que el llamante deshaga la reserva.
+     *
+     * @param hold Retención a insertar.
+     */
+    public void insert(AccountHold hold) {
+        if (pendingInserts.incrementAndGet() > queueCapacity) {
+            pendingInserts.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Hold writer queue is full");
+        }
+        submitted.incrementAndGet();
+        queue.add(new HoldWrite(hold, true));
+    }
+
+    /**
+     * 1. Encola la liberación o el vencimiento de una retención.
+     * 2. La retención ya está liberada en memoria, por lo que el cambio no se puede rechazar.
+     * 3. No cuenta para el límite de altas, así nunca bloquea al hilo de la rueda ni a las peticiones.
+     *
+     * @param holdId Identificador de la retención.
+     * @param status Nuevo estado.
+     */
+    public void update(UUID holdId, HoldStatus status) {
+        AccountHold hold = new AccountHold();
+        hold.setId(holdId);
+        hold.setStatus(status);
+        submitted.incrementAndGet();
+        queue.add(new HoldWrite(hold, false));
+    }
+
+    /**
+     * 1. Marca una retención como capturada dentro de la transacción de la transferencia.
+     * 2. Si su alta sigue en la cola la inserta ya capturada y el hilo de escritura la omite.
+     * 3. Así una transferencia confirmada nunca deja la retención activa en la tabla.
+     *
+     * @param reservation Retención capturada.
+     * @param capturedAmount Importe capturado.
+     * @return false si la retención ya estaba finalizada en la tabla.
+     */
+    public boolean writeCaptured(Reservation reservation, Money capturedAmount) {
+        if (holdRepository.finish(reservation.id(), HoldStatus.CAPTURED, capturedAmount, Instant.now()) == 1)
+            return true;
+        if (holdRepository.existsById(reservation.id())) return false;
+        AccountHold hold = new AccountHold(
+                reservation.id(),
+                reservation.accountId(),
+                reservation.amount(),
+                HoldStatus.CAPTURED,
+                reservation.reference(),
+                reservation.expiresAt());
+        hold.setCapturedAmount(capturedAmount);
+        holdRepository.saveAndFlush(hold);
+        return true;
+    }
+
+    /**
+     * 1. Espera a que se escriban los cambios encolados hasta ahora.
+     * 2. Se usa en las pruebas y al cerrar la aplicación.
+     *
+     * @param timeoutMillis Tiempo máximo de espera en milisegundos.
+     * @return true si se han procesado todos los cambios encolados.
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = submitted.get();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (this) {
+            while (completed < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) return false;
+                try {
+                    wait(remaining);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Detiene el hilo de escritura tras vaciar la cola.
+     */
+    @Override
+    public void destroy() {
+        flush(TimeUnit.SECONDS.toMillis(10));
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * Bucle del hilo de escritura: espera un cambio y escribe todos los pendientes en un lote.
+     */
+    private void run() {
+        List<HoldWrite> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                HoldWrite first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                for (HoldWrite write : batch) if (write.insert()) pendingInserts.decrementAndGet();
+                synchronized (this) {
+                    completed += batch.size();
+                    notifyAll();
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 1. Escribe un lote y lo reintenta hasta que se confirma.
+     * 2. La espera entre intentos se duplica hasta el máximo configurado.
+     * 3. Los cambios siguientes esperan en la cola para conservar el orden.
+     *
+     * @param batch Cambios a escribir.
+     * @throws InterruptedException Si la aplicación se detiene durante la espera.
+     */
+    private void writeWithRetry(List<HoldWrite> batch) throws InterruptedException {
+        long delay = retryDelayMillis;
+        while (true) {
+            try {
+                write(batch);
+                return;
+            } catch (RuntimeException exception) {
+                failures.increment();
+                Thread.sleep(delay);
+                delay = Math.min(delay << 1, maxRetryDelayMillis);
+            }
+        }
+    }
+
+    /**
+     * 1. Escribe un lote de cambios en una transacción.
+     * 2. Las altas se insertan con el último estado conocido de la retención.
+     * 3. Las altas de retenciones que una captura ya ha insertado se omiten.
+     * 4. Los cambios de estado solo se aplican sobre las retenciones que siguen activas.
+     *
+     * @param batch Cambios a escribir.
+     */
+    private void write(List<HoldWrite> batch) {
+        Map<UUID, AccountHold> inserts = new LinkedHashMap<>();
+        Map<UUID, AccountHold> updates = new LinkedHashMap<>();
+        for (HoldWrite write : batch) {
+            AccountHold hold = write.hold();
+            if (write.insert()) {
+                inserts.put(hold.getId(), hold);
+            } else if (inserts.containsKey(hold.getId())) {
+                apply(inserts.get(hold.getId()), hold);
+            } else {
+                updates.put(hold.getId(), hold);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!inserts.isEmpty()) {
+                Map<UUID, AccountHold> pending = new LinkedHashMap<>(inserts);
+                holdRepository.findAllById(inserts.keySet()).forEach(stored -> pending.remove(stored.getId()));
+                holdRepository.saveAll(pending.values());
+            }
+            if (updates.isEmpty()) return;
+            Instant now = Instant.now();
+            for (AccountHold stored : holdRepository.findAllById(updates.keySet())) {
+                if (stored.getStatus() != HoldStatus.ACTIVE) continue;
+                apply(stored, updates.get(stored.getId()));
+                stored.getAudit().setUpdatedAt(now);
+            }
+        });
+    }
+
+    /**
+     * Copia el estado y el importe capturado de un cambio a una retención.
+     *
+     * @param target Retención a modificar.
+     * @param change Cambio a aplicar.
+     */
+    private static void apply(AccountHold target, AccountHold change) {
+        target.setStatus(change.getStatus());
+        target.setCapturedAmount(change.getCapturedAmount());
+    }
+
+    /**
+     * Cambio pendiente de escribir.
+     *
+     * @param hold Retención con los datos del cambio.
+     * @param insert Indica si es un alta.
+     */
+    private record HoldWrite(AccountHold hold, boolean insert) {
+    }
+}
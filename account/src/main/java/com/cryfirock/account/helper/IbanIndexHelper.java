@@ -0,0 +1,196 @@
+package com.cryfirock.account.helper;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.repository.JpaAccountRepository;
+import com.cryfirock.account.util.BloomFilter;
+import com.cryfirock.account.util.IbanValidator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 1. Helper con un índice en memoria de los IBAN registrados basado en un filtro de Bloom.
+ * 2. Si el filtro responde que un IBAN no existe no se consulta la base de datos.
+ * 3. Solo los positivos se confirman con una consulta exacta por IBAN.
+ * 4. Se carga al arrancar y se actualiza al escribir, sin esperar al commit.
+ * 5. Un IBAN de una transacción revertida solo cuesta una consulta exacta de más.
+ * 6. La restricción única de la columna sigue siendo la última garantía ante carreras.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class IbanIndexHelper implements SmartInitializingSingleton {
+    // Prefijo de las métricas del índice publicadas en Actuator.
+    private static final String METRIC_PREFIX = "account.iban_index.";
+    // Repositorio de acceso a los datos de las cuentas bancarias.
+    private final JpaAccountRepository accountRepository;
+    // Plantilla de transacciones de solo lectura para la carga completa.
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    // Indica si se comprueban los dígitos de control además de la longitud.
+    private final boolean checkDigits;
+    // Número mínimo de IBAN para el que se dimensiona el filtro.
+    private final long expectedInsertions;
+    // Tasa de falsos positivos aceptada.
+    private final double falsePositiveRate;
+    // Positivos del filtro que la consulta exacta no confirma.
+    private final Counter falsePositives;
+    // 1. Cerrojo que separa las inserciones de la carga completa.
+    // 2. Las inserciones comparten el cerrojo de lectura y no se bloquean entre sí.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Filtro vigente, se sustituye completo en cada carga.
+    private volatile BloomFilter filter;
+    // Indica si la carga inicial ha terminado.
+    private volatile boolean ready;
+
+    /**
+     * Constructor que inyecta las dependencias y registra las métricas.
+     *
+     * @param accountRepository Repositorio de cuentas.
+     * @param transactionManager Gestor de transacciones.
+     * @param meterRegistry Registro de métricas.
+     * @param checkDigits Indica si se comprueban los dígitos de control.
+     * @param expectedInsertions Número mínimo de IBAN del filtro.
+     * @param falsePositiveRate Tasa de falsos positivos aceptada.
+     */
+    public IbanIndexHelper(
+            JpaAccountRepository accountRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${account.iban.check-digits:true}") boolean checkDigits,
+            @Value("${account.iban-index.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${account.iban-index.fpp:0.01}") double falsePositiveRate) {
+        this.accountRepository = accountRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.checkDigits = checkDigits;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.falsePositives = Counter.builder(METRIC_PREFIX + "false_positives").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "memory", this, helper -> helper.filter.memoryBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Carga el índice cuando todos los beans están creados, antes de aceptar peticiones.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        warm();
+    }
+
+    /**
+     * 1. Reconstruye el filtro desde la base de datos.
+     * 2. Se dimensiona para el doble de las cuentas actuales si superan el mínimo configurado.
+     * 3. Las inserciones que llegan durante la carga esperan a que termine.
+     */
+    public void warm() {
+        lock.writeLock().lock();
+        try {
+            filter = readOnlyTransactionTemplate.execute(status -> {
+                BloomFilter loaded = new BloomFilter(
+                        Math.max(expectedInsertions, 2 * accountRepository.count()),
+                        falsePositiveRate);
+                try (Stream<String> ibanNumbers = accountRepository.streamIbanNumbers()) {
+                    ibanNumbers.forEach(loaded::put);
+                }
+                return loaded;
+            });
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 1. Valida el formato de un IBAN.
+     * 2. Sin comprobación de dígitos de control solo se valida la longitud.
+     *
+     * @param ibanNumber IBAN a validar.
+     * @return Motivo del error o null si es válido.
+     */
+    public String validate(String ibanNumber) {
+        if (ibanNumber == null
+                || ibanNumber.isBlank()
+                || ibanNumber.length() > IbanValidator.MAX_LENGTH)
+            return "ibanNumber must have between 1 and " + IbanValidator.MAX_LENGTH + " characters";
+        if (checkDigits && !IbanValidator.isValid(ibanNumber))
+            return "ibanNumber must be a valid IBAN in electronic format";
+        return null;
+    }
+
+    /**
+     * 1. Comprueba que un IBAN sea válido y no lo tenga otra cuenta.
+     * 2. Se debe llamar antes de abrir la transacción de escritura.
+     * 3. Un IBAN inválido se rechaza con 400 BAD_REQUEST y uno registrado con 409 CONFLICT.
+     *
+     * @param ibanNumber IBAN a comprobar.
+     * @param accountId Cuenta que se actualiza o null si se crea.
+     */
+    public void requireAvailable(String ibanNumber, Long accountId) {
+        String error = validate(ibanNumber);
+        if (error != null) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, error);
+        if (!mightExist(ibanNumber)) return;
+        boolean exists = accountId == null
+                ? accountRepository.existsByIbanNumber(ibanNumber)
+                : accountRepository.existsByIbanNumberAndIdNot(ibanNumber, accountId);
+        if (exists) throw new ResponseStatusException(HttpStatus.CONFLICT, "IBAN already exists");
+        // Al actualizar el positivo suele ser el IBAN de la propia cuenta.
+        if (accountId == null) falsePositives.increment();
+    }
+
+    /**
+     * 1. Indica si un IBAN puede estar registrado.
+     * 2. Mientras no termina la carga inicial todos los IBAN se consideran posibles.
+     *
+     * @param ibanNumber IBAN a consultar.
+     * @return false si el IBAN seguro que no está registrado.
+     */
+    public boolean mightExist(String ibanNumber) {
+        return !ready || filter.mightContain(ibanNumber);
+    }
+
+    /**
+     * Añade un IBAN al índice.
+     *
+     * @param ibanNumber IBAN guardado.
+     */
+    public void add(String ibanNumber) {
+        lock.readLock().lock();
+        try {
+            filter.put(ibanNumber);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Añade varios IBAN al índice.
+     *
+     * @param ibanNumbers IBAN guardados.
+     */
+    public void addAll(Collection<String> ibanNumbers) {
+        lock.readLock().lock();
+        try {
+            ibanNumbers.forEach(filter::put);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package com.cryfirock.account.helper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.entity.IdempotencyRecord;
+import com.cryfirock.account.repository.JpaIdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 1. Helper que guarda las respuestas de las escrituras con cabecera Idempotency-Key.
+ * 2. Una clave repetida devuelve la respuesta guardada sin volver a ejecutar la escritura.
+ * 3. Las peticiones simultáneas con la misma clave esperan a la primera en lugar de ejecutarse.
+ * 4. Las respuestas se guardan como JSON en una caché acotada por bytes y por tiempo de vida.
+ * 5. Si está habilitado, la caché se respalda en la tabla idempotency_record.
+ * 6. Con respaldo, la clave se reserva en la tabla antes de ejecutar y las demás instancias esperan.
+ * 7. Las escrituras que fallan no se guardan y el cliente puede reintentarlas con la misma clave.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class IdempotencyHelper {
+    // Cabecera con la clave de idempotencia.
+    public static final String KEY_HEADER = "Idempotency-Key";
+    // Cabecera que marca las respuestas repetidas.
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    // Longitud máxima de la clave.
+    private static final int MAX_KEY_LENGTH = 255;
+    // Bytes aproximados de cada entrada además de su cuerpo.
+    private static final int ENTRY_OVERHEAD = 128;
+    // Nombre de la caché en las métricas de Actuator.
+    private static final String CACHE_NAME = "account.idempotency";
+    // Estado de las filas que reservan una clave sin respuesta todavía.
+    private static final int PENDING_STATUS = 0;
+    // Cuerpo de las reservas.
+    private static final byte[] EMPTY_BODY = new byte[0];
+    // Espera inicial y máxima entre consultas a la reserva de otra instancia en milisegundos.
+    private static final long CLAIM_POLL_MILLIS = 10;
+    private static final long MAX_CLAIM_POLL_MILLIS = 500;
+    // Serializador de las peticiones y respuestas.
+    private final ObjectMapper objectMapper;
+    // Repositorio de respaldo de las respuestas.
+    private final JpaIdempotencyRecordRepository recordRepository;
+    // Plantilla de transacciones para el respaldo.
+    private final TransactionTemplate transactionTemplate;
+    // Respuestas guardadas por clave.
+    private final Cache<String, StoredResponse> responses;
+    // Escrituras en curso por clave.
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    // Tiempo durante el que se repite una respuesta.
+    private final Duration timeToLive;
+    // Tiempo máximo de espera a una petición en curso con la misma clave.
+    private final Duration waitTimeout;
+    // Tiempo tras el que la reserva de una instancia caída se puede tomar.
+    private final Duration claimTimeout;
+    // Indica si las respuestas se respaldan en la base de datos.
+    private final boolean jdbcEnabled;
+
+    /**
+     * Constructor que crea la caché y registra sus métricas.
+     *
+     * @param objectMapper Serializador JSON.
+     * @param recordRepository Repositorio de respaldo.
+     * @param transactionManager Gestor de transacciones.
+     * @param meterRegistry Registro de métricas.
+     * @param timeToLive Tiempo durante el que se repite una respuesta.
+     * @param maximumMemory Memoria máxima de las respuestas en caché.
+     * @param waitTimeout Espera máxima a una petición en curso.
+     * @param claimTimeout Vigencia de la reserva de una clave en la base de datos.
+     * @param jdbcEnabled Indica si se respalda en la base de datos.
+     */
+    public IdempotencyHelper(
+            ObjectMapper objectMapper,
+            JpaIdempotencyRecordRepository recordRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${account.idempotency.ttl:24h}") Duration timeToLive,
+            @Value("${account.idempotency.maximum-memory:64MB}") DataSize maximumMemory,
+            @Value("${account.idempotency.wait-timeout:30s}") Duration waitTimeout,
+            @Value("${account.idempotency.jdbc.claim-ttl:5m}") Duration claimTimeout,
+            @Value("${account.idempotency.jdbc.enabled:false}") boolean jdbcEnabled) {
+        this.objectMapper = objectMapper;
+        this.recordRepository = recordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timeToLive = timeToLive;
+        this.waitTimeout = waitTimeout;
+        this.claimTimeout = claimTimeout;
+        this.jdbcEnabled = jdbcEnabled;
+        this.responses = Caffeine
+                .newBuilder()
+                .maximumWeight(maximumMemory.toBytes())
+                .<String, StoredResponse>weigher((key, response) -> ENTRY_OVERHEAD + key.length() + response.body().length)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+    }
+
+    /**
+     * 1. Ejecuta una escritura una sola vez por clave de idempotencia.
+     * 2. Sin clave la escritura se ejecuta siempre.
+     * 3. Una clave ya usada con otra operación o cuerpo se rechaza con 422 UNPROCESSABLE_ENTITY.
+     * 4. Si la petición original sigue en curso tras la espera máxima se responde 409 CONFLICT.
+     * 5. Con respaldo, la reserva en la base de datos impide que otra instancia ejecute la misma clave.
+     *
+     * @param key Clave de idempotencia o null.
+     * @param operation Método y ruta de la escritura.
+     * @param request Cuerpo de la petición o null.
+     * @param bodyType Tipo del cuerpo de la respuesta.
+     * @param action Escritura a ejecutar.
+     * @return Respuesta de la escritura o la guardada.
+     */
+    public <T> ResponseEntity<T> execute(
+            String key,
+            String operation,
+            Object request,
+            Class<T> bodyType,
+            Supplier<ResponseEntity<T>> action) {
+        if (key == null) return action.get();
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH)
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    KEY_HEADER + " must have between 1 and " + MAX_KEY_LENGTH + " characters");
+        byte[] fingerprint = fingerprint(operation, request);
+
+        // Respuesta ya guardada en memoria.
+        StoredResponse stored = responses.getIfPresent(key);
+        if (stored != null) return replay(stored, fingerprint, bodyType);
+
+        // Si otra petición con la misma clave está en curso se espera su respuesta.
+        CompletableFuture<StoredResponse> own = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, own);
+        if (running != null) return replay(await(running), fingerprint, bodyType);
+        try {
+            // Comprueba de nuevo por si la anterior terminó antes de registrar esta.
+            stored = find(key);
+            if (stored != null) {
+                own.complete(stored);
+                return replay(stored, fingerprint, bodyType);
+            }
+            if (!jdbcEnabled) {
+                ResponseEntity<T> response = action.get();
+                stored = toStored(fingerprint, response);
+                responses.put(key, stored);
+                own.complete(stored);
+                return response;
+            }
+            // Reserva la clave en la base de datos o repite la respuesta de otra instancia.
+            Claim claim = claim(key, fingerprint);
+            if (claim.stored() != null) {
+                own.complete(claim.stored());
+                return replay(claim.stored(), fingerprint, bodyType);
+            }
+            ResponseEntity<T> response;
+            try {
+                response = action.get();
+            } catch (RuntimeException exception) {
+                transactionTemplate.executeWithoutResult(status -> recordRepository.deleteClaim(key, claim.claimedUntil()));
+                throw exception;
+            }
+            stored = toStored(fingerprint, response);
+            complete(key, claim.claimedUntil(), stored);
+            own.complete(stored);
+            return response;
+        } catch (RuntimeException exception) {
+            own.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Borra de la base de datos las respuestas caducadas.
+     */
+    @Scheduled(
+            fixedDelayString = "${account.idempotency.purge-ms:3600000}",
+            initialDelayString = "${account.idempotency.purge-ms:3600000}")
+    public void purgeExpired() {
+        if (!jdbcEnabled) return;
+        transactionTemplate.executeWithoutResult(status -> recordRepository.deleteExpired(Instant.now()));
+    }
+
+    /**
+     * 1. Busca una respuesta en memoria y, si está habilitado, en la base de datos.
+     * 2. Las reservas de peticiones en curso no son respuestas.
+     *
+     * @param key Clave de idempotencia.
+     * @return Respuesta guardada o null.
+     */
+    private StoredResponse find(String key) {
+        StoredResponse stored = responses.getIfPresent(key);
+        if (stored != null || !jdbcEnabled) return stored;
+        IdempotencyRecord record = recordRepository.findById(key).orElse(null);
+        if (record == null
+                || record.getStatus() == PENDING_STATUS
+                || !record.getExpiresAt().isAfter(Instant.now())) return null;
+        stored = new StoredResponse(record.getFingerprint(), record.getStatus(), record.getBody());
+        responses.put(key, stored);
+        return stored;
+    }
+
+    /**
+     * 1. Reserva una clave en la base de datos antes de ejecutar la escritura.
+     * 2. Si la fila existe y ha caducado se reserva de nuevo, por ejemplo tras caer otra instancia.
+     * 3. Si otra instancia tiene la reserva se consulta con espera creciente hasta que guarda su respuesta.
+     * 4. Si la reserva sigue en curso tras la espera máxima se responde 409 CONFLICT.
+     *
+     * @param key Clave de idempotencia.
+     * @param fingerprint Huella de la petición.
+     * @return Reserva propia o respuesta guardada por otra instancia.
+     */
+    private Claim claim(String key, byte[] fingerprint) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        long pause = CLAIM_POLL_MILLIS;
+        while (true) {
+            Instant now = Instant.now();
+            // El vencimiento de la reserva identifica a su dueño al completarla o borrarla.
+            Instant claimedUntil = now.plus(claimTimeout).truncatedTo(ChronoUnit.MILLIS);
+            if (insertClaim(key, fingerprint, claimedUntil)) return new Claim(claimedUntil, null);
+            Integer reclaimed = transactionTemplate.execute(status -> recordRepository.reclaim(
+                    key,
+                    fingerprint,
+                    EMPTY_BODY,
+                    claimedUntil,
+                    now));
+            if (reclaimed != null && reclaimed == 1) return new Claim(claimedUntil, null);
+            StoredResponse stored = find(key);
+            if (stored != null) return new Claim(null, stored);
+            if (System.nanoTime() - deadline >= 0)
+                throw new ResponseStatusException(
+                        HttpStatus.CONFLICT,
+                        "A request with this " + KEY_HEADER + " is still in progress");
+            try {
+                Thread.sleep(pause);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Request interrupted");
+            }
+            pause = Math.min(pause << 1, MAX_CLAIM_POLL_MILLIS);
+        }
+    }
+
+    /**
+     * Inserta la reserva de una clave.
+     *
+     * @param key Clave de idempotencia.
+     * @param fingerprint Huella de la petición.
+     * @param claimedUntil Vencimiento de la reserva.
+     * @return false si la clave ya tiene fila.
+     */
+    private boolean insertClaim(String key, byte[] fingerprint, Instant claimedUntil) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> recordRepository.saveAndFlush(new IdempotencyRecord(
+                    key,
+                    fingerprint,
+                    PENDING_STATUS,
+                    EMPTY_BODY,
+                    claimedUntil)));
+            return true;
+        } catch (DataIntegrityViolationException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * 1. Guarda la respuesta en memoria y sustituye con ella la reserva de la base de datos.
+     * 2. Si la reserva caducó y otra instancia la tomó se conserva la fila de esa instancia.
+     *
+     * @param key Clave de idempotencia.
+     * @param claimedUntil Vencimiento de la reserva propia.
+     * @param stored Respuesta a guardar.
+     */
+    private void complete(String key, Instant claimedUntil, StoredResponse stored) {
+        responses.put(key, stored);
+        transactionTemplate.executeWithoutResult(status -> recordRepository.complete(
+                key,
+                claimedUntil,
+                stored.status(),
+                stored.body(),
+                Instant.now().plus(timeToLive)));
+    }
+
+    /**
+     * Construye la respuesta guardada de una escritura.
+     *
+     * @param fingerprint Huella de la petición.
+     * @param response Respuesta de la escritura.
+     * @return Respuesta a guardar.
+     */
+    private StoredResponse toStored(byte[] fingerprint, ResponseEntity<?> response) {
+        return new StoredResponse(fingerprint, response.getStatusCode().value(), serialize(response.getBody()));
+    }
+
+    /**
+     * Espera la respuesta de una petición en curso con la misma clave.
+     *
+     * @param running Petición en curso.
+     * @return Respuesta guardada.
+     */
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "A request with this " + KEY_HEADER + " is still in progress");
+        } catch (ExecutionException exception) {
+            throw exception.getCause() instanceof RuntimeException runtime
+                    ? runtime
+                    : new IllegalStateException(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Request interrupted");
+        }
+    }
+
+    /**
+     * Reconstruye la respuesta guardada si corresponde a la misma petición.
+     *
+     * @param stored Respuesta guardada.
+     * @param fingerprint Huella de la petición actual.
+     * @param bodyType Tipo del cuerpo de la respuesta.
+     * @return Respuesta repetida.
+     */
+    private <T> ResponseEntity<T> replay(StoredResponse stored, byte[] fingerprint, Class<T> bodyType) {
+        if (!MessageDigest.isEqual(stored.fingerprint(), fingerprint))
+            throw new ResponseStatusException(
+                    HttpStatus.UNPROCESSABLE_ENTITY,
+                    KEY_HEADER + " was already used with a different request");
+        T body;
+        try {
+            body = stored.body().length == 0 ? null : objectMapper.readValue(stored.body(), bodyType);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Stored response cannot be read", exception);
+        }
+        return ResponseEntity
+                .status(stored.status())
+                .header(REPLAYED_HEADER, "true")
+                .body(body);
+    }
+
+    /**
+     * Calcula la huella SHA-256 de la operación y del cuerpo de la petición.
+     *
+     * @param operation Método y ruta de la escritura.
+     * @param request Cuerpo de la petición o null.
+     * @return Huella de 32 bytes.
+     */
+    private byte[] fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(serialize(request));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Serializa un objeto a JSON o a un array vacío si es null.
+     *
+     * @param value Objeto a serializar.
+     * @return Bytes JSON.
+     */
+    private byte[] serialize(Object value) {
+        if (value == null) return new byte[0];
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Value cannot be serialized", exception);
+        }
+    }
+
+    /**
+     * Respuesta guardada de una escritura.
+     *
+     * @param fingerprint Huella de la petición.
+     * @param status Código de estado HTTP.
+     * @param body Cuerpo JSON o vacío.
+     */
+    private record StoredResponse(byte[] fingerprint, int status, byte[] body) {
+    }
+
+    /**
+     * Resultado de reservar una clave en la base de datos.
+     *
+     * @param claimedUntil Vencimiento de la reserva propia o null.
+     * @param stored Respuesta guardada por otra instancia o null.
+     */
+    private record Claim(Instant claimedUntil, StoredResponse stored) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.cryfirock.account.helper;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.cryfirock.account.dto.AccountResponseDto;
+import com.cryfirock.account.entity.Account;
+import com.cryfirock.account.entity.AccountProduct;
+import com.cryfirock.account.entity.AccountUser;
+import com.cryfirock.account.repository.JpaAccountProductRepository;
+import com.cryfirock.account.repository.JpaAccountUserRepository;
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. Helper que carga las relaciones de una o varias cuentas con usuarios y productos.
+ * 2. Agrupa las relaciones por cuenta para construir las respuestas en bloque.
+ * 3. El número de consultas es constante sin importar la cantidad de cuentas.
+ * 4. Suma al saldo base las fracciones de saldo de las cuentas concurridas.
+ * 5. El saldo solo se convierte a BigDecimal al construir la respuesta.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class LoadRelationsHelper {
+    // Repositorio de acceso a los datos de las relaciones con los usuarios.
+    private final JpaAccountUserRepository accountUserRepository;
+    // Repositorio de acceso a los datos de las relaciones con los productos.
+    private final JpaAccountProductRepository accountProductRepository;
+    // Helper que obtiene el total de las fracciones de saldo.
+    private final BalanceSlotsHelper balanceSlotsHelper;
+
+    /**
+     * Constructor que inyecta los repositorios de relaciones.
+     *
+     * @param accountUserRepository Repositorio de relaciones cuenta usuario.
+     * @param accountProductRepository Repositorio de relaciones cuenta producto.
+     * @param balanceSlotsHelper Helper de fracciones de saldo.
+     */
+    public LoadRelationsHelper(
+            JpaAccountUserRepository accountUserRepository,
+            JpaAccountProductRepository accountProductRepository,
+            BalanceSlotsHelper balanceSlotsHelper) {
+        this.accountUserRepository = accountUserRepository;
+        this.accountProductRepository = accountProductRepository;
+        this.balanceSlotsHelper = balanceSlotsHelper;
+    }
+
+    /**
+     * Construye la respuesta de una única cuenta con sus relaciones.
+     *
+     * @param account Cuenta a transformar.
+     * @return Cuenta con relaciones.
+     */
+    public AccountResponseDto buildResponse(Account account) {
+        return buildResponses(List.of(account)).get(0);
+    }
+
+    /**
+     * 1. Construye las respuestas de varias cuentas con sus relaciones.
+     * 2. Carga los usuarios y productos de todas las cuentas con dos consultas.
+     * 3. Conserva el orden de las cuentas recibidas.
+     *
+     * @param accounts Cuentas a transformar.
+     * @return Lista de cuentas con relaciones.
+     */
+    public List<AccountResponseDto> buildResponses(List<Account> accounts) {
+        // Si no hay cuentas no se consulta la base de datos.
+        if (accounts.isEmpty()) return List.of();
+
+        // Identificadores de las cuentas a resolver.
+        List<Long> accountIds = accounts
+                .stream()
+                .map(Account::getId)
+                .toList();
+
+        // Agrupa los usuarios de todas las cuentas por el id de la cuenta.
+        Map<Long, List<Long>> userIdsByAccount = groupByAccount(
+                accountUserRepository.findAllByAccountIdIn(accountIds),
+                AccountUser::getAccountId,
+                AccountUser::getUserId);
+
+        // Agrupa los productos de todas las cuentas por el id de la cuenta.
+        Map<Long, List<Long>> productIdsByAccount = groupByAccount(
+                accountProductRepository.findAllByAccountIdIn(accountIds),
+                AccountProduct::getAccountId,
+                AccountProduct::getProductId);
+
+        // Total de las fracciones de saldo de las cuentas concurridas.
+        Map<Long, Money> slotTotals = balanceSlotsHelper.slotTotals(accounts);
+
+        // Ensambla cada cuenta con las relaciones agrupadas.
+        return accounts
+                .stream()
+                .map(account -> toResponse(
+                        account,
+                        slotTotals.getOrDefault(account.getId(), Money.ZERO),
+                        userIdsByAccount.getOrDefault(account.getId(), List.of()),
+                        productIdsByAccount.getOrDefault(account.getId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * Agrupa las relaciones por cuenta eliminando los identificadores duplicados.
+     *
+     * @param relations Relaciones a agrupar.
+     * @param accountId Función que obtiene el id de la cuenta.
+     * @param relatedId Función que obtiene el id relacionado.
+     * @return Mapa del id de la cuenta a los ids relacionados.
+     */
+    private static <T> Map<Long, List<Long>> groupByAccount(
+            Collection<T> relations,
+            Function<T, Long> accountId,
+            Function<T, Long> relatedId) {
+        return relations
+                .stream()
+                .collect(Collectors.groupingBy(
+                        accountId,
+                        Collectors.collectingAndThen(
+                                Collectors.mapping(
+                                        relatedId,
+                                        Collectors.toCollection(LinkedHashSet::new)),
+                                List::copyOf)));
+    }
+
+    /**
+     * Convierte una cuenta y sus relaciones en el DTO de respuesta.
+     *
+     * @param account Cuenta a transformar.
+     * @param slotTotal Total de las fracciones de saldo de la cuenta.
+     * @param userIds Identificadores de los usuarios asociados.
+     * @param productIds Identificadores de los productos asociados.
+     * @return Cuenta con relaciones.
+     */
+    private static AccountResponseDto toResponse(
+            Account account,
+            Money slotTotal,
+            List<Long> userIds,
+            List<Long> productIds) {
+        return new AccountResponseDto(
+                account.getId(),
+                account.getMainOwnerId(),
+                account.getFinancialAssetClass(),
+                account.getCurrencyCode(),
+                account.getIbanNumber(),
+                account.getCurrentBalance().plus(slotTotal).toBigDecimal(),
+                account.getBankAccountPurpose(),
+                account.getBankAccountOperational(),
+                account.getBankAccountStatus(),
+                account.getAudit(),
+                userIds,
+                productIds);
+    }
+}
@@ -0,0 +1,150 @@
+package com.cryfirock.account.helper;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 1. Helper que ejecuta escrituras en transacción y las reintenta ante conflictos.
+ * 2. Un conflicto es un fallo de concurrencia como una versión optimista obsoleta.
+ * 3. También lo es una clave única duplicada por dos escrituras que insertan la misma fila.
+ * 4. Los reintentos están acotados y esperan un tiempo exponencial con jitter.
+ * 5. Publica métricas de intentos y conflictos para detectar cuentas disputadas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class OptimisticRetryHelper {
+    // Nombres de las métricas de escrituras publicadas en Actuator.
+    private static final String ATTEMPTS_METRIC = "account.write.attempts";
+    private static final String CONFLICTS_METRIC = "account.write.conflicts";
+    private static final String EXHAUSTED_METRIC = "account.write.retries.exhausted";
+    // Plantilla que abre una transacción nueva en cada intento.
+    private final TransactionTemplate transactionTemplate;
+    // Registro de métricas de Micrometer.
+    private final MeterRegistry meterRegistry;
+    // Número máximo de intentos por escritura.
+    private final int maxAttempts;
+    // Espera base y máxima entre intentos en milisegundos.
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    /**
+     * Constructor que inyecta las dependencias y la política de reintentos.
+     *
+     * @param transactionManager Gestor de transacciones.
+     * @param meterRegistry Registro de métricas.
+     * @param maxAttempts Número máximo de intentos.
+     * @param baseDelayMillis Espera base entre intentos.
+     * @param maxDelayMillis Espera máxima entre intentos.
+     */
+    public OptimisticRetryHelper(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${account.retry.max-attempts:5}") int maxAttempts,
+            @Value("${account.retry.base-delay-ms:10}") long baseDelayMillis,
+            @Value("${account.retry.max-delay-ms:200}") long maxDelayMillis) {
+        if (maxAttempts < 1) throw new IllegalStateException("Retry attempts must be positive");
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * 1. Ejecuta la acción en una transacción y la reintenta si hay un conflicto.
+     * 2. Dentro de una transacción ya abierta se ejecuta una sola vez sin reintentos.
+     * 3. Si se agotan los intentos responde con 409 CONFLICT.
+     *
+     * @param operation Nombre de la operación para las métricas.
+     * @param action Escritura a ejecutar.
+     * @return Resultado de la escritura.
+     */
+    public <T> T executeInTransaction(String operation, Supplier<T> action) {
+        // Una transacción externa no se puede reintentar desde aquí.
+        int attempts = TransactionSynchronizationManager.isActualTransactionActive()
+                ? 1
+                : maxAttempts;
+        for (int attempt = 1;; attempt++) {
+            counter(ATTEMPTS_METRIC, operation).increment();
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                // Las demás violaciones de integridad no se resuelven reintentando.
+                if (!isConflict(e)) throw e;
+                counter(CONFLICTS_METRIC, operation).increment();
+                // Si se agotan los intentos se informa del conflicto al cliente.
+                if (attempt >= attempts) {
+                    counter(EXHAUSTED_METRIC, operation).increment();
+                    throw new ResponseStatusException(
+                            HttpStatus.CONFLICT,
+                            "Concurrent modification, please retry",
+                            e);
+                }
+                backOff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 1. Indica si un fallo de la escritura se debe a otra escritura concurrente.
+     * 2. Una clave única duplicada lo es porque el reintento vuelve a leer las filas existentes.
+     *
+     * @param exception Fallo de la escritura.
+     * @return true si se puede reintentar.
+     */
+    private static boolean isConflict(RuntimeException exception) {
+        if (exception instanceof ConcurrencyFailureException || exception instanceof DuplicateKeyException)
+            return true;
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause())
+            if (cause instanceof ConstraintViolationException violation)
+                return violation.getKind() == ConstraintKind.UNIQUE;
+        return false;
+    }
+
+    /**
+     * 1. Espera antes del siguiente intento con backoff exponencial y jitter completo.
+     * 2. El jitter evita que los escritores en conflicto vuelvan a coincidir.
+     *
+     * @param attempt Número del intento fallido.
+     */
+    private void backOff(int attempt) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) return;
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted", e);
+        }
+    }
+
+    /**
+     * Obtiene el contador de una métrica para una operación.
+     *
+     * @param name Nombre de la métrica.
+     * @param operation Nombre de la operación.
+     * @return Contador registrado.
+     */
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, "operation", operation);
+    }
+}
@@ -0,0 +1,74 @@
+package com.cryfirock.account.helper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cryfirock.account.entity.AccountChange;
+import com.cryfirock.account.repository.JpaAccountChangeRepository;
+import com.cryfirock.account.type.AccountChangeType;
+
+/**
+ * 1. Helper que registra los cambios de cuentas en la tabla outbox.
+ * 2. Exige una transacción activa para que el cambio y su registro se confirmen o reviertan juntos.
+ * 3. Tras el commit despierta al relay para publicar sin esperar a su siguiente revisión.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class OutboxHelper {
+    // Repositorio de acceso a la tabla outbox.
+    private final JpaAccountChangeRepository changeRepository;
+    // Relay que publica los cambios registrados.
+    private final OutboxRelayHelper relayHelper;
+
+    /**
+     * Constructor que inyecta las dependencias.
+     *
+     * @param changeRepository Repositorio de la tabla outbox.
+     * @param relayHelper Relay de la tabla outbox.
+     */
+    public OutboxHelper(JpaAccountChangeRepository changeRepository, OutboxRelayHelper relayHelper) {
+        this.changeRepository = changeRepository;
+        this.relayHelper = relayHelper;
+    }
+
+    /**
+     * Registra el cambio de una cuenta en la transacción actual.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param changeType Tipo de cambio.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long accountId, AccountChangeType changeType) {
+        recordAll(List.of(accountId), changeType);
+    }
+
+    /**
+     * Registra el mismo cambio de varias cuentas en la transacción actual con inserciones por lotes.
+     *
+     * @param accountIds Identificadores de las cuentas.
+     * @param changeType Tipo de cambio.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(Collection<Long> accountIds, AccountChangeType changeType) {
+        if (accountIds.isEmpty()) return;
+        List<AccountChange> changes = new ArrayList<>(accountIds.size());
+        for (Long accountId : accountIds) changes.add(new AccountChange(accountId, changeType));
+        changeRepository.saveAll(changes);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relayHelper.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,222 @@
+package com.cryfirock.account.helper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cryfirock.account.dto.AccountChangeDto;
+import com.cryfirock.account.entity.AccountChange;
+import com.cryfirock.account.repository.JpaAccountChangeRepository;
+import com.cryfirock.account.service.api.IAccountChangeSink;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 1. Helper que publica por lotes los cambios de la tabla outbox.
+ * 2. Un único hilo lee los cambios pendientes, les asigna posiciones consecutivas y los envía al destino.
+ * 3. Cada lote se publica y se marca en la misma transacción, si el destino falla se reintenta.
+ * 4. Las escrituras lo despiertan tras su commit y, si no, revisa la tabla cada cierto tiempo.
+ * 5. La entrega es al menos una vez: si el commit falla tras enviar el lote se vuelve a enviar.
+ * 6. Solo debe ejecutarse en una instancia, en el resto se deshabilita con account.outbox.relay.enabled.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class OutboxRelayHelper implements SmartInitializingSingleton, DisposableBean {
+    // Repositorio de acceso a la tabla outbox.
+    private final JpaAccountChangeRepository changeRepository;
+    // Destino de los cambios.
+    private final IAccountChangeSink sink;
+    // Consultas del feed que esperan cambios nuevos.
+    private final AccountChangeFeedHelper feedHelper;
+    // Plantilla que abre una transacción por lote.
+    private final TransactionTemplate transactionTemplate;
+    // Indica si el relay se ejecuta en esta instancia.
+    private final boolean enabled;
+    // Número máximo de cambios por lote.
+    private final int batchSize;
+    // Tiempo máximo entre dos revisiones de la tabla.
+    private final long pollNanos;
+    // Tiempo que se conservan los cambios publicados.
+    private final Duration retention;
+    // Cambios publicados desde el arranque.
+    private final Counter published;
+    // Lotes que no se han podido publicar.
+    private final Counter failures;
+    // Hilo que publica los lotes.
+    private volatile Thread worker;
+    // Indica si el hilo debe seguir publicando.
+    private volatile boolean running = true;
+    // Última posición asignada, protegida por el monitor del helper.
+    private long position;
+
+    /**
+     * Constructor que inyecta las dependencias y registra las métricas.
+     *
+     * @param changeRepository Repositorio de la tabla outbox.
+     * @param sink Destino de los cambios.
+     * @param feedHelper Consultas del feed en espera.
+     * @param transactionManager Gestor de transacciones.
+     * @param meterRegistry Registro de métricas.
+     * @param enabled Indica si el relay se ejecuta en esta instancia.
+     * @param batchSize Número máximo de cambios por lote.
+     * @param pollMs Tiempo máximo entre dos revisiones en milisegundos.
+     * @param retention Tiempo que se conservan los cambios publicados.
+     */
+    public OutboxRelayHelper(
+            JpaAccountChangeRepository changeRepository,
+            IAccountChangeSink sink,
+            AccountChangeFeedHelper feedHelper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${account.outbox.relay.enabled:true}") boolean enabled,
+            @Value("${account.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${account.outbox.relay.poll-ms:1000}") long pollMs,
+            @Value("${account.outbox.retention:7d}") Duration retention) {
+        if (batchSize < 1) throw new IllegalStateException("Outbox batch size must be positive");
+        this.changeRepository = changeRepository;
+        this.sink = sink;
+        this.feedHelper = feedHelper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollNanos = TimeUnit.MILLISECONDS.toNanos(pollMs);
+        this.retention = retention;
+        this.published = Counter.builder("account.outbox.published").register(meterRegistry);
+        this.failures = Counter.builder("account.outbox.relay_failures").register(meterRegistry);
+    }
+
+    /**
+     * 1. Carga la última posición publicada y arranca el hilo del relay.
+     * 2. Se ejecuta cuando todos los beans están creados, con el esquema ya disponible.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) return;
+        synchronized (this) {
+            position = changeRepository.findMaxFeedPosition();
+            feedHelper.resetPosition(position);
+        }
+        Thread thread = new Thread(this::run, "account-outbox-relay");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    /**
+     * Despierta al hilo del relay para que publique sin esperar a la siguiente revisión.
+     */
+    public void wakeUp() {
+        Thread thread = worker;
+        if (thread != null) LockSupport.unpark(thread);
+    }
+
+    /**
+     * 1. Publica todos los cambios pendientes en lotes consecutivos.
+     * 2. Lo usa el hilo del relay y se puede llamar directamente, las llamadas no se solapan.
+     *
+     * @return Número de cambios publicados.
+     */
+    public synchronized int relayPending() {
+        int total = 0;
+        int count;
+        do {
+            count = relayBatch();
+            total += count;
+        } while (count == batchSize);
+        return total;
+    }
+
+    /**
+     * 1. Borra los cambios publicados que superan el tiempo de conservación.
+     * 2. Nunca borra el último publicado para no reiniciar las posiciones al arrancar.
+     */
+    @Scheduled(
+            fixedDelayString = "${account.outbox.purge-ms:3600000}",
+            initialDelayString = "${account.outbox.purge-ms:3600000}")
+    public void purgePublished() {
+        if (!enabled) return;
+        transactionTemplate.executeWithoutResult(status -> changeRepository.deletePublishedBefore(
+                Instant.now().minus(retention),
+                changeRepository.findMaxFeedPosition()));
+    }
+
+    /**
+     * Detiene el hilo del relay.
+     */
+    @Override
+    public void destroy() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) thread.interrupt();
+    }
+
+    /**
+     * Bucle del hilo del relay: publica los pendientes y espera a un aviso o a la siguiente revisión.
+     */
+    private void run() {
+        while (running) {
+            try {
+                relayPending();
+            } catch (RuntimeException exception) {
+                failures.increment();
+            }
+            LockSupport.parkNanos(this, pollNanos);
+            if (Thread.currentThread().isInterrupted()) return;
+        }
+    }
+
+    /**
+     * 1. Publica un lote de cambios pendientes en una transacción.
+     * 2. Las posiciones se asignan en orden de id a partir de la última publicada.
+     * 3. Si el destino o el commit fallan la posición se vuelve a leer de la base de datos.
+     *
+     * @return Número de cambios publicados.
+     */
+    private int relayBatch() {
+        List<AccountChangeDto> changes;
+        try {
+            changes = transactionTemplate.execute(status -> {
+                List<AccountChange> pending = changeRepository.findPending(Limit.of(batchSize));
+                if (pending.isEmpty()) return List.of();
+                Instant now = Instant.now();
+                long next = position;
+                List<AccountChangeDto> batch = new ArrayList<>(pending.size());
+                for (AccountChange change : pending) {
+                    change.setFeedPosition(++next);
+                    change.setPublishedAt(now);
+                    batch.add(new AccountChangeDto(
+                            next,
+                            change.getAccountId(),
+                            change.getChangeType(),
+                            change.getAudit().getCreatedAt()));
+                }
+                sink.publish(batch);
+                return batch;
+            });
+        } catch (RuntimeException exception) {
+            position = changeRepository.findMaxFeedPosition();
+            throw exception;
+        }
+        if (changes == null || changes.isEmpty()) return 0;
+        position = changes.get(changes.size() - 1).position();
+        published.increment(changes.size());
+        feedHelper.published(changes);
+        return changes.size();
+    }
+}
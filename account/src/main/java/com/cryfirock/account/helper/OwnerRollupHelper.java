@@ -0,0 +1,584 @@
+package com.cryfirock.account.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cryfirock.account.dto.AccountOwnerBalanceDto;
+import com.cryfirock.account.entity.Account;
+import com.cryfirock.account.repository.JpaAccountRepository;
+import com.cryfirock.account.type.Money;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 1. Helper con el modelo de lectura de saldos por titular principal y divisa.
+ * 2. Se reconstruye al arrancar y después solo se actualiza con los cambios de cuentas y saldos.
+ * 3. La reconstrucción reparte los ids de cuenta en rangos que se leen en paralelo.
+ * 4. Cada cuenta recuerda su resumen y su saldo para moverlo si cambia de titular o divisa.
+ * 5. Leer los saldos de un titular cuesta O(divisas del titular) sin recorrer sus cuentas.
+ * 6. Los cambios se aplican tras el commit de la transacción que los produce.
+ * 7. La reconstrucción no bloquea los commits, guarda sus cambios aparte y los repite al sustituir el modelo.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class OwnerRollupHelper implements SmartInitializingSingleton {
+    // Repositorio de acceso a los datos de las cuentas bancarias.
+    private final JpaAccountRepository accountRepository;
+    // Plantilla de transacciones de solo lectura para cada rango.
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    // Número de rangos que se reconstruyen a la vez.
+    private final int workers;
+    // 1. Cerrojo que separa la aplicación de los cambios de la sustitución del modelo.
+    // 2. Los cambios lo toman tras el commit, nunca durante él.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Reloj que ordena los commits frente a las lecturas de la reconstrucción.
+    private final AtomicLong clock = new AtomicLong();
+    // Marcas de los commits empezados que aún no han aplicado sus cambios.
+    private final NavigableSet<Long> committing = new ConcurrentSkipListSet<>();
+    // Saldo y resumen de cada cuenta, se sustituye completo en cada reconstrucción.
+    private volatile Map<Long, Holding> holdings = new ConcurrentHashMap<>();
+    // Resúmenes por divisa de cada titular, se sustituye junto a holdings.
+    private volatile Map<Long, Map<String, Rollup>> owners = new ConcurrentHashMap<>();
+    // Reconstrucción en curso o null.
+    private volatile Rebuild rebuilding;
+
+    /**
+     * Constructor que inyecta las dependencias y registra las métricas.
+     *
+     * @param accountRepository Repositorio de cuentas.
+     * @param transactionManager Gestor de transacciones.
+     * @param meterRegistry Registro de métricas.
+     * @param workers Número de rangos que se reconstruyen a la vez.
+     */
+    public OwnerRollupHelper(
+            JpaAccountRepository accountRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${account.owner-rollups.workers:4}") int workers) {
+        if (workers < 1) throw new IllegalStateException("Owner rollup workers must be positive");
+        this.accountRepository = accountRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.workers = workers;
+        Gauge.builder("account.owner_rollups.owners", this, helper -> helper.owners.size())
+                .register(meterRegistry);
+        Gauge.builder("account.owner_rollups.accounts", this, helper -> helper.holdings.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reconstruye el modelo cuando todos los beans están creados, antes de aceptar peticiones.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * 1. Reconstruye el modelo completo desde la base de datos sin bloquear los commits.
+     * 2. Los ids se reparten en tantos rangos como hilos y cada rango se lee en streaming.
+     * 3. Los cambios confirmados mientras tanto se aplican al modelo actual y se guardan aparte.
+     * 4. Al terminar espera a los commits empezados antes de fijarse las lecturas, sin cerrojo.
+     * 5. Después repite sobre el modelo nuevo los cambios que su lectura no ha visto.
+     * 6. Solo la sustitución final toma el cerrojo exclusivo y no accede a la base de datos.
+     *
+     * @return Número de cuentas cargadas.
+     */
+    public synchronized int rebuild() {
+        Map<Long, Holding> loadedHoldings = new ConcurrentHashMap<>();
+        Map<Long, Map<String, Rollup>> loadedOwners = new ConcurrentHashMap<>();
+        // El máximo se lee tras abrir la época para que toda cuenta posterior quede guardada aparte.
+        Rebuild rebuild = new Rebuild();
+        rebuilding = rebuild;
+        try {
+            long maxId = accountRepository.findMaxId();
+            long span = Math.max(1, (maxId + workers - 1) / workers);
+            rebuild.ranges(maxId, span);
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    workers,
+                    workers,
+                    0,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(workers),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            List<Future<?>> futures = new ArrayList<>();
+            try {
+                for (long after = 0; after < maxId; after += span) {
+                    long from = after;
+                    long upTo = Math.min(maxId, after + span);
+                    int range = (int) (after / span);
+                    futures.add(executor.submit(() -> load(rebuild, range, from, upTo, loadedHoldings, loadedOwners)));
+                }
+            } finally {
+                executor.shutdown();
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException exception) {
+                    throw exception.getCause() instanceof RuntimeException runtime
+                            ? runtime
+                            : new IllegalStateException(exception.getCause());
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Owner rollup rebuild interrupted", exception);
+                }
+            }
+            // Los commits posteriores a esta marca empezaron tras todas las lecturas y nunca son dudosos.
+            awaitCommits(clock.incrementAndGet());
+            // Repite sin cerrojo la mayoría de los cambios y con él solo los que lleguen al final.
+            Set<Long> unresolved = new HashSet<>();
+            replay(rebuild, unresolved, loadedHoldings, loadedOwners);
+            lock.writeLock().lock();
+            try {
+                replay(rebuild, unresolved, loadedHoldings, loadedOwners);
+                for (Long accountId : unresolved) copy(accountId, loadedHoldings, loadedOwners);
+                holdings = loadedHoldings;
+                owners = loadedOwners;
+                rebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return loadedHoldings.size();
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * Registra una cuenta nueva con su saldo de apertura.
+     *
+     * @param account Cuenta guardada.
+     */
+    public void open(Account account) {
+        openAll(List.of(account));
+    }
+
+    /**
+     * Registra varias cuentas nuevas con sus saldos de apertura.
+     *
+     * @param accounts Cuentas guardadas.
+     */
+    public void openAll(List<Account> accounts) {
+        if (accounts.isEmpty()) return;
+        Map<Long, Change> changes = new LinkedHashMap<>(accounts.size());
+        for (Account account : accounts) {
+            AccountOwnerBalanceDto balance = new AccountOwnerBalanceDto(
+                    account.getId(),
+                    account.getMainOwnerId(),
+                    account.getCurrencyCode(),
+                    account.getCurrentBalance() == null ? Money.ZERO : account.getCurrentBalance());
+            changes.put(account.getId(), (targetHoldings, targetOwners) -> add(balance, targetHoldings, targetOwners));
+        }
+        afterCommit(changes);
+    }
+
+    /**
+     * Suma a las cuentas los importes de un asiento.
+     *
+     * @param deltas Importe neto por cuenta.
+     */
+    public void apply(Map<Long, Money> deltas) {
+        Map<Long, Change> changes = new HashMap<>(deltas.size());
+        deltas.forEach((accountId, delta) -> {
+            long minorUnits = delta.minorUnits();
+            changes.put(accountId, (targetHoldings, targetOwners) -> targetHoldings.computeIfPresent(
+                    accountId,
+                    (key, holding) -> {
+                        holding.balance = Money.add(holding.balance, minorUnits);
+                        holding.rollup.balance.add(minorUnits);
+                        return holding;
+                    }));
+        });
+        afterCommit(changes);
+    }
+
+    /**
+     * Sustituye el saldo de una cuenta tras recalcularlo desde el diario.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param balance Saldo recalculado.
+     */
+    public void reset(Long accountId, Money balance) {
+        afterCommit(Map.of(accountId, (targetHoldings, targetOwners) -> targetHoldings.computeIfPresent(
+                accountId,
+                (key, holding) -> {
+                    holding.rollup.balance.add(Money.subtract(balance.minorUnits(), holding.balance));
+                    holding.balance = balance.minorUnits();
+                    return holding;
+                })));
+    }
+
+    /**
+     * Traslada el saldo de una cuenta al resumen de su nuevo titular o divisa.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param mainOwnerId Titular principal nuevo.
+     * @param currencyCode Divisa nueva.
+     */
+    public void move(Long accountId, Long mainOwnerId, String currencyCode) {
+        afterCommit(Map.of(accountId, (targetHoldings, targetOwners) -> {
+            Rollup target = rollup(targetOwners, mainOwnerId, currencyCode);
+            targetHoldings.computeIfPresent(accountId, (key, holding) -> {
+                holding.rollup.remove(holding.balance);
+                target.add(holding.balance);
+                holding.rollup = target;
+                return holding;
+            });
+        }));
+    }
+
+    /**
+     * Retira una cuenta eliminada y su saldo del resumen de su titular.
+     *
+     * @param accountId Identificador de la cuenta.
+     */
+    public void close(Long accountId) {
+        afterCommit(Map.of(accountId, (targetHoldings, targetOwners) -> {
+            Holding holding = targetHoldings.remove(accountId);
+            if (holding != null) holding.rollup.remove(holding.balance);
+        }));
+    }
+
+    /**
+     * 1. Obtiene los saldos por divisa de un titular.
+     * 2. Las divisas en las que el titular ya no tiene cuentas no se devuelven.
+     *
+     * @param mainOwnerId Identificador del titular principal.
+     * @return Saldos por divisa.
+     */
+    public List<Balance> find(Long mainOwnerId) {
+        Map<String, Rollup> rollups = owners.get(mainOwnerId);
+        if (rollups == null) return List.of();
+        List<Balance> balances = new ArrayList<>(rollups.size());
+        rollups.forEach((currencyCode, rollup) -> {
+            long accounts = rollup.accounts.sum();
+            if (accounts > 0) balances.add(new Balance(currencyCode, rollup.balance.sum(), accounts));
+        });
+        return balances;
+    }
+
+    /**
+     * 1. Carga en el modelo las cuentas de un rango de ids.
+     * 2. Marca en el reloj el inicio de la consulta y la llegada de su primera fila.
+     *
+     * @param rebuild Reconstrucción en curso.
+     * @param range Índice del rango.
+     * @param after Id tras el que empieza el rango.
+     * @param upTo Id máximo del rango, incluido.
+     * @param targetHoldings Saldos por cuenta en construcción.
+     * @param targetOwners Resúmenes por titular en construcción.
+     */
+    private void load(
+            Rebuild rebuild,
+            int range,
+            long after,
+            long upTo,
+            Map<Long, Holding> targetHoldings,
+            Map<Long, Map<String, Rollup>> targetOwners) {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            rebuild.starts[range] = clock.incrementAndGet();
+            try (Stream<AccountOwnerBalanceDto> balances = accountRepository.streamOwnerBalances(after, upTo)) {
+                balances.forEach(balance -> {
+                    // La lectura de la base de datos ya está fijada cuando llega la primera fila.
+                    if (rebuild.snapshots[range] == 0) rebuild.snapshots[range] = clock.incrementAndGet();
+                    add(balance, targetHoldings, targetOwners);
+                });
+            }
+            if (rebuild.snapshots[range] == 0) rebuild.snapshots[range] = clock.incrementAndGet();
+        });
+    }
+
+    /**
+     * 1. Repite sobre el modelo nuevo los cambios guardados aparte que su lectura no ha visto.
+     * 2. Los confirmados antes de empezar la lectura de su rango ya están en el modelo nuevo.
+     * 3. Los que empezaron el commit tras fijarse la lectura no lo están y se repiten.
+     * 4. El resto queda sin resolver y su cuenta se copia del modelo actual al sustituirlo.
+     *
+     * @param rebuild Reconstrucción en curso.
+     * @param unresolved Cuentas cuyos cambios no se pueden situar frente a la lectura.
+     * @param targetHoldings Saldos por cuenta en construcción.
+     * @param targetOwners Resúmenes por titular en construcción.
+     */
+    private static void replay(
+            Rebuild rebuild,
+            Set<Long> unresolved,
+            Map<Long, Holding> targetHoldings,
+            Map<Long, Map<String, Rollup>> targetOwners) {
+        Pending pending;
+        while ((pending = rebuild.pending.poll()) != null) {
+            if (unresolved.contains(pending.accountId())) continue;
+            int range = rebuild.range(pending.accountId());
+            if (range >= 0 && pending.applied() < rebuild.starts[range]) continue;
+            if (range < 0 || pending.registered() > rebuild.snapshots[range])
+                pending.change().apply(targetHoldings, targetOwners);
+            else
+                unresolved.add(pending.accountId());
+        }
+    }
+
+    /**
+     * Sustituye una cuenta del modelo nuevo por su estado en el modelo actual.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param targetHoldings Saldos por cuenta en construcción.
+     * @param targetOwners Resúmenes por titular en construcción.
+     */
+    private void copy(Long accountId, Map<Long, Holding> targetHoldings, Map<Long, Map<String, Rollup>> targetOwners) {
+        Holding stale = targetHoldings.remove(accountId);
+        if (stale != null) stale.rollup.remove(stale.balance);
+        Holding current = holdings.get(accountId);
+        if (current == null) return;
+        add(
+                new AccountOwnerBalanceDto(
+                        accountId,
+                        current.rollup.mainOwnerId,
+                        current.rollup.currencyCode,
+                        new Money(current.balance)),
+                targetHoldings,
+                targetOwners);
+    }
+
+    /**
+     * Añade una cuenta a un modelo, sustituyendo la que tuviera el mismo id.
+     *
+     * @param balance Saldo, titular y divisa de la cuenta.
+     * @param targetHoldings Saldos por cuenta.
+     * @param targetOwners Resúmenes por titular.
+     */
+    private static void add(
+            AccountOwnerBalanceDto balance,
+            Map<Long, Holding> targetHoldings,
+            Map<Long, Map<String, Rollup>> targetOwners) {
+        Rollup rollup = rollup(targetOwners, balance.mainOwnerId(), balance.currencyCode());
+        long minorUnits = balance.balance().minorUnits();
+        targetHoldings.compute(balance.accountId(), (accountId, holding) -> {
+            if (holding != null) holding.rollup.remove(holding.balance);
+            rollup.add(minorUnits);
+            return new Holding(rollup, minorUnits);
+        });
+    }
+
+    /**
+     * Obtiene o crea el resumen de un titular en una divisa.
+     *
+     * @param targetOwners Resúmenes por titular.
+     * @param mainOwnerId Identificador del titular principal.
+     * @param currencyCode Código de la divisa.
+     * @return Resumen del titular en la divisa.
+     */
+    private static Rollup rollup(Map<Long, Map<String, Rollup>> targetOwners, Long mainOwnerId, String currencyCode) {
+        return targetOwners
+                .computeIfAbsent(mainOwnerId, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(currencyCode, key -> new Rollup(mainOwnerId, currencyCode));
+    }
+
+    /**
+     * 1. Aplica los cambios de cada cuenta cuando la transacción activa confirma.
+     * 2. La transacción anota en el reloj cuándo empieza el commit y cuándo aplica sus cambios.
+     * 3. Si hay una reconstrucción en curso los cambios se guardan también aparte con esas marcas.
+     * 4. El cerrojo compartido se toma tras el commit, así un commit nunca espera a la reconstrucción.
+     * 5. Sin transacción activa el cambio se aplica al momento y se resuelve copiándolo del modelo actual.
+     *
+     * @param changes Cambio a aplicar por cuenta.
+     */
+    private void afterCommit(Map<Long, Change> changes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(changes, 0);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    // Marca del reloj al empezar el commit.
+                    private long registered;
+
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        registered = clock.incrementAndGet();
+                        committing.add(registered);
+                    }
+
+                    @Override
+                    public void afterCommit() {
+                        write(changes, registered);
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (registered != 0) committing.remove(registered);
+                    }
+                });
+    }
+
+    /**
+     * 1. Espera a que terminen los commits empezados hasta una marca del reloj.
+     * 2. No toma ningún cerrojo, los commits terminan sin depender de la reconstrucción.
+     *
+     * @param tick Marca del reloj.
+     */
+    private void awaitCommits(long tick) {
+        long delay = 1;
+        while (committing.lower(tick + 1) != null) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Owner rollup rebuild interrupted", exception);
+            }
+            delay = Math.min(delay << 1, 50);
+        }
+    }
+
+    /**
+     * Aplica los cambios al modelo actual con el cerrojo compartido y los guarda para la reconstrucción.
+     *
+     * @param changes Cambio a aplicar por cuenta.
+     * @param registered Marca del reloj al empezar el commit.
+     */
+    private void write(Map<Long, Change> changes, long registered) {
+        long applied = clock.incrementAndGet();
+        lock.readLock().lock();
+        try {
+            Rebuild rebuild = rebuilding;
+            Map<Long, Holding> currentHoldings = holdings;
+            Map<Long, Map<String, Rollup>> currentOwners = owners;
+            changes.forEach((accountId, change) -> {
+                change.apply(currentHoldings, currentOwners);
+                if (rebuild != null) rebuild.pending.add(new Pending(accountId, change, registered, applied));
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Saldo de un titular en una divisa.
+     *
+     * @param currencyCode Código de la divisa.
+     * @param minorUnits Saldo total en unidades mínimas.
+     * @param accounts Número de cuentas.
+     */
+    public record Balance(String currencyCode, long minorUnits, long accounts) {
+    }
+
+    /**
+     * Resumen de un titular en una divisa con sumadores sin bloqueo.
+     */
+    private static final class Rollup {
+        // Titular principal del resumen.
+        private final Long mainOwnerId;
+        // Código de la divisa del resumen.
+        private final String currencyCode;
+        // Saldo total en unidades mínimas.
+        private final LongAdder balance = new LongAdder();
+        // Número de cuentas.
+        private final LongAdder accounts = new LongAdder();
+
+        private Rollup(Long mainOwnerId, String currencyCode) {
+            this.mainOwnerId = mainOwnerId;
+            this.currencyCode = currencyCode;
+        }
+
+        private void add(long minorUnits) {
+            balance.add(minorUnits);
+            accounts.increment();
+        }
+
+        private void remove(long minorUnits) {
+            balance.add(-minorUnits);
+            accounts.decrement();
+        }
+    }
+
+    /**
+     * Saldo de una cuenta y resumen en el que suma, solo se modifican dentro de compute.
+     */
+    private static final class Holding {
+        // Resumen del titular y divisa de la cuenta.
+        private Rollup rollup;
+        // Saldo de la cuenta en unidades mínimas.
+        private long balance;
+
+        private Holding(Rollup rollup, long balance) {
+            this.rollup = rollup;
+            this.balance = balance;
+        }
+    }
+
+    /**
+     * Cambio de una cuenta que se puede aplicar al modelo actual o al nuevo.
+     */
+    @FunctionalInterface
+    private interface Change {
+        void apply(Map<Long, Holding> targetHoldings, Map<Long, Map<String, Rollup>> targetOwners);
+    }
+
+    /**
+     * Cambio confirmado durante una reconstrucción.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param change Cambio a repetir.
+     * @param registered Marca del reloj al empezar el commit, 0 si no se conoce.
+     * @param applied Marca del reloj al aplicar el cambio tras el commit.
+     */
+    private record Pending(Long accountId, Change change, long registered, long applied) {
+    }
+
+    /**
+     * Época de una reconstrucción con sus cambios guardados aparte y las marcas de cada rango.
+     */
+    private static final class Rebuild {
+        // Cambios confirmados desde que empezó la reconstrucción.
+        private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+        // Id máximo y tamaño de los rangos leídos.
+        private long maxId;
+        private long span;
+        // Marca del reloj al empezar cada rango y al llegar su primera fila.
+        private long[] starts;
+        private long[] snapshots;
+
+        private void ranges(long maxId, long span) {
+            int count = (int) ((maxId + span - 1) / span);
+            this.maxId = maxId;
+            this.span = span;
+            this.starts = new long[count];
+            this.snapshots = new long[count];
+        }
+
+        private int range(long accountId) {
+            return accountId > maxId || accountId < 1 ? -1 : (int) ((accountId - 1) / span);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.cryfirock.account.helper;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -10,11 +13,14 @@ import com.cryfirock.account.entity.AccountProduct;
 import com.cryfirock.account.entity.AccountUser;
 import com.cryfirock.account.repository.JpaAccountProductRepository;
 import com.cryfirock.account.repository.JpaAccountUserRepository;
+import com.cryfirock.account.type.AccountChangeType;
 import com.cryfirock.account.type.AccountProductStatus;
 
 /**
  * 1. Helper que gestiona la persistencia de las relaciones de una cuenta con usuarios y productos.
  * 2. Orquesta la persistencia de las relaciones de una cuenta con usuarios y productos.
+ * 3. Calcula las diferencias con conjuntos hash y escribe los cambios en bloque.
+ * 4. Si alguna relación cambia lo registra en la tabla outbox en la misma transacción.
  *
  * @author Cristo Suárez
  * @version 1.0
@@ -28,6 +34,15 @@ public class SaveRelationsHelper {
     // Repositorio de acceso a los datos de las relaciones con los productos.
     @Autowired
     private JpaAccountProductRepository accountProductRepository;
+    // Caché de respuestas de cuentas que se invalida al cambiar las relaciones.
+    @Autowired
+    private AccountCacheHelper accountCacheHelper;
+    // Índice en memoria de las cuentas de cada usuario.
+    @Autowired
+    private UserAccountIndexHelper userAccountIndexHelper;
+    // Registro de cambios de cuentas en la tabla outbox.
+    @Autowired
+    private OutboxHelper outboxHelper;
 
     /**
      * Guarda las relaciones de la cuenta con los usuarios y productos.
@@ -41,71 +56,68 @@ public class SaveRelationsHelper {
             Long accountId,
             List<Long> userIds,
             List<Long> productIds) {
+        // Si alguna relación cambia la respuesta cacheada deja de ser válida.
+        if (userIds != null || productIds != null) accountCacheHelper.invalidate(accountId);
+        // Indica si se ha escrito alguna relación.
+        boolean changed = false;
+
         // Si la lista de usuarios es null no se modifican las relaciones.
         if (userIds != null) {
-            // 1.Lista de usuarios proveniente de la petición.
-            // 2.Limpiar la lista de valores nulos y duplicados.
-            List<Long> requestUserIds = userIds
-                    // Convierte la lista de usuarios en una lista de stream.
-                    .stream()
-                    // Filtra el id de usuarios nulos.
-                    .filter(Objects::nonNull)
-                    // Elimina los usuarios duplicados.
-                    .distinct()
-                    // Convierte la lista de stream en una lista.
-                    .toList();
+            // 1.Conjunto de usuarios proveniente de la petición.
+            // 2.Sin valores nulos ni duplicados y conservando el orden.
+            Set<Long> requestUserIds = toIdSet(userIds);
 
             // Obtener las relaciones existentes en la base de datos.
             List<AccountUser> existingAccountUsersRelationshipsDatabase = accountUserRepository
                     .findAllByAccountId(accountId);
 
             // Desvincula los usuarios que ya no están.
-            unlinkOldAccountUser(
+            changed |= unlinkOldAccountUser(
                     requestUserIds,
                     existingAccountUsersRelationshipsDatabase);
 
             // Vincula los usuarios que no están.
-            linkNewAccountUser(
+            changed |= linkNewAccountUser(
                     accountId,
                     requestUserIds,
                     existingAccountUsersRelationshipsDatabase);
         }
 
         if (productIds != null) {
-            // Obtiene la lista de productos.
-            List<Long> requestProductIds = productIds
-                    .stream()
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .toList();
+            // Obtiene el conjunto de productos.
+            Set<Long> requestProductIds = toIdSet(productIds);
 
             // Obtiene las relaciones existentes en base de datos.
             List<AccountProduct> existingAccountProducts = accountProductRepository
                     .findAllByAccountId(accountId);
 
             // Desvincula los productos que ya no están.
-            unlinkOldAccountProduct(
+            changed |= unlinkOldAccountProduct(
                     requestProductIds,
                     existingAccountProducts);
 
             // Vincula los productos que no están.
-            linkNewAccountProduct(
+            changed |= linkNewAccountProduct(
                     accountId,
                     requestProductIds,
                     existingAccountProducts);
         }
 
+        // Publica el cambio de relaciones para otros servicios.
+        if (changed) outboxHelper.record(accountId, AccountChangeType.RELATIONS_CHANGED);
     }
 
     /**
-     * Identifica las relaciones a eliminar.
+     * 1. Identifica las relaciones a eliminar.
+     * 2. Las elimina con una única sentencia DELETE ... WHERE id IN (...).
      *
-     * @param requestUserIds Lista de IDs de usuarios proveniente de la petición.
+     * @param requestUserIds Conjunto de IDs de usuarios proveniente de la petición.
      * @param existingAccountUsersRelationshipsDatabase Lista de relaciones existentes en la
      * base de datos.
+     * @return true si se ha eliminado alguna relación.
      */
-    public void unlinkOldAccountUser(
-            List<Long> requestUserIds,
+    public boolean unlinkOldAccountUser(
+            Set<Long> requestUserIds,
             List<AccountUser> existingAccountUsersRelationshipsDatabase) {
         // Identifica relaciones a eliminar (existen en BD pero no en la petición).
         List<AccountUser> usersToDeleteDatabase = existingAccountUsersRelationshipsDatabase
@@ -117,30 +129,41 @@ public class SaveRelationsHelper {
                 // Convierte la lista de stream en una lista.
                 .toList();
 
-        // Si hay relaciones a eliminar las elimina.
-        if (!usersToDeleteDatabase.isEmpty())
-            accountUserRepository.deleteAll(usersToDeleteDatabase);
+        // Si no hay relaciones a eliminar no se modifica nada.
+        if (usersToDeleteDatabase.isEmpty()) return false;
+
+        // Elimina las relaciones por su id.
+        accountUserRepository.deleteAllByIdInBatch(usersToDeleteDatabase
+                .stream()
+                .map(AccountUser::getId)
+                .toList());
+
+        // Retira las relaciones del índice en memoria.
+        userAccountIndexHelper.unlink(
+                usersToDeleteDatabase.get(0).getAccountId(),
+                usersToDeleteDatabase.stream().map(AccountUser::getUserId).toList());
+        return true;
     }
 
     /**
-     * Identifica las relaciones a añadir.
+     * 1. Identifica las relaciones a añadir.
+     * 2. Las inserta por lotes según hibernate.jdbc.batch_size.
      *
-     * @param requestUserIds Lista de IDs de usuarios proveniente de la petición.
+     * @param requestUserIds Conjunto de IDs de usuarios proveniente de la petición.
      * @param existingAccountUsersRelationshipsDatabase Lista de relaciones existentes en la
      * base de datos.
+     * @return true si se ha añadido alguna relación.
      */
-    public void linkNewAccountUser(
+    public boolean linkNewAccountUser(
             Long accountId,
-            List<Long> requestUserIds,
+            Set<Long> requestUserIds,
             List<AccountUser> existingAccountUsersRelationshipsDatabase) {
         // Identifica los IDs que ya existen para no duplicarlos.
-        List<Long> existingRelationshipsUserIds = existingAccountUsersRelationshipsDatabase
-                // Convierte la lista de relaciones en una lista de stream.
-                .stream()
-                // Obtiener IDs de usuarios de las relaciones existentes.
-                .map(AccountUser::getUserId)
-                // Convierte la lista de stream en una lista.
-                .toList();
+        Set<Long> existingRelationshipsUserIds = new HashSet<>(
+                existingAccountUsersRelationshipsDatabase.size() * 2);
+        existingAccountUsersRelationshipsDatabase
+                .forEach(relationship -> existingRelationshipsUserIds
+                        .add(relationship.getUserId()));
 
         // Identifica las que están en la nueva lista pero no en BD.
         List<AccountUser> usersToAdd = requestUserIds
@@ -149,55 +172,71 @@ public class SaveRelationsHelper {
                 .map(userId -> new AccountUser(accountId, userId))
                 .toList();
 
-        // Si hay relaciones nuevas las guarda.
-        if (!usersToAdd.isEmpty()) accountUserRepository.saveAll(usersToAdd);
+        // Si no hay relaciones nuevas no se modifica nada.
+        if (usersToAdd.isEmpty()) return false;
+
+        // Guarda las relaciones nuevas.
+        accountUserRepository.saveAll(usersToAdd);
+
+        // Añade las relaciones al índice en memoria.
+        userAccountIndexHelper.link(
+                accountId,
+                usersToAdd.stream().map(AccountUser::getUserId).toList());
+        return true;
     }
 
     /**
-     * Identifica las relaciones de productos a eliminar.
+     * 1. Identifica las relaciones de productos a eliminar.
+     * 2. Las elimina con una única sentencia DELETE ... WHERE id IN (...).
      *
-     * @param requestProductIds Lista de IDs de productos proveniente de la petición.
+     * @param requestProductIds Conjunto de IDs de productos proveniente de la petición.
      * @param existingAccountProductsRelationshipsDatabase Lista de relaciones existentes en la
      * base de datos.
+     * @return true si se ha eliminado alguna relación.
      */
-    public void unlinkOldAccountProduct(
-            List<Long> requestProductIds,
+    public boolean unlinkOldAccountProduct(
+            Set<Long> requestProductIds,
             List<AccountProduct> existingAccountProductsRelationshipsDatabase) {
         // Identifica relaciones a eliminar (existen en BD pero no en la petición).
-        List<AccountProduct> productsToDeleteDatabase = existingAccountProductsRelationshipsDatabase
+        List<Long> productsToDeleteDatabase = existingAccountProductsRelationshipsDatabase
                 // Convierte la lista de relaciones en una lista de stream.
                 .stream()
                 // Filtra las relaciones que no están en la petición.
                 .filter(existingRelationship -> !requestProductIds
                         .contains(existingRelationship.getProductId()))
+                // Obtiene el id de la relación.
+                .map(AccountProduct::getId)
                 // Convierte la lista de stream en una lista.
                 .toList();
 
-        // Si hay relaciones a eliminar las elimina.
-        if (!productsToDeleteDatabase.isEmpty())
-            accountProductRepository.deleteAll(productsToDeleteDatabase);
+        // Si no hay relaciones a eliminar no se modifica nada.
+        if (productsToDeleteDatabase.isEmpty()) return false;
+
+        // Elimina las relaciones por su id.
+        accountProductRepository.deleteAllByIdInBatch(productsToDeleteDatabase);
+        return true;
     }
 
     /**
-     * Identifica las relaciones de productos a añadir.
+     * 1. Identifica las relaciones de productos a añadir.
+     * 2. Las inserta por lotes según hibernate.jdbc.batch_size.
      *
      * @param accountId Identificador de la cuenta.
-     * @param requestProductIds Lista de IDs de productos proveniente de la petición.
+     * @param requestProductIds Conjunto de IDs de productos proveniente de la petición.
      * @param existingAccountProductsRelationshipsDatabase Lista de relaciones existentes en la
      * base de datos.
+     * @return true si se ha añadido alguna relación.
      */
-    public void linkNewAccountProduct(
+    public boolean linkNewAccountProduct(
             Long accountId,
-            List<Long> requestProductIds,
+            Set<Long> requestProductIds,
             List<AccountProduct> existingAccountProductsRelationshipsDatabase) {
         // Identifica los IDs que ya existen para no duplicarlos.
-        List<Long> existingRelationshipsProductIds = existingAccountProductsRelationshipsDatabase
-                // Convierte la lista de relaciones en una lista de stream.
-                .stream()
-                // Obtiener IDs de productos de las relaciones existentes.
-                .map(AccountProduct::getProductId)
-                // Convierte la lista de stream en una lista.
-                .toList();
+        Set<Long> existingRelationshipsProductIds = new HashSet<>(
+                existingAccountProductsRelationshipsDatabase.size() * 2);
+        existingAccountProductsRelationshipsDatabase
+                .forEach(relationship -> existingRelationshipsProductIds
+                        .add(relationship.getProductId()));
 
         // Identifica las que están en la nueva lista pero no en BD.
         List<AccountProduct> productsToAdd = requestProductIds
@@ -209,7 +248,24 @@ public class SaveRelationsHelper {
                         AccountProductStatus.ACTIVE))
                 .toList();
 
-        // Si hay relaciones nuevas las guarda.
-        if (!productsToAdd.isEmpty()) accountProductRepository.saveAll(productsToAdd);
+        // Si no hay relaciones nuevas no se modifica nada.
+        if (productsToAdd.isEmpty()) return false;
+
+        // Guarda las relaciones nuevas.
+        accountProductRepository.saveAll(productsToAdd);
+        return true;
+    }
+
+    /**
+     * Convierte la lista de IDs de la petición en un conjunto sin nulos ni duplicados.
+     *
+     * @param ids Lista de IDs proveniente de la petición.
+     * @return Conjunto de IDs en el orden de la petición.
+     */
+    private static Set<Long> toIdSet(List<Long> ids) {
+        Set<Long> idSet = new LinkedHashSet<>(ids.size() * 2);
+        // Filtra los IDs nulos y elimina los duplicados.
+        ids.stream().filter(Objects::nonNull).forEach(idSet::add);
+        return idSet;
     }
 }
@@ -0,0 +1,231 @@
+package com.cryfirock.account.helper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cryfirock.account.dto.UserAccountLinkDto;
+import com.cryfirock.account.repository.JpaAccountUserRepository;
+import com.cryfirock.account.util.LongArrayMultimap;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 1. Helper con un índice en memoria de los ids de cuenta de cada usuario.
+ * 2. Usa un multimapa de long a long[] para no crear objetos por relación.
+ * 3. Se carga al arrancar antes de aceptar peticiones si está habilitado.
+ * 4. Las escrituras de relaciones lo actualizan tras el commit de su transacción.
+ * 5. Publica su tamaño y memoria ocupada en Actuator como account.user_index.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class UserAccountIndexHelper implements SmartInitializingSingleton {
+    // Prefijo de las métricas del índice publicadas en Actuator.
+    private static final String METRIC_PREFIX = "account.user_index.";
+    // Repositorio de acceso a los datos de las relaciones con los usuarios.
+    private final JpaAccountUserRepository accountUserRepository;
+    // Plantilla de transacciones de solo lectura para la carga inicial.
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    // Indica si el índice está habilitado.
+    private final boolean enabled;
+    // Cerrojo que protege el multimapa, las lecturas no se bloquean entre sí.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Ids de cuenta de cada usuario.
+    private LongArrayMultimap index = new LongArrayMultimap();
+    // Indica si la carga inicial ha terminado.
+    private volatile boolean ready;
+
+    /**
+     * Constructor que inyecta las dependencias y registra las métricas.
+     *
+     * @param accountUserRepository Repositorio de relaciones cuenta usuario.
+     * @param transactionManager Gestor de transacciones.
+     * @param meterRegistry Registro de métricas.
+     * @param enabled Indica si el índice está habilitado.
+     */
+    public UserAccountIndexHelper(
+            JpaAccountUserRepository accountUserRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${account.user-index.enabled:false}") boolean enabled) {
+        this.accountUserRepository = accountUserRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        Gauge.builder(METRIC_PREFIX + "memory", this, helper -> helper.read(LongArrayMultimap::memoryBytes))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "users", this, helper -> helper.read(LongArrayMultimap::keyCount))
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "links", this, helper -> helper.read(LongArrayMultimap::valueCount))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. Carga el índice cuando todos los beans están creados.
+     * 2. Se ejecuta antes de arrancar el servidor web, sin escrituras concurrentes.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) warm();
+    }
+
+    /**
+     * 1. Reconstruye el índice completo desde la base de datos.
+     * 2. Las relaciones se leen en streaming y se cargan en un multimapa nuevo.
+     * 3. El multimapa nuevo sustituye al anterior de una sola vez.
+     */
+    public void warm() {
+        LongArrayMultimap loaded = new LongArrayMultimap();
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<UserAccountLinkDto> links = accountUserRepository.streamAllLinks()) {
+                links.forEach(link -> loaded.put(link.userId(), link.accountId()));
+            }
+        });
+        write(current -> index = loaded);
+        ready = true;
+    }
+
+    /**
+     * Indica si el índice puede responder consultas.
+     *
+     * @return true si está habilitado y cargado.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 1. Recorre los ids de cuenta de un usuario sin reservar memoria.
+     * 2. La función se ejecuta con el cerrojo de lectura y no debe modificar el índice.
+     *
+     * @param userId Identificador del usuario en auth.
+     * @param consumer Función que recibe cada id de cuenta.
+     */
+    public void forEachAccountId(long userId, LongConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            index.forEach(userId, consumer);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indica si un usuario está asociado a una cuenta sin reservar memoria.
+     *
+     * @param userId Identificador del usuario en auth.
+     * @param accountId Identificador de la cuenta.
+     * @return true si la relación existe.
+     */
+    public boolean contains(long userId, long accountId) {
+        lock.readLock().lock();
+        try {
+            return index.contains(userId, accountId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Añade al índice las relaciones de una cuenta con varios usuarios.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param userIds Identificadores de los usuarios.
+     */
+    public void link(long accountId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        List<Long> users = List.copyOf(userIds);
+        afterCommit(current -> users.forEach(userId -> current.put(userId, accountId)));
+    }
+
+    /**
+     * Elimina del índice las relaciones de una cuenta con varios usuarios.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param userIds Identificadores de los usuarios.
+     */
+    public void unlink(long accountId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        List<Long> users = List.copyOf(userIds);
+        afterCommit(current -> users.forEach(userId -> current.remove(userId, accountId)));
+    }
+
+    /**
+     * 1. Elimina del índice todas las relaciones de una cuenta.
+     * 2. Recorre el índice completo, las cuentas se eliminan con poca frecuencia.
+     *
+     * @param accountId Identificador de la cuenta.
+     */
+    public void removeAccount(long accountId) {
+        afterCommit(current -> current.removeValue(accountId));
+    }
+
+    /**
+     * 1. Aplica un cambio al índice cuando la transacción activa confirma.
+     * 2. Sin transacción activa el cambio se aplica al momento.
+     * 3. Si el índice no está habilitado el cambio se descarta.
+     *
+     * @param change Cambio a aplicar.
+     */
+    private void afterCommit(Consumer<LongArrayMultimap> change) {
+        if (!enabled) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        write(change);
+                    }
+                });
+    }
+
+    /**
+     * Aplica un cambio al índice con el cerrojo de escritura.
+     *
+     * @param change Cambio a aplicar.
+     */
+    private void write(Consumer<LongArrayMultimap> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Lee un valor numérico del índice con el cerrojo de lectura.
+     *
+     * @param reader Función que obtiene el valor.
+     * @return Valor leído.
+     */
+    private double read(ToDoubleFunction<LongArrayMultimap> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.applyAsDouble(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.cryfirock.account.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.cryfirock.account.dto.AccountBalanceTotalDto;
+import com.cryfirock.account.entity.AccountBalanceSlot;
+import com.cryfirock.account.type.Money;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * 1. Repositorio JPA para las fracciones de saldo de las cuentas concurridas.
+ * 2. Permite sumar importes a una fracción sin bloquear la fila de la cuenta.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface JpaAccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlot, Long> {
+    /**
+     * Suma un importe a una fracción del saldo con una única sentencia UPDATE.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param slotIndex Posición de la fracción.
+     * @param delta Importe con signo a sumar.
+     * @return Número de fracciones actualizadas.
+     */
+    @Modifying @Query("""
+            update AccountBalanceSlot s
+            set s.balance = s.balance + :delta
+            where s.accountId = :accountId and s.slotIndex = :slotIndex""")
+    int addToSlot(
+            @Param("accountId") Long accountId,
+            @Param("slotIndex") Integer slotIndex,
+            @Param("delta") Money delta);
+
+    /**
+     * Pone a cero todas las fracciones de saldo de una cuenta.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @return Número de fracciones actualizadas.
+     */
+    @Modifying @Query("update AccountBalanceSlot s set s.balance = 0 where s.accountId = :accountId")
+    int resetByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * Obtiene los identificadores de las cuentas que tienen fracciones de saldo.
+     *
+     * @param accountIds Identificadores de las cuentas a comprobar.
+     * @return Identificadores de las cuentas fraccionadas.
+     */
+    @Query("""
+            select distinct s.accountId from AccountBalanceSlot s
+            where s.accountId in :accountIds""")
+    List<Long> findSlottedAccountIds(@Param("accountIds") Collection<Long> accountIds);
+
+    /**
+     * Suma las fracciones de saldo de varias cuentas en una sola consulta.
+     *
+     * @param accountIds Identificadores de las cuentas.
+     * @return Total de las fracciones por cuenta.
+     */
+    @Query("""
+            select new com.cryfirock.account.dto.AccountBalanceTotalDto(s.accountId, sum(s.balance))
+            from AccountBalanceSlot s
+            where s.accountId in :accountIds
+            group by s.accountId""")
+    List<AccountBalanceTotalDto> sumBalanceByAccountIdIn(
+            @Param("accountIds") Collection<Long> accountIds);
+
+    /**
+     * Obtiene las fracciones de una cuenta bloqueándolas hasta el final de la transacción.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @return Fracciones de la cuenta.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<AccountBalanceSlot> findAllByAccountIdOrderBySlotIndex(Long accountId);
+
+    /**
+     * Elimina las fracciones de una cuenta con una única sentencia DELETE.
+     *
+     * @param accountId Identificador de la cuenta.
+     */
+    @Modifying @Query("delete from AccountBalanceSlot s where s.accountId = :accountId")
+    void deleteAllByAccountId(@Param("accountId") Long accountId);
+}
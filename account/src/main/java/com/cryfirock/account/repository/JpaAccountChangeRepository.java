@@ -0,0 +1,70 @@
+package com.cryfirock.account.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.cryfirock.account.dto.AccountChangeDto;
+import com.cryfirock.account.entity.AccountChange;
+
+/**
+ * 1. Repositorio JPA para la tabla outbox de cambios de cuentas.
+ * 2. Expone la lectura de los cambios pendientes y del feed por posición.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface JpaAccountChangeRepository extends JpaRepository<AccountChange, Long> {
+    /**
+     * Obtiene los cambios pendientes de publicar en orden de inserción.
+     *
+     * @param limit Número máximo de cambios a retornar.
+     * @return Cambios sin posición ordenados por id.
+     */
+    @Query("select c from AccountChange c where c.feedPosition is null order by c.id")
+    List<AccountChange> findPending(Limit limit);
+
+    /**
+     * @return Última posición publicada o cero si no hay cambios publicados.
+     */
+    @Query("select coalesce(max(c.feedPosition), 0) from AccountChange c")
+    long findMaxFeedPosition();
+
+    /**
+     * 1. Obtiene una página del feed mediante paginación por clave.
+     * 2. Solo retorna los cambios con posición mayor que el cursor recibido.
+     *
+     * @param since Última posición leída por el consumidor.
+     * @param limit Número máximo de cambios a retornar.
+     * @return Cambios ordenados por posición.
+     */
+    @Query("""
+            select new com.cryfirock.account.dto.AccountChangeDto(
+                c.feedPosition,
+                c.accountId,
+                c.changeType,
+                c.audit.createdAt)
+            from AccountChange c
+            where c.feedPosition > :since
+            order by c.feedPosition""")
+    List<AccountChangeDto> findPage(@Param("since") long since, Limit limit);
+
+    /**
+     * 1. Borra los cambios publicados antes de un instante con una sola sentencia.
+     * 2. Conserva el cambio con la última posición, de la que se reanuda el feed al arrancar.
+     *
+     * @param before Instante límite.
+     * @param lastPosition Última posición publicada, que no se borra.
+     * @return Número de cambios borrados.
+     */
+    @Modifying @Query("""
+            delete from AccountChange c
+            where c.publishedAt < :before and c.feedPosition < :lastPosition""")
+    int deletePublishedBefore(@Param("before") Instant before, @Param("lastPosition") long lastPosition);
+}
@@ -0,0 +1,52 @@
+package com.cryfirock.account.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.cryfirock.account.entity.AccountHold;
+import com.cryfirock.account.type.HoldStatus;
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. Repositorio JPA para las retenciones de fondos.
+ * 2. Lo usan la escritura asíncrona, la captura y la carga inicial del libro de retenciones.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface JpaAccountHoldRepository extends JpaRepository<AccountHold, UUID> {
+    /**
+     * Obtiene las retenciones que se encuentran en un estado.
+     *
+     * @param status Estado de las retenciones.
+     * @return Retenciones en ese estado.
+     */
+    List<AccountHold> findAllByStatus(HoldStatus status);
+
+    /**
+     * 1. Finaliza una retención activa con una única sentencia UPDATE.
+     * 2. Una retención ya finalizada no se modifica.
+     *
+     * @param id Identificador de la retención.
+     * @param status Estado final.
+     * @param capturedAmount Importe capturado o null.
+     * @param updatedAt Instante de la modificación.
+     * @return Número de retenciones actualizadas.
+     */
+    @Modifying @Query("""
+            update AccountHold h
+            set h.status = :status, h.capturedAmount = :capturedAmount, h.audit.updatedAt = :updatedAt
+            where h.id = :id and h.status = com.cryfirock.account.type.HoldStatus.ACTIVE""")
+    int finish(
+            @Param("id") UUID id,
+            @Param("status") HoldStatus status,
+            @Param("capturedAmount") Money capturedAmount,
+            @Param("updatedAt") Instant updatedAt);
+}
@@ -1,5 +1,6 @@
 package com.cryfirock.account.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,6 +25,15 @@ public interface JpaAccountProductRepository extends JpaRepository<AccountProduc
      */
     List<AccountProduct> findAllByAccountId(Long accountId);
 
+    /**
+     * 1. Encuentra los productos asociados a un conjunto de cuentas.
+     * 2. Resuelve las relaciones de varias cuentas en una sola consulta.
+     *
+     * @param accountIds Identificadores de las cuentas.
+     * @return Lista de relaciones cuenta producto.
+     */
+    List<AccountProduct> findAllByAccountIdIn(Collection<Long> accountIds);
+
     /**
      * Encuentra las cuentas asociadas a un producto.
      *
@@ -1,8 +1,33 @@
 package com.cryfirock.account.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.cryfirock.account.dto.AccountAccrualDto;
+import com.cryfirock.account.dto.AccountBalanceTotalDto;
+import com.cryfirock.account.dto.AccountOwnerBalanceDto;
+import com.cryfirock.account.dto.AccountPositionDto;
+import com.cryfirock.account.dto.AccountPostingDto;
+import com.cryfirock.account.dto.AccountReconciliationDto;
 import com.cryfirock.account.entity.Account;
+import com.cryfirock.account.type.AccountNature;
+import com.cryfirock.account.type.AccountOperational;
+import com.cryfirock.account.type.AccountStatus;
+import com.cryfirock.account.type.Money;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 /**
  * 1. Repositorio JPA para la entidad Account.
@@ -14,4 +39,241 @@ import com.cryfirock.account.entity.Account;
  * @since 2026-01-24
  */
 public interface JpaAccountRepository extends JpaRepository<Account, Long> {
+    /**
+     * 1. Obtiene una página de cuentas de un usuario mediante paginación por clave.
+     * 2. Solo retorna las cuentas con id mayor que el cursor recibido.
+     * 3. El coste de la consulta no depende de la posición de la página.
+     *
+     * @param userId Identificador del usuario en auth.
+     * @param after Último id de cuenta de la página anterior.
+     * @param limit Número máximo de cuentas a retornar.
+     * @return Lista de cuentas ordenadas por id.
+     */
+    @Query("""
+            select a from Account a
+            where a.id > :after
+            and a.id in (select au.accountId from AccountUser au where au.userId = :userId)
+            order by a.id""")
+    List<Account> findPageByUserId(
+            @Param("userId") Long userId,
+            @Param("after") Long after,
+            Limit limit);
+
+    /**
+     * 1. Recorre las cuentas de un usuario sin materializarlas en memoria.
+     * 2. Se debe consumir dentro de una transacción y cerrar tras su uso.
+     *
+     * @param userId Identificador del usuario en auth.
+     * @return Stream de cuentas ordenadas por id.
+     */
+    @Query("""
+            select a from Account a
+            where a.id in (select au.accountId from AccountUser au where au.userId = :userId)
+            order by a.id""") @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Account> streamAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 1. Suma un importe al saldo de la cuenta con una única sentencia UPDATE.
+     * 2. No lee el saldo previo por lo que no se pierden actualizaciones concurrentes.
+     *
+     * @param id Identificador de la cuenta.
+     * @param delta Importe con signo a sumar.
+     * @return Número de cuentas actualizadas.
+     */
+    @Modifying @Query("""
+            update Account a
+            set a.currentBalance = a.currentBalance + :delta
+            where a.id = :id""")
+    int addToBalance(@Param("id") Long id, @Param("delta") Money delta);
+
+    /**
+     * Establece el saldo de la cuenta con una única sentencia UPDATE.
+     *
+     * @param id Identificador de la cuenta.
+     * @param balance Nuevo saldo de la cuenta.
+     * @return Número de cuentas actualizadas.
+     */
+    @Modifying @Query("update Account a set a.currentBalance = :balance where a.id = :id")
+    int setBalance(@Param("id") Long id, @Param("balance") Money balance);
+
+    /**
+     * 1. Obtiene la divisa y el estado de las cuentas de un movimiento.
+     * 2. Las cuentas que no existen no se incluyen en el resultado.
+     *
+     * @param ids Identificadores de las cuentas.
+     * @return Divisa y estado por cuenta.
+     */
+    @Query("""
+            select new com.cryfirock.account.dto.AccountPostingDto(a.id, a.currencyCode, a.bankAccountStatus)
+            from Account a
+            where a.id in :ids""")
+    List<AccountPostingDto> findPostingAccounts(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 1. Obtiene el saldo completo de una cuenta.
+     * 2. El saldo incluye la suma de las fracciones de las cuentas concurridas.
+     *
+     * @param id Identificador de la cuenta.
+     * @return Saldo completo de la cuenta.
+     */
+    @Query("""
+            select new com.cryfirock.account.dto.AccountBalanceTotalDto(
+                a.id,
+                a.currentBalance,
+                (select coalesce(sum(s.balance), 0) from AccountBalanceSlot s where s.accountId = a.id))
+            from Account a
+            where a.id = :id""")
+    AccountBalanceTotalDto findBalanceById(@Param("id") Long id);
+
+    /**
+     * Obtiene una cuenta bloqueándola para escritura hasta el final de la transacción.
+     *
+     * @param id Identificador de la cuenta.
+     * @return Cuenta bloqueada si existe.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE) @Query("""
+            select a from Account a
+            where a.id = :id""")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 1. Obtiene los IBAN que ya están registrados de un conjunto de IBAN.
+     * 2. Permite detectar duplicados de un bloque con una sola consulta.
+     *
+     * @param ibanNumbers IBAN a comprobar.
+     * @return IBAN ya registrados.
+     */
+    @Query("select a.ibanNumber from Account a where a.ibanNumber in :ibanNumbers")
+    List<String> findExistingIbanNumbers(@Param("ibanNumbers") Collection<String> ibanNumbers);
+
+    /**
+     * 1. Recorre los IBAN de todas las cuentas sin materializarlos en memoria.
+     * 2. Se debe consumir dentro de una transacción y cerrar tras su uso.
+     *
+     * @return Stream de IBAN.
+     */
+    @Query("select a.ibanNumber from Account a") @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamIbanNumbers();
+
+    /**
+     * Indica si existe una cuenta con el IBAN.
+     *
+     * @param ibanNumber IBAN a comprobar.
+     * @return true si ya está registrado.
+     */
+    boolean existsByIbanNumber(String ibanNumber);
+
+    /**
+     * Indica si existe otra cuenta con el IBAN.
+     *
+     * @param ibanNumber IBAN a comprobar.
+     * @param id Identificador de la cuenta que se excluye.
+     * @return true si otra cuenta lo tiene registrado.
+     */
+    boolean existsByIbanNumberAndIdNot(String ibanNumber, Long id);
+
+    /**
+     * 1. Obtiene un bloque de cuentas con saldo positivo mediante paginación por clave.
+     * 2. Solo retorna las cuentas con id en el rango (after, upTo].
+     * 3. El saldo incluye la suma de las fracciones de las cuentas concurridas.
+     *
+     * @param after Último id de cuenta del bloque anterior.
+     * @param upTo Id máximo del bloque, incluido.
+     * @param natures Finalidades de las cuentas que devengan intereses.
+     * @param status Estado de las cuentas que devengan intereses.
+     * @param limit Número máximo de cuentas a retornar.
+     * @return Cuentas ordenadas por id.
+     */
+    @Query("""
+            select new com.cryfirock.account.dto.AccountAccrualDto(
+                a.id,
+                a.currencyCode,
+                a.currentBalance,
+                (select coalesce(sum(s.balance), 0) from AccountBalanceSlot s where s.accountId = a.id))
+            from Account a
+            where a.id > :after and a.id <= :upTo
+            and a.bankAccountPurpose in :natures
+            and a.bankAccountStatus = :status
+            and a.currentBalance + (select coalesce(sum(s.balance), 0) from AccountBalanceSlot s where s.accountId = a.id) > 0
+            order by a.id""")
+    List<AccountAccrualDto> findAccrualPage(
+            @Param("after") Long after,
+            @Param("upTo") Long upTo,
+            @Param("natures") Collection<AccountNature> natures,
+            @Param("status") AccountStatus status,
+            Limit limit);
+
+    /**
+     * Obtiene las cuentas con una semántica y un estado.
+     *
+     * @param operational Semántica de las cuentas.
+     * @param status Estado de las cuentas.
+     * @return Cuentas ordenadas por id.
+     */
+    List<Account> findAllByBankAccountOperationalAndBankAccountStatusOrderById(
+            AccountOperational operational,
+            AccountStatus status);
+
+    /**
+     * 1. Recorre por IBAN las cuentas de un rango con su saldo y el de sus fracciones.
+     * 2. Solo retorna las cuentas con IBAN en el rango (after, upTo], sin límite superior si upTo es null.
+     * 3. Se debe consumir dentro de una transacción y cerrar tras su uso.
+     *
+     * @param after IBAN tras el que empieza el rango.
+     * @param upTo IBAN máximo del rango, incluido.
+     * @return Stream de saldos ordenados por IBAN.
+     */
+    @Query("""
+            select new com.cryfirock.account.dto.AccountReconciliationDto(
+                a.id,
+                a.ibanNumber,
+                a.currentBalance,
+                (select coalesce(sum(s.balance), 0) from AccountBalanceSlot s where s.accountId = a.id))
+            from Account a
+            where a.ibanNumber > :after and (:upTo is null or a.ibanNumber <= :upTo)
+            order by a.ibanNumber""") @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<AccountReconciliationDto> streamForReconciliation(
+            @Param("after") String after,
+            @Param("upTo") String upTo);
+
+    /**
+     * 1. Recorre el saldo completo de todas las cuentas con su clase de activo y divisa.
+     * 2. El saldo incluye la suma de las fracciones de las cuentas concurridas.
+     *
+     * @return Stream de saldos por cuenta.
+     */
+    @Query("""
+            select new com.cryfirock.account.dto.AccountPositionDto(
+                a.id,
+                a.financialAssetClass,
+                a.currencyCode,
+                a.currentBalance,
+                (select coalesce(sum(s.balance), 0) from AccountBalanceSlot s where s.accountId = a.id))
+            from Account a""") @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<AccountPositionDto> streamPositions();
+
+    /**
+     * @return Mayor id de cuenta o cero si no hay cuentas.
+     */
+    @Query("select coalesce(max(a.id), 0) from Account a")
+    long findMaxId();
+
+    /**
+     * 1. Recorre el saldo completo de las cuentas de un rango de ids con su titular y divisa.
+     * 2. El saldo incluye la suma de las fracciones de las cuentas concurridas.
+     *
+     * @param after Id tras el que empieza el rango.
+     * @param upTo Id máximo del rango, incluido.
+     * @return Stream de saldos por cuenta.
+     */
+    @Query("""
+            select new com.cryfirock.account.dto.AccountOwnerBalanceDto(
+                a.id,
+                a.mainOwnerId,
+                a.currencyCode,
+                a.currentBalance,
+                (select coalesce(sum(s.balance), 0) from AccountBalanceSlot s where s.accountId = a.id))
+            from Account a
+            where a.id > :after and a.id <= :upTo""") @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<AccountOwnerBalanceDto> streamOwnerBalances(@Param("after") long after, @Param("upTo") long upTo);
 }
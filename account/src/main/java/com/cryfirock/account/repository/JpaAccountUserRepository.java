@@ -1,11 +1,19 @@
 package com.cryfirock.account.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.cryfirock.account.dto.UserAccountLinkDto;
 import com.cryfirock.account.entity.AccountUser;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * 1. Repositorio JPA para relaciones de cuentas con usuarios.
  * 2. Permite operaciones CRUD sobre la tabla account_user.
@@ -32,6 +40,27 @@ public interface JpaAccountUserRepository extends JpaRepository<AccountUser, Lon
      */
     List<AccountUser> findAllByAccountId(Long accountId);
 
+    /**
+     * 1. Encuentra los usuarios asociados a un conjunto de cuentas.
+     * 2. Resuelve las relaciones de varias cuentas en una sola consulta.
+     *
+     * @param accountIds Identificadores de las cuentas.
+     * @return Lista de relaciones cuenta usuario.
+     */
+    List<AccountUser> findAllByAccountIdIn(Collection<Long> accountIds);
+
+    /**
+     * 1. Recorre todas las relaciones cuenta usuario sin cargar entidades.
+     * 2. Las filas se leen por bloques para no cargarlas todas en memoria.
+     * 3. Debe consumirse dentro de una transacción y cerrarse al terminar.
+     *
+     * @return Stream de pares usuario cuenta.
+     */
+    @Query("""
+            select new com.cryfirock.account.dto.UserAccountLinkDto(au.userId, au.accountId)
+            from AccountUser au""") @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<UserAccountLinkDto> streamAllLinks();
+
     /**
      * 1. Elimina las relaciones de cuenta usuario asociadas y cuenta de banco.
      * 2. Se usa el id de la cuenta para eliminar las relaciones.
@@ -0,0 +1,85 @@
+package com.cryfirock.account.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.cryfirock.account.entity.IdempotencyRecord;
+
+/**
+ * 1. Repositorio JPA para las respuestas guardadas por clave de idempotencia.
+ * 2. Respalda el almacén en memoria para sobrevivir a reinicios y repartir claves entre instancias.
+ * 3. Una fila con estado 0 es la reserva de una petición en curso en alguna instancia.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface JpaIdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+    /**
+     * Borra las respuestas caducadas con una sola sentencia.
+     *
+     * @param now Instante actual.
+     * @return Número de respuestas borradas.
+     */
+    @Modifying @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+
+    /**
+     * 1. Reserva de nuevo una clave cuya respuesta o reserva anterior ha caducado.
+     * 2. Solo una instancia consigue actualizar la fila.
+     *
+     * @param key Clave de idempotencia.
+     * @param fingerprint Huella de la petición.
+     * @param body Cuerpo vacío.
+     * @param claimedUntil Vencimiento de la nueva reserva.
+     * @param now Instante actual.
+     * @return Número de filas reservadas.
+     */
+    @Modifying @Query("""
+            update IdempotencyRecord r
+            set r.fingerprint = :fingerprint, r.status = 0, r.body = :body, r.expiresAt = :claimedUntil
+            where r.idempotencyKey = :key and r.expiresAt < :now""")
+    int reclaim(
+            @Param("key") String key,
+            @Param("fingerprint") byte[] fingerprint,
+            @Param("body") byte[] body,
+            @Param("claimedUntil") Instant claimedUntil,
+            @Param("now") Instant now);
+
+    /**
+     * Sustituye una reserva propia por la respuesta de la escritura.
+     *
+     * @param key Clave de idempotencia.
+     * @param claimedUntil Vencimiento de la reserva, identifica a su dueño.
+     * @param status Código de estado HTTP.
+     * @param body Cuerpo JSON de la respuesta.
+     * @param expiresAt Instante de caducidad de la respuesta.
+     * @return Número de filas completadas.
+     */
+    @Modifying @Query("""
+            update IdempotencyRecord r
+            set r.status = :status, r.body = :body, r.expiresAt = :expiresAt
+            where r.idempotencyKey = :key and r.status = 0 and r.expiresAt = :claimedUntil""")
+    int complete(
+            @Param("key") String key,
+            @Param("claimedUntil") Instant claimedUntil,
+            @Param("status") int status,
+            @Param("body") byte[] body,
+            @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Borra una reserva propia para que la escritura fallida se pueda reintentar.
+     *
+     * @param key Clave de idempotencia.
+     * @param claimedUntil Vencimiento de la reserva, identifica a su dueño.
+     * @return Número de filas borradas.
+     */
+    @Modifying @Query("""
+            delete from IdempotencyRecord r
+            where r.idempotencyKey = :key and r.status = 0 and r.expiresAt = :claimedUntil""")
+    int deleteClaim(@Param("key") String key, @Param("claimedUntil") Instant claimedUntil);
+}
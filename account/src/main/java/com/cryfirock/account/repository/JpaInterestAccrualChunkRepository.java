@@ -0,0 +1,35 @@
+package com.cryfirock.account.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.cryfirock.account.entity.InterestAccrualChunk;
+
+/**
+ * 1. Repositorio JPA para los puntos de control del devengo de intereses.
+ * 2. Permite saber qué bloques de un día ya se han devengado.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface JpaInterestAccrualChunkRepository extends JpaRepository<InterestAccrualChunk, Long> {
+    /**
+     * Obtiene los bloques devengados de un día.
+     *
+     * @param businessDate Día devengado.
+     * @return Bloques completados del día.
+     */
+    List<InterestAccrualChunk> findAllByBusinessDate(LocalDate businessDate);
+
+    /**
+     * Indica si un rango de un día ya está devengado.
+     *
+     * @param businessDate Día devengado.
+     * @param afterAccountId Id tras el que empieza el rango.
+     * @return true si el rango tiene punto de control.
+     */
+    boolean existsByBusinessDateAndAfterAccountId(LocalDate businessDate, Long afterAccountId);
+}
@@ -0,0 +1,16 @@
+package com.cryfirock.account.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.cryfirock.account.entity.JournalEntry;
+
+/**
+ * 1. Repositorio JPA para los asientos del diario contable.
+ * 2. Permite insertar y consultar la tabla journal_entry.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface JpaJournalEntryRepository extends JpaRepository<JournalEntry, Long> {
+}
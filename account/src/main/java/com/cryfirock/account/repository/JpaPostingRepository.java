@@ -0,0 +1,72 @@
+package com.cryfirock.account.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.cryfirock.account.dto.NettingObligationDto;
+import com.cryfirock.account.entity.Posting;
+import com.cryfirock.account.type.AccountOperational;
+import com.cryfirock.account.type.JournalEntryType;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * 1. Repositorio JPA para los apuntes del diario contable.
+ * 2. Permite insertar apuntes y reconstruir saldos a partir de ellos.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface JpaPostingRepository extends JpaRepository<Posting, Long> {
+    /**
+     * Encuentra los apuntes de un asiento.
+     *
+     * @param journalEntryId Identificador del asiento.
+     * @return Lista de apuntes del asiento.
+     */
+    List<Posting> findAllByJournalEntryId(Long journalEntryId);
+
+    /**
+     * Suma los importes de todos los apuntes de una cuenta.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @return Saldo de la cuenta según el diario.
+     */
+    @Query("select coalesce(sum(p.amount), 0) from Posting p where p.accountId = :accountId")
+    BigDecimal sumAmountByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * 1. Obtiene en streaming los apuntes de un periodo sobre cuentas de compensación.
+     * 2. Cada apunte se devuelve con el titular y la divisa de su cuenta.
+     * 3. Debe consumirse dentro de una transacción y cerrarse al terminar.
+     *
+     * @param from Inicio del periodo, incluido.
+     * @param to Fin del periodo, excluido.
+     * @param operationals Semánticas de las cuentas de compensación.
+     * @param entryTypes Tipos de asiento que generan obligaciones.
+     * @return Stream de obligaciones.
+     */
+    @Query("""
+            select new com.cryfirock.account.dto.NettingObligationDto(a.mainOwnerId, a.currencyCode, p.amount)
+            from Posting p
+            join Account a on a.id = p.accountId
+            join JournalEntry e on e.id = p.journalEntryId
+            where p.audit.createdAt >= :from and p.audit.createdAt < :to
+            and a.bankAccountOperational in :operationals
+            and e.entryType in :entryTypes""") @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<NettingObligationDto> streamObligations(
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("operationals") Collection<AccountOperational> operationals,
+            @Param("entryTypes") Collection<JournalEntryType> entryTypes);
+}
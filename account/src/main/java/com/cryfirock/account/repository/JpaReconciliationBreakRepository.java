@@ -0,0 +1,38 @@
+package com.cryfirock.account.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.cryfirock.account.entity.ReconciliationBreak;
+
+/**
+ * 1. Repositorio JPA para el informe de partidas en suspenso de la conciliación.
+ * 2. Permite insertar diferencias por lotes, leer las de una ejecución y borrarlas si se rechaza.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface JpaReconciliationBreakRepository extends JpaRepository<ReconciliationBreak, Long> {
+    /**
+     * Obtiene las diferencias de una ejecución ordenadas por IBAN.
+     *
+     * @param runId Identificador de la ejecución.
+     * @return Diferencias de la ejecución.
+     */
+    List<ReconciliationBreak> findAllByRunIdOrderByIbanNumber(UUID runId);
+
+    /**
+     * Borra con una única sentencia las diferencias de una ejecución rechazada.
+     *
+     * @param runId Identificador de la ejecución.
+     * @return Número de diferencias borradas.
+     */
+    @Modifying @Query("delete from ReconciliationBreak b where b.runId = :runId")
+    int deleteAllByRunId(@Param("runId") UUID runId);
+}
@@ -0,0 +1,32 @@
+package com.cryfirock.account.service.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.cryfirock.account.dto.AccountChangePageDto;
+
+/**
+ * 1. Contrato para el feed de cambios de cuentas publicado desde la tabla outbox.
+ * 2. Los consumidores leen los cambios por posición y guardan la última leída.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface IAccountChangeService {
+    // ==========================================================================
+    // -- Métodos de lectura ---
+    // ==========================================================================
+
+    /**
+     * 1. Obtiene los cambios publicados con posición mayor que el cursor.
+     * 2. Si no hay cambios espera hasta que se publiquen o venza la espera (long-poll).
+     * 3. Sin cambios al vencer la espera la página vuelve vacía con el mismo cursor.
+     * 4. Si los cambios siguientes al cursor ya se han borrado se rechaza con 410 GONE.
+     *
+     * @param since Última posición leída, cero para empezar desde el principio.
+     * @param limit Número máximo de cambios.
+     * @param waitSeconds Segundos de espera si no hay cambios, cero para no esperar.
+     * @return Página de cambios cuando esté disponible.
+     */
+    CompletableFuture<AccountChangePageDto> findChanges(long since, int limit, int waitSeconds);
+}
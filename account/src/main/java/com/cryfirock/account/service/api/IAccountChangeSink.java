@@ -0,0 +1,24 @@
+package com.cryfirock.account.service.api;
+
+import java.util.List;
+
+import com.cryfirock.account.dto.AccountChangeDto;
+
+/**
+ * 1. Destino al que el relay de la tabla outbox publica los cambios de cuentas.
+ * 2. Se elige con account.outbox.sink: in-process, file o http.
+ * 3. La entrega es al menos una vez, los consumidores deben tolerar posiciones repetidas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface IAccountChangeSink {
+    /**
+     * 1. Publica un lote de cambios en orden de posición.
+     * 2. Si lanza una excepción el lote se vuelve a publicar en el siguiente intento.
+     *
+     * @param changes Cambios publicados.
+     */
+    void publish(List<AccountChangeDto> changes);
+}
@@ -0,0 +1,33 @@
+package com.cryfirock.account.service.api;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import org.springframework.lang.NonNull;
+
+import com.cryfirock.account.dto.AccountImportResultDto;
+
+/**
+ * 1. Contrato para importar cuentas en bloque desde un flujo NDJSON.
+ * 2. Cada línea es un AccountRequestDto y recibe su propio resultado.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface IAccountImportService {
+    // ==========================================================================
+    // -- Métodos de creación ---
+    // ==========================================================================
+
+    /**
+     * 1. Lee las cuentas línea a línea y las valida según llegan.
+     * 2. Guarda las cuentas válidas en transacciones de un tamaño de bloque fijo.
+     * 3. Entrega el resultado de cada línea al consumidor cuando se conoce.
+     * 4. La memoria usada no depende del número de líneas del flujo.
+     *
+     * @param input Flujo NDJSON con una cuenta por línea.
+     * @param reporter Consumidor que recibe el resultado de cada línea.
+     */
+    void importAccounts(@NonNull InputStream input, @NonNull Consumer<AccountImportResultDto> reporter);
+}
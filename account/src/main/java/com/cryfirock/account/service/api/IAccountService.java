@@ -1,9 +1,12 @@
 package com.cryfirock.account.service.api;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.lang.NonNull;
 
+import com.cryfirock.account.dto.AccountBatchResponseDto;
+import com.cryfirock.account.dto.AccountPageResponseDto;
 import com.cryfirock.account.dto.AccountRequestDto;
 import com.cryfirock.account.dto.AccountResponseDto;
 
@@ -36,6 +39,7 @@ public interface IAccountService {
     /**
      * 1. Actualiza una cuenta y reemplaza sus relaciones.
      * 2. Incluye usuarios y productos asociados.
+     * 3. El saldo no se modifica porque solo cambia mediante el diario contable.
      *
      * @param id Identificador de la cuenta.
      * @param request Datos actualizados de la cuenta y relaciones.
@@ -56,6 +60,16 @@ public interface IAccountService {
      */
     AccountResponseDto findById(@NonNull Long id);
 
+    /**
+     * 1. Obtiene varias cuentas de banco por sus identificadores.
+     * 2. Carga las cuentas y sus relaciones en bloque en una sola transacción.
+     * 3. Retorna las cuentas en el orden solicitado y los ids que no existen.
+     *
+     * @param ids Identificadores de las cuentas.
+     * @return Cuentas encontradas con relaciones e ids no encontrados.
+     */
+    AccountBatchResponseDto findAllByIds(@NonNull List<Long> ids);
+
     /**
      * 1. Obtiene las cuentas de banco mediante el identificador del usuario.
      * 2. Incluye los productos asociados a cada cuenta.
@@ -65,6 +79,26 @@ public interface IAccountService {
      */
     List<AccountResponseDto> findByUserId(@NonNull Long userId);
 
+    /**
+     * 1. Obtiene una página de cuentas del usuario paginada por clave.
+     * 2. Retorna las cuentas con id mayor que el cursor en orden ascendente.
+     *
+     * @param userId Identificador del usuario.
+     * @param after Último id de cuenta recibido o null para la primera página.
+     * @param limit Número máximo de cuentas de la página.
+     * @return Página de cuentas con el cursor de la página siguiente.
+     */
+    AccountPageResponseDto findPageByUserId(@NonNull Long userId, Long after, int limit);
+
+    /**
+     * 1. Recorre las cuentas del usuario y las entrega una a una al consumidor.
+     * 2. La memoria usada no depende del número de cuentas del usuario.
+     *
+     * @param userId Identificador del usuario.
+     * @param consumer Consumidor que recibe cada cuenta con relaciones.
+     */
+    void streamByUserId(@NonNull Long userId, @NonNull Consumer<AccountResponseDto> consumer);
+
     // ==========================================================================
     // --- Métodos de eliminación ---
     // ==========================================================================
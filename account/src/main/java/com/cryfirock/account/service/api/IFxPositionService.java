@@ -0,0 +1,25 @@
+package com.cryfirock.account.service.api;
+
+import com.cryfirock.account.dto.FxPositionsDto;
+
+/**
+ * 1. Contrato para consultar la exposición agregada por divisa.
+ * 2. Valora cada posición en la divisa base con la tabla de cambios en memoria.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface IFxPositionService {
+    // ==========================================================================
+    // -- Métodos de lectura ---
+    // ==========================================================================
+
+    /**
+     * 1. Obtiene las posiciones por clase de activo y divisa con su contravalor.
+     * 2. Cuesta O(divisas), no recorre las cuentas.
+     *
+     * @return Posiciones, totales por clase de activo y total en divisa base.
+     */
+    FxPositionsDto findPositions();
+}
@@ -0,0 +1,23 @@
+package com.cryfirock.account.service.api;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 1. Fuente de los tipos de cambio con los que se valoran las posiciones.
+ * 2. Se puede sustituir registrando otra implementación marcada con @Primary.
+ * 3. La tabla de cambios la consulta periódicamente y guarda el resultado en memoria.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface IFxRateProvider {
+    /**
+     * 1. Carga los tipos de cambio vigentes.
+     * 2. Cada tipo indica cuántas unidades de la divisa base vale una unidad de la divisa.
+     *
+     * @return Tipos por código de divisa.
+     */
+    Map<String, BigDecimal> loadRates();
+}
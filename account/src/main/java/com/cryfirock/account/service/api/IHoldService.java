@@ -0,0 +1,75 @@
+package com.cryfirock.account.service.api;
+
+import java.util.UUID;
+
+import org.springframework.lang.NonNull;
+
+import com.cryfirock.account.dto.AccountAvailabilityDto;
+import com.cryfirock.account.dto.HoldCaptureRequestDto;
+import com.cryfirock.account.dto.HoldRequestDto;
+import com.cryfirock.account.dto.HoldResponseDto;
+
+/**
+ * 1. Contrato para retener fondos de las cuentas y capturarlos o liberarlos.
+ * 2. Las retenciones activas reducen el saldo disponible hasta que se finalizan.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface IHoldService {
+    // ==========================================================================
+    // -- Métodos de creación ---
+    // ==========================================================================
+
+    /**
+     * 1. Retiene un importe de una cuenta si su saldo disponible lo cubre.
+     * 2. La retención vence y se libera sola al terminar su plazo.
+     *
+     * @param request Datos de la retención.
+     * @return Retención creada.
+     */
+    HoldResponseDto create(@NonNull HoldRequestDto request);
+
+    // ==========================================================================
+    // -- Métodos de lectura ---
+    // ==========================================================================
+
+    /**
+     * Obtiene una retención por su identificador.
+     *
+     * @param holdId Identificador de la retención.
+     * @return Retención encontrada.
+     */
+    HoldResponseDto findById(@NonNull UUID holdId);
+
+    /**
+     * Obtiene el saldo de una cuenta desglosado en reservado y disponible.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @return Saldo reservado y disponible.
+     */
+    AccountAvailabilityDto findAvailability(@NonNull Long accountId);
+
+    // ==========================================================================
+    // --- Métodos de actualización ---
+    // ==========================================================================
+
+    /**
+     * 1. Captura una retención transfiriendo su importe a otra cuenta.
+     * 2. El importe no capturado se libera.
+     *
+     * @param holdId Identificador de la retención.
+     * @param request Cuenta de destino e importe a capturar.
+     * @return Retención capturada.
+     */
+    HoldResponseDto capture(@NonNull UUID holdId, @NonNull HoldCaptureRequestDto request);
+
+    /**
+     * Libera una retención activa sin mover fondos.
+     *
+     * @param holdId Identificador de la retención.
+     * @return Retención liberada.
+     */
+    HoldResponseDto release(@NonNull UUID holdId);
+}
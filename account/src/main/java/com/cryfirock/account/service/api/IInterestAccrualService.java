@@ -0,0 +1,30 @@
+package com.cryfirock.account.service.api;
+
+import java.time.LocalDate;
+
+import org.springframework.lang.NonNull;
+
+import com.cryfirock.account.dto.InterestAccrualResultDto;
+
+/**
+ * 1. Contrato para el devengo diario de intereses de las cuentas.
+ * 2. Cada ejecución reanuda el día desde los bloques ya completados.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface IInterestAccrualService {
+    // ==========================================================================
+    // -- Métodos de creación ---
+    // ==========================================================================
+
+    /**
+     * 1. Devenga los intereses de un día en todas las cuentas que los generan.
+     * 2. Los bloques ya devengados de ese día no se vuelven a leer ni a devengar.
+     *
+     * @param businessDate Día a devengar.
+     * @return Resumen de la ejecución.
+     */
+    InterestAccrualResultDto accrue(@NonNull LocalDate businessDate);
+}
@@ -0,0 +1,65 @@
+package com.cryfirock.account.service.api;
+
+import java.util.Map;
+
+import org.springframework.lang.NonNull;
+
+import com.cryfirock.account.dto.JournalEntryRequestDto;
+import com.cryfirock.account.dto.JournalEntryResponseDto;
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. Contrato para registrar asientos en el diario contable de las cuentas.
+ * 2. El saldo de cada cuenta es una proyección de sus apuntes.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface IJournalService {
+    // ==========================================================================
+    // -- Métodos de creación ---
+    // ==========================================================================
+
+    /**
+     * 1. Registra un asiento cuyos apuntes suman cero.
+     * 2. Inserta los apuntes y suma cada importe al saldo de su cuenta.
+     * 3. Un cargo no puede dejar el saldo por debajo del importe retenido de la cuenta.
+     *
+     * @param request Datos del asiento y sus apuntes.
+     * @return Asiento registrado.
+     */
+    JournalEntryResponseDto post(@NonNull JournalEntryRequestDto request);
+
+    /**
+     * 1. Registra un asiento que captura retenciones de sus cuentas.
+     * 2. El importe de las retenciones capturadas no cuenta como reservado.
+     *
+     * @param request Datos del asiento y sus apuntes.
+     * @param capturedHolds Importe de las retenciones capturadas por cuenta.
+     * @return Asiento registrado.
+     */
+    JournalEntryResponseDto post(@NonNull JournalEntryRequestDto request, Map<Long, Money> capturedHolds);
+
+    /**
+     * 1. Registra el saldo de apertura de una cuenta recién creada.
+     * 2. No modifica el saldo porque la cuenta ya se crea con él.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @param amount Saldo de apertura.
+     */
+    void recordOpening(@NonNull Long accountId, Money amount);
+
+    // ==========================================================================
+    // --- Métodos de actualización ---
+    // ==========================================================================
+
+    /**
+     * 1. Reconstruye el saldo de una cuenta sumando todos sus apuntes.
+     * 2. Bloquea la cuenta mientras se recalcula el saldo.
+     *
+     * @param accountId Identificador de la cuenta.
+     * @return Saldo reconstruido.
+     */
+    Money rebuildBalance(@NonNull Long accountId);
+}
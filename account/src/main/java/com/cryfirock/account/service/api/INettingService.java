@@ -0,0 +1,30 @@
+package com.cryfirock.account.service.api;
+
+import java.time.LocalDate;
+
+import org.springframework.lang.NonNull;
+
+import com.cryfirock.account.dto.NettingResultDto;
+
+/**
+ * 1. Contrato para el lote diario de compensación multilateral.
+ * 2. Calcula las posiciones netas de las cuentas de compensación y cómo liquidarlas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface INettingService {
+    // ==========================================================================
+    // -- Métodos de lectura ---
+    // ==========================================================================
+
+    /**
+     * 1. Compensa las obligaciones de un día por participante y divisa.
+     * 2. Devuelve las instrucciones mínimas de pago entre deudores y acreedores.
+     *
+     * @param businessDate Día a compensar en UTC.
+     * @return Posiciones netas e instrucciones de liquidación.
+     */
+    NettingResultDto net(@NonNull LocalDate businessDate);
+}
@@ -0,0 +1,39 @@
+package com.cryfirock.account.service.api;
+
+import org.springframework.lang.NonNull;
+
+import com.cryfirock.account.dto.OwnerSummaryDto;
+
+/**
+ * 1. Contrato para el modelo de lectura de saldos por titular principal.
+ * 2. Los resúmenes se mantienen en memoria al crear, modificar y eliminar cuentas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface IOwnerRollupService {
+    // ==========================================================================
+    // -- Métodos de lectura ---
+    // ==========================================================================
+
+    /**
+     * 1. Obtiene el saldo total por divisa de las cuentas de un titular principal.
+     * 2. No consulta la base de datos ni recorre las cuentas del titular.
+     *
+     * @param mainOwnerId Identificador del titular principal.
+     * @return Resumen del titular, sin saldos si no tiene cuentas.
+     */
+    OwnerSummaryDto findByOwnerId(@NonNull Long mainOwnerId);
+
+    // ==========================================================================
+    // -- Métodos de escritura ---
+    // ==========================================================================
+
+    /**
+     * Reconstruye desde cero todos los resúmenes leyendo las cuentas en paralelo.
+     *
+     * @return Número de cuentas cargadas.
+     */
+    int rebuild();
+}
@@ -0,0 +1,45 @@
+package com.cryfirock.account.service.api;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.lang.NonNull;
+
+import com.cryfirock.account.dto.ReconciliationBreakDto;
+import com.cryfirock.account.dto.ReconciliationResultDto;
+
+/**
+ * 1. Contrato para conciliar los saldos guardados con un extracto externo.
+ * 2. Las diferencias se escriben en un informe de partidas en suspenso.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface IReconciliationService {
+    // ==========================================================================
+    // -- Métodos de creación ---
+    // ==========================================================================
+
+    /**
+     * 1. Concilia un extracto CSV de líneas IBAN,saldo ordenadas por IBAN.
+     * 2. Compara cada cuenta del extracto y de la base de datos una sola vez.
+     *
+     * @param statement Flujo del extracto.
+     * @return Resumen de la ejecución.
+     */
+    ReconciliationResultDto reconcile(@NonNull InputStream statement);
+
+    // ==========================================================================
+    // -- Métodos de lectura ---
+    // ==========================================================================
+
+    /**
+     * Obtiene el informe de partidas en suspenso de una ejecución.
+     *
+     * @param runId Identificador de la ejecución.
+     * @return Diferencias ordenadas por IBAN.
+     */
+    List<ReconciliationBreakDto> findBreaks(@NonNull UUID runId);
+}
@@ -0,0 +1,40 @@
+package com.cryfirock.account.service.api;
+
+import org.springframework.lang.NonNull;
+
+import com.cryfirock.account.dto.JournalEntryResponseDto;
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. Contrato para transferir importes entre cuentas.
+ * 2. Cada transferencia se registra como un asiento del diario contable.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface ITransferService {
+    // ==========================================================================
+    // -- Métodos de creación ---
+    // ==========================================================================
+
+    /**
+     * 1. Transfiere un importe de la cuenta de origen a la de destino.
+     * 2. Las cuentas concurridas reciben el importe en una fracción de su saldo.
+     *
+     * @param request Datos de la transferencia.
+     * @return Asiento registrado.
+     */
+    JournalEntryResponseDto transfer(@NonNull TransferRequestDto request);
+
+    /**
+     * 1. Transfiere el importe de una retención que se está capturando.
+     * 2. El importe de esa retención no cuenta como reservado al comprobar el saldo disponible.
+     *
+     * @param request Datos de la transferencia.
+     * @param capturedHold Importe completo de la retención capturada.
+     * @return Asiento registrado.
+     */
+    JournalEntryResponseDto transfer(@NonNull TransferRequestDto request, Money capturedHold);
+}
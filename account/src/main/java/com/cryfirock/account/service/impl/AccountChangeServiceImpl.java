@@ -0,0 +1,115 @@
+package com.cryfirock.account.service.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountChangeDto;
+import com.cryfirock.account.dto.AccountChangePageDto;
+import com.cryfirock.account.helper.AccountChangeFeedHelper;
+import com.cryfirock.account.repository.JpaAccountChangeRepository;
+import com.cryfirock.account.service.api.IAccountChangeService;
+
+/**
+ * 1. Implementación del feed de cambios de cuentas.
+ * 2. Las páginas se leen de la tabla outbox por posición sin abrir transacción.
+ * 3. Las consultas sin cambios quedan en espera sin ocupar un hilo hasta que el relay publica.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class AccountChangeServiceImpl implements IAccountChangeService {
+    // Número máximo de cambios por página.
+    private static final int MAX_LIMIT = 1000;
+    // Repositorio de acceso a la tabla outbox.
+    private final JpaAccountChangeRepository changeRepository;
+    // Consultas del feed que esperan cambios nuevos.
+    private final AccountChangeFeedHelper feedHelper;
+    // Espera máxima de una consulta.
+    private final Duration maxWait;
+
+    /**
+     * Constructor que inyecta las dependencias del servicio.
+     *
+     * @param changeRepository Repositorio de la tabla outbox.
+     * @param feedHelper Consultas del feed en espera.
+     * @param maxWait Espera máxima de una consulta.
+     */
+    public AccountChangeServiceImpl(
+            JpaAccountChangeRepository changeRepository,
+            AccountChangeFeedHelper feedHelper,
+            @Value("${account.outbox.feed.max-wait:30s}") Duration maxWait) {
+        this.changeRepository = changeRepository;
+        this.feedHelper = feedHelper;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * 1. La consulta se registra antes de leer la página para no perder un lote publicado entre medias.
+     * 2. Si la lectura trae cambios se responde con ellos y la espera se descarta.
+     */
+    @Override
+    public CompletableFuture<AccountChangePageDto> findChanges(long since, int limit, int waitSeconds) {
+        // Valida el cursor, el tamaño de la página y la espera.
+        if (since < 0)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Since must not be negative");
+        if (limit < 1 || limit > MAX_LIMIT)
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Limit must be between 1 and " + MAX_LIMIT);
+        if (waitSeconds < 0 || waitSeconds > maxWait.toSeconds())
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Wait must be between 0 and " + maxWait.toSeconds() + " seconds");
+        // Sin espera se responde con lo que haya.
+        if (waitSeconds == 0) return CompletableFuture.completedFuture(readPage(since, limit));
+        // Registra la espera y después lee la página.
+        CompletableFuture<AccountChangePageDto> result = new CompletableFuture<>();
+        feedHelper.register(since, limit, result);
+        try {
+            AccountChangePageDto page = readPage(since, limit);
+            if (!page.changes().isEmpty()) result.complete(page);
+        } catch (RuntimeException exception) {
+            result.completeExceptionally(exception);
+            throw exception;
+        }
+        // Al vencer la espera se responde con una página vacía y el mismo cursor.
+        return result.completeOnTimeout(
+                new AccountChangePageDto(List.of(), since),
+                waitSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * 1. Lee una página del feed.
+     * 2. Las posiciones son consecutivas, un hueco tras el cursor indica que los cambios se han borrado.
+     *
+     * @param since Última posición leída.
+     * @param limit Número máximo de cambios.
+     * @return Página con el cursor en el último cambio o en since si está vacía.
+     */
+    private AccountChangePageDto readPage(long since, int limit) {
+        List<AccountChangeDto> changes = changeRepository.findPage(since, Limit.of(limit));
+        boolean purged = changes.isEmpty()
+                ? since < feedHelper.publishedPosition()
+                : changes.get(0).position() > since + 1;
+        if (purged)
+            throw new ResponseStatusException(
+                    HttpStatus.GONE,
+                    "Changes after position " + since + " are no longer available");
+        return new AccountChangePageDto(
+                changes,
+                changes.isEmpty() ? since : changes.get(changes.size() - 1).position());
+    }
+}
@@ -0,0 +1,372 @@
+package com.cryfirock.account.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cryfirock.account.dto.AccountImportResultDto;
+import com.cryfirock.account.dto.AccountRequestDto;
+import com.cryfirock.account.entity.Account;
+import com.cryfirock.account.entity.AccountProduct;
+import com.cryfirock.account.entity.AccountUser;
+import com.cryfirock.account.helper.BalanceSlotsHelper;
+import com.cryfirock.account.helper.FxPositionHelper;
+import com.cryfirock.account.helper.IbanIndexHelper;
+import com.cryfirock.account.helper.OutboxHelper;
+import com.cryfirock.account.helper.OwnerRollupHelper;
+import com.cryfirock.account.helper.UserAccountIndexHelper;
+import com.cryfirock.account.repository.JpaAccountProductRepository;
+import com.cryfirock.account.repository.JpaAccountRepository;
+import com.cryfirock.account.repository.JpaAccountUserRepository;
+import com.cryfirock.account.service.api.IAccountImportService;
+import com.cryfirock.account.service.api.IJournalService;
+import com.cryfirock.account.type.AccountChangeType;
+import com.cryfirock.account.type.AccountImportStatus;
+import com.cryfirock.account.type.AccountProductStatus;
+import com.cryfirock.account.type.Money;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 1. Implementación del servicio de importación de cuentas en bloque.
+ * 2. Lee el flujo NDJSON línea a línea y agrupa las cuentas válidas en bloques.
+ * 3. Cada bloque se guarda en su propia transacción con inserciones por lotes.
+ * 4. El contexto de persistencia se vacía tras cada bloque para acotar la memoria.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class AccountImportServiceImpl implements IAccountImportService {
+    // Longitud máxima del código de divisa según la columna de la tabla account.
+    private static final int MAX_CURRENCY_CODE_LENGTH = 12;
+    // Repositorio de acceso a los datos de las cuentas bancarias.
+    private final JpaAccountRepository accountRepository;
+    // Repositorio de acceso a los datos de las relaciones con los usuarios.
+    private final JpaAccountUserRepository accountUserRepository;
+    // Repositorio de acceso a los datos de las relaciones con los productos.
+    private final JpaAccountProductRepository accountProductRepository;
+    // Diario contable que registra los saldos de apertura.
+    private final IJournalService journalService;
+    // Helper de fracciones de saldo de las cuentas concurridas.
+    private final BalanceSlotsHelper balanceSlotsHelper;
+    // Índice en memoria de las cuentas de cada usuario.
+    private final UserAccountIndexHelper userAccountIndexHelper;
+    // Totales en memoria por clase de activo y divisa.
+    private final FxPositionHelper fxPositionHelper;
+    // Resúmenes en memoria de saldos por titular y divisa.
+    private final OwnerRollupHelper ownerRollupHelper;
+    // Índice en memoria de los IBAN registrados.
+    private final IbanIndexHelper ibanIndexHelper;
+    // Registro de cambios de cuentas en la tabla outbox.
+    private final OutboxHelper outboxHelper;
+    // Contexto de persistencia que se vacía tras cada bloque.
+    private final EntityManager entityManager;
+    // Lector JSON de cuentas reutilizado en todas las líneas.
+    private final ObjectReader requestReader;
+    // Plantilla que abre una transacción por bloque.
+    private final TransactionTemplate transactionTemplate;
+    // Número de cuentas que se guardan en cada transacción.
+    private final int chunkSize;
+
+    /**
+     * Constructor que inyecta las dependencias del servicio.
+     *
+     * @param accountRepository Repositorio de cuentas.
+     * @param accountUserRepository Repositorio de relaciones cuenta usuario.
+     * @param accountProductRepository Repositorio de relaciones cuenta producto.
+     * @param journalService Servicio del diario contable.
+     * @param balanceSlotsHelper Helper de fracciones de saldo.
+     * @param userAccountIndexHelper Índice en memoria de cuentas por usuario.
+     * @param fxPositionHelper Totales por clase de activo y divisa.
+     * @param ownerRollupHelper Resúmenes de saldos por titular.
+     * @param ibanIndexHelper Índice en memoria de IBAN registrados.
+     * @param outboxHelper Registro de cambios en la tabla outbox.
+     * @param entityManager Contexto de persistencia.
+     * @param objectMapper Deserializador JSON.
+     * @param transactionManager Gestor de transacciones.
+     * @param chunkSize Número de cuentas por transacción.
+     */
+    public AccountImportServiceImpl(
+            JpaAccountRepository accountRepository,
+            JpaAccountUserRepository accountUserRepository,
+            JpaAccountProductRepository accountProductRepository,
+            IJournalService journalService,
+            BalanceSlotsHelper balanceSlotsHelper,
+            UserAccountIndexHelper userAccountIndexHelper,
+            FxPositionHelper fxPositionHelper,
+            OwnerRollupHelper ownerRollupHelper,
+            IbanIndexHelper ibanIndexHelper,
+            OutboxHelper outboxHelper,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${account.import.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) throw new IllegalStateException("Import chunk size must be positive");
+        this.accountRepository = accountRepository;
+        this.accountUserRepository = accountUserRepository;
+        this.accountProductRepository = accountProductRepository;
+        this.journalService = journalService;
+        this.balanceSlotsHelper = balanceSlotsHelper;
+        this.userAccountIndexHelper = userAccountIndexHelper;
+        this.fxPositionHelper = fxPositionHelper;
+        this.ownerRollupHelper = ownerRollupHelper;
+        this.ibanIndexHelper = ibanIndexHelper;
+        this.outboxHelper = outboxHelper;
+        this.entityManager = entityManager;
+        this.requestReader = objectMapper.readerFor(AccountRequestDto.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * 1. Las líneas no válidas se informan al momento sin esperar a su bloque.
+     * 2. Las líneas en blanco se ignoran pero cuentan para la numeración.
+     */
+    @Override
+    public void importAccounts(
+            @NonNull InputStream input,
+            @NonNull Consumer<AccountImportResultDto> reporter) {
+        Objects.requireNonNull(input, "Input must not be null");
+        Objects.requireNonNull(reporter, "Reporter must not be null");
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            // Bloque de cuentas válidas pendientes de guardar.
+            List<ImportLine> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                // Convierte y valida la línea antes de añadirla al bloque.
+                ImportLine importLine;
+                try {
+                    importLine = new ImportLine(lineNumber, requestReader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    reporter.accept(invalid(lineNumber, "Malformed record: " + e.getOriginalMessage()));
+                    continue;
+                }
+                String error = validate(importLine.request());
+                if (error != null) {
+                    reporter.accept(invalid(lineNumber, error));
+                    continue;
+                }
+                chunk.add(importLine);
+                // Guarda el bloque al llenarse.
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, reporter);
+                    chunk.clear();
+                }
+            }
+            // Guarda el último bloque incompleto.
+            if (!chunk.isEmpty()) writeChunk(chunk, reporter);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 1. Guarda un bloque en su propia transacción e informa del resultado de cada línea.
+     * 2. Si el bloque falla se revierte entero y sus líneas se informan como FAILED.
+     *
+     * @param chunk Líneas válidas del bloque.
+     * @param reporter Consumidor que recibe el resultado de cada línea.
+     */
+    private void writeChunk(List<ImportLine> chunk, Consumer<AccountImportResultDto> reporter) {
+        List<AccountImportResultDto> results;
+        try {
+            results = transactionTemplate.execute(status -> insertChunk(chunk));
+        } catch (RuntimeException e) {
+            results = chunk
+                    .stream()
+                    .map(importLine -> new AccountImportResultDto(
+                            importLine.line(),
+                            AccountImportStatus.FAILED,
+                            null,
+                            "Chunk rolled back: " + e.getClass().getSimpleName()))
+                    .toList();
+        }
+        Objects.requireNonNull(results).forEach(reporter);
+    }
+
+    /**
+     * 1. Descarta las líneas con un IBAN repetido en el bloque o ya registrado.
+     * 2. Solo se consultan en la base de datos los IBAN que el índice en memoria no descarta.
+     * 3. Inserta las cuentas, los saldos de apertura y las relaciones por lotes.
+     * 4. Vacía el contexto de persistencia para no retener las entidades del bloque.
+     *
+     * @param chunk Líneas válidas del bloque.
+     * @return Resultado de cada línea del bloque.
+     */
+    private List<AccountImportResultDto> insertChunk(List<ImportLine> chunk) {
+        List<AccountImportResultDto> results = new ArrayList<>(chunk.size());
+
+        // 1. IBAN que pueden estar registrados según el índice en memoria.
+        // 2. Se confirman en la base de datos con una sola consulta.
+        List<String> candidates = chunk.stream()
+                .map(importLine -> importLine.request().ibanNumber())
+                .filter(ibanIndexHelper::mightExist)
+                .toList();
+        Set<String> takenIbans = candidates.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(accountRepository.findExistingIbanNumbers(candidates));
+
+        // Construye las cuentas del bloque descartando los IBAN repetidos.
+        List<ImportLine> accepted = new ArrayList<>(chunk.size());
+        List<Account> accounts = new ArrayList<>(chunk.size());
+        for (ImportLine importLine : chunk) {
+            if (!takenIbans.add(importLine.request().ibanNumber())) {
+                results.add(invalid(importLine.line(), "Duplicate IBAN"));
+                continue;
+            }
+            accepted.add(importLine);
+            accounts.add(toAccount(importLine.request()));
+        }
+
+        // Inserta las cuentas por lotes gracias a los ids de secuencia.
+        accountRepository.saveAll(accounts);
+        ibanIndexHelper.addAll(accounts.stream().map(Account::getIbanNumber).toList());
+        // Publica las altas del bloque para otros servicios.
+        outboxHelper.recordAll(accounts.stream().map(Account::getId).toList(), AccountChangeType.CREATED);
+        // Suma los saldos de apertura a las posiciones y resúmenes tras el commit del bloque.
+        fxPositionHelper.openAll(accounts);
+        ownerRollupHelper.openAll(accounts);
+
+        // Relaciones de todas las cuentas del bloque.
+        List<AccountUser> accountUsers = new ArrayList<>();
+        List<AccountProduct> accountProducts = new ArrayList<>();
+        for (int i = 0; i < accounts.size(); i++) {
+            Account account = accounts.get(i);
+            AccountRequestDto request = accepted.get(i).request();
+
+            // Registra el saldo de apertura y las fracciones de las cuentas concurridas.
+            journalService.recordOpening(account.getId(), account.getCurrentBalance());
+            if (balanceSlotsHelper.isSlotted(account.getBankAccountPurpose()))
+                balanceSlotsHelper.createSlots(account.getId());
+
+            // Usuarios y productos sin nulos ni duplicados.
+            Set<Long> userIds = toIdSet(request.userIds());
+            userIds.forEach(userId -> accountUsers.add(new AccountUser(account.getId(), userId)));
+            toIdSet(request.productIds()).forEach(productId -> accountProducts.add(
+                    new AccountProduct(account.getId(), productId, AccountProductStatus.ACTIVE)));
+            userAccountIndexHelper.link(account.getId(), userIds);
+
+            results.add(new AccountImportResultDto(
+                    accepted.get(i).line(),
+                    AccountImportStatus.CREATED,
+                    account.getId(),
+                    null));
+        }
+        accountUserRepository.saveAll(accountUsers);
+        accountProductRepository.saveAll(accountProducts);
+
+        // Envía los lotes pendientes y libera las entidades del bloque.
+        entityManager.flush();
+        entityManager.clear();
+        return results;
+    }
+
+    /**
+     * 1. Valida los campos obligatorios de una cuenta.
+     * 2. El IBAN se valida con las mismas reglas que al crear una cuenta.
+     *
+     * @param request Datos de la cuenta.
+     * @return Motivo del error o null si es válida.
+     */
+    private String validate(AccountRequestDto request) {
+        if (request == null) return "Record must not be null";
+        if (request.mainOwnerId() == null) return "mainOwnerId is required";
+        if (request.financialAssetClass() == null) return "financialAssetClass is required";
+        if (request.currencyCode() == null
+                || request.currencyCode().isBlank()
+                || request.currencyCode().length() > MAX_CURRENCY_CODE_LENGTH)
+            return "currencyCode must have between 1 and " + MAX_CURRENCY_CODE_LENGTH + " characters";
+        String ibanError = ibanIndexHelper.validate(request.ibanNumber());
+        if (ibanError != null) return ibanError;
+        if (request.bankAccountPurpose() == null) return "bankAccountPurpose is required";
+        if (request.bankAccountOperational() == null) return "bankAccountOperational is required";
+        if (request.currentBalance() != null) {
+            try {
+                Money.of(request.currentBalance());
+            } catch (IllegalArgumentException e) {
+                return e.getMessage();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Convierte los datos de la petición en una cuenta nueva.
+     *
+     * @param request Datos de la cuenta.
+     * @return Cuenta sin guardar.
+     */
+    private static Account toAccount(AccountRequestDto request) {
+        Account account = new Account();
+        account.setMainOwnerId(request.mainOwnerId());
+        account.setFinancialAssetClass(request.financialAssetClass());
+        account.setCurrencyCode(request.currencyCode());
+        account.setIbanNumber(request.ibanNumber());
+        account.setCurrentBalance(request.currentBalance() == null
+                ? null
+                : Money.of(request.currentBalance()));
+        account.setBankAccountPurpose(request.bankAccountPurpose());
+        account.setBankAccountOperational(request.bankAccountOperational());
+        account.setBankAccountStatus(request.bankAccountStatus());
+        return account;
+    }
+
+    /**
+     * Convierte una lista de IDs en un conjunto sin nulos ni duplicados.
+     *
+     * @param ids Lista de IDs, puede ser null.
+     * @return Conjunto de IDs en el orden de la lista.
+     */
+    private static Set<Long> toIdSet(List<Long> ids) {
+        Set<Long> idSet = new LinkedHashSet<>();
+        if (ids != null) ids.stream().filter(Objects::nonNull).forEach(idSet::add);
+        return idSet;
+    }
+
+    /**
+     * Construye el resultado de una línea no válida.
+     *
+     * @param line Número de línea.
+     * @param error Motivo del error.
+     * @return Resultado de la línea.
+     */
+    private static AccountImportResultDto invalid(long line, String error) {
+        return new AccountImportResultDto(line, AccountImportStatus.INVALID, null, error);
+    }
+
+    /**
+     * Línea del flujo con su número y los datos de la cuenta.
+     *
+     * @param line Número de línea.
+     * @param request Datos de la cuenta.
+     */
+    private record ImportLine(long line, AccountRequestDto request) {
+    }
+}
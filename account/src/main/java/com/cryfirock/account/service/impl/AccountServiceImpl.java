@@ -1,25 +1,53 @@
 package com.cryfirock.account.service.impl;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.cryfirock.account.dto.AccountBatchResponseDto;
+import com.cryfirock.account.dto.AccountPageResponseDto;
 import com.cryfirock.account.dto.AccountRequestDto;
 import com.cryfirock.account.dto.AccountResponseDto;
 import com.cryfirock.account.entity.Account;
-import com.cryfirock.account.entity.AccountProduct;
 import com.cryfirock.account.entity.AccountUser;
+import com.cryfirock.account.helper.AccountCacheHelper;
+import com.cryfirock.account.helper.BalanceSlotsHelper;
+import com.cryfirock.account.helper.FxPositionHelper;
+import com.cryfirock.account.helper.IbanIndexHelper;
+import com.cryfirock.account.helper.LoadRelationsHelper;
+import com.cryfirock.account.helper.OptimisticRetryHelper;
+import com.cryfirock.account.helper.OutboxHelper;
+import com.cryfirock.account.helper.OwnerRollupHelper;
 import com.cryfirock.account.helper.SaveRelationsHelper;
+import com.cryfirock.account.helper.UserAccountIndexHelper;
 import com.cryfirock.account.repository.JpaAccountProductRepository;
 import com.cryfirock.account.repository.JpaAccountRepository;
 import com.cryfirock.account.repository.JpaAccountUserRepository;
 import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.service.api.IJournalService;
+import com.cryfirock.account.type.AccountAssets;
+import com.cryfirock.account.type.AccountChangeType;
+import com.cryfirock.account.type.AccountNature;
+import com.cryfirock.account.type.Money;
+
+import jakarta.persistence.EntityManager;
 
 /**
  * 1. Implementación del servicio para gestionar cuentas y sus relaciones.
@@ -31,6 +59,12 @@ import com.cryfirock.account.service.api.IAccountService;
  */
 @Service
 public class AccountServiceImpl implements IAccountService {
+    // 1. Número máximo de cuentas por página en la paginación por clave.
+    // 2. Número máximo de ids en una consulta de varias cuentas.
+    // 3. Número de cuentas que se procesan juntas al recorrer un stream.
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int STREAM_CHUNK_SIZE = 500;
     // Repositorio de acceso a los datos de las cuentas bancarias.
     private final JpaAccountRepository accountRepository;
     // Repositorio de acceso a los datos de las relaciones con los usuarios.
@@ -39,6 +73,32 @@ public class AccountServiceImpl implements IAccountService {
     private final JpaAccountProductRepository accountProductRepository;
     // Helper para guardar relaciones.
     private final SaveRelationsHelper saveRelationsHelper;
+    // Helper para cargar relaciones y construir las respuestas.
+    private final LoadRelationsHelper loadRelationsHelper;
+    // Contexto de persistencia para liberar las entidades ya emitidas.
+    private final EntityManager entityManager;
+    // Diario contable que registra los movimientos de saldo.
+    private final IJournalService journalService;
+    // Helper de fracciones de saldo de las cuentas concurridas.
+    private final BalanceSlotsHelper balanceSlotsHelper;
+    // Helper que reintenta las escrituras ante conflictos de concurrencia.
+    private final OptimisticRetryHelper optimisticRetryHelper;
+    // Caché de respuestas de cuentas ya ensambladas.
+    private final AccountCacheHelper accountCacheHelper;
+    // Índice en memoria de las cuentas de cada usuario.
+    private final UserAccountIndexHelper userAccountIndexHelper;
+    // Totales en memoria por clase de activo y divisa.
+    private final FxPositionHelper fxPositionHelper;
+    // Resúmenes en memoria de saldos por titular y divisa.
+    private final OwnerRollupHelper ownerRollupHelper;
+    // Índice en memoria de los IBAN registrados.
+    private final IbanIndexHelper ibanIndexHelper;
+    // Registro de cambios de cuentas en la tabla outbox.
+    private final OutboxHelper outboxHelper;
+    // Plantilla de transacciones para crear cuentas tras las comprobaciones previas.
+    private final TransactionTemplate transactionTemplate;
+    // Plantilla de transacciones de solo lectura para cargar cuentas no cacheadas.
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
     /**
      * 1. Constructor que inyecta las dependencias del servicio.
@@ -50,80 +110,112 @@ public class AccountServiceImpl implements IAccountService {
             JpaAccountRepository accountRepository,
             JpaAccountUserRepository accountUserRepository,
             JpaAccountProductRepository accountProductRepository,
-            SaveRelationsHelper saveRelationsHelper) {
+            SaveRelationsHelper saveRelationsHelper,
+            LoadRelationsHelper loadRelationsHelper,
+            EntityManager entityManager,
+            IJournalService journalService,
+            BalanceSlotsHelper balanceSlotsHelper,
+            OptimisticRetryHelper optimisticRetryHelper,
+            AccountCacheHelper accountCacheHelper,
+            UserAccountIndexHelper userAccountIndexHelper,
+            FxPositionHelper fxPositionHelper,
+            OwnerRollupHelper ownerRollupHelper,
+            IbanIndexHelper ibanIndexHelper,
+            OutboxHelper outboxHelper,
+            PlatformTransactionManager transactionManager) {
         this.accountRepository = accountRepository;
         this.accountUserRepository = accountUserRepository;
         this.accountProductRepository = accountProductRepository;
         this.saveRelationsHelper = saveRelationsHelper;
+        this.loadRelationsHelper = loadRelationsHelper;
+        this.entityManager = entityManager;
+        this.journalService = journalService;
+        this.balanceSlotsHelper = balanceSlotsHelper;
+        this.optimisticRetryHelper = optimisticRetryHelper;
+        this.accountCacheHelper = accountCacheHelper;
+        this.userAccountIndexHelper = userAccountIndexHelper;
+        this.fxPositionHelper = fxPositionHelper;
+        this.ownerRollupHelper = ownerRollupHelper;
+        this.ibanIndexHelper = ibanIndexHelper;
+        this.outboxHelper = outboxHelper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
     }
 
     /**
      * {@inheritDoc}
+     *
+     * 1. El IBAN se valida y se comprueba que no exista antes de abrir la transacción.
+     * 2. Solo los IBAN que el índice en memoria no descarta se consultan en la base de datos.
      */
-    @Override @Transactional
+    @Override
     public AccountResponseDto create(@NonNull AccountRequestDto request) {
         Objects.requireNonNull(request, "Request must not be null");
-        // Se una nueva instancia de la cuenta.
-        Account account = new Account();
-
-        // Pasa los datos del request a la cuenta.
-        applyRequest(account, request);
-
-        // Almacena la cuenta en la base de datos y retorna la cuenta con el id.
-        Account savedAccount = accountRepository.save(account);
-
-        // Guarda las relaciones de la cuenta con los usuarios y productos.
-        saveRelationsHelper.saveRelations(
-                savedAccount.getId(),
-                request.userIds(),
-                request.productIds());
-
-        // Retorna la cuenta con las relaciones.
-        return buildResponse(savedAccount);
+        ibanIndexHelper.requireAvailable(request.ibanNumber(), null);
+        return transactionTemplate.execute(status -> applyCreate(request));
     }
 
     /**
      * {@inheritDoc}
+     *
+     * 1. El IBAN se comprueba antes de abrir la transacción.
+     * 2. Cada intento se ejecuta en su propia transacción.
+     * 3. Si otra escritura modifica la cuenta a la vez se reintenta con la versión nueva.
      */
-    @Override @Transactional
+    @Override
     public AccountResponseDto update(@NonNull Long id, @NonNull AccountRequestDto request) {
         Objects.requireNonNull(id, "ID must not be null");
         Objects.requireNonNull(request, "Request must not be null");
-        // Obtiene la cuenta que se va a actualizar.
-        Account account = Objects.requireNonNull(
-                accountRepository.findById(id)
-                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)));
-        // Aplica a la cuenta solo los datos del request que se van a actualizar.
-        applyRequest(account, request);
-
-        // Almacena la cuenta en la base de datos y retorna la cuenta con el id.
-        Account savedAccount = accountRepository.save(account);
-
-        // Guarda las relaciones de la cuenta con los usuarios y productos.
-        saveRelationsHelper.saveRelations(
-                savedAccount.getId(),
-                request.userIds(),
-                request.productIds());
-
-        // Retorna la cuenta con las relaciones.
-        return buildResponse(savedAccount);
+        ibanIndexHelper.requireAvailable(request.ibanNumber(), id);
+        return optimisticRetryHelper.executeInTransaction(
+                "update",
+                () -> applyUpdate(id, request));
     }
 
     /**
      * {@inheritDoc}
      */
-    @Override @Transactional(readOnly = true)
+    @Override
     public AccountResponseDto findById(@NonNull Long id) {
         Objects.requireNonNull(id, "ID must not be null");
-        // Obtiene una cuenta bancaria.
-        Account account = accountRepository
-                // Obtiene la cuenta por su id.
-                .findById(id)
-                // Si no se encuentra la cuenta lanza una excepción.
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.NOT_FOUND));
-        // Retorna la cuenta con las relaciones.
-        return buildResponse(account);
+        // 1. Retorna la cuenta de la caché si está.
+        // 2. Si no está la carga en una transacción de solo lectura.
+        return accountCacheHelper.get(
+                id,
+                key -> readOnlyTransactionTemplate.execute(status -> loadById(key)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override @Transactional(readOnly = true)
+    public AccountBatchResponseDto findAllByIds(@NonNull List<Long> ids) {
+        Objects.requireNonNull(ids, "IDs must not be null");
+        // Ids solicitados sin nulos ni duplicados y en el orden recibido.
+        Set<Long> requestedIds = new LinkedHashSet<>();
+        ids.stream().filter(Objects::nonNull).forEach(requestedIds::add);
+        // Valida que el número de ids esté dentro de los límites permitidos.
+        if (requestedIds.size() > MAX_BATCH_SIZE)
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BATCH_SIZE + " IDs can be requested");
+        if (requestedIds.isEmpty()) return new AccountBatchResponseDto(List.of(), List.of());
+        // Carga las cuentas con una consulta y las indexa por id.
+        Map<Long, Account> accountsById = accountRepository
+                .findAllById(requestedIds)
+                .stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+        // Separa las cuentas encontradas de los ids que no existen conservando el orden.
+        List<Account> found = new ArrayList<>(accountsById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            Account account = accountsById.get(id);
+            if (account == null) missingIds.add(id);
+            else found.add(account);
+        }
+        // Las relaciones de todas las cuentas se cargan en bloque.
+        return new AccountBatchResponseDto(loadRelationsHelper.buildResponses(found), missingIds);
     }
 
     /**
@@ -132,22 +224,76 @@ public class AccountServiceImpl implements IAccountService {
     @Override @Transactional(readOnly = true)
     public List<AccountResponseDto> findByUserId(@NonNull Long userId) {
         Objects.requireNonNull(userId, "User ID must not be null");
-        // Obtiene una lista de IDs de cuentas bancarias.
-        List<Long> accountIds = accountUserRepository
-                .findAllByUserId(userId)
-                .stream()
-                .map(AccountUser::getAccountId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
+        // 1. Obtiene una lista de IDs de cuentas bancarias.
+        // 2. Si el índice en memoria está cargado no se consultan las relaciones.
+        // 3. Los ids del índice solo se convierten a Long aquí, para la consulta.
+        List<Long> accountIds;
+        if (userAccountIndexHelper.isReady()) {
+            accountIds = new ArrayList<>();
+            userAccountIndexHelper.forEachAccountId(userId, accountIds::add);
+        } else {
+            accountIds = accountUserRepository
+                    .findAllByUserId(userId)
+                    .stream()
+                    .map(AccountUser::getAccountId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+        }
         // Si la lista está vacía, retorna una lista vacía.
         if (accountIds.isEmpty()) return List.of();
-        // Retorna la lista de cuentas bancarias encontradas por el id de la relación.
-        return accountRepository
-                .findAllById(Objects.requireNonNull(accountIds))
-                .stream()
-                .map(this::buildResponse)
-                .collect(Collectors.toList());
+        // 1. Retorna la lista de cuentas bancarias encontradas por el id de la relación.
+        // 2. Las relaciones de todas las cuentas se cargan en bloque.
+        return loadRelationsHelper.buildResponses(
+                accountRepository.findAllById(Objects.requireNonNull(accountIds)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override @Transactional(readOnly = true)
+    public AccountPageResponseDto findPageByUserId(@NonNull Long userId, Long after, int limit) {
+        Objects.requireNonNull(userId, "User ID must not be null");
+        // Valida que el tamaño de la página esté dentro de los límites permitidos.
+        if (limit < 1 || limit > MAX_PAGE_SIZE)
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Limit must be between 1 and " + MAX_PAGE_SIZE);
+        // 1. Obtiene una cuenta más de las pedidas para saber si existe otra página.
+        // 2. Sin cursor se empieza desde el principio.
+        List<Account> accounts = accountRepository.findPageByUserId(
+                userId,
+                after == null ? 0L : after,
+                Limit.of(limit + 1));
+        // Si hay más cuentas que el límite existe una página siguiente.
+        boolean hasNext = accounts.size() > limit;
+        List<Account> page = hasNext ? accounts.subList(0, limit) : accounts;
+        // Retorna la página con el cursor apuntando a la última cuenta.
+        return new AccountPageResponseDto(
+                loadRelationsHelper.buildResponses(page),
+                hasNext ? page.get(page.size() - 1).getId() : null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override @Transactional(readOnly = true)
+    public void streamByUserId(
+            @NonNull Long userId,
+            @NonNull Consumer<AccountResponseDto> consumer) {
+        Objects.requireNonNull(userId, "User ID must not be null");
+        Objects.requireNonNull(consumer, "Consumer must not be null");
+        // Bloque de cuentas pendientes de emitir.
+        List<Account> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        // Recorre las cuentas del usuario y las emite por bloques.
+        try (Stream<Account> accounts = accountRepository.streamAllByUserId(userId)) {
+            accounts.forEach(account -> {
+                chunk.add(account);
+                if (chunk.size() == STREAM_CHUNK_SIZE) emitChunk(chunk, consumer);
+            });
+        }
+        // Emite las cuentas restantes.
+        emitChunk(chunk, consumer);
     }
 
     /**
@@ -158,14 +304,26 @@ public class AccountServiceImpl implements IAccountService {
         Objects.requireNonNull(id, "ID must not be null");
         // Elimina todas las asociaciones de cuentas bancarias con usuarios.
         accountUserRepository.deleteAllByAccountId(id);
+        // Retira la cuenta del índice en memoria.
+        userAccountIndexHelper.removeAccount(id);
         // Elimina todas las asociaciones de cuentas bancarias con productos.
         accountProductRepository.deleteAllByAccountId(id);
+        // Elimina las fracciones de saldo de la cuenta bancaria.
+        balanceSlotsHelper.deleteSlots(id);
         // Elimina la cuenta bancaria.
         accountRepository.deleteById(id);
+        // Elimina la cuenta de la caché.
+        accountCacheHelper.invalidate(id);
+        // Retira el saldo de la cuenta de la posición de su divisa y del resumen de su titular.
+        fxPositionHelper.close(id);
+        ownerRollupHelper.close(id);
+        // Publica la eliminación para otros servicios.
+        outboxHelper.record(id, AccountChangeType.DELETED);
     }
 
     /**
-     * Aplica los datos del request a la cuenta.
+     * 1. Aplica los datos del request a la cuenta.
+     * 2. El saldo no se aplica porque solo cambia mediante el diario contable.
      *
      * @param account
      * @param request
@@ -175,36 +333,189 @@ public class AccountServiceImpl implements IAccountService {
         account.setFinancialAssetClass(request.financialAssetClass());
         account.setCurrencyCode(request.currencyCode());
         account.setIbanNumber(request.ibanNumber());
-        account.setCurrentBalance(request.currentBalance());
         account.setBankAccountPurpose(request.bankAccountPurpose());
         account.setBankAccountOperational(request.bankAccountOperational());
         account.setBankAccountStatus(request.bankAccountStatus());
     }
 
+    /**
+     * Carga una cuenta con sus relaciones desde la base de datos.
+     *
+     * @param id Identificador de la cuenta.
+     * @return Cuenta con relaciones.
+     */
+    private AccountResponseDto loadById(Long id) {
+        // Obtiene una cuenta bancaria.
+        Account account = accountRepository
+                // Obtiene la cuenta por su id.
+                .findById(id)
+                // Si no se encuentra la cuenta lanza una excepción.
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND));
+        // Retorna la cuenta con las relaciones.
+        return buildResponse(account);
+    }
+
+    /**
+     * Crea la cuenta y sus relaciones en la transacción actual.
+     *
+     * @param request Datos de la cuenta y relaciones.
+     * @return Cuenta creada con relaciones.
+     */
+    private AccountResponseDto applyCreate(AccountRequestDto request) {
+        // Se una nueva instancia de la cuenta.
+        Account account = new Account();
+
+        // Pasa los datos del request a la cuenta.
+        applyRequest(account, request);
+        // El saldo solo se asigna al crear la cuenta como saldo de apertura.
+        account.setCurrentBalance(toMoney(request.currentBalance()));
+
+        // Almacena la cuenta en la base de datos y retorna la cuenta con el id.
+        Account savedAccount = accountRepository.save(account);
+        // El IBAN queda marcado en el índice aunque la transacción se revierta.
+        ibanIndexHelper.add(savedAccount.getIbanNumber());
+
+        // Registra el saldo de apertura en el diario contable.
+        journalService.recordOpening(savedAccount.getId(), savedAccount.getCurrentBalance());
+
+        // Las cuentas concurridas reparten su saldo en fracciones.
+        if (balanceSlotsHelper.isSlotted(savedAccount.getBankAccountPurpose()))
+            balanceSlotsHelper.createSlots(savedAccount.getId());
+
+        // Descarta cualquier respuesta cacheada con el mismo id.
+        accountCacheHelper.invalidate(savedAccount.getId());
+
+        // Suma el saldo de apertura a la posición de su divisa y al resumen de su titular.
+        fxPositionHelper.open(savedAccount);
+        ownerRollupHelper.open(savedAccount);
+
+        // Publica el alta para otros servicios.
+        outboxHelper.record(savedAccount.getId(), AccountChangeType.CREATED);
+
+        // Guarda las relaciones de la cuenta con los usuarios y productos.
+        saveRelationsHelper.saveRelations(
+                savedAccount.getId(),
+                request.userIds(),
+                request.productIds());
+
+        // Retorna la cuenta con las relaciones.
+        return buildResponse(savedAccount);
+    }
+
+    /**
+     * 1. Aplica la actualización de la cuenta y sus relaciones en la transacción actual.
+     * 2. La versión se comprueba al guardar, antes de sincronizar las relaciones.
+     *
+     * @param id Identificador de la cuenta.
+     * @param request Datos actualizados de la cuenta y relaciones.
+     * @return Cuenta actualizada con relaciones.
+     */
+    private AccountResponseDto applyUpdate(Long id, AccountRequestDto request) {
+        // Obtiene la cuenta que se va a actualizar.
+        Account account = accountRepository
+                .findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        // La respuesta cacheada deja de ser válida.
+        accountCacheHelper.invalidate(id);
+        // Naturaleza, titular, clase de activo y divisa de la cuenta antes de la actualización.
+        AccountNature previousNature = account.getBankAccountPurpose();
+        Long previousOwnerId = account.getMainOwnerId();
+        AccountAssets previousAssetClass = account.getFinancialAssetClass();
+        String previousCurrencyCode = account.getCurrencyCode();
+        // Aplica a la cuenta solo los datos del request que se van a actualizar.
+        applyRequest(account, request);
+        // Crea o traslada las fracciones de saldo si cambia la concurrencia de la cuenta.
+        syncBalanceSlots(account, previousNature);
+
+        // Almacena la cuenta y comprueba la versión en la base de datos.
+        Account savedAccount = accountRepository.saveAndFlush(account);
+        // Marca el IBAN en el índice por si ha cambiado.
+        ibanIndexHelper.add(savedAccount.getIbanNumber());
+
+        // Traslada el saldo a la posición de su nueva clase de activo o divisa.
+        if (previousAssetClass != savedAccount.getFinancialAssetClass()
+                || !Objects.equals(previousCurrencyCode, savedAccount.getCurrencyCode()))
+            fxPositionHelper.reclassify(
+                    savedAccount.getId(),
+                    savedAccount.getFinancialAssetClass(),
+                    savedAccount.getCurrencyCode());
+        // Traslada el saldo al resumen de su nuevo titular o divisa.
+        if (!Objects.equals(previousOwnerId, savedAccount.getMainOwnerId())
+                || !Objects.equals(previousCurrencyCode, savedAccount.getCurrencyCode()))
+            ownerRollupHelper.move(
+                    savedAccount.getId(),
+                    savedAccount.getMainOwnerId(),
+                    savedAccount.getCurrencyCode());
+
+        // Publica la modificación para otros servicios.
+        outboxHelper.record(savedAccount.getId(), AccountChangeType.UPDATED);
+
+        // Guarda las relaciones de la cuenta con los usuarios y productos.
+        saveRelationsHelper.saveRelations(
+                savedAccount.getId(),
+                request.userIds(),
+                request.productIds());
+
+        // Retorna la cuenta con las relaciones.
+        return buildResponse(savedAccount);
+    }
+
+    /**
+     * 1. Crea las fracciones de saldo si la cuenta pasa a ser concurrida.
+     * 2. Traslada las fracciones al saldo base si la cuenta deja de serlo.
+     * 3. El saldo trasladado se refleja también en la entidad cargada.
+     *
+     * @param account Cuenta con la naturaleza nueva aplicada.
+     * @param previousNature Naturaleza anterior de la cuenta.
+     */
+    private void syncBalanceSlots(Account account, AccountNature previousNature) {
+        boolean wasSlotted = balanceSlotsHelper.isSlotted(previousNature);
+        boolean isSlotted = balanceSlotsHelper.isSlotted(account.getBankAccountPurpose());
+        if (!wasSlotted && isSlotted) balanceSlotsHelper.createSlots(account.getId());
+        if (wasSlotted && !isSlotted)
+            account.setCurrentBalance(account
+                    .getCurrentBalance()
+                    .plus(balanceSlotsHelper.foldSlots(account.getId())));
+    }
+
+    /**
+     * 1. Emite un bloque de cuentas con sus relaciones cargadas en bloque.
+     * 2. Limpia el contexto de persistencia para mantener la memoria constante.
+     *
+     * @param chunk Bloque de cuentas a emitir.
+     * @param consumer Consumidor que recibe cada cuenta.
+     */
+    private void emitChunk(List<Account> chunk, Consumer<AccountResponseDto> consumer) {
+        if (chunk.isEmpty()) return;
+        loadRelationsHelper.buildResponses(chunk).forEach(consumer);
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    /**
+     * Construye la respuesta de la cuenta con sus relaciones.
+     *
+     * @param account Cuenta a transformar.
+     * @return Cuenta con relaciones.
+     */
     private AccountResponseDto buildResponse(Account account) {
-        List<Long> userIds = accountUserRepository.findAllByAccountId(account.getId())
-                .stream()
-                .map(AccountUser::getUserId)
-                .distinct()
-                .toList();
-        List<Long> productIds = accountProductRepository
-                .findAllByAccountId(account.getId())
-                .stream()
-                .map(AccountProduct::getProductId)
-                .distinct()
-                .toList();
-        return new AccountResponseDto(
-                account.getId(),
-                account.getMainOwnerId(),
-                account.getFinancialAssetClass(),
-                account.getCurrencyCode(),
-                account.getIbanNumber(),
-                account.getCurrentBalance(),
-                account.getBankAccountPurpose(),
-                account.getBankAccountOperational(),
-                account.getBankAccountStatus(),
-                account.getAudit(),
-                userIds,
-                productIds);
+        return loadRelationsHelper.buildResponse(account);
+    }
+
+    /**
+     * 1. Convierte el saldo de la petición en un importe en coma fija.
+     * 2. Un saldo con más de cuatro decimales se rechaza con 400 BAD_REQUEST.
+     *
+     * @param amount Saldo de la petición, puede ser null.
+     * @return Importe o null si no se ha indicado.
+     */
+    private static Money toMoney(BigDecimal amount) {
+        if (amount == null) return null;
+        try {
+            return Money.of(amount);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 }
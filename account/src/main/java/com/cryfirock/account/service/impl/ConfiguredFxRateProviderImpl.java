@@ -0,0 +1,53 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cryfirock.account.service.api.IFxRateProvider;
+
+/**
+ * 1. Implementación de la fuente de tipos de cambio leída de la configuración.
+ * 2. Los tipos se indican como CODIGO:tipo separados por comas, por ejemplo USD:0.92,GBP:1.17.
+ * 3. Sirve mientras no exista una fuente externa de cotizaciones.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class ConfiguredFxRateProviderImpl implements IFxRateProvider {
+    // Tipos de cambio configurados.
+    private final Map<String, BigDecimal> rates;
+
+    /**
+     * Constructor que valida y guarda los tipos configurados.
+     *
+     * @param rates Tipos como CODIGO:tipo.
+     */
+    public ConfiguredFxRateProviderImpl(@Value("${account.fx.rates:}") List<String> rates) {
+        Map<String, BigDecimal> parsed = new HashMap<>();
+        for (String entry : rates) {
+            if (entry.isBlank()) continue;
+            int separator = entry.indexOf(':');
+            if (separator < 1) throw new IllegalStateException("Invalid FX rate " + entry);
+            BigDecimal rate = new BigDecimal(entry.substring(separator + 1).trim());
+            if (rate.signum() <= 0) throw new IllegalStateException("FX rate must be positive: " + entry);
+            parsed.put(entry.substring(0, separator).trim().toUpperCase(Locale.ROOT), rate);
+        }
+        this.rates = Map.copyOf(parsed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, BigDecimal> loadRates() {
+        return rates;
+    }
+}
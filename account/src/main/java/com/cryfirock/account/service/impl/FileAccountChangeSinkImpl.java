@@ -0,0 +1,81 @@
+package com.cryfirock.account.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.cryfirock.account.dto.AccountChangeDto;
+import com.cryfirock.account.service.api.IAccountChangeSink;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * 1. Implementación del destino de cambios que los añade a un fichero NDJSON.
+ * 2. Cada lote se escribe con una sola escritura y se fuerza a disco antes de confirmarlo.
+ * 3. Sirve de sustituto de un broker de mensajes mientras no exista uno.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service @ConditionalOnProperty(name = "account.outbox.sink", havingValue = "file")
+public class FileAccountChangeSinkImpl implements IAccountChangeSink {
+    // Escritor JSON de cambios reutilizado en todos los lotes.
+    private final ObjectWriter changeWriter;
+    // Fichero de destino.
+    private final Path path;
+
+    /**
+     * Constructor que inyecta las dependencias y crea la carpeta del fichero.
+     *
+     * @param objectMapper Serializador JSON.
+     * @param path Ruta del fichero de destino.
+     */
+    public FileAccountChangeSinkImpl(
+            ObjectMapper objectMapper,
+            @Value("${account.outbox.file.path:account-changes.ndjson}") Path path) {
+        this.changeWriter = objectMapper.writerFor(AccountChangeDto.class);
+        this.path = path.toAbsolutePath();
+        try {
+            Files.createDirectories(this.path.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(List<AccountChangeDto> changes) {
+        StringBuilder lines = new StringBuilder(changes.size() * 96);
+        try {
+            for (AccountChangeDto change : changes)
+                lines.append(changeWriter.writeValueAsString(change)).append('\n');
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        try (FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(lines.toString());
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
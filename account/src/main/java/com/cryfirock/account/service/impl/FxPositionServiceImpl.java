@@ -0,0 +1,102 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Service;
+
+import com.cryfirock.account.dto.AssetClassPositionDto;
+import com.cryfirock.account.dto.CurrencyPositionDto;
+import com.cryfirock.account.dto.FxPositionsDto;
+import com.cryfirock.account.helper.FxPositionHelper;
+import com.cryfirock.account.helper.FxRateTableHelper;
+import com.cryfirock.account.service.api.IFxPositionService;
+import com.cryfirock.account.type.AccountAssets;
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. Implementación de la consulta de exposición por divisa.
+ * 2. Los totales vienen del helper de posiciones, que se mantiene de forma incremental.
+ * 3. Toda la respuesta se valora con una misma tabla de cambios.
+ * 4. Los grupos con saldo cero se omiten.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class FxPositionServiceImpl implements IFxPositionService {
+    // Orden de las posiciones en la respuesta.
+    private static final Comparator<FxPositionHelper.Position> POSITION_ORDER = Comparator
+            .comparing(FxPositionHelper.Position::financialAssetClass, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(FxPositionHelper.Position::currencyCode, Comparator.nullsLast(Comparator.naturalOrder()));
+    // Helper con los totales por clase de activo y divisa.
+    private final FxPositionHelper fxPositionHelper;
+    // Helper con la tabla de tipos de cambio.
+    private final FxRateTableHelper fxRateTableHelper;
+
+    /**
+     * Constructor que inyecta las dependencias del servicio.
+     *
+     * @param fxPositionHelper Helper de posiciones.
+     * @param fxRateTableHelper Helper de la tabla de cambios.
+     */
+    public FxPositionServiceImpl(FxPositionHelper fxPositionHelper, FxRateTableHelper fxRateTableHelper) {
+        this.fxPositionHelper = fxPositionHelper;
+        this.fxRateTableHelper = fxRateTableHelper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FxPositionsDto findPositions() {
+        // Fija la tabla para que todas las posiciones usen los mismos tipos.
+        FxRateTableHelper.RateTable table = fxRateTableHelper.current();
+        List<FxPositionHelper.Position> totals = fxPositionHelper.positions();
+        totals.sort(POSITION_ORDER);
+
+        List<CurrencyPositionDto> positions = new ArrayList<>(totals.size());
+        Map<AccountAssets, BigDecimal> assetClasses = new EnumMap<>(AccountAssets.class);
+        BigDecimal baseTotal = BigDecimal.ZERO.setScale(Money.SCALE);
+        TreeSet<String> unpricedCurrencies = new TreeSet<>();
+        for (FxPositionHelper.Position total : totals) {
+            // Los grupos que se han quedado sin saldo no se muestran.
+            if (total.minorUnits() == 0) continue;
+            BigDecimal amount = new Money(total.minorUnits()).toBigDecimal();
+            BigDecimal rate = table.rate(total.currencyCode());
+            // Sin tipo la posición se muestra pero no suma en los totales.
+            if (rate == null) {
+                if (total.currencyCode() != null) unpricedCurrencies.add(total.currencyCode());
+                positions.add(new CurrencyPositionDto(
+                        total.financialAssetClass(), total.currencyCode(), amount, null, null));
+                continue;
+            }
+            BigDecimal converted = amount.multiply(rate).setScale(Money.SCALE, RoundingMode.HALF_EVEN);
+            positions.add(new CurrencyPositionDto(
+                    total.financialAssetClass(), total.currencyCode(), amount, rate, converted));
+            if (total.financialAssetClass() != null)
+                assetClasses.merge(total.financialAssetClass(), converted, BigDecimal::add);
+            baseTotal = baseTotal.add(converted);
+        }
+
+        // Retorna las posiciones con los totales por clase de activo.
+        return new FxPositionsDto(
+                table.baseCurrency(),
+                table.loadedAt(),
+                positions,
+                assetClasses
+                        .entrySet()
+                        .stream()
+                        .map(entry -> new AssetClassPositionDto(entry.getKey(), entry.getValue()))
+                        .toList(),
+                baseTotal,
+                List.copyOf(unpricedCurrencies));
+    }
+}
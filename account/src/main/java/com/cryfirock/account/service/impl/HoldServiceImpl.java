@@ -0,0 +1,369 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountAvailabilityDto;
+import com.cryfirock.account.dto.HoldCaptureRequestDto;
+import com.cryfirock.account.dto.HoldRequestDto;
+import com.cryfirock.account.dto.HoldResponseDto;
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.entity.AccountHold;
+import com.cryfirock.account.helper.HoldLedgerHelper;
+import com.cryfirock.account.helper.HoldLedgerHelper.Reservation;
+import com.cryfirock.account.helper.HoldWriterHelper;
+import com.cryfirock.account.repository.JpaAccountHoldRepository;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.service.api.IHoldService;
+import com.cryfirock.account.service.api.ITransferService;
+import com.cryfirock.account.type.HoldStatus;
+import com.cryfirock.account.type.Money;
+import com.cryfirock.account.util.HierarchicalTimerWheel;
+
+/**
+ * 1. Implementación del servicio de retenciones de fondos.
+ * 2. Autoriza contra el libro en memoria sin escribir en la base de datos en la petición.
+ * 3. Las altas y liberaciones se persisten de forma asíncrona y se recargan al arrancar.
+ * 4. La captura marca la retención en la misma transacción que la transferencia.
+ * 5. El vencimiento lo marca una rueda de temporizadores, sin consultar la base de datos.
+ * 6. El libro es local a cada instancia: las retenciones de una cuenta deben llegar a la misma.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class HoldServiceImpl implements IHoldService, SmartInitializingSingleton, DisposableBean {
+    // Longitud máxima de la referencia según la columna de la tabla account_hold.
+    private static final int MAX_REFERENCE_LENGTH = 64;
+    // Servicio de cuentas que aporta el saldo desde su caché.
+    private final IAccountService accountService;
+    // Servicio de transferencias que mueve el importe capturado.
+    private final ITransferService transferService;
+    // Libro en memoria de las retenciones activas.
+    private final HoldLedgerHelper holdLedgerHelper;
+    // Escritura asíncrona de las retenciones.
+    private final HoldWriterHelper holdWriterHelper;
+    // Repositorio de acceso a los datos de las retenciones.
+    private final JpaAccountHoldRepository holdRepository;
+    // Plantilla de transacciones que une la transferencia y el estado de la captura.
+    private final TransactionTemplate transactionTemplate;
+    // Plantilla de transacciones de solo lectura para la carga inicial.
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    // Rueda de temporizadores con el vencimiento de las retenciones activas.
+    private final HierarchicalTimerWheel<UUID> expiryWheel;
+    // Hilo que avanza la rueda cada tick.
+    private final ScheduledExecutorService expiryTicker;
+    // Duración de un tick de la rueda en milisegundos.
+    private final long tickMillis;
+    // Plazo de las retenciones que no indican el suyo.
+    private final Duration defaultTtl;
+    // Plazo máximo de una retención.
+    private final Duration maxTtl;
+
+    /**
+     * Constructor que inyecta las dependencias del servicio.
+     *
+     * @param accountService Servicio de cuentas.
+     * @param transferService Servicio de transferencias.
+     * @param holdLedgerHelper Libro de retenciones activas.
+     * @param holdWriterHelper Escritura asíncrona de retenciones.
+     * @param holdRepository Repositorio de retenciones.
+     * @param transactionManager Gestor de transacciones.
+     * @param tickMillis Duración de un tick de la rueda en milisegundos.
+     * @param wheelSize Número de casillas de cada nivel de la rueda.
+     * @param defaultTtl Plazo por defecto de una retención.
+     * @param maxTtl Plazo máximo de una retención.
+     */
+    public HoldServiceImpl(
+            IAccountService accountService,
+            ITransferService transferService,
+            HoldLedgerHelper holdLedgerHelper,
+            HoldWriterHelper holdWriterHelper,
+            JpaAccountHoldRepository holdRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${account.holds.tick-ms:100}") long tickMillis,
+            @Value("${account.holds.wheel-size:512}") int wheelSize,
+            @Value("${account.holds.default-ttl:15m}") Duration defaultTtl,
+            @Value("${account.holds.max-ttl:7d}") Duration maxTtl) {
+        this.accountService = accountService;
+        this.transferService = transferService;
+        this.holdLedgerHelper = holdLedgerHelper;
+        this.holdWriterHelper = holdWriterHelper;
+        this.holdRepository = holdRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.tickMillis = tickMillis;
+        this.defaultTtl = defaultTtl;
+        this.maxTtl = maxTtl;
+        this.expiryWheel = new HierarchicalTimerWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        this.expiryTicker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "account-hold-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 1. Carga en el libro las retenciones activas guardadas y arranca la rueda.
+     * 2. Las que vencieron con la aplicación parada se liberan al momento.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> holdRepository
+                .findAllByStatus(HoldStatus.ACTIVE)
+                .forEach(hold -> {
+                    Reservation reservation = new Reservation(
+                            hold.getId(),
+                            hold.getReference(),
+                            hold.getAccountId(),
+                            hold.getAmount(),
+                            hold.getExpiresAt());
+                    holdLedgerHelper.restore(reservation);
+                    scheduleExpiry(reservation);
+                }));
+        expiryTicker.scheduleAtFixedRate(
+                () -> expiryWheel.advance(System.currentTimeMillis(), this::expire),
+                tickMillis,
+                tickMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Detiene el hilo que avanza la rueda.
+     */
+    @Override
+    public void destroy() {
+        expiryTicker.shutdownNow();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HoldResponseDto create(@NonNull HoldRequestDto request) {
+        Objects.requireNonNull(request, "Request must not be null");
+        // Valida los datos de la retención.
+        if (request.accountId() == null)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Account ID is required");
+        Money amount = toPositiveMoney(request.amount());
+        if (request.reference() != null && request.reference().length() > MAX_REFERENCE_LENGTH)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Reference is too long");
+        Duration ttl = request.expiresInSeconds() == null
+                ? defaultTtl
+                : Duration.ofSeconds(request.expiresInSeconds());
+        if (ttl.isNegative() || ttl.isZero() || ttl.compareTo(maxTtl) > 0)
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Expiry must be between 1 second and " + maxTtl.toSeconds() + " seconds");
+        // Reserva el importe contra el saldo en caché de la cuenta.
+        Money balance = Money.of(accountService.findById(request.accountId()).balance());
+        Reservation reservation = new Reservation(
+                UUID.randomUUID(),
+                request.reference(),
+                request.accountId(),
+                amount,
+                Instant.now().plus(ttl));
+        if (!holdLedgerHelper.tryReserve(reservation, balance))
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Insufficient available funds");
+        // Encola el alta y deshace la reserva si la cola está llena.
+        try {
+            holdWriterHelper.insert(new AccountHold(
+                    reservation.id(),
+                    reservation.accountId(),
+                    reservation.amount(),
+                    HoldStatus.ACTIVE,
+                    reservation.reference(),
+                    reservation.expiresAt()));
+        } catch (ResponseStatusException exception) {
+            holdLedgerHelper.claim(reservation.id());
+            holdLedgerHelper.release(reservation);
+            throw exception;
+        }
+        scheduleExpiry(reservation);
+        return toResponse(reservation, HoldStatus.ACTIVE, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HoldResponseDto findById(@NonNull UUID holdId) {
+        Objects.requireNonNull(holdId, "Hold ID must not be null");
+        Reservation reservation = holdLedgerHelper.get(holdId);
+        if (reservation != null) return toResponse(reservation, HoldStatus.ACTIVE, null);
+        return holdRepository
+                .findById(holdId)
+                .map(hold -> new HoldResponseDto(
+                        hold.getId(),
+                        hold.getReference(),
+                        hold.getAccountId(),
+                        hold.getAmount().toBigDecimal(),
+                        hold.getCapturedAmount() == null ? null : hold.getCapturedAmount().toBigDecimal(),
+                        hold.getStatus(),
+                        hold.getExpiresAt()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Hold not found"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AccountAvailabilityDto findAvailability(@NonNull Long accountId) {
+        Objects.requireNonNull(accountId, "Account ID must not be null");
+        Money balance = Money.of(accountService.findById(accountId).balance());
+        Money reserved = holdLedgerHelper.reserved(accountId);
+        return new AccountAvailabilityDto(
+                accountId,
+                balance.toBigDecimal(),
+                reserved.toBigDecimal(),
+                balance.minus(reserved).toBigDecimal());
+    }
+
+    /**
+     * 1. Reclama la retención para que no venza ni se libere mientras se captura.
+     * 2. La transferencia y el estado capturado se confirman en la misma transacción.
+     * 3. El importe sigue reservado hasta el commit y solo entonces se libera en memoria.
+     * 4. Si la transacción falla la retención vuelve a estar activa.
+     */
+    @Override
+    public HoldResponseDto capture(@NonNull UUID holdId, @NonNull HoldCaptureRequestDto request) {
+        Objects.requireNonNull(holdId, "Hold ID must not be null");
+        Objects.requireNonNull(request, "Request must not be null");
+        if (request.targetAccountId() == null)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Target account ID is required");
+        Money requested = request.amount() == null ? null : toPositiveMoney(request.amount());
+        Reservation reservation = claim(holdId);
+        Money captured = requested == null ? reservation.amount() : requested;
+        if (captured.compareTo(reservation.amount()) > 0) {
+            holdLedgerHelper.unclaim(reservation);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Amount exceeds the hold");
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // La propia retención no cuenta como reservada al comprobar el saldo disponible.
+                transferService.transfer(
+                        new TransferRequestDto(
+                                reservation.reference(),
+                                reservation.accountId(),
+                                request.targetAccountId(),
+                                captured.toBigDecimal()),
+                        reservation.amount());
+                if (!holdWriterHelper.writeCaptured(reservation, captured))
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, "Hold is not active");
+            });
+        } catch (DataIntegrityViolationException exception) {
+            // El hilo de escritura ha insertado la retención a la vez que la captura.
+            holdLedgerHelper.unclaim(reservation);
+            scheduleExpiry(reservation);
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Hold is being written, retry", exception);
+        } catch (RuntimeException exception) {
+            holdLedgerHelper.unclaim(reservation);
+            scheduleExpiry(reservation);
+            throw exception;
+        }
+        holdLedgerHelper.release(reservation);
+        return toResponse(reservation, HoldStatus.CAPTURED, captured);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HoldResponseDto release(@NonNull UUID holdId) {
+        Objects.requireNonNull(holdId, "Hold ID must not be null");
+        Reservation reservation = claim(holdId);
+        holdLedgerHelper.release(reservation);
+        holdWriterHelper.update(holdId, HoldStatus.RELEASED);
+        return toResponse(reservation, HoldStatus.RELEASED, null);
+    }
+
+    /**
+     * 1. Libera una retención vencida desde el hilo de la rueda.
+     * 2. Las retenciones ya capturadas o liberadas se ignoran.
+     *
+     * @param holdId Identificador de la retención.
+     */
+    private void expire(UUID holdId) {
+        Reservation reservation = holdLedgerHelper.claim(holdId);
+        if (reservation == null) return;
+        holdLedgerHelper.release(reservation);
+        holdWriterHelper.update(holdId, HoldStatus.EXPIRED);
+    }
+
+    /**
+     * Programa el vencimiento de una retención en la rueda.
+     *
+     * @param reservation Retención a programar.
+     */
+    private void scheduleExpiry(Reservation reservation) {
+        expiryWheel.schedule(reservation.expiresAt().toEpochMilli(), reservation.id(), this::expire);
+    }
+
+    /**
+     * Reclama una retención activa o informa de por qué no se puede finalizar.
+     *
+     * @param holdId Identificador de la retención.
+     * @return Retención reclamada.
+     */
+    private Reservation claim(UUID holdId) {
+        Reservation reservation = holdLedgerHelper.claim(holdId);
+        if (reservation != null) return reservation;
+        if (holdRepository.existsById(holdId))
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Hold is not active");
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Hold not found");
+    }
+
+    /**
+     * Convierte un importe positivo a coma fija.
+     *
+     * @param amount Importe decimal.
+     * @return Importe en coma fija.
+     */
+    private static Money toPositiveMoney(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0)
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Amount must be positive");
+        try {
+            return Money.of(amount);
+        } catch (IllegalArgumentException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, exception.getMessage());
+        }
+    }
+
+    /**
+     * Construye la respuesta de una retención.
+     *
+     * @param reservation Datos de la retención.
+     * @param status Estado de la retención.
+     * @param captured Importe capturado o null.
+     * @return Respuesta de la retención.
+     */
+    private static HoldResponseDto toResponse(Reservation reservation, HoldStatus status, Money captured) {
+        return new HoldResponseDto(
+                reservation.id(),
+                reservation.reference(),
+                reservation.accountId(),
+                reservation.amount().toBigDecimal(),
+                captured == null ? null : captured.toBigDecimal(),
+                status,
+                reservation.expiresAt());
+    }
+}
@@ -0,0 +1,61 @@
+package com.cryfirock.account.service.impl;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import com.cryfirock.account.dto.AccountChangeDto;
+import com.cryfirock.account.service.api.IAccountChangeSink;
+
+/**
+ * 1. Implementación del destino de cambios que envía cada lote con un POST JSON.
+ * 2. Una respuesta distinta de 2xx lanza una excepción y el lote se reintenta.
+ * 3. Sirve de sustituto de un broker de mensajes mientras no exista uno.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service @ConditionalOnProperty(name = "account.outbox.sink", havingValue = "http")
+public class HttpAccountChangeSinkImpl implements IAccountChangeSink {
+    // Cliente HTTP con la URL de destino.
+    private final RestClient restClient;
+
+    /**
+     * Constructor que construye el cliente HTTP con sus tiempos máximos.
+     *
+     * @param restClientBuilder Constructor de clientes HTTP.
+     * @param url URL que recibe los lotes.
+     * @param timeout Tiempo máximo de conexión y de lectura.
+     */
+    public HttpAccountChangeSinkImpl(
+            RestClient.Builder restClientBuilder,
+            @Value("${account.outbox.http.url}") String url,
+            @Value("${account.outbox.http.timeout:5s}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = restClientBuilder
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(List<AccountChangeDto> changes) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(changes)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
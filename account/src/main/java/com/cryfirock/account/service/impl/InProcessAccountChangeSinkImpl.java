@@ -0,0 +1,42 @@
+package com.cryfirock.account.service.impl;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.cryfirock.account.dto.AccountChangeDto;
+import com.cryfirock.account.service.api.IAccountChangeSink;
+
+/**
+ * 1. Implementación del destino de cambios que los publica como eventos de Spring.
+ * 2. Los componentes de la misma aplicación los reciben con @EventListener(AccountChangeDto.class).
+ * 3. Es el destino por defecto.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service @ConditionalOnProperty(name = "account.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+public class InProcessAccountChangeSinkImpl implements IAccountChangeSink {
+    // Publicador de eventos de la aplicación.
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Constructor que inyecta el publicador de eventos.
+     *
+     * @param eventPublisher Publicador de eventos de la aplicación.
+     */
+    public InProcessAccountChangeSinkImpl(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(List<AccountChangeDto> changes) {
+        changes.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,334 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountAccrualDto;
+import com.cryfirock.account.dto.InterestAccrualResultDto;
+import com.cryfirock.account.dto.JournalEntryRequestDto;
+import com.cryfirock.account.dto.PostingDto;
+import com.cryfirock.account.entity.Account;
+import com.cryfirock.account.entity.InterestAccrualChunk;
+import com.cryfirock.account.repository.JpaAccountRepository;
+import com.cryfirock.account.repository.JpaInterestAccrualChunkRepository;
+import com.cryfirock.account.service.api.IInterestAccrualService;
+import com.cryfirock.account.service.api.IJournalService;
+import com.cryfirock.account.type.AccountNature;
+import com.cryfirock.account.type.AccountOperational;
+import com.cryfirock.account.type.AccountStatus;
+import com.cryfirock.account.type.JournalEntryType;
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. Implementación del devengo diario de intereses.
+ * 2. Recorre las cuentas por clave en bloques y los reparte en un pool acotado de hilos.
+ * 3. Cada bloque registra sus asientos y su punto de control en una misma transacción.
+ * 4. Los intereses salen de la cuenta INTEREST_ACCRUAL de cada divisa.
+ * 5. Esa cuenta debe tener una finalidad fraccionada para que los bloques no se bloqueen entre sí.
+ * 6. Los bloques son rangos fijos de ids, no dependen de qué cuentas tengan saldo al leerlas.
+ * 7. Solo se ejecuta un devengo por día a la vez en cada instancia, el resto recibe 409 CONFLICT.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class InterestAccrualServiceImpl implements IInterestAccrualService {
+    // Escala del tipo de interés anual en partes por millón.
+    private static final int RATE_SCALE = 6;
+    // Repositorio de acceso a los datos de las cuentas bancarias.
+    private final JpaAccountRepository accountRepository;
+    // Repositorio de los puntos de control del devengo.
+    private final JpaInterestAccrualChunkRepository chunkRepository;
+    // Diario contable que registra los intereses.
+    private final IJournalService journalService;
+    // Plantilla que abre una transacción por bloque.
+    private final TransactionTemplate transactionTemplate;
+    // Finalidades de las cuentas que devengan intereses.
+    private final List<AccountNature> natures;
+    // Tipo de interés anual en partes por millón.
+    private final long ratePpm;
+    // Divisor del tipo anual para obtener el diario.
+    private final long denominator;
+    // Número de cuentas por bloque.
+    private final int chunkSize;
+    // Número de hilos que devengan bloques a la vez.
+    private final int workers;
+    // Días con un devengo en curso en esta instancia.
+    private final Set<LocalDate> running = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor que inyecta las dependencias del servicio.
+     *
+     * @param accountRepository Repositorio de cuentas.
+     * @param chunkRepository Repositorio de puntos de control.
+     * @param journalService Servicio del diario contable.
+     * @param transactionManager Gestor de transacciones.
+     * @param natures Finalidades de las cuentas que devengan intereses.
+     * @param annualRate Tipo de interés anual, como máximo con seis decimales.
+     * @param dayCount Días del año para el cálculo diario.
+     * @param chunkSize Número de cuentas por bloque.
+     * @param workers Número de hilos que devengan bloques a la vez.
+     */
+    public InterestAccrualServiceImpl(
+            JpaAccountRepository accountRepository,
+            JpaInterestAccrualChunkRepository chunkRepository,
+            IJournalService journalService,
+            PlatformTransactionManager transactionManager,
+            @Value("${account.interest.natures:CUSTOMER}") List<AccountNature> natures,
+            @Value("${account.interest.annual-rate:0}") BigDecimal annualRate,
+            @Value("${account.interest.day-count:365}") int dayCount,
+            @Value("${account.interest.chunk-size:1000}") int chunkSize,
+            @Value("${account.interest.workers:4}") int workers) {
+        this.accountRepository = accountRepository;
+        this.chunkRepository = chunkRepository;
+        this.journalService = journalService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.natures = List.copyOf(natures);
+        this.ratePpm = annualRate.movePointRight(RATE_SCALE).setScale(0, RoundingMode.UNNECESSARY).longValueExact();
+        this.denominator = Math.multiplyExact(BigDecimal.ONE.movePointRight(RATE_SCALE).longValueExact(), dayCount);
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+    }
+
+    /**
+     * 1. Devenga el día anterior según la expresión cron configurada.
+     * 2. Con la expresión por defecto la tarea queda deshabilitada.
+     * 3. Si el día ya se está devengando por petición la tarea no hace nada.
+     */
+    @Scheduled(cron = "${account.interest.cron:-}", zone = "UTC")
+    public void accruePreviousDay() {
+        try {
+            accrue(LocalDate.now(ZoneOffset.UTC).minusDays(1));
+        } catch (ResponseStatusException exception) {
+            if (exception.getStatusCode() != HttpStatus.CONFLICT) throw exception;
+        }
+    }
+
+    /**
+     * 1. Recorre los ids en rangos fijos de chunkSize y salta los completados.
+     * 2. El hilo lector encola cada bloque con cuentas y espera si los hilos van por detrás.
+     * 3. Si algún bloque falla el resto se confirma y la siguiente ejecución lo reanuda.
+     * 4. Si el día ya se está devengando en esta instancia se responde 409 CONFLICT.
+     */
+    @Override
+    public InterestAccrualResultDto accrue(@NonNull LocalDate businessDate) {
+        Objects.requireNonNull(businessDate, "Business date must not be null");
+        if (ratePpm == 0) return new InterestAccrualResultDto(businessDate, 0, 0, 0);
+        if (!running.add(businessDate))
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "Interest accrual for " + businessDate + " is already running");
+        try {
+            return accrueDay(businessDate);
+        } finally {
+            running.remove(businessDate);
+        }
+    }
+
+    /**
+     * 1. Devenga un día que no tiene otra ejecución en curso en esta instancia.
+     * 2. Cada rango empieza en un múltiplo de chunkSize o al final de un bloque completado.
+     * 3. Así dos ejecuciones, aunque sean de instancias distintas, usan la misma clave por rango.
+     *
+     * @param businessDate Día a devengar.
+     * @return Resumen de la ejecución.
+     */
+    private InterestAccrualResultDto accrueDay(LocalDate businessDate) {
+        // Cuenta de devengo de cada divisa.
+        Map<String, Long> accrualAccounts = new HashMap<>();
+        for (Account account : accountRepository.findAllByBankAccountOperationalAndBankAccountStatusOrderById(
+                AccountOperational.INTEREST_ACCRUAL,
+                AccountStatus.ACTIVE))
+            accrualAccounts.putIfAbsent(account.getCurrencyCode(), account.getId());
+        // Bloques ya completados del día indexados por su inicio.
+        NavigableMap<Long, Long> completed = new TreeMap<>();
+        for (InterestAccrualChunk chunk : chunkRepository.findAllByBusinessDate(businessDate))
+            completed.put(chunk.getAfterAccountId(), chunk.getLastAccountId());
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers * 2),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        List<Future<Integer>> futures = new ArrayList<>();
+        int resumed = 0;
+        long maxId = accountRepository.findMaxId();
+        try {
+            long after = 0L;
+            while (after < maxId) {
+                // Salta el bloque completado que empieza en el cursor.
+                Long completedLast = completed.get(after);
+                if (completedLast != null) {
+                    after = completedLast;
+                    resumed++;
+                    continue;
+                }
+                // El rango acaba en el siguiente múltiplo de chunkSize o en el siguiente bloque completado.
+                Long nextCompleted = completed.higherKey(after);
+                long chunkAfter = after;
+                long upTo = Math.min(
+                        (after / chunkSize + 1) * chunkSize,
+                        nextCompleted == null ? Long.MAX_VALUE : nextCompleted);
+                after = upTo;
+                // Un rango tiene como mucho chunkSize ids, el límite no corta el bloque.
+                List<AccountAccrualDto> page = accountRepository.findAccrualPage(
+                        chunkAfter,
+                        upTo,
+                        natures,
+                        AccountStatus.ACTIVE,
+                        Limit.of(chunkSize));
+                if (page.isEmpty()) continue;
+                futures.add(executor.submit(() -> accrueChunk(businessDate, chunkAfter, upTo, page, accrualAccounts)));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // Espera a todos los bloques y suma las cuentas devengadas.
+        long accounts = 0;
+        int chunks = 0;
+        RuntimeException failure = null;
+        for (Future<Integer> future : futures) {
+            try {
+                int credited = future.get();
+                // Un bloque que ya había completado otra instancia cuenta como reanudado.
+                if (credited < 0) {
+                    resumed++;
+                    continue;
+                }
+                accounts += credited;
+                chunks++;
+            } catch (ExecutionException exception) {
+                if (failure == null)
+                    failure = exception.getCause() instanceof RuntimeException runtime
+                            ? runtime
+                            : new IllegalStateException(exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interest accrual interrupted");
+            }
+        }
+        if (failure != null) throw failure;
+        return new InterestAccrualResultDto(businessDate, chunks, resumed, accounts);
+    }
+
+    /**
+     * 1. Devenga un bloque de cuentas en una transacción.
+     * 2. Registra un asiento por divisa con el cargo total a la cuenta de devengo.
+     * 3. Inserta el punto de control del rango en la misma transacción.
+     * 4. Si otra instancia ya completó el rango su clave única revierte los asientos de este.
+     *
+     * @param businessDate Día devengado.
+     * @param after Id tras el que empieza el rango.
+     * @param upTo Último id del rango, incluido.
+     * @param page Cuentas del bloque.
+     * @param accrualAccounts Cuenta de devengo de cada divisa.
+     * @return Número de cuentas que han recibido intereses o -1 si el rango ya estaba completado.
+     */
+    private int accrueChunk(
+            LocalDate businessDate,
+            long after,
+            long upTo,
+            List<AccountAccrualDto> page,
+            Map<String, Long> accrualAccounts) {
+        try {
+            return writeChunk(businessDate, after, upTo, page, accrualAccounts);
+        } catch (DataIntegrityViolationException exception) {
+            if (chunkRepository.existsByBusinessDateAndAfterAccountId(businessDate, after)) return -1;
+            throw exception;
+        }
+    }
+
+    /**
+     * Registra en una transacción los asientos de intereses de un bloque y su punto de control.
+     *
+     * @param businessDate Día devengado.
+     * @param after Id tras el que empieza el rango.
+     * @param upTo Último id del rango, incluido.
+     * @param page Cuentas del bloque.
+     * @param accrualAccounts Cuenta de devengo de cada divisa.
+     * @return Número de cuentas que han recibido intereses.
+     */
+    private int writeChunk(
+            LocalDate businessDate,
+            long after,
+            long upTo,
+            List<AccountAccrualDto> page,
+            Map<String, Long> accrualAccounts) {
+        return transactionTemplate.execute(status -> {
+            Map<String, List<PostingDto>> postings = new TreeMap<>();
+            Map<String, Long> totals = new HashMap<>();
+            for (AccountAccrualDto account : page) {
+                Long source = accrualAccounts.get(account.currencyCode());
+                if (source == null || source.equals(account.accountId())) continue;
+                long interest = dailyInterest(account.balance().minorUnits());
+                if (interest == 0) continue;
+                postings.computeIfAbsent(account.currencyCode(), key -> new ArrayList<>())
+                        .add(new PostingDto(account.accountId(), new Money(interest).toBigDecimal()));
+                totals.merge(account.currencyCode(), interest, Money::add);
+            }
+            int credited = postings.values().stream().mapToInt(List::size).sum();
+            postings.forEach((currencyCode, entries) -> {
+                entries.add(new PostingDto(
+                        accrualAccounts.get(currencyCode),
+                        new Money(-totals.get(currencyCode)).toBigDecimal()));
+                journalService.post(new JournalEntryRequestDto(
+                        "INTEREST-" + businessDate,
+                        JournalEntryType.INTEREST,
+                        entries));
+            });
+            chunkRepository.saveAndFlush(new InterestAccrualChunk(businessDate, after, upTo, credited));
+            return credited;
+        });
+    }
+
+    /**
+     * 1. Calcula el interés de un día sobre un saldo en unidades mínimas.
+     * 2. Redondea a la unidad mínima más cercana, los empates hacia arriba.
+     * 3. Solo pasa a BigInteger si el producto desborda un long.
+     *
+     * @param balance Saldo en unidades mínimas.
+     * @return Interés del día en unidades mínimas.
+     */
+    private long dailyInterest(long balance) {
+        try {
+            return Math.addExact(Math.multiplyExact(balance, ratePpm), denominator / 2) / denominator;
+        } catch (ArithmeticException exception) {
+            return BigInteger.valueOf(balance)
+                    .multiply(BigInteger.valueOf(ratePpm))
+                    .add(BigInteger.valueOf(denominator / 2))
+                    .divide(BigInteger.valueOf(denominator))
+                    .longValueExact();
+        }
+    }
+}
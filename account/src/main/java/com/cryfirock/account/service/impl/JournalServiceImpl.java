@@ -0,0 +1,294 @@
+package com.cryfirock.account.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountPostingDto;
+import com.cryfirock.account.dto.JournalEntryRequestDto;
+import com.cryfirock.account.dto.JournalEntryResponseDto;
+import com.cryfirock.account.dto.PostingDto;
+import com.cryfirock.account.entity.JournalEntry;
+import com.cryfirock.account.entity.Posting;
+import com.cryfirock.account.helper.AccountCacheHelper;
+import com.cryfirock.account.helper.BalanceSlotsHelper;
+import com.cryfirock.account.helper.FxPositionHelper;
+import com.cryfirock.account.helper.HoldLedgerHelper;
+import com.cryfirock.account.helper.OwnerRollupHelper;
+import com.cryfirock.account.repository.JpaAccountRepository;
+import com.cryfirock.account.repository.JpaJournalEntryRepository;
+import com.cryfirock.account.repository.JpaPostingRepository;
+import com.cryfirock.account.service.api.IJournalService;
+import com.cryfirock.account.type.JournalEntryType;
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. Implementación del diario contable de doble entrada.
+ * 2. Los asientos y apuntes solo se insertan, nunca se modifican.
+ * 3. El saldo de la cuenta se actualiza de forma incremental sin leerlo antes.
+ * 4. Los importes se operan en coma fija y solo los DTO usan BigDecimal.
+ * 5. Todos los apuntes de un asiento deben ser de cuentas de la misma divisa.
+ * 6. Los cargos respetan el importe retenido en el libro de retenciones.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class JournalServiceImpl implements IJournalService {
+    // Repositorio de acceso a los datos de las cuentas bancarias.
+    private final JpaAccountRepository accountRepository;
+    // Repositorio de acceso a los asientos del diario.
+    private final JpaJournalEntryRepository journalEntryRepository;
+    // Repositorio de acceso a los apuntes del diario.
+    private final JpaPostingRepository postingRepository;
+    // Helper que suma los importes al saldo o a sus fracciones.
+    private final BalanceSlotsHelper balanceSlotsHelper;
+    // Caché de respuestas de cuentas que se invalida al cambiar el saldo.
+    private final AccountCacheHelper accountCacheHelper;
+    // Totales en memoria por clase de activo y divisa.
+    private final FxPositionHelper fxPositionHelper;
+    // Resúmenes en memoria de saldos por titular y divisa.
+    private final OwnerRollupHelper ownerRollupHelper;
+    // Libro en memoria con el importe retenido por cuenta.
+    private final HoldLedgerHelper holdLedgerHelper;
+
+    /**
+     * Constructor que inyecta las dependencias del servicio.
+     *
+     * @param accountRepository Repositorio de cuentas.
+     * @param journalEntryRepository Repositorio de asientos.
+     * @param postingRepository Repositorio de apuntes.
+     * @param balanceSlotsHelper Helper de fracciones de saldo.
+     * @param accountCacheHelper Caché de respuestas de cuentas.
+     * @param fxPositionHelper Totales por clase de activo y divisa.
+     * @param ownerRollupHelper Resúmenes de saldos por titular.
+     * @param holdLedgerHelper Libro de retenciones activas.
+     */
+    public JournalServiceImpl(
+            JpaAccountRepository accountRepository,
+            JpaJournalEntryRepository journalEntryRepository,
+            JpaPostingRepository postingRepository,
+            BalanceSlotsHelper balanceSlotsHelper,
+            AccountCacheHelper accountCacheHelper,
+            FxPositionHelper fxPositionHelper,
+            OwnerRollupHelper ownerRollupHelper,
+            HoldLedgerHelper holdLedgerHelper) {
+        this.accountRepository = accountRepository;
+        this.journalEntryRepository = journalEntryRepository;
+        this.postingRepository = postingRepository;
+        this.balanceSlotsHelper = balanceSlotsHelper;
+        this.accountCacheHelper = accountCacheHelper;
+        this.fxPositionHelper = fxPositionHelper;
+        this.ownerRollupHelper = ownerRollupHelper;
+        this.holdLedgerHelper = holdLedgerHelper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override @Transactional
+    public JournalEntryResponseDto post(@NonNull JournalEntryRequestDto request) {
+        return post(request, Map.of());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override @Transactional
+    public JournalEntryResponseDto post(@NonNull JournalEntryRequestDto request, Map<Long, Money> capturedHolds) {
+        Objects.requireNonNull(request, "Request must not be null");
+        // Sin tipo el asiento se registra como transferencia.
+        JournalEntryType entryType = request.entryType() == null
+                ? JournalEntryType.TRANSFER
+                : request.entryType();
+        // Los asientos de apertura solo se registran al crear la cuenta.
+        if (entryType == JournalEntryType.OPENING)
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Opening entries are recorded when the account is created");
+        // Valida que los apuntes estén completos y cuadren.
+        List<PostingDto> postings = request.postings();
+        List<Money> amounts = validatePostings(postings);
+        validateCurrency(postings);
+
+        // Inserta el asiento y sus apuntes.
+        JournalEntry entry = journalEntryRepository.save(
+                new JournalEntry(request.reference(), entryType));
+        List<Posting> entities = new ArrayList<>(postings.size());
+        for (int i = 0; i < postings.size(); i++)
+            entities.add(new Posting(entry.getId(), postings.get(i).accountId(), amounts.get(i)));
+        postingRepository.saveAll(entities);
+
+        // Proyecta los apuntes sobre el saldo de cada cuenta.
+        applyToBalances(postings, amounts, capturedHolds == null ? Map.of() : capturedHolds);
+
+        // Retorna el asiento registrado.
+        return new JournalEntryResponseDto(
+                entry.getId(),
+                entry.getReference(),
+                entry.getEntryType(),
+                entry.getAudit(),
+                postings);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override @Transactional
+    public void recordOpening(@NonNull Long accountId, Money amount) {
+        Objects.requireNonNull(accountId, "Account ID must not be null");
+        // Un saldo de apertura nulo o cero no necesita apunte.
+        if (amount == null || amount.signum() == 0) return;
+        // Inserta el asiento de apertura con su único apunte.
+        JournalEntry entry = journalEntryRepository.save(
+                new JournalEntry(null, JournalEntryType.OPENING));
+        postingRepository.save(new Posting(entry.getId(), accountId, amount));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override @Transactional
+    public Money rebuildBalance(@NonNull Long accountId) {
+        Objects.requireNonNull(accountId, "Account ID must not be null");
+        // Bloquea la cuenta para que no entren apuntes mientras se recalcula.
+        accountRepository
+                .findByIdForUpdate(accountId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        // Las fracciones se vacían porque el saldo completo pasa al saldo base.
+        balanceSlotsHelper.resetSlots(accountId);
+        // Suma los apuntes de la cuenta y guarda el resultado como saldo.
+        Money balance = Money.of(postingRepository.sumAmountByAccountId(accountId));
+        accountRepository.setBalance(accountId, balance);
+        accountCacheHelper.invalidate(accountId);
+        fxPositionHelper.reset(accountId, balance);
+        ownerRollupHelper.reset(accountId, balance);
+        return balance;
+    }
+
+    /**
+     * 1. Valida que el asiento tenga al menos dos apuntes completos.
+     * 2. Convierte los importes a coma fija con un máximo de cuatro decimales.
+     * 3. Valida que la suma de los importes sea cero sin desbordar.
+     *
+     * @param postings Apuntes del asiento.
+     * @return Importes de los apuntes en el mismo orden.
+     */
+    private static List<Money> validatePostings(List<PostingDto> postings) {
+        // Un asiento de doble entrada necesita al menos dos apuntes.
+        if (postings == null || postings.size() < 2)
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "A journal entry needs at least two postings");
+        // Cada apunte necesita cuenta e importe distinto de cero.
+        List<Money> amounts = new ArrayList<>(postings.size());
+        long total = 0;
+        for (PostingDto posting : postings) {
+            if (posting == null
+                    || posting.accountId() == null
+                    || posting.amount() == null
+                    || posting.amount().signum() == 0)
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "Postings need an account and a non zero amount");
+            try {
+                Money amount = Money.of(posting.amount());
+                total = Money.add(total, amount.minorUnits());
+                amounts.add(amount);
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+        }
+        // Los apuntes deben cuadrar.
+        if (total != 0)
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Postings must sum to zero");
+        return amounts;
+    }
+
+    /**
+     * 1. Valida que todas las cuentas del asiento tengan la misma divisa.
+     * 2. Un asiento que mezcla divisas cuadraría en importe sin cuadrar en valor.
+     * 3. Las cuentas que no existen se rechazan al actualizar su saldo.
+     *
+     * @param postings Apuntes validados del asiento.
+     */
+    private void validateCurrency(List<PostingDto> postings) {
+        Set<Long> accountIds = postings
+                .stream()
+                .map(PostingDto::accountId)
+                .collect(Collectors.toSet());
+        long currencies = accountRepository
+                .findPostingAccounts(accountIds)
+                .stream()
+                .map(AccountPostingDto::currencyCode)
+                .distinct()
+                .count();
+        if (currencies > 1)
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Postings must share one currency");
+    }
+
+    /**
+     * 1. Suma a cada cuenta el total de sus apuntes con una sentencia UPDATE.
+     * 2. Las cuentas se actualizan en orden de id para evitar interbloqueos.
+     * 3. Las cuentas concurridas reciben el importe en una fracción de su saldo.
+     * 4. Comprueba los cargos contra el importe retenido antes de publicar los cambios.
+     *
+     * @param postings Apuntes validados del asiento.
+     * @param amounts Importes de los apuntes en el mismo orden.
+     * @param capturedHolds Importe de las retenciones capturadas por cuenta.
+     */
+    private void applyToBalances(List<PostingDto> postings, List<Money> amounts, Map<Long, Money> capturedHolds) {
+        // Agrupa los importes por cuenta en orden ascendente de id.
+        Map<Long, Money> deltas = new TreeMap<>();
+        for (int i = 0; i < postings.size(); i++)
+            deltas.merge(postings.get(i).accountId(), amounts.get(i), Money::plus);
+        // Si una cuenta no existe se revierte el asiento completo.
+        balanceSlotsHelper.addToBalances(deltas);
+        // Un cargo no puede consumir los fondos retenidos de la cuenta.
+        validateAvailable(deltas, capturedHolds);
+        // Las respuestas cacheadas de las cuentas afectadas dejan de ser válidas.
+        accountCacheHelper.invalidateAll(deltas.keySet());
+        // Los totales por divisa y por titular reciben los mismos importes tras el commit.
+        fxPositionHelper.apply(deltas);
+        ownerRollupHelper.apply(deltas);
+    }
+
+    /**
+     * 1. Valida que las cuentas con cargos conserven al menos su importe retenido.
+     * 2. Solo lee el saldo de las cuentas que tienen retenciones activas.
+     * 3. El saldo se lee tras la actualización, incluyendo sus fracciones.
+     *
+     * @param deltas Importe total por cuenta.
+     * @param capturedHolds Importe de las retenciones capturadas por cuenta.
+     */
+    private void validateAvailable(Map<Long, Money> deltas, Map<Long, Money> capturedHolds) {
+        for (Map.Entry<Long, Money> delta : deltas.entrySet()) {
+            if (delta.getValue().signum() >= 0) continue;
+            Long accountId = delta.getKey();
+            Money reserved = holdLedgerHelper
+                    .reserved(accountId)
+                    .minus(capturedHolds.getOrDefault(accountId, Money.ZERO));
+            if (reserved.signum() <= 0) continue;
+            Money balance = accountRepository.findBalanceById(accountId).balance();
+            if (balance.compareTo(reserved) < 0)
+                throw new ResponseStatusException(
+                        HttpStatus.CONFLICT,
+                        "Insufficient available funds in account " + accountId);
+        }
+    }
+}
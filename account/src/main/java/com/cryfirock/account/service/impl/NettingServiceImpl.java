@@ -0,0 +1,151 @@
+package com.cryfirock.account.service.impl;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cryfirock.account.dto.NetPositionDto;
+import com.cryfirock.account.dto.NettingObligationDto;
+import com.cryfirock.account.dto.NettingResultDto;
+import com.cryfirock.account.dto.SettlementInstructionDto;
+import com.cryfirock.account.repository.JpaPostingRepository;
+import com.cryfirock.account.service.api.INettingService;
+import com.cryfirock.account.type.AccountOperational;
+import com.cryfirock.account.type.JournalEntryType;
+import com.cryfirock.account.type.Money;
+import com.cryfirock.account.util.NettingCalculator;
+import com.cryfirock.account.util.NettingCalculator.Chunk;
+import com.cryfirock.account.util.NettingCalculator.Position;
+
+/**
+ * 1. Implementación del lote de compensación multilateral.
+ * 2. Las obligaciones son los apuntes del día sobre cuentas NETTING y CLEARING.
+ * 3. El participante es el titular principal de la cuenta.
+ * 4. Los apuntes se leen en streaming y cada bloque se reduce en el pool mientras se lee el siguiente.
+ * 5. Como mucho hay dos bloques por hilo del pool en vuelo, el lector une el más antiguo antes de seguir.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class NettingServiceImpl implements INettingService, DisposableBean {
+    // Semánticas de las cuentas que participan en la compensación.
+    private static final Set<AccountOperational> NETTING_OPERATIONALS = Set.of(
+            AccountOperational.NETTING,
+            AccountOperational.CLEARING);
+    // Asientos cuyos apuntes suman cero y generan obligaciones.
+    private static final Set<JournalEntryType> OBLIGATION_TYPES = Set.of(
+            JournalEntryType.TRANSFER,
+            JournalEntryType.ADJUSTMENT);
+    // Repositorio de acceso a los apuntes del diario.
+    private final JpaPostingRepository postingRepository;
+    // Pool de fork/join dedicado a la reducción.
+    private final ForkJoinPool pool;
+    // Calculadora de posiciones e instrucciones.
+    private final NettingCalculator calculator;
+    // Número de obligaciones por bloque.
+    private final int chunkSize;
+
+    /**
+     * Constructor que inyecta las dependencias del servicio.
+     *
+     * @param postingRepository Repositorio de apuntes.
+     * @param parallelism Número de hilos del pool, cero para usar todos los núcleos.
+     * @param chunkSize Número de obligaciones por bloque.
+     */
+    public NettingServiceImpl(
+            JpaPostingRepository postingRepository,
+            @Value("${account.netting.parallelism:0}") int parallelism,
+            @Value("${account.netting.chunk-size:65536}") int chunkSize) {
+        this.postingRepository = postingRepository;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.calculator = new NettingCalculator(pool);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Detiene el pool de fork/join.
+     */
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override @Transactional(readOnly = true)
+    public NettingResultDto net(@NonNull LocalDate businessDate) {
+        Objects.requireNonNull(businessDate, "Business date must not be null");
+        Instant from = businessDate.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant to = businessDate.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        // Lee las obligaciones por bloques y envía cada bloque lleno al pool.
+        Map<Position, Long> positions = new HashMap<>();
+        Deque<ForkJoinTask<Map<Position, Long>>> tasks = new ArrayDeque<>();
+        int maxInFlight = 2 * calculator.parallelism();
+        long obligations = 0;
+        try (Stream<NettingObligationDto> stream = postingRepository.streamObligations(
+                from,
+                to,
+                NETTING_OPERATIONALS,
+                OBLIGATION_TYPES)) {
+            Chunk chunk = new Chunk(chunkSize);
+            for (Iterator<NettingObligationDto> iterator = stream.iterator(); iterator.hasNext();) {
+                NettingObligationDto obligation = iterator.next();
+                chunk.add(obligation.participantId(), obligation.currencyCode(), obligation.amount().minorUnits());
+                obligations++;
+                if (chunk.isFull()) {
+                    tasks.add(calculator.submit(chunk));
+                    chunk = new Chunk(chunkSize);
+                    // Une el bloque más antiguo si el pool va por detrás del lector.
+                    if (tasks.size() >= maxInFlight) NettingCalculator.merge(positions, tasks.poll().join());
+                }
+            }
+            if (chunk.size() > 0) tasks.add(calculator.submit(chunk));
+        }
+        // Suma las posiciones parciales de los bloques que siguen en vuelo.
+        while (!tasks.isEmpty()) NettingCalculator.merge(positions, tasks.poll().join());
+        return new NettingResultDto(
+                businessDate,
+                obligations,
+                positions
+                        .entrySet()
+                        .stream()
+                        .filter(entry -> entry.getValue() != 0)
+                        .sorted(Map.Entry.comparingByKey(Comparator
+                                .comparing(Position::currencyCode)
+                                .thenComparingLong(Position::participantId)))
+                        .map(entry -> new NetPositionDto(
+                                entry.getKey().participantId(),
+                                entry.getKey().currencyCode(),
+                                new Money(entry.getValue()).toBigDecimal()))
+                        .toList(),
+                NettingCalculator
+                        .settle(positions)
+                        .stream()
+                        .map(instruction -> new SettlementInstructionDto(
+                                instruction.currencyCode(),
+                                instruction.payerId(),
+                                instruction.payeeId(),
+                                new Money(instruction.minorUnits()).toBigDecimal()))
+                        .toList());
+    }
+}
@@ -0,0 +1,63 @@
+package com.cryfirock.account.service.impl;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import com.cryfirock.account.dto.OwnerBalanceDto;
+import com.cryfirock.account.dto.OwnerSummaryDto;
+import com.cryfirock.account.helper.OwnerRollupHelper;
+import com.cryfirock.account.service.api.IOwnerRollupService;
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. Implementación del modelo de lectura de saldos por titular principal.
+ * 2. Delega el mantenimiento y la reconstrucción en el helper de resúmenes.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class OwnerRollupServiceImpl implements IOwnerRollupService {
+    // Helper con los resúmenes por titular y divisa.
+    private final OwnerRollupHelper ownerRollupHelper;
+
+    /**
+     * Constructor que inyecta las dependencias del servicio.
+     *
+     * @param ownerRollupHelper Helper de resúmenes por titular.
+     */
+    public OwnerRollupServiceImpl(OwnerRollupHelper ownerRollupHelper) {
+        this.ownerRollupHelper = ownerRollupHelper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OwnerSummaryDto findByOwnerId(@NonNull Long mainOwnerId) {
+        Objects.requireNonNull(mainOwnerId, "Owner ID must not be null");
+        return new OwnerSummaryDto(
+                mainOwnerId,
+                ownerRollupHelper
+                        .find(mainOwnerId)
+                        .stream()
+                        .sorted(Comparator.comparing(OwnerRollupHelper.Balance::currencyCode))
+                        .map(balance -> new OwnerBalanceDto(
+                                balance.currencyCode(),
+                                new Money(balance.minorUnits()).toBigDecimal(),
+                                balance.accounts()))
+                        .toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int rebuild() {
+        return ownerRollupHelper.rebuild();
+    }
+}
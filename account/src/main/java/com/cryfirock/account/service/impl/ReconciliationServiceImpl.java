@@ -0,0 +1,317 @@
+package com.cryfirock.account.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountReconciliationDto;
+import com.cryfirock.account.dto.ReconciliationBreakDto;
+import com.cryfirock.account.dto.ReconciliationResultDto;
+import com.cryfirock.account.entity.ReconciliationBreak;
+import com.cryfirock.account.repository.JpaAccountRepository;
+import com.cryfirock.account.repository.JpaReconciliationBreakRepository;
+import com.cryfirock.account.service.api.IReconciliationService;
+import com.cryfirock.account.type.Money;
+import com.cryfirock.account.type.ReconciliationBreakType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 1. Implementación de la conciliación de saldos contra un extracto externo.
+ * 2. El extracto se lee línea a línea y se corta en particiones de IBAN consecutivos.
+ * 3. Cada partición cruza sus líneas con las cuentas de su rango leídas en streaming por IBAN.
+ * 4. Las particiones se concilian en un pool acotado, la memoria no depende del tamaño del extracto.
+ * 5. Las diferencias se insertan por lotes en el informe de partidas en suspenso.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class ReconciliationServiceImpl implements IReconciliationService {
+    // Número de diferencias que se insertan antes de vaciar el contexto de persistencia.
+    private static final int BREAK_BATCH_SIZE = 500;
+    // Repositorio de acceso a los datos de las cuentas bancarias.
+    private final JpaAccountRepository accountRepository;
+    // Repositorio del informe de partidas en suspenso.
+    private final JpaReconciliationBreakRepository breakRepository;
+    // Contexto de persistencia que se vacía tras cada lote de diferencias.
+    private final EntityManager entityManager;
+    // Plantilla que abre una transacción por partición.
+    private final TransactionTemplate transactionTemplate;
+    // Número de líneas del extracto por partición.
+    private final int partitionSize;
+    // Número de hilos que concilian particiones a la vez.
+    private final int workers;
+
+    /**
+     * Constructor que inyecta las dependencias del servicio.
+     *
+     * @param accountRepository Repositorio de cuentas.
+     * @param breakRepository Repositorio del informe de diferencias.
+     * @param entityManager Contexto de persistencia.
+     * @param transactionManager Gestor de transacciones.
+     * @param partitionSize Número de líneas del extracto por partición.
+     * @param workers Número de hilos que concilian particiones a la vez.
+     */
+    public ReconciliationServiceImpl(
+            JpaAccountRepository accountRepository,
+            JpaReconciliationBreakRepository breakRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${account.reconciliation.partition-size:10000}") int partitionSize,
+            @Value("${account.reconciliation.workers:4}") int workers) {
+        this.accountRepository = accountRepository;
+        this.breakRepository = breakRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionSize = partitionSize;
+        this.workers = workers;
+    }
+
+    /**
+     * 1. Las líneas deben ir ordenadas por IBAN sin repetir, si no se rechaza el extracto.
+     * 2. La primera línea se ignora si es la cabecera iban,balance.
+     * 3. La última partición llega hasta el final de las cuentas para detectar las que faltan.
+     * 4. Si el extracto se rechaza tras enviar particiones se borran las diferencias de la ejecución.
+     */
+    @Override
+    public ReconciliationResultDto reconcile(@NonNull InputStream statement) {
+        Objects.requireNonNull(statement, "Statement must not be null");
+        UUID runId = UUID.randomUUID();
+        long started = System.nanoTime();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        List<Future<long[]>> futures = new ArrayList<>();
+        RuntimeException failure = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(statement, StandardCharsets.UTF_8))) {
+            Partition partition = new Partition("", partitionSize);
+            String previous = "";
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.trim().toLowerCase(Locale.ROOT).startsWith("iban"))) continue;
+                // Valida la línea y el orden del extracto.
+                int comma = line.indexOf(',');
+                String iban = comma < 0 ? "" : line.substring(0, comma).trim();
+                if (iban.isEmpty())
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Line " + lineNumber + ": IBAN is required");
+                if (iban.compareTo(previous) <= 0)
+                    throw new ResponseStatusException(
+                            HttpStatus.BAD_REQUEST,
+                            "Line " + lineNumber + ": statement must be sorted by IBAN without duplicates");
+                Money balance;
+                try {
+                    balance = Money.of(new BigDecimal(line.substring(comma + 1).trim()));
+                } catch (IllegalArgumentException exception) {
+                    throw new ResponseStatusException(
+                            HttpStatus.BAD_REQUEST,
+                            "Line " + lineNumber + ": invalid balance");
+                }
+                previous = iban;
+                partition.add(iban, balance.minorUnits());
+                // Envía la partición llena, la siguiente empieza tras su último IBAN.
+                if (partition.isFull()) {
+                    Partition full = partition;
+                    futures.add(executor.submit(() -> reconcilePartition(runId, full, full.last())));
+                    partition = new Partition(full.last(), partitionSize);
+                }
+            }
+            Partition last = partition;
+            futures.add(executor.submit(() -> reconcilePartition(runId, last, null)));
+        } catch (IOException exception) {
+            failure = new UncheckedIOException(exception);
+        } catch (ResponseStatusException exception) {
+            failure = exception;
+        } finally {
+            executor.shutdown();
+        }
+        // Espera a todas las particiones y suma sus contadores.
+        long accounts = 0;
+        long matched = 0;
+        long breaks = 0;
+        for (Future<long[]> future : futures) {
+            try {
+                long[] counts = future.get();
+                accounts += counts[0];
+                matched += counts[1];
+                breaks += counts[2];
+            } catch (ExecutionException exception) {
+                if (failure == null)
+                    failure = exception.getCause() instanceof RuntimeException runtime
+                            ? runtime
+                            : new IllegalStateException(exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Reconciliation interrupted");
+            }
+        }
+        // El runId no llega al cliente, por lo que las diferencias ya escritas quedarían huérfanas.
+        if (failure != null) {
+            transactionTemplate.executeWithoutResult(status -> breakRepository.deleteAllByRunId(runId));
+            throw failure;
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        return new ReconciliationResultDto(
+                runId,
+                accounts,
+                matched,
+                breaks,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                elapsedNanos == 0 ? 0 : accounts * 1_000_000_000d / elapsedNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override @Transactional(readOnly = true)
+    public List<ReconciliationBreakDto> findBreaks(@NonNull UUID runId) {
+        Objects.requireNonNull(runId, "Run ID must not be null");
+        return breakRepository
+                .findAllByRunIdOrderByIbanNumber(runId)
+                .stream()
+                .map(reconciliationBreak -> new ReconciliationBreakDto(
+                        reconciliationBreak.getIbanNumber(),
+                        reconciliationBreak.getAccountId(),
+                        toBigDecimal(reconciliationBreak.getStoredBalance()),
+                        toBigDecimal(reconciliationBreak.getStatementBalance()),
+                        reconciliationBreak.getBreakType()))
+                .toList();
+    }
+
+    /**
+     * 1. Cruza las líneas de una partición con las cuentas de su rango de IBAN.
+     * 2. Ambos lados están ordenados por IBAN y se recorren una sola vez.
+     *
+     * @param runId Identificador de la ejecución.
+     * @param partition Líneas del extracto.
+     * @param upTo Último IBAN del rango o null para llegar al final.
+     * @return Cuentas comparadas, coincidentes y diferencias.
+     */
+    private long[] reconcilePartition(UUID runId, Partition partition, String upTo) {
+        return transactionTemplate.execute(status -> {
+            List<ReconciliationBreak> pending = new ArrayList<>(BREAK_BATCH_SIZE);
+            long[] counts = new long[3];
+            try (Stream<AccountReconciliationDto> stored = accountRepository.streamForReconciliation(
+                    partition.after,
+                    upTo)) {
+                Iterator<AccountReconciliationDto> iterator = stored.iterator();
+                AccountReconciliationDto account = iterator.hasNext() ? iterator.next() : null;
+                int i = 0;
+                while (account != null || i < partition.size) {
+                    int order = account == null ? 1 : i == partition.size ? -1 : account.ibanNumber().compareTo(partition.ibans[i]);
+                    ReconciliationBreak found = null;
+                    if (order < 0) {
+                        found = new ReconciliationBreak(runId, account.ibanNumber(), account.accountId(),
+                                account.balance(), null, ReconciliationBreakType.MISSING_IN_STATEMENT);
+                    } else if (order > 0) {
+                        found = new ReconciliationBreak(runId, partition.ibans[i], null,
+                                null, new Money(partition.balances[i]), ReconciliationBreakType.MISSING_IN_LEDGER);
+                    } else if (account.balance().minorUnits() != partition.balances[i]) {
+                        found = new ReconciliationBreak(runId, account.ibanNumber(), account.accountId(),
+                                account.balance(), new Money(partition.balances[i]), ReconciliationBreakType.AMOUNT_MISMATCH);
+                    } else {
+                        counts[1]++;
+                    }
+                    counts[0]++;
+                    if (order <= 0) account = iterator.hasNext() ? iterator.next() : null;
+                    if (order >= 0) i++;
+                    if (found == null) continue;
+                    counts[2]++;
+                    pending.add(found);
+                    if (pending.size() == BREAK_BATCH_SIZE) flush(pending);
+                }
+            }
+            flush(pending);
+            return counts;
+        });
+    }
+
+    /**
+     * Inserta un lote de diferencias y vacía el contexto de persistencia.
+     *
+     * @param pending Diferencias pendientes de insertar.
+     */
+    private void flush(List<ReconciliationBreak> pending) {
+        if (pending.isEmpty()) return;
+        breakRepository.saveAll(pending);
+        entityManager.flush();
+        entityManager.clear();
+        pending.clear();
+    }
+
+    /**
+     * Convierte un importe opcional a decimal.
+     *
+     * @param amount Importe o null.
+     * @return Importe decimal o null.
+     */
+    private static BigDecimal toBigDecimal(Money amount) {
+        return amount == null ? null : amount.toBigDecimal();
+    }
+
+    /**
+     * Partición del extracto con sus IBAN y saldos en arrays paralelos.
+     */
+    private static final class Partition {
+        // IBAN tras el que empieza el rango de la partición.
+        private final String after;
+        // IBAN de las líneas.
+        private final String[] ibans;
+        // Saldos de las líneas en unidades mínimas.
+        private final long[] balances;
+        // Número de líneas de la partición.
+        private int size;
+
+        private Partition(String after, int capacity) {
+            this.after = after;
+            this.ibans = new String[capacity];
+            this.balances = new long[capacity];
+        }
+
+        private void add(String iban, long balance) {
+            ibans[size] = iban;
+            balances[size] = balance;
+            size++;
+        }
+
+        private boolean isFull() {
+            return size == ibans.length;
+        }
+
+        private String last() {
+            return ibans[size - 1];
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.cryfirock.account.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountPostingDto;
+import com.cryfirock.account.dto.JournalEntryRequestDto;
+import com.cryfirock.account.dto.JournalEntryResponseDto;
+import com.cryfirock.account.dto.PostingDto;
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.repository.JpaAccountRepository;
+import com.cryfirock.account.service.api.IJournalService;
+import com.cryfirock.account.service.api.ITransferService;
+import com.cryfirock.account.type.AccountStatus;
+import com.cryfirock.account.type.JournalEntryType;
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. Implementación del servicio de transferencias entre cuentas.
+ * 2. Traduce cada transferencia a un asiento de dos apuntes del diario.
+ * 3. Solo mueve fondos entre cuentas activas de la misma divisa.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class TransferServiceImpl implements ITransferService {
+    // Diario contable que registra la transferencia.
+    private final IJournalService journalService;
+    // Repositorio de acceso a los datos de las cuentas bancarias.
+    private final JpaAccountRepository accountRepository;
+
+    /**
+     * Constructor que inyecta las dependencias del servicio.
+     *
+     * @param journalService Servicio del diario contable.
+     * @param accountRepository Repositorio de cuentas.
+     */
+    public TransferServiceImpl(IJournalService journalService, JpaAccountRepository accountRepository) {
+        this.journalService = journalService;
+        this.accountRepository = accountRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override @Transactional
+    public JournalEntryResponseDto transfer(@NonNull TransferRequestDto request) {
+        return transfer(request, Money.ZERO);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override @Transactional
+    public JournalEntryResponseDto transfer(@NonNull TransferRequestDto request, Money capturedHold) {
+        Objects.requireNonNull(request, "Request must not be null");
+        // Valida las cuentas y el importe de la transferencia.
+        if (request.sourceAccountId() == null
+                || request.targetAccountId() == null
+                || request.sourceAccountId().equals(request.targetAccountId()))
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Source and target accounts must be different");
+        if (request.amount() == null || request.amount().signum() <= 0)
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Amount must be positive");
+        validateAccounts(request.sourceAccountId(), request.targetAccountId());
+        // Registra el cargo en origen y el abono en destino.
+        return journalService.post(
+                new JournalEntryRequestDto(
+                        request.reference(),
+                        JournalEntryType.TRANSFER,
+                        List.of(
+                                new PostingDto(request.sourceAccountId(), request.amount().negate()),
+                                new PostingDto(request.targetAccountId(), request.amount()))),
+                capturedHold == null || capturedHold.isZero()
+                        ? Map.of()
+                        : Map.of(request.sourceAccountId(), capturedHold));
+    }
+
+    /**
+     * 1. Valida que las dos cuentas existan, estén activas y tengan la misma divisa.
+     * 2. Las cuentas suspendidas o cerradas no admiten cargos ni abonos.
+     *
+     * @param sourceAccountId Cuenta de origen.
+     * @param targetAccountId Cuenta de destino.
+     */
+    private void validateAccounts(Long sourceAccountId, Long targetAccountId) {
+        Map<Long, AccountPostingDto> accounts = accountRepository
+                .findPostingAccounts(List.of(sourceAccountId, targetAccountId))
+                .stream()
+                .collect(Collectors.toMap(AccountPostingDto::accountId, Function.identity()));
+        AccountPostingDto source = requireActive(accounts, sourceAccountId);
+        AccountPostingDto target = requireActive(accounts, targetAccountId);
+        if (!source.currencyCode().equals(target.currencyCode()))
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Source and target accounts must share one currency");
+    }
+
+    /**
+     * Obtiene una cuenta del movimiento y comprueba que esté activa.
+     *
+     * @param accounts Cuentas del movimiento por identificador.
+     * @param accountId Identificador de la cuenta.
+     * @return Datos de la cuenta.
+     */
+    private static AccountPostingDto requireActive(Map<Long, AccountPostingDto> accounts, Long accountId) {
+        AccountPostingDto account = accounts.get(accountId);
+        if (account == null)
+            throw new ResponseStatusException(
+                    HttpStatus.NOT_FOUND,
+                    "Account " + accountId + " not found");
+        if (account.status() != AccountStatus.ACTIVE)
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "Account " + accountId + " is not active");
+        return account;
+    }
+}
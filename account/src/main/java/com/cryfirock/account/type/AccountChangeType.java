@@ -0,0 +1,16 @@
+package com.cryfirock.account.type;
+
+/**
+ * 1. Enum que representa el tipo de cambio de una cuenta publicado en el feed de cambios.
+ * 2. Los consumidores vuelven a leer la cuenta para conocer su estado actual.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum AccountChangeType {
+    CREATED, // Cuenta creada.
+    UPDATED, // Datos de la cuenta modificados.
+    DELETED, // Cuenta eliminada.
+    RELATIONS_CHANGED // Usuarios o productos vinculados a la cuenta modificados.
+}
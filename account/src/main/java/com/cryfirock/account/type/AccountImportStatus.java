@@ -0,0 +1,15 @@
+package com.cryfirock.account.type;
+
+/**
+ * 1. Enum que representa el resultado de una línea de una importación de cuentas.
+ * 2. Permite al cliente saber qué líneas debe corregir o reenviar.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum AccountImportStatus {
+    CREATED, // La cuenta se ha creado con sus relaciones.
+    INVALID, // La línea no es válida y no se ha intentado guardar.
+    FAILED // La línea era válida pero su bloque no se pudo guardar.
+}
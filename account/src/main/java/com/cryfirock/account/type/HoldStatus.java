@@ -0,0 +1,16 @@
+package com.cryfirock.account.type;
+
+/**
+ * 1. Enum que representa el estado de una retención de fondos.
+ * 2. Solo las retenciones activas reducen el saldo disponible de la cuenta.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum HoldStatus {
+    ACTIVE, // Retención vigente que reserva su importe.
+    CAPTURED, // Retención cobrada total o parcialmente mediante una transferencia.
+    RELEASED, // Retención liberada antes de vencer.
+    EXPIRED // Retención liberada al vencer su plazo.
+}
@@ -0,0 +1,16 @@
+package com.cryfirock.account.type;
+
+/**
+ * 1. Enum que representa el tipo de un asiento del diario contable.
+ * 2. Determina las reglas de validación que se aplican a sus apuntes.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum JournalEntryType {
+    OPENING, // Saldo de apertura de una cuenta con un único apunte.
+    TRANSFER, // Movimiento entre cuentas cuyos apuntes suman cero.
+    ADJUSTMENT, // Ajuste entre cuentas cuyos apuntes suman cero.
+    INTEREST // Devengo diario de intereses desde la cuenta de devengo cuyos apuntes suman cero.
+}
@@ -0,0 +1,125 @@
+package com.cryfirock.account.type;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 1. Importe monetario en coma fija guardado como un long de unidades mínimas.
+ * 2. Una unidad mínima es una diezmilésima, la misma escala que las columnas de saldo.
+ * 3. Las sumas y restas detectan el desbordamiento en lugar de dar la vuelta.
+ * 4. Los métodos estáticos sobre long permiten acumular importes sin crear objetos.
+ * 5. Solo se convierte a BigDecimal al leer o escribir JSON y columnas numéricas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+    // Número de decimales de un importe.
+    public static final int SCALE = 4;
+    // Importe cero.
+    public static final Money ZERO = new Money(0L);
+
+    /**
+     * 1. Convierte un BigDecimal en un importe.
+     * 2. Falla si tiene más decimales que la escala o no cabe en un long.
+     *
+     * @param amount Importe decimal.
+     * @return Importe en unidades mínimas.
+     * @throws IllegalArgumentException Si el importe no se puede representar.
+     */
+    public static Money of(BigDecimal amount) {
+        try {
+            return new Money(amount
+                    .setScale(SCALE, RoundingMode.UNNECESSARY)
+                    .unscaledValue()
+                    .longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                    "Amount " + amount.toPlainString() + " does not fit in " + SCALE + " decimals",
+                    e);
+        }
+    }
+
+    /**
+     * Suma dos importes en unidades mínimas sin crear objetos.
+     *
+     * @param left Primer importe.
+     * @param right Segundo importe.
+     * @return Suma de los importes.
+     * @throws ArithmeticException Si la suma desborda.
+     */
+    public static long add(long left, long right) {
+        return Math.addExact(left, right);
+    }
+
+    /**
+     * Resta dos importes en unidades mínimas sin crear objetos.
+     *
+     * @param left Minuendo.
+     * @param right Sustraendo.
+     * @return Diferencia de los importes.
+     * @throws ArithmeticException Si la resta desborda.
+     */
+    public static long subtract(long left, long right) {
+        return Math.subtractExact(left, right);
+    }
+
+    /**
+     * Suma otro importe a este.
+     *
+     * @param other Importe a sumar.
+     * @return Suma de los importes.
+     */
+    public Money plus(Money other) {
+        return other.minorUnits == 0 ? this : new Money(add(minorUnits, other.minorUnits));
+    }
+
+    /**
+     * Resta otro importe a este.
+     *
+     * @param other Importe a restar.
+     * @return Diferencia de los importes.
+     */
+    public Money minus(Money other) {
+        return other.minorUnits == 0 ? this : new Money(subtract(minorUnits, other.minorUnits));
+    }
+
+    /**
+     * @return Importe con el signo contrario.
+     */
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits));
+    }
+
+    /**
+     * @return -1, 0 o 1 según el signo del importe.
+     */
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    /**
+     * @return true si el importe es cero.
+     */
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    /**
+     * @return Importe como BigDecimal con la escala de la moneda.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.cryfirock.account.type;
+
+/**
+ * 1. Enum que representa el tipo de una diferencia de conciliación.
+ * 2. Compara el saldo guardado de cada cuenta con el del extracto externo.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum ReconciliationBreakType {
+    AMOUNT_MISMATCH, // La cuenta está en ambos lados con saldos distintos.
+    MISSING_IN_STATEMENT, // La cuenta existe pero el extracto no la incluye.
+    MISSING_IN_LEDGER // El extracto incluye un IBAN que no existe.
+}
@@ -0,0 +1,139 @@
+package com.cryfirock.account.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 1. Filtro de Bloom de textos sobre un array de bits compartido entre hilos.
+ * 2. Si responde que un texto no está, no está; si responde que sí, puede ser un falso positivo.
+ * 3. Se dimensiona a partir del número esperado de textos y la tasa de falsos positivos.
+ * 4. Cada texto se resume en un hash de 64 bits del que se derivan todas las posiciones.
+ * 5. Las inserciones y consultas no reservan memoria ni usan cerrojos.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class BloomFilter {
+    // Número máximo de funciones hash.
+    private static final int MAX_HASH_FUNCTIONS = 16;
+    // Cabecera aproximada de un array en la JVM.
+    private static final long ARRAY_HEADER_BYTES = 16;
+
+    // Bits del filtro agrupados en palabras de 64.
+    private final AtomicLongArray words;
+    // Número de bits del filtro.
+    private final long bitSize;
+    // Número de posiciones que marca cada texto.
+    private final int hashFunctions;
+
+    /**
+     * 1. Constructor que dimensiona el filtro.
+     * 2. Bits = -n ln p / (ln 2)^2 y funciones hash = bits / n ln 2.
+     *
+     * @param expectedInsertions Número esperado de textos.
+     * @param falsePositiveRate Tasa de falsos positivos aceptada, entre 0 y 1.
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1)
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        long bits = (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount << 6;
+        this.hashFunctions = (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS,
+                Math.round((double) bitSize / expectedInsertions * Math.log(2))));
+    }
+
+    /**
+     * Marca las posiciones de un texto.
+     *
+     * @param value Texto a añadir.
+     */
+    public void put(CharSequence value) {
+        long hash = hash(value);
+        long hash1 = hash;
+        long hash2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            // Solo se escribe si el bit no estaba marcado.
+            long word;
+            while (((word = words.get(index)) & mask) == 0
+                    && !words.compareAndSet(index, word, word | mask)) {
+            }
+        }
+    }
+
+    /**
+     * Indica si un texto puede estar en el filtro.
+     *
+     * @param value Texto a consultar.
+     * @return false si el texto seguro que no está.
+     */
+    public boolean mightContain(CharSequence value) {
+        long hash = hash(value);
+        long hash1 = hash;
+        long hash2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Número de bits del filtro.
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * @return Número de posiciones que marca cada texto.
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * @return Memoria aproximada ocupada por los bits en bytes.
+     */
+    public long memoryBytes() {
+        return ARRAY_HEADER_BYTES + (bitSize >>> 3);
+    }
+
+    /**
+     * 1. Resume un texto en 64 bits con FNV-1a sobre sus caracteres.
+     * 2. El resultado se mezcla para repartir los bits de forma uniforme.
+     *
+     * @param value Texto.
+     * @return Hash de 64 bits.
+     */
+    private static long hash(CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Mezcla final de MurmurHash3 para 64 bits.
+     *
+     * @param hash Valor a mezclar.
+     * @return Valor mezclado.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
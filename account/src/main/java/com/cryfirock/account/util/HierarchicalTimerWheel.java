@@ -0,0 +1,153 @@
+package com.cryfirock.account.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 1. Rueda de temporizadores jerárquica para vencer elementos por plazo.
+ * 2. Cada nivel tiene un número fijo de casillas de un tick de duración.
+ * 3. Los plazos que no caben en un nivel pasan al siguiente, con ticks más largos.
+ * 4. Añadir un elemento y avanzar un tick cuestan O(1) sin importar cuántos haya.
+ * 5. El tiempo lo aporta quien la usa, lo que permite probarla sin esperas.
+ * 6. Es segura entre hilos, todos los métodos públicos se sincronizan.
+ * 7. Los elementos vencidos se entregan tras soltar el monitor, el consumidor puede bloquearse sin parar la rueda.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HierarchicalTimerWheel<T> {
+    // Nivel inferior de la rueda, con la resolución más fina.
+    private final Level<T> root;
+    // Número de elementos pendientes en todos los niveles.
+    private int size;
+
+    /**
+     * Constructor de la rueda.
+     *
+     * @param tickMillis Duración de un tick del nivel inferior en milisegundos.
+     * @param wheelSize Número de casillas de cada nivel.
+     * @param startMillis Instante inicial en milisegundos.
+     */
+    public HierarchicalTimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1) throw new IllegalArgumentException("Tick must be positive");
+        if (wheelSize < 2) throw new IllegalArgumentException("Wheel size must be at least 2");
+        this.root = new Level<>(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * 1. Programa un elemento para que venza en un instante.
+     * 2. Si el plazo ya ha pasado se entrega al momento al consumidor.
+     *
+     * @param deadlineMillis Instante de vencimiento en milisegundos.
+     * @param item Elemento a programar.
+     * @param expired Consumidor que recibe el elemento si ya ha vencido.
+     */
+    public void schedule(long deadlineMillis, T item, Consumer<T> expired) {
+        List<T> due = new ArrayList<>(1);
+        synchronized (this) {
+            size++;
+            root.add(new Entry<>(deadlineMillis, item), entry -> {
+                size--;
+                due.add(entry.item());
+            });
+        }
+        due.forEach(expired);
+    }
+
+    /**
+     * 1. Avanza la rueda hasta un instante y entrega los elementos vencidos.
+     * 2. Los elementos vencen con la resolución de un tick del nivel inferior.
+     *
+     * @param nowMillis Instante actual en milisegundos.
+     * @param expired Consumidor que recibe cada elemento vencido.
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        List<T> due = new ArrayList<>();
+        synchronized (this) {
+            root.advance(nowMillis, entry -> {
+                size--;
+                due.add(entry.item());
+            });
+        }
+        due.forEach(expired);
+    }
+
+    /**
+     * @return Número de elementos pendientes.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Elemento programado con su plazo.
+     *
+     * @param deadline Instante de vencimiento en milisegundos.
+     * @param item Elemento programado.
+     */
+    private record Entry<T>(long deadline, T item) {
+    }
+
+    /**
+     * Nivel de la rueda con sus casillas y el nivel superior que recoge los plazos largos.
+     */
+    private static final class Level<T> {
+        // Duración de un tick del nivel.
+        private final long tick;
+        // Tiempo que cubre el nivel completo.
+        private final long interval;
+        // Casillas del nivel.
+        private final ArrayDeque<Entry<T>>[] buckets;
+        // Inicio del tick actual, múltiplo de tick.
+        private long currentTime;
+        // Nivel superior, se crea cuando hace falta.
+        private Level<T> overflow;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tick, int wheelSize, long startMillis) {
+            this.tick = tick;
+            this.interval = Math.multiplyExact(tick, wheelSize);
+            this.buckets = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) buckets[i] = new ArrayDeque<>();
+            this.currentTime = startMillis - Math.floorMod(startMillis, tick);
+        }
+
+        /**
+         * Coloca un elemento en la casilla que le corresponde o en el nivel superior.
+         *
+         * @param entry Elemento a colocar.
+         * @param expired Consumidor que recibe el elemento si ya ha vencido.
+         */
+        private void add(Entry<T> entry, Consumer<Entry<T>> expired) {
+            if (entry.deadline() < currentTime + tick) {
+                expired.accept(entry);
+            } else if (entry.deadline() < currentTime + interval) {
+                buckets[(int) Math.floorMod(entry.deadline() / tick, (long) buckets.length)].add(entry);
+            } else {
+                if (overflow == null) overflow = new Level<>(interval, buckets.length, currentTime);
+                overflow.add(entry, expired);
+            }
+        }
+
+        /**
+         * 1. Avanza tick a tick hasta el instante indicado.
+         * 2. En cada tick vence los elementos de su casilla.
+         * 3. El nivel superior devuelve a este nivel los elementos que ya caben en él.
+         *
+         * @param nowMillis Instante actual en milisegundos.
+         * @param expired Consumidor que recibe cada elemento vencido.
+         */
+        private void advance(long nowMillis, Consumer<Entry<T>> expired) {
+            while (currentTime + tick <= nowMillis) {
+                currentTime += tick;
+                // Baja los elementos del nivel superior cuyo tick acaba de empezar.
+                if (overflow != null) overflow.advance(currentTime, entry -> add(entry, expired));
+                ArrayDeque<Entry<T>> bucket = buckets[(int) Math.floorMod(currentTime / tick, (long) buckets.length)];
+                for (int i = bucket.size(); i > 0; i--) add(bucket.poll(), expired);
+            }
+        }
+    }
+}
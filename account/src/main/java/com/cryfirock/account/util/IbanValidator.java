@@ -0,0 +1,65 @@
+package com.cryfirock.account.util;
+
+/**
+ * 1. Validador de IBAN según ISO 13616 en formato electrónico, sin espacios y en mayúsculas.
+ * 2. Comprueba el país, los dígitos de control y la longitud entre 15 y 34 caracteres.
+ * 3. Calcula el módulo 97 de ISO 7064 carácter a carácter sin crear objetos.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class IbanValidator {
+    // 1. Longitud mínima de un IBAN, la del IBAN noruego.
+    // 2. Longitud máxima de un IBAN.
+    public static final int MIN_LENGTH = 15;
+    public static final int MAX_LENGTH = 34;
+    // Resto que debe dar un IBAN válido.
+    private static final int VALID_REMAINDER = 1;
+
+    // Clase de utilidades sin instancias.
+    private IbanValidator() {
+    }
+
+    /**
+     * 1. Indica si el texto es un IBAN con formato y dígitos de control válidos.
+     * 2. Las dos letras del país y los dígitos de control se procesan al final.
+     * 3. Cada letra cuenta como dos dígitos, de A = 10 a Z = 35.
+     *
+     * @param iban IBAN a validar, puede ser null.
+     * @return true si el IBAN es válido.
+     */
+    public static boolean isValid(CharSequence iban) {
+        if (iban == null) return false;
+        int length = iban.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) return false;
+        // País en dos letras y dígitos de control en dos cifras.
+        if (!isLetter(iban.charAt(0)) || !isLetter(iban.charAt(1))) return false;
+        if (!isDigit(iban.charAt(2)) || !isDigit(iban.charAt(3))) return false;
+        // Recorre el IBAN desde el quinto carácter y termina con los cuatro primeros.
+        int remainder = 0;
+        for (int i = 0; i < length; i++) {
+            char c = iban.charAt((i + 4) % length);
+            if (isDigit(c)) remainder = (remainder * 10 + (c - '0')) % 97;
+            else if (isLetter(c)) remainder = (remainder * 100 + (c - 'A' + 10)) % 97;
+            else return false;
+        }
+        return remainder == VALID_REMAINDER;
+    }
+
+    /**
+     * @param c Carácter.
+     * @return true si es una letra mayúscula ASCII.
+     */
+    private static boolean isLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /**
+     * @param c Carácter.
+     * @return true si es un dígito ASCII.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,338 @@
+package com.cryfirock.account.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * 1. Multimapa de claves long a conjuntos de valores long sin objetos envoltorio.
+ * 2. Las claves se guardan con direccionamiento abierto y sondeo lineal.
+ * 3. Cada clave apunta a un array long[] que crece al doble cuando se llena.
+ * 4. Las consultas de pertenencia y recorrido no reservan memoria.
+ * 5. No es seguro entre hilos, quien lo usa debe sincronizar el acceso.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class LongArrayMultimap {
+    // Capacidad inicial de la tabla de claves.
+    private static final int DEFAULT_CAPACITY = 16;
+    // Capacidad inicial del array de valores de una clave.
+    private static final int INITIAL_VALUES_CAPACITY = 2;
+    // Factor de carga máximo antes de duplicar la tabla.
+    private static final float LOAD_FACTOR = 0.5f;
+    // Cabecera aproximada de un array en la JVM.
+    private static final long ARRAY_HEADER_BYTES = 16;
+    // Tamaño aproximado de una referencia en la JVM.
+    private static final long REFERENCE_BYTES = 4;
+
+    // Claves de la tabla, una posición es válida si su array de valores no es null.
+    private long[] keys;
+    // Valores de cada clave.
+    private long[][] values;
+    // Número de valores usados en cada array de valores.
+    private int[] sizes;
+    // Máscara para convertir el hash en una posición de la tabla.
+    private int mask;
+    // Número de claves en la tabla.
+    private int keyCount;
+    // Número total de valores en la tabla.
+    private long valueCount;
+
+    /**
+     * Constructor con la capacidad inicial por defecto.
+     */
+    public LongArrayMultimap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor con el número esperado de claves.
+     *
+     * @param expectedKeys Número esperado de claves.
+     */
+    public LongArrayMultimap(int expectedKeys) {
+        allocate(tableSizeFor(expectedKeys));
+    }
+
+    /**
+     * Añade un valor a una clave si no estaba.
+     *
+     * @param key Clave.
+     * @param value Valor.
+     * @return true si el valor se ha añadido.
+     */
+    public boolean put(long key, long value) {
+        int slot = findSlot(key);
+        // La clave no existe y se crea con el primer valor.
+        if (values[slot] == null) {
+            keys[slot] = key;
+            values[slot] = new long[INITIAL_VALUES_CAPACITY];
+            values[slot][0] = value;
+            sizes[slot] = 1;
+            valueCount++;
+            if (++keyCount > (mask + 1) * LOAD_FACTOR) rehash((mask + 1) << 1);
+            return true;
+        }
+        // Si el valor ya existe no se duplica.
+        if (indexOf(slot, value) >= 0) return false;
+        // Duplica el array de valores si está lleno.
+        if (sizes[slot] == values[slot].length)
+            values[slot] = Arrays.copyOf(values[slot], values[slot].length << 1);
+        values[slot][sizes[slot]++] = value;
+        valueCount++;
+        return true;
+    }
+
+    /**
+     * 1. Elimina un valor de una clave.
+     * 2. Si la clave se queda sin valores se elimina de la tabla.
+     *
+     * @param key Clave.
+     * @param value Valor.
+     * @return true si el valor existía.
+     */
+    public boolean remove(long key, long value) {
+        int slot = findSlot(key);
+        if (values[slot] == null) return false;
+        int index = indexOf(slot, value);
+        if (index < 0) return false;
+        removeAt(slot, index);
+        return true;
+    }
+
+    /**
+     * 1. Elimina un valor de todas las claves que lo contienen.
+     * 2. Recorre la tabla completa, pensado para operaciones poco frecuentes.
+     *
+     * @param value Valor a eliminar.
+     * @return Número de claves de las que se ha eliminado.
+     */
+    public int removeValue(long value) {
+        int removed = 0;
+        int slot = 0;
+        while (slot <= mask) {
+            int index = values[slot] == null ? -1 : indexOf(slot, value);
+            if (index < 0) {
+                slot++;
+                continue;
+            }
+            removed++;
+            // Si la clave se elimina otra puede desplazarse a esta posición y se revisa.
+            if (!removeAt(slot, index)) slot++;
+        }
+        return removed;
+    }
+
+    /**
+     * Indica si una clave contiene un valor.
+     *
+     * @param key Clave.
+     * @param value Valor.
+     * @return true si la clave contiene el valor.
+     */
+    public boolean contains(long key, long value) {
+        int slot = findSlot(key);
+        return values[slot] != null && indexOf(slot, value) >= 0;
+    }
+
+    /**
+     * Número de valores de una clave.
+     *
+     * @param key Clave.
+     * @return Número de valores, 0 si la clave no existe.
+     */
+    public int count(long key) {
+        int slot = findSlot(key);
+        return values[slot] == null ? 0 : sizes[slot];
+    }
+
+    /**
+     * Recorre los valores de una clave en orden de inserción.
+     *
+     * @param key Clave.
+     * @param consumer Función que recibe cada valor.
+     */
+    public void forEach(long key, LongConsumer consumer) {
+        int slot = findSlot(key);
+        long[] slotValues = values[slot];
+        if (slotValues == null) return;
+        for (int i = 0, size = sizes[slot]; i < size; i++) consumer.accept(slotValues[i]);
+    }
+
+    /**
+     * Copia los valores de una clave en un array nuevo.
+     *
+     * @param key Clave.
+     * @return Valores de la clave, vacío si la clave no existe.
+     */
+    public long[] get(long key) {
+        int slot = findSlot(key);
+        return values[slot] == null ? new long[0] : Arrays.copyOf(values[slot], sizes[slot]);
+    }
+
+    /**
+     * Elimina todas las claves y valores.
+     */
+    public void clear() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return Número de claves.
+     */
+    public int keyCount() {
+        return keyCount;
+    }
+
+    /**
+     * @return Número total de valores.
+     */
+    public long valueCount() {
+        return valueCount;
+    }
+
+    /**
+     * 1. Estima la memoria ocupada por la tabla en bytes.
+     * 2. Cuenta las cabeceras de los arrays y la capacidad reservada, no solo la usada.
+     *
+     * @return Bytes aproximados ocupados.
+     */
+    public long memoryBytes() {
+        long capacity = mask + 1L;
+        long bytes = 3 * ARRAY_HEADER_BYTES
+                + capacity * Long.BYTES
+                + capacity * REFERENCE_BYTES
+                + capacity * Integer.BYTES;
+        for (long[] slotValues : values)
+            if (slotValues != null) bytes += ARRAY_HEADER_BYTES + (long) slotValues.length * Long.BYTES;
+        return bytes;
+    }
+
+    /**
+     * Busca la posición de una clave o la primera posición libre de su secuencia de sondeo.
+     *
+     * @param key Clave.
+     * @return Posición en la tabla.
+     */
+    private int findSlot(long key) {
+        int slot = hash(key) & mask;
+        while (values[slot] != null && keys[slot] != key) slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /**
+     * Busca un valor dentro de los valores de una posición.
+     *
+     * @param slot Posición en la tabla.
+     * @param value Valor.
+     * @return Índice del valor o -1 si no existe.
+     */
+    private int indexOf(int slot, long value) {
+        long[] slotValues = values[slot];
+        for (int i = 0, size = sizes[slot]; i < size; i++)
+            if (slotValues[i] == value) return i;
+        return -1;
+    }
+
+    /**
+     * 1. Elimina el valor de un índice moviendo el último a su lugar.
+     * 2. Si la clave se queda vacía se elimina desplazando las claves siguientes.
+     *
+     * @param slot Posición en la tabla.
+     * @param index Índice del valor.
+     * @return true si se ha eliminado la clave.
+     */
+    private boolean removeAt(int slot, int index) {
+        long[] slotValues = values[slot];
+        slotValues[index] = slotValues[--sizes[slot]];
+        valueCount--;
+        if (sizes[slot] > 0) return false;
+        deleteSlot(slot);
+        return true;
+    }
+
+    /**
+     * Elimina una clave y recoloca las siguientes para no romper las secuencias de sondeo.
+     *
+     * @param slot Posición a liberar.
+     */
+    private void deleteSlot(int slot) {
+        keyCount--;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (values[next] != null) {
+            int home = hash(keys[next]) & mask;
+            // Mueve la clave si su posición natural no está entre el hueco y su posición.
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                sizes[gap] = sizes[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[gap] = null;
+        sizes[gap] = 0;
+    }
+
+    /**
+     * Duplica la tabla y recoloca todas las claves.
+     *
+     * @param capacity Nueva capacidad.
+     */
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[][] oldValues = values;
+        int[] oldSizes = sizes;
+        int oldKeyCount = keyCount;
+        long oldValueCount = valueCount;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == null) continue;
+            int slot = findSlot(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+            sizes[slot] = oldSizes[i];
+        }
+        keyCount = oldKeyCount;
+        valueCount = oldValueCount;
+    }
+
+    /**
+     * Reserva una tabla vacía.
+     *
+     * @param capacity Capacidad, potencia de dos.
+     */
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity][];
+        sizes = new int[capacity];
+        mask = capacity - 1;
+        keyCount = 0;
+        valueCount = 0;
+    }
+
+    /**
+     * Dispersa los bits de la clave para que ids consecutivos no se agrupen.
+     *
+     * @param key Clave.
+     * @return Hash de la clave.
+     */
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Calcula la capacidad de la tabla para un número de claves.
+     *
+     * @param expectedKeys Número esperado de claves.
+     * @return Potencia de dos que respeta el factor de carga.
+     */
+    private static int tableSizeFor(int expectedKeys) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedKeys) capacity <<= 1;
+        return capacity;
+    }
+}
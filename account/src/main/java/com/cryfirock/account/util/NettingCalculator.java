@@ -0,0 +1,230 @@
+package com.cryfirock.account.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import com.cryfirock.account.type.Money;
+
+/**
+ * 1. Calculadora de posiciones netas multilaterales y de sus instrucciones de liquidación.
+ * 2. Las obligaciones llegan en bloques de arrays primitivos que se reducen en paralelo.
+ * 3. Cada bloque se divide con fork/join hasta un umbral y los parciales se suman.
+ * 4. Las instrucciones casan deudores y acreedores de mayor a menor importe.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class NettingCalculator {
+    // Número de obligaciones por debajo del cual un bloque se suma sin dividirlo.
+    private static final int SPLIT_THRESHOLD = 4_096;
+    // Pool de fork/join que reduce los bloques.
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor de la calculadora.
+     *
+     * @param pool Pool de fork/join que reduce los bloques.
+     */
+    public NettingCalculator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Envía un bloque completo al pool para calcular sus posiciones parciales.
+     *
+     * @param chunk Bloque de obligaciones.
+     * @return Tarea con las posiciones parciales del bloque.
+     */
+    public ForkJoinTask<Map<Position, Long>> submit(Chunk chunk) {
+        return pool.submit(new NetTask(chunk, 0, chunk.size));
+    }
+
+    /**
+     * @return Número de hilos del pool que reduce los bloques.
+     */
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Suma a un acumulado las posiciones parciales de un bloque.
+     *
+     * @param total Posiciones acumuladas.
+     * @param partial Posiciones parciales.
+     */
+    public static void merge(Map<Position, Long> total, Map<Position, Long> partial) {
+        partial.forEach((position, amount) -> total.merge(position, amount, Money::add));
+    }
+
+    /**
+     * 1. Calcula las instrucciones de liquidación de unas posiciones netas.
+     * 2. En cada divisa casa el mayor deudor con el mayor acreedor hasta saldar uno de los dos.
+     * 3. Cada instrucción salda al menos una posición, con n participantes hay como mucho n - 1.
+     * 4. Si las posiciones de una divisa no suman cero el resto queda sin instrucción.
+     *
+     * @param positions Posiciones netas, negativas las que deben pagar.
+     * @return Instrucciones ordenadas por divisa.
+     */
+    public static List<Instruction> settle(Map<Position, Long> positions) {
+        Map<String, List<long[]>> payers = new TreeMap<>();
+        Map<String, List<long[]>> payees = new TreeMap<>();
+        positions.forEach((position, amount) -> {
+            if (amount < 0)
+                payers.computeIfAbsent(position.currencyCode(), key -> new ArrayList<>())
+                        .add(new long[] { position.participantId(), -amount });
+            else if (amount > 0)
+                payees.computeIfAbsent(position.currencyCode(), key -> new ArrayList<>())
+                        .add(new long[] { position.participantId(), amount });
+        });
+        List<Instruction> instructions = new ArrayList<>();
+        Comparator<long[]> largestFirst = Comparator.<long[]>comparingLong(entry -> entry[1])
+                .reversed()
+                .thenComparingLong(entry -> entry[0]);
+        payers.forEach((currencyCode, debtors) -> {
+            List<long[]> creditors = payees.getOrDefault(currencyCode, List.of());
+            debtors.sort(largestFirst);
+            creditors.sort(largestFirst);
+            int i = 0;
+            int j = 0;
+            while (i < debtors.size() && j < creditors.size()) {
+                long[] debtor = debtors.get(i);
+                long[] creditor = creditors.get(j);
+                long amount = Math.min(debtor[1], creditor[1]);
+                instructions.add(new Instruction(currencyCode, debtor[0], creditor[0], amount));
+                debtor[1] -= amount;
+                creditor[1] -= amount;
+                if (debtor[1] == 0) i++;
+                if (creditor[1] == 0) j++;
+            }
+        });
+        return instructions;
+    }
+
+    /**
+     * Posición de un participante en una divisa.
+     *
+     * @param participantId Identificador del participante.
+     * @param currencyCode Código de la divisa.
+     */
+    public record Position(long participantId, String currencyCode) {
+    }
+
+    /**
+     * Instrucción de pago entre dos participantes.
+     *
+     * @param currencyCode Código de la divisa.
+     * @param payerId Participante que paga.
+     * @param payeeId Participante que cobra.
+     * @param minorUnits Importe en unidades mínimas.
+     */
+    public record Instruction(String currencyCode, long payerId, long payeeId, long minorUnits) {
+    }
+
+    /**
+     * 1. Bloque de obligaciones guardado en arrays paralelos.
+     * 2. Las divisas se guardan como referencias a cadenas ya existentes.
+     */
+    public static final class Chunk {
+        // Participantes de las obligaciones.
+        private final long[] participants;
+        // Divisas de las obligaciones.
+        private final String[] currencies;
+        // Importes con signo en unidades mínimas.
+        private final long[] amounts;
+        // Número de obligaciones del bloque.
+        private int size;
+
+        /**
+         * Constructor del bloque.
+         *
+         * @param capacity Número máximo de obligaciones.
+         */
+        public Chunk(int capacity) {
+            this.participants = new long[capacity];
+            this.currencies = new String[capacity];
+            this.amounts = new long[capacity];
+        }
+
+        /**
+         * Añade una obligación al bloque.
+         *
+         * @param participantId Identificador del participante.
+         * @param currencyCode Código de la divisa.
+         * @param minorUnits Importe con signo en unidades mínimas.
+         */
+        public void add(long participantId, String currencyCode, long minorUnits) {
+            participants[size] = participantId;
+            currencies[size] = currencyCode;
+            amounts[size] = minorUnits;
+            size++;
+        }
+
+        /**
+         * @return true si el bloque no admite más obligaciones.
+         */
+        public boolean isFull() {
+            return size == participants.length;
+        }
+
+        /**
+         * @return Número de obligaciones del bloque.
+         */
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * 1. Tarea que suma un rango de un bloque dividiéndolo en mitades.
+     * 2. Suelta el bloque al terminar para que una tarea pendiente de unir no lo retenga.
+     */
+    private static final class NetTask extends RecursiveTask<Map<Position, Long>> {
+        // Bloque de obligaciones, null cuando la tarea ha terminado.
+        private Chunk chunk;
+        // Inicio del rango, incluido.
+        private final int from;
+        // Fin del rango, excluido.
+        private final int to;
+
+        private NetTask(Chunk chunk, int from, int to) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Position, Long> compute() {
+            try {
+                return sum();
+            } finally {
+                chunk = null;
+            }
+        }
+
+        private Map<Position, Long> sum() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                Map<Position, Long> positions = new HashMap<>();
+                for (int i = from; i < to; i++)
+                    positions.merge(
+                            new Position(chunk.participants[i], chunk.currencies[i]),
+                            chunk.amounts[i],
+                            Money::add);
+                return positions;
+            }
+            int middle = (from + to) >>> 1;
+            NetTask left = new NetTask(chunk, from, middle);
+            left.fork();
+            Map<Position, Long> positions = new NetTask(chunk, middle, to).compute();
+            merge(positions, left.join());
+            return positions;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.cryfirock.account.fixture;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.cryfirock.account.dto.AccountRequestDto;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.type.AccountAssets;
+import com.cryfirock.account.type.AccountNature;
+import com.cryfirock.account.type.AccountOperational;
+import com.cryfirock.account.type.AccountStatus;
+
+/**
+ * 1. Datos de prueba compartidos para crear cuentas en los tests de integración.
+ * 2. Por defecto la cuenta es de cliente, fiduciaria, en euros, disponible, activa y con saldo cero.
+ * 3. Cada test cambia solo los campos que le importan.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class AccountTestFixtures {
+
+    private AccountTestFixtures() {
+    }
+
+    /**
+     * Empieza la petición de una cuenta con los valores por defecto.
+     *
+     * @param iban IBAN de la cuenta.
+     * @return Constructor de la petición.
+     */
+    public static AccountBuilder account(String iban) {
+        return new AccountBuilder(iban);
+    }
+
+    /**
+     * Comprueba el saldo de una cuenta incluyendo sus fracciones.
+     *
+     * @param accountService Servicio de cuentas.
+     * @param expected Saldo esperado.
+     * @param accountId Identificador de la cuenta.
+     */
+    public static void assertBalance(IAccountService accountService, String expected, Long accountId) {
+        assertBalance(accountService, new BigDecimal(expected), accountId);
+    }
+
+    /**
+     * Comprueba el saldo de una cuenta incluyendo sus fracciones.
+     *
+     * @param accountService Servicio de cuentas.
+     * @param expected Saldo esperado.
+     * @param accountId Identificador de la cuenta.
+     */
+    public static void assertBalance(IAccountService accountService, BigDecimal expected, Long accountId) {
+        BigDecimal actual = accountService.findById(accountId).balance();
+        assertEquals(0, expected.compareTo(actual), "Balance of " + accountId + ": " + actual);
+    }
+
+    /**
+     * Constructor de la petición de una cuenta de prueba.
+     */
+    public static final class AccountBuilder {
+        // IBAN de la cuenta.
+        private final String iban;
+        // Titular principal de la cuenta.
+        private Long ownerId = 1L;
+        // Clase de activo de la cuenta.
+        private AccountAssets assets = AccountAssets.FIAT;
+        // Código de la divisa.
+        private String currencyCode = "EUR";
+        // Saldo de apertura, null para no cambiarlo al actualizar.
+        private BigDecimal balance = BigDecimal.ZERO;
+        // Finalidad de la cuenta.
+        private AccountNature nature = AccountNature.CUSTOMER;
+        // Semántica de la cuenta.
+        private AccountOperational operational = AccountOperational.AVAILABLE;
+        // Estado de la cuenta.
+        private AccountStatus status = AccountStatus.ACTIVE;
+        // Usuarios y productos asociados a la cuenta, null para no cambiarlos.
+        private List<Long> userIds;
+        private List<Long> productIds;
+
+        private AccountBuilder(String iban) {
+            this.iban = iban;
+        }
+
+        public AccountBuilder owner(Long ownerId) {
+            this.ownerId = ownerId;
+            return this;
+        }
+
+        public AccountBuilder assets(AccountAssets assets) {
+            this.assets = assets;
+            return this;
+        }
+
+        public AccountBuilder currency(String currencyCode) {
+            this.currencyCode = currencyCode;
+            return this;
+        }
+
+        public AccountBuilder balance(String balance) {
+            this.balance = balance == null ? null : new BigDecimal(balance);
+            return this;
+        }
+
+        public AccountBuilder nature(AccountNature nature) {
+            this.nature = nature;
+            return this;
+        }
+
+        public AccountBuilder operational(AccountOperational operational) {
+            this.operational = operational;
+            return this;
+        }
+
+        public AccountBuilder status(AccountStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public AccountBuilder users(List<Long> userIds) {
+            this.userIds = userIds;
+            return this;
+        }
+
+        public AccountBuilder products(List<Long> productIds) {
+            this.productIds = productIds;
+            return this;
+        }
+
+        /**
+         * @return Petición de la cuenta.
+         */
+        public AccountRequestDto build() {
+            return new AccountRequestDto(
+                    ownerId,
+                    assets,
+                    currencyCode,
+                    iban,
+                    balance,
+                    nature,
+                    operational,
+                    status,
+                    userIds,
+                    productIds);
+        }
+
+        /**
+         * Crea la cuenta con el servicio de cuentas.
+         *
+         * @param accountService Servicio de cuentas.
+         * @return Identificador de la cuenta creada.
+         */
+        public Long create(IAccountService accountService) {
+            return accountService.create(build()).id();
+        }
+    }
+}
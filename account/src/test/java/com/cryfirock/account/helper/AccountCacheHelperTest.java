@@ -0,0 +1,90 @@
+package com.cryfirock.account.helper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.cryfirock.account.dto.AccountResponseDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 1. Pruebas unitarias para la clase AccountCacheHelper.
+ * 2. Verifica los aciertos, la invalidación y las métricas de la caché.
+ * 3. Utiliza JUnit 5 para las pruebas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class AccountCacheHelperTest {
+    private SimpleMeterRegistry meterRegistry;
+
+    private AccountCacheHelper cacheHelper;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheHelper = new AccountCacheHelper(meterRegistry, 100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    private AccountResponseDto load(Long id) {
+        loads.incrementAndGet();
+        return new AccountResponseDto(
+                id, null, null, null, null, null, null, null, null, null, List.of(), List.of());
+    }
+
+    @Nested @DisplayName("Tests para get")
+    class GetTests {
+
+        @Test @DisplayName("Debe cargar la cuenta una sola vez y servirla desde la caché")
+        void shouldLoadOnce() {
+            // Act.
+            AccountResponseDto first = cacheHelper.get(1L, AccountCacheHelperTest.this::load);
+            AccountResponseDto second = cacheHelper.get(1L, AccountCacheHelperTest.this::load);
+
+            // Assert.
+            assertSame(first, second);
+            assertEquals(1, loads.get());
+            assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+            assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        }
+    }
+
+    @Nested @DisplayName("Tests para invalidate")
+    class InvalidateTests {
+
+        @Test @DisplayName("Debe volver a cargar la cuenta tras invalidarla")
+        void shouldReloadAfterInvalidate() {
+            // Arrange.
+            cacheHelper.get(1L, AccountCacheHelperTest.this::load);
+            cacheHelper.get(2L, AccountCacheHelperTest.this::load);
+
+            // Act.
+            cacheHelper.invalidateAll(List.of(1L, 2L));
+            cacheHelper.get(1L, AccountCacheHelperTest.this::load);
+            cacheHelper.get(2L, AccountCacheHelperTest.this::load);
+
+            // Assert.
+            assertEquals(4, loads.get());
+        }
+
+        @Test @DisplayName("Debe publicar las métricas de la caché en el registro")
+        void shouldRegisterMetrics() {
+            // Assert.
+            assertNotNull(meterRegistry.find("cache.evictions").tag("cache", "account.responses").meter());
+            assertNotNull(meterRegistry.find("cache.size").tag("cache", "account.responses").meter());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.cryfirock.account.helper;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.cryfirock.account.fixture.AccountTestFixtures.account;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountRequestDto;
+import com.cryfirock.account.service.api.IAccountService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 1. Tests de integración para la comprobación previa de IBAN.
+ * 2. Habilita los dígitos de control que el perfil de test deshabilita.
+ * 3. Verifica con las estadísticas de Hibernate que los rechazos no abren transacción.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {
+        "account.iban.check-digits=true",
+        "spring.datasource.url=jdbc:h2:mem:ibans;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+}) @ActiveProfiles("test")
+class IbanIndexHelperIntegrationTest {
+    @Autowired
+    private IbanIndexHelper ibanIndexHelper;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Nested @DisplayName("Tests para create")
+    class CreateTests {
+
+        @Test @DisplayName("Debe crear la cuenta y añadir su IBAN al índice")
+        void shouldCreateAndIndexIban() {
+            // Arrange.
+            assertFalse(ibanIndexHelper.mightExist("ES4121000418450200050001"));
+
+            // Act.
+            Long id = accountService.create(request("ES4121000418450200050001")).id();
+
+            // Assert.
+            assertEquals("ES4121000418450200050001", accountService.findById(id).number());
+            assertTrue(ibanIndexHelper.mightExist("ES4121000418450200050001"));
+        }
+
+        @Test @DisplayName("Debe rechazar un IBAN inválido sin consultar la base de datos")
+        void shouldRejectInvalidIbanWithoutStatements() {
+            // Arrange.
+            statistics.clear();
+
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> accountService.create(request("ES4121000418450200050009")));
+
+            // Assert.
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+            assertEquals(0, statistics.getPrepareStatementCount());
+        }
+
+        @Test @DisplayName("Debe rechazar un IBAN registrado antes de abrir la transacción")
+        void shouldRejectDuplicateBeforeTransaction() {
+            // Arrange.
+            accountService.create(request("ES1421000418450200050002"));
+            statistics.clear();
+
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> accountService.create(request("ES1421000418450200050002")));
+
+            // Assert.
+            assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityInsertCount());
+            assertEquals(0, statistics.getTransactionCount());
+        }
+    }
+
+    @Nested @DisplayName("Tests para update")
+    class UpdateTests {
+
+        @Test @DisplayName("Debe permitir conservar el IBAN y rechazar el de otra cuenta")
+        void shouldRejectIbanOfAnotherAccount() {
+            // Arrange.
+            Long id = accountService.create(request("ES8421000418450200050003")).id();
+            accountService.create(request("ES5721000418450200050004"));
+
+            // Act.
+            accountService.update(id, request("ES8421000418450200050003"));
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> accountService.update(id, request("ES5721000418450200050004")));
+
+            // Assert.
+            assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+            assertEquals("ES8421000418450200050003", accountService.findById(id).number());
+        }
+    }
+
+    @Nested @DisplayName("Tests para warm")
+    class WarmTests {
+
+        @Test @DisplayName("Debe cargar los IBAN registrados al reconstruir el índice")
+        void shouldLoadRegisteredIbans() {
+            // Arrange.
+            accountService.create(request("ES3021000418450200050005"));
+
+            // Act.
+            ibanIndexHelper.warm();
+
+            // Assert.
+            assertTrue(ibanIndexHelper.mightExist("ES3021000418450200050005"));
+            assertFalse(ibanIndexHelper.mightExist("ES0321000418450200050006"));
+        }
+    }
+
+    /**
+     * Construye la petición de una cuenta activa.
+     *
+     * @param iban IBAN de la cuenta.
+     * @return Petición de la cuenta.
+     */
+    private static AccountRequestDto request(String iban) {
+        return account(iban).balance("10").users(List.of()).products(List.of()).build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.cryfirock.account.helper;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import com.cryfirock.account.repository.JpaIdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 1. Tests de integración para el respaldo en base de datos de IdempotencyHelper.
+ * 2. Simula un reinicio u otra instancia creando un helper nuevo con la caché en memoria vacía.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {
+        "account.idempotency.jdbc.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:idempotency;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+}) @ActiveProfiles("test")
+class IdempotencyHelperIntegrationTest {
+    @Autowired
+    private IdempotencyHelper idempotencyHelper;
+
+    @Autowired
+    private JpaIdempotencyRecordRepository recordRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Nested @DisplayName("Tests para execute")
+    class ExecuteTests {
+
+        @Test @DisplayName("Debe repetir la respuesta respaldada aunque la caché en memoria esté vacía")
+        void shouldReplayFromDatabase() {
+            // Arrange.
+            AtomicInteger executions = new AtomicInteger();
+            idempotencyHelper.execute("jdbc-1", "POST /echo", "a", String.class, () -> {
+                executions.incrementAndGet();
+                return ResponseEntity.ok("stored");
+            });
+            IdempotencyHelper restarted = instance();
+
+            // Act.
+            ResponseEntity<String> replayed = restarted.execute("jdbc-1", "POST /echo", "a", String.class, () -> {
+                executions.incrementAndGet();
+                return ResponseEntity.ok("executed");
+            });
+
+            // Assert.
+            assertEquals("stored", replayed.getBody());
+            assertEquals(1, executions.get());
+            assertTrue(recordRepository.existsById("jdbc-1"));
+        }
+
+        @Test @DisplayName("Debe esperar a la reserva de otra instancia y repetir su respuesta")
+        void shouldWaitForOtherInstance() throws Exception {
+            // Arrange.
+            AtomicInteger executions = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            IdempotencyHelper other = instance();
+            CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(
+                    () -> idempotencyHelper.execute("jdbc-2", "POST /echo", "a", String.class, () -> {
+                        executions.incrementAndGet();
+                        started.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return ResponseEntity.ok("first");
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // Act.
+            CompletableFuture<ResponseEntity<String>> second = CompletableFuture.supplyAsync(
+                    () -> other.execute("jdbc-2", "POST /echo", "a", String.class, () -> {
+                        executions.incrementAndGet();
+                        return ResponseEntity.ok("second");
+                    }));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert.
+            assertEquals("first", first.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals("first", second.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals(1, executions.get());
+        }
+    }
+
+    /**
+     * Crea otro helper sobre la misma base de datos, como si fuera otra instancia.
+     *
+     * @return Helper con la caché en memoria vacía.
+     */
+    private IdempotencyHelper instance() {
+        return new IdempotencyHelper(
+                objectMapper,
+                recordRepository,
+                transactionManager,
+                new SimpleMeterRegistry(),
+                Duration.ofHours(1),
+                DataSize.ofMegabytes(1),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(5),
+                true);
+    }
+}
@@ -0,0 +1,187 @@
+package com.cryfirock.account.helper;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 1. Pruebas unitarias para la clase IdempotencyHelper.
+ * 2. Verifica la repetición de respuestas, la espera a peticiones en curso y los rechazos.
+ * 3. Usa solo el almacén en memoria, sin respaldo en base de datos.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class IdempotencyHelperTest {
+    private IdempotencyHelper idempotencyHelper;
+
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyHelper = new IdempotencyHelper(
+                new ObjectMapper(),
+                null,
+                null,
+                new SimpleMeterRegistry(),
+                Duration.ofMinutes(5),
+                DataSize.ofMegabytes(1),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(5),
+                false);
+        executions = new AtomicInteger();
+    }
+
+    private ResponseEntity<Echo> echo(String value) {
+        executions.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED).body(new Echo(value));
+    }
+
+    @Nested @DisplayName("Tests para execute")
+    class ExecuteTests {
+
+        @Test @DisplayName("Debe repetir la respuesta guardada sin volver a ejecutar la escritura")
+        void shouldReplayStoredResponse() {
+            // Act.
+            ResponseEntity<Echo> first = idempotencyHelper.execute(
+                    "key-1", "POST /echo", new Echo("a"), Echo.class, () -> echo("a"));
+            ResponseEntity<Echo> second = idempotencyHelper.execute(
+                    "key-1", "POST /echo", new Echo("a"), Echo.class, () -> echo("a"));
+
+            // Assert.
+            assertEquals(1, executions.get());
+            assertEquals(first.getBody(), second.getBody());
+            assertEquals(HttpStatus.CREATED, second.getStatusCode());
+            assertNull(first.getHeaders().getFirst(IdempotencyHelper.REPLAYED_HEADER));
+            assertEquals("true", second.getHeaders().getFirst(IdempotencyHelper.REPLAYED_HEADER));
+        }
+
+        @Test @DisplayName("Debe ejecutar siempre la escritura si no hay clave")
+        void shouldExecuteWithoutKey() {
+            // Act.
+            idempotencyHelper.execute(null, "POST /echo", new Echo("a"), Echo.class, () -> echo("a"));
+            idempotencyHelper.execute(null, "POST /echo", new Echo("a"), Echo.class, () -> echo("a"));
+
+            // Assert.
+            assertEquals(2, executions.get());
+        }
+
+        @Test @DisplayName("Debe ejecutar una sola vez las peticiones simultáneas con la misma clave")
+        void shouldCoalesceConcurrentDuplicates() throws Exception {
+            // Arrange.
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                Future<ResponseEntity<Echo>> first = executor.submit(() -> idempotencyHelper.execute(
+                        "key-2", "POST /echo", new Echo("b"), Echo.class, () -> {
+                            started.countDown();
+                            await(release);
+                            return echo("b");
+                        }));
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+                Future<?>[] duplicates = new Future<?>[3];
+                for (int i = 0; i < duplicates.length; i++)
+                    duplicates[i] = executor.submit(() -> idempotencyHelper.execute(
+                            "key-2", "POST /echo", new Echo("b"), Echo.class, () -> echo("b")));
+
+                // Act.
+                release.countDown();
+
+                // Assert.
+                assertEquals(new Echo("b"), first.get(5, TimeUnit.SECONDS).getBody());
+                for (Future<?> duplicate : duplicates)
+                    assertEquals(new Echo("b"), ((ResponseEntity<?>) duplicate.get(5, TimeUnit.SECONDS)).getBody());
+                assertEquals(1, executions.get());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test @DisplayName("Debe rechazar con 422 una clave reutilizada con otra petición")
+        void shouldRejectDifferentRequest() {
+            // Arrange.
+            idempotencyHelper.execute("key-3", "POST /echo", new Echo("a"), Echo.class, () -> echo("a"));
+
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> idempotencyHelper.execute(
+                            "key-3", "POST /echo", new Echo("c"), Echo.class, () -> echo("c")));
+
+            // Assert.
+            assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getStatusCode());
+            assertEquals(1, executions.get());
+        }
+
+        @Test @DisplayName("Debe permitir reintentar una escritura que ha fallado")
+        void shouldNotStoreFailures() {
+            // Arrange.
+            assertThrows(
+                    ResponseStatusException.class,
+                    () -> idempotencyHelper.execute("key-4", "POST /echo", new Echo("d"), Echo.class, () -> {
+                        executions.incrementAndGet();
+                        throw new ResponseStatusException(HttpStatus.CONFLICT);
+                    }));
+
+            // Act.
+            ResponseEntity<Echo> retry = idempotencyHelper.execute(
+                    "key-4", "POST /echo", new Echo("d"), Echo.class, () -> echo("d"));
+
+            // Assert.
+            assertEquals(new Echo("d"), retry.getBody());
+            assertEquals(2, executions.get());
+        }
+
+        @Test @DisplayName("Debe rechazar con 400 una clave demasiado larga")
+        void shouldRejectLongKey() {
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> idempotencyHelper.execute(
+                            "k".repeat(256), "POST /echo", null, Echo.class, () -> echo("e")));
+
+            // Assert.
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+            assertEquals(0, executions.get());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Cuerpo de prueba de las peticiones y respuestas.
+     *
+     * @param value Valor del cuerpo.
+     */
+    record Echo(String value) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.cryfirock.account.helper;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.entity.Account;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 1. Pruebas unitarias para la clase OptimisticRetryHelper.
+ * 2. Verifica los reintentos acotados y las métricas de conflictos.
+ * 3. Utiliza JUnit 5 y Mockito para las pruebas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+class OptimisticRetryHelperTest {
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OptimisticRetryHelper retryHelper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryHelper = new OptimisticRetryHelper(transactionManager, meterRegistry, 3, 1, 2);
+    }
+
+    @Nested @DisplayName("Tests para executeInTransaction")
+    class ExecuteInTransactionTests {
+
+        @Test @DisplayName("Debe reintentar tras un conflicto y retornar el resultado")
+        void shouldRetryAfterConflict() {
+            // Arrange.
+            AtomicInteger calls = new AtomicInteger();
+
+            // Act.
+            String result = retryHelper.executeInTransaction("update", () -> {
+                if (calls.incrementAndGet() == 1) throw conflict();
+                return "ok";
+            });
+
+            // Assert.
+            assertEquals("ok", result);
+            assertEquals(2, calls.get());
+            assertEquals(2.0, count("account.write.attempts"));
+            assertEquals(1.0, count("account.write.conflicts"));
+        }
+
+        @Test @DisplayName("Debe responder 409 al agotar los intentos")
+        void shouldFailWithConflictWhenAttemptsAreExhausted() {
+            // Arrange.
+            AtomicInteger calls = new AtomicInteger();
+
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> retryHelper.executeInTransaction("update", () -> {
+                        calls.incrementAndGet();
+                        throw conflict();
+                    }));
+
+            // Assert.
+            assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+            assertEquals(3, calls.get());
+            assertEquals(1.0, count("account.write.retries.exhausted"));
+        }
+
+        @Test @DisplayName("Debe no reintentar errores que no son de concurrencia")
+        void shouldNotRetryOtherErrors() {
+            // Arrange.
+            AtomicInteger calls = new AtomicInteger();
+
+            // Act & Assert.
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> retryHelper.executeInTransaction("update", () -> {
+                        calls.incrementAndGet();
+                        throw new IllegalArgumentException();
+                    }));
+            assertEquals(1, calls.get());
+        }
+
+        @Test @DisplayName("Debe reintentar tras una clave única duplicada")
+        void shouldRetryAfterUniqueViolation() {
+            // Arrange.
+            AtomicInteger calls = new AtomicInteger();
+
+            // Act.
+            String result = retryHelper.executeInTransaction("update", () -> {
+                if (calls.incrementAndGet() == 1) throw violation(ConstraintKind.UNIQUE);
+                return "ok";
+            });
+
+            // Assert.
+            assertEquals("ok", result);
+            assertEquals(1.0, count("account.write.conflicts"));
+        }
+
+        @Test @DisplayName("Debe no reintentar otras violaciones de integridad")
+        void shouldNotRetryOtherViolations() {
+            // Arrange.
+            AtomicInteger calls = new AtomicInteger();
+
+            // Act & Assert.
+            assertThrows(
+                    DataIntegrityViolationException.class,
+                    () -> retryHelper.executeInTransaction("update", () -> {
+                        calls.incrementAndGet();
+                        throw violation(ConstraintKind.OTHER);
+                    }));
+            assertEquals(1, calls.get());
+        }
+    }
+
+    /**
+     * Construye un conflicto de versión optimista.
+     *
+     * @return Excepción de conflicto.
+     */
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(Account.class, 1L);
+    }
+
+    /**
+     * Construye una violación de integridad traducida por Spring.
+     *
+     * @param kind Tipo de restricción violada.
+     * @return Excepción de integridad.
+     */
+    private static DataIntegrityViolationException violation(ConstraintKind kind) {
+        return new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("violation", new SQLException(), kind, "constraint"));
+    }
+
+    /**
+     * Obtiene el valor de un contador de la operación update.
+     *
+     * @param name Nombre de la métrica.
+     * @return Valor del contador.
+     */
+    private double count(String name) {
+        return meterRegistry.counter(name, "operation", "update").count();
+    }
+}
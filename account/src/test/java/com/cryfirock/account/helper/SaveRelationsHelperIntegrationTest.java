@@ -0,0 +1,143 @@
+package com.cryfirock.account.helper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cryfirock.account.entity.AccountProduct;
+import com.cryfirock.account.entity.AccountUser;
+import com.cryfirock.account.repository.JpaAccountProductRepository;
+import com.cryfirock.account.repository.JpaAccountUserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 1. Tests de integración para la sincronización de relaciones de cuentas.
+ * 2. Verifica el resultado de la diferencia de conjuntos.
+ * 3. Verifica que las escrituras se agrupan en pocas sentencias.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest @ActiveProfiles("test") @Transactional
+class SaveRelationsHelperIntegrationTest {
+    // Cuenta sobre la que se sincronizan las relaciones.
+    private static final Long ACCOUNT_ID = 1001L;
+
+    @Autowired
+    private SaveRelationsHelper saveRelationsHelper;
+
+    @Autowired
+    private JpaAccountUserRepository accountUserRepository;
+
+    @Autowired
+    private JpaAccountProductRepository accountProductRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Nested @DisplayName("Tests para saveRelations")
+    class SaveRelationsTests {
+
+        @Test @DisplayName("Debe reemplazar las relaciones por las de la petición")
+        void shouldReplaceRelationsWithRequest() {
+            // Arrange.
+            saveRelationsHelper.saveRelations(ACCOUNT_ID, List.of(1L, 2L, 3L), List.of(10L, 20L));
+            flushAndClear();
+
+            // Act.
+            saveRelationsHelper.saveRelations(
+                    ACCOUNT_ID,
+                    Arrays.asList(2L, 3L, 4L, null, 4L),
+                    List.of(20L, 30L));
+            flushAndClear();
+
+            // Assert.
+            assertEquals(
+                    List.of(2L, 3L, 4L),
+                    accountUserRepository.findAllByAccountId(ACCOUNT_ID)
+                            .stream()
+                            .map(AccountUser::getUserId)
+                            .sorted()
+                            .toList());
+            assertEquals(
+                    List.of(20L, 30L),
+                    accountProductRepository.findAllByAccountId(ACCOUNT_ID)
+                            .stream()
+                            .map(AccountProduct::getProductId)
+                            .sorted()
+                            .toList());
+        }
+
+        @Test @DisplayName("Debe no modificar las relaciones si la lista es null")
+        void shouldKeepRelationsWhenListIsNull() {
+            // Arrange.
+            saveRelationsHelper.saveRelations(ACCOUNT_ID, List.of(1L), List.of(10L));
+            flushAndClear();
+
+            // Act.
+            saveRelationsHelper.saveRelations(ACCOUNT_ID, null, null);
+            flushAndClear();
+
+            // Assert.
+            assertEquals(1, accountUserRepository.findAllByAccountId(ACCOUNT_ID).size());
+            assertEquals(1, accountProductRepository.findAllByAccountId(ACCOUNT_ID).size());
+        }
+
+        @Test @DisplayName("Debe sincronizar miles de relaciones con pocas sentencias")
+        void shouldSyncThousandsOfRelationsWithFewStatements() {
+            // Arrange.
+            List<Long> firstUserIds = LongStream.rangeClosed(1, 2000).boxed().toList();
+            List<Long> secondUserIds = LongStream.rangeClosed(1001, 3000).boxed().toList();
+            saveRelationsHelper.saveRelations(ACCOUNT_ID, firstUserIds, null);
+            flushAndClear();
+            statistics.clear();
+
+            // Act.
+            saveRelationsHelper.saveRelations(ACCOUNT_ID, secondUserIds, null);
+            entityManager.flush();
+
+            // Assert.
+            assertTrue(
+                    statistics.getPrepareStatementCount() < 50,
+                    "Statements: " + statistics.getPrepareStatementCount());
+            entityManager.clear();
+            assertEquals(2000, accountUserRepository.findAllByAccountId(ACCOUNT_ID).size());
+        }
+    }
+
+    /**
+     * Sincroniza el contexto de persistencia con la base de datos y lo limpia.
+     */
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,209 @@
+package com.cryfirock.account.service.impl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.cryfirock.account.fixture.AccountTestFixtures.account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountChangeDto;
+import com.cryfirock.account.dto.AccountChangePageDto;
+import com.cryfirock.account.dto.AccountRequestDto;
+import com.cryfirock.account.helper.OutboxRelayHelper;
+import com.cryfirock.account.repository.JpaAccountChangeRepository;
+import com.cryfirock.account.service.api.IAccountChangeService;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.type.AccountChangeType;
+
+/**
+ * 1. Tests de integración para la tabla outbox y el feed de cambios de cuentas.
+ * 2. No es transaccional porque los cambios solo se publican tras el commit.
+ * 3. Cada test lee el feed desde la última posición publicada antes de empezar.
+ * 4. Sin tiempo de conservación la purga borra todos los cambios publicados salvo el último.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {
+        "account.outbox.relay.enabled=true",
+        "account.outbox.retention=0s",
+        "spring.datasource.url=jdbc:h2:mem:changes;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+}) @ActiveProfiles("test")
+class AccountChangeServiceImplIntegrationTest {
+    @Autowired
+    private IAccountChangeService accountChangeService;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Autowired
+    private OutboxRelayHelper outboxRelayHelper;
+
+    @Autowired
+    private JpaAccountChangeRepository changeRepository;
+
+    // Última posición publicada antes de cada test.
+    private long start;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelayHelper.relayPending();
+        start = changeRepository.findMaxFeedPosition();
+    }
+
+    @Nested @DisplayName("Tests para findChanges")
+    class FindChangesTests {
+
+        @Test @DisplayName("Debe publicar el alta, la modificación y la baja en orden con posiciones consecutivas")
+        void shouldPublishAccountWritesInOrder() throws Exception {
+            // Arrange.
+            Long id = accountService.create(request("CHG-A", List.of())).id();
+            accountService.update(id, request("CHG-A2", List.of()));
+            accountService.delete(id);
+            outboxRelayHelper.relayPending();
+
+            // Act.
+            AccountChangePageDto page = accountChangeService.findChanges(start, 100, 0).get();
+
+            // Assert.
+            assertEquals(
+                    List.of(AccountChangeType.CREATED, AccountChangeType.UPDATED, AccountChangeType.DELETED),
+                    page.changes().stream().map(AccountChangeDto::changeType).toList());
+            assertEquals(
+                    List.of(start + 1, start + 2, start + 3),
+                    page.changes().stream().map(AccountChangeDto::position).toList());
+            assertTrue(page.changes().stream().allMatch(change -> id.equals(change.accountId())));
+            assertEquals(start + 3, page.next());
+        }
+
+        @Test @DisplayName("Debe publicar el cambio de relaciones solo si alguna cambia")
+        void shouldPublishRelationChanges() throws Exception {
+            // Arrange.
+            Long id = accountService.create(request("CHG-B", List.of())).id();
+            accountService.update(id, request("CHG-B", List.of(7L)));
+            accountService.update(id, request("CHG-B", List.of(7L)));
+            outboxRelayHelper.relayPending();
+
+            // Act.
+            AccountChangePageDto page = accountChangeService.findChanges(start, 100, 0).get();
+
+            // Assert.
+            assertEquals(
+                    List.of(
+                            AccountChangeType.CREATED,
+                            AccountChangeType.UPDATED,
+                            AccountChangeType.RELATIONS_CHANGED,
+                            AccountChangeType.UPDATED),
+                    page.changes().stream().map(AccountChangeDto::changeType).toList());
+        }
+
+        @Test @DisplayName("Debe paginar el feed con el cursor next")
+        void shouldPageWithCursor() throws Exception {
+            // Arrange.
+            accountService.create(request("CHG-C1", List.of()));
+            accountService.create(request("CHG-C2", List.of()));
+            accountService.create(request("CHG-C3", List.of()));
+            outboxRelayHelper.relayPending();
+
+            // Act.
+            AccountChangePageDto first = accountChangeService.findChanges(start, 2, 0).get();
+            AccountChangePageDto second = accountChangeService.findChanges(first.next(), 2, 0).get();
+
+            // Assert.
+            assertEquals(2, first.changes().size());
+            assertEquals(start + 2, first.next());
+            assertEquals(1, second.changes().size());
+            assertEquals(start + 3, second.next());
+        }
+
+        @Test @DisplayName("Debe rechazar parámetros fuera de rango con 400 BAD_REQUEST")
+        void shouldRejectInvalidParameters() {
+            // Act.
+            ResponseStatusException limit = assertThrows(
+                    ResponseStatusException.class,
+                    () -> accountChangeService.findChanges(start, 0, 0));
+            ResponseStatusException wait = assertThrows(
+                    ResponseStatusException.class,
+                    () -> accountChangeService.findChanges(start, 10, 3600));
+
+            // Assert.
+            assertEquals(HttpStatus.BAD_REQUEST, limit.getStatusCode());
+            assertEquals(HttpStatus.BAD_REQUEST, wait.getStatusCode());
+        }
+    }
+
+    @Nested @DisplayName("Tests para la purga")
+    class PurgeTests {
+
+        @Test @DisplayName("Debe conservar el último cambio publicado para reanudar las posiciones")
+        void shouldKeepLastPublishedChange() {
+            // Arrange.
+            accountService.create(request("CHG-P1", List.of()));
+            accountService.create(request("CHG-P2", List.of()));
+            outboxRelayHelper.relayPending();
+
+            // Act.
+            outboxRelayHelper.purgePublished();
+
+            // Assert.
+            assertEquals(1, changeRepository.count());
+            assertEquals(start + 2, changeRepository.findMaxFeedPosition());
+        }
+    }
+
+    @Nested @DisplayName("Tests para findChanges con espera")
+    class LongPollTests {
+
+        @Test @DisplayName("Debe responder a la espera en cuanto se publica un cambio")
+        void shouldCompleteWhenChangeIsPublished() throws Exception {
+            // Arrange.
+            CompletableFuture<AccountChangePageDto> result = accountChangeService.findChanges(start, 10, 10);
+            assertFalse(result.isDone());
+
+            // Act.
+            Long id = accountService.create(request("CHG-D", List.of())).id();
+            outboxRelayHelper.relayPending();
+            AccountChangePageDto page = result.get(5, TimeUnit.SECONDS);
+
+            // Assert.
+            assertEquals(1, page.changes().size());
+            assertEquals(id, page.changes().get(0).accountId());
+            assertEquals(start + 1, page.next());
+        }
+
+        @Test @DisplayName("Debe responder con una página vacía y el mismo cursor al vencer la espera")
+        void shouldReturnEmptyPageOnTimeout() throws Exception {
+            // Act.
+            AccountChangePageDto page = accountChangeService.findChanges(start, 10, 1).get(5, TimeUnit.SECONDS);
+
+            // Assert.
+            assertTrue(page.changes().isEmpty());
+            assertEquals(start, page.next());
+        }
+    }
+
+    /**
+     * Construye la petición de una cuenta activa.
+     *
+     * @param iban IBAN de la cuenta.
+     * @param userIds Usuarios vinculados.
+     * @return Petición de la cuenta.
+     */
+    private static AccountRequestDto request(String iban, List<Long> userIds) {
+        return account(iban).balance("1").users(userIds).products(List.of()).build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.cryfirock.account.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cryfirock.account.dto.AccountImportResultDto;
+import com.cryfirock.account.dto.AccountResponseDto;
+import com.cryfirock.account.service.api.IAccountImportService;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.type.AccountImportStatus;
+
+/**
+ * 1. Tests de integración para el servicio de importación de cuentas.
+ * 2. Usa la base de datos H2 del perfil de pruebas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = "account.import.chunk-size=2") @ActiveProfiles("test") @Transactional
+class AccountImportServiceImplIntegrationTest {
+    @Autowired
+    private IAccountImportService accountImportService;
+
+    @Autowired
+    private IAccountService accountService;
+
+    private static String record(String iban) {
+        return """
+                {"mainOwnerId":523,"financialAssetClass":"FIAT","currencyCode":"EUR",\
+                "ibanNumber":"%s","currentBalance":100,"bankAccountPurpose":"CUSTOMER",\
+                "bankAccountOperational":"AVAILABLE","bankAccountStatus":"ACTIVE",\
+                "userIds":[523,524,523],"productIds":[77]}""".formatted(iban);
+    }
+
+    private List<AccountImportResultDto> importLines(String... lines) {
+        List<AccountImportResultDto> results = new ArrayList<>();
+        accountImportService.importAccounts(
+                new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)),
+                results::add);
+        return results;
+    }
+
+    @Nested @DisplayName("Tests para importAccounts")
+    class ImportAccountsTests {
+
+        @Test @DisplayName("Debe crear las cuentas válidas con sus relaciones en varios bloques")
+        void shouldImportValidLines() {
+            // Act.
+            List<AccountImportResultDto> results = importLines(
+                    record("ES0000000000000000000001"),
+                    record("ES0000000000000000000002"),
+                    "",
+                    record("ES0000000000000000000003"));
+
+            // Assert.
+            assertEquals(3, results.size());
+            assertEquals(List.of(1L, 2L, 4L), results.stream().map(AccountImportResultDto::line).toList());
+            results.forEach(result -> assertEquals(AccountImportStatus.CREATED, result.status()));
+            AccountResponseDto account = accountService.findById(results.get(2).accountId());
+            assertEquals("ES0000000000000000000003", account.number());
+            assertEquals(0, account.balance().compareTo(new BigDecimal("100")));
+            assertEquals(List.of(523L, 524L), account.userIds());
+            assertEquals(List.of(77L), account.productIds());
+        }
+
+        @Test @DisplayName("Debe informar las líneas no válidas sin detener la importación")
+        void shouldReportInvalidLines() {
+            // Act.
+            List<AccountImportResultDto> results = importLines(
+                    "{not json",
+                    "{\"mainOwnerId\":523}",
+                    record("ES0000000000000000000010"),
+                    record("ES0000000000000000000010"));
+
+            // Assert.
+            assertEquals(4, results.size());
+            assertEquals(AccountImportStatus.INVALID, results.get(0).status());
+            assertEquals(AccountImportStatus.INVALID, results.get(1).status());
+            assertEquals("financialAssetClass is required", results.get(1).error());
+            AccountImportResultDto created = results
+                    .stream()
+                    .filter(result -> result.line() == 3)
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(AccountImportStatus.CREATED, created.status());
+            assertNotNull(created.accountId());
+            AccountImportResultDto duplicate = results
+                    .stream()
+                    .filter(result -> result.line() == 4)
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(AccountImportStatus.INVALID, duplicate.status());
+            assertEquals("Duplicate IBAN", duplicate.error());
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountBatchResponseDto;
+import com.cryfirock.account.dto.AccountPageResponseDto;
+import com.cryfirock.account.dto.AccountResponseDto;
+import com.cryfirock.account.entity.Account;
+import com.cryfirock.account.entity.AccountProduct;
+import com.cryfirock.account.entity.AccountUser;
+import com.cryfirock.account.repository.JpaAccountProductRepository;
+import com.cryfirock.account.repository.JpaAccountRepository;
+import com.cryfirock.account.repository.JpaAccountUserRepository;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.type.AccountAssets;
+import com.cryfirock.account.type.AccountNature;
+import com.cryfirock.account.type.AccountOperational;
+import com.cryfirock.account.type.AccountProductStatus;
+import com.cryfirock.account.type.AccountStatus;
+import com.cryfirock.account.type.Money;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 1. Tests de integración para el servicio de cuentas.
+ * 2. Usa la base de datos H2 del perfil de pruebas.
+ * 3. Cuenta las sentencias SQL ejecutadas con las estadísticas de Hibernate.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest @ActiveProfiles("test") @Transactional
+class AccountServiceImplIntegrationTest {
+    // Usuario titular de todas las cuentas de prueba.
+    private static final Long USER_ID = 523L;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Autowired
+    private JpaAccountRepository accountRepository;
+
+    @Autowired
+    private JpaAccountUserRepository accountUserRepository;
+
+    @Autowired
+    private JpaAccountProductRepository accountProductRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Nested @DisplayName("Tests para findByUserId")
+    class FindByUserIdTests {
+
+        @Test @DisplayName("Debe ejecutar un número constante de sentencias sin importar las cuentas")
+        void shouldExecuteConstantStatementsRegardlessOfAccountCount() {
+            // Arrange.
+            createAccountsForUser(3);
+            long statementsForFewAccounts = countStatementsOfFindByUserId(3);
+            createAccountsForUser(200);
+
+            // Act.
+            long statementsForManyAccounts = countStatementsOfFindByUserId(203);
+
+            // Assert: cuentas, usuarios, productos y fracciones de saldo de tesorería.
+            assertEquals(5, statementsForFewAccounts);
+            assertEquals(statementsForFewAccounts, statementsForManyAccounts);
+        }
+
+        @Test @DisplayName("Debe incluir los usuarios y productos de cada cuenta")
+        void shouldIncludeRelationsOfEachAccount() {
+            // Arrange.
+            createAccountsForUser(2);
+            entityManager.flush();
+            entityManager.clear();
+
+            // Act.
+            List<AccountResponseDto> accounts = accountService.findByUserId(USER_ID);
+
+            // Assert.
+            assertEquals(2, accounts.size());
+            assertTrue(accounts.stream().allMatch(a -> a.userIds().equals(List.of(USER_ID))));
+            assertTrue(accounts.stream().allMatch(a -> a.productIds().equals(List.of(a.id()))));
+        }
+
+        @Test @DisplayName("Debe retornar una lista vacía si el usuario no tiene cuentas")
+        void shouldReturnEmptyListWhenUserHasNoAccounts() {
+            assertTrue(accountService.findByUserId(999L).isEmpty());
+        }
+    }
+
+    @Nested @DisplayName("Tests para findAllByIds")
+    class FindAllByIdsTests {
+
+        @Test @DisplayName("Debe retornar las cuentas en el orden pedido e informar los ids que no existen")
+        void shouldKeepRequestOrderAndReportMissingIds() {
+            // Arrange.
+            createAccountsForUser(3);
+            entityManager.flush();
+            List<Long> ids = accountService
+                    .findByUserId(USER_ID)
+                    .stream()
+                    .map(AccountResponseDto::id)
+                    .toList();
+            Long missingId = ids.get(2) + 1_000;
+
+            // Act.
+            AccountBatchResponseDto batch = accountService.findAllByIds(
+                    List.of(ids.get(2), missingId, ids.get(0), ids.get(2)));
+
+            // Assert.
+            assertEquals(
+                    List.of(ids.get(2), ids.get(0)),
+                    batch.items().stream().map(AccountResponseDto::id).toList());
+            assertEquals(List.of(missingId), batch.missingIds());
+            assertTrue(batch.items().stream().allMatch(a -> a.userIds().equals(List.of(USER_ID))));
+        }
+
+        @Test @DisplayName("Debe rechazar más ids de los permitidos")
+        void shouldRejectTooManyIds() {
+            // Arrange.
+            List<Long> ids = IntStream.rangeClosed(1, 1_001).mapToObj(Long::valueOf).toList();
+
+            // Act & Assert.
+            assertThrows(ResponseStatusException.class, () -> accountService.findAllByIds(ids));
+        }
+    }
+
+    @Nested @DisplayName("Tests para findPageByUserId")
+    class FindPageByUserIdTests {
+
+        @Test @DisplayName("Debe recorrer todas las cuentas por páginas sin repetirlas")
+        void shouldWalkAllAccountsByPages() {
+            // Arrange.
+            createAccountsForUser(5);
+            List<Long> ids = new ArrayList<>();
+            Long after = null;
+
+            // Act.
+            do {
+                AccountPageResponseDto page = accountService.findPageByUserId(USER_ID, after, 2);
+                page.items().forEach(a -> ids.add(a.id()));
+                after = page.nextAfter();
+            } while (after != null);
+
+            // Assert.
+            assertEquals(5, ids.size());
+            assertEquals(ids.stream().sorted().distinct().toList(), ids);
+        }
+
+        @Test @DisplayName("Debe retornar cursor null en la última página")
+        void shouldReturnNullCursorOnLastPage() {
+            // Arrange.
+            createAccountsForUser(2);
+
+            // Act.
+            AccountPageResponseDto page = accountService.findPageByUserId(USER_ID, null, 2);
+
+            // Assert.
+            assertEquals(2, page.items().size());
+            assertNull(page.nextAfter());
+        }
+
+        @Test @DisplayName("Debe rechazar un límite fuera de rango")
+        void shouldRejectOutOfRangeLimit() {
+            assertThrows(
+                    ResponseStatusException.class,
+                    () -> accountService.findPageByUserId(USER_ID, null, 0));
+        }
+    }
+
+    @Nested @DisplayName("Tests para streamByUserId")
+    class StreamByUserIdTests {
+
+        @Test @DisplayName("Debe emitir todas las cuentas en orden con sus relaciones")
+        void shouldEmitAllAccountsInOrder() {
+            // Arrange.
+            createAccountsForUser(7);
+            entityManager.flush();
+            List<AccountResponseDto> emitted = new ArrayList<>();
+
+            // Act.
+            accountService.streamByUserId(USER_ID, emitted::add);
+
+            // Assert.
+            assertEquals(7, emitted.size());
+            assertEquals(
+                    emitted.stream().map(AccountResponseDto::id).sorted().toList(),
+                    emitted.stream().map(AccountResponseDto::id).toList());
+            assertTrue(emitted.stream().allMatch(a -> a.userIds().equals(List.of(USER_ID))));
+        }
+    }
+
+    /**
+     * Ejecuta findByUserId sobre un contexto de persistencia limpio y cuenta las sentencias.
+     *
+     * @param expectedAccounts Número de cuentas esperadas.
+     * @return Número de sentencias preparadas.
+     */
+    private long countStatementsOfFindByUserId(int expectedAccounts) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        assertEquals(expectedAccounts, accountService.findByUserId(USER_ID).size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Crea cuentas vinculadas al usuario de prueba con un producto cada una.
+     *
+     * @param count Número de cuentas a crear.
+     */
+    private void createAccountsForUser(int count) {
+        long offset = accountRepository.count();
+        IntStream.range(0, count).forEach(i -> {
+            Account account = new Account();
+            account.setMainOwnerId(USER_ID);
+            account.setFinancialAssetClass(AccountAssets.FIAT);
+            account.setCurrencyCode("EUR");
+            account.setIbanNumber("ES00TEST" + (offset + i));
+            account.setCurrentBalance(Money.of(BigDecimal.TEN));
+            account.setBankAccountPurpose(AccountNature.TREASURY);
+            account.setBankAccountOperational(AccountOperational.AVAILABLE);
+            account.setBankAccountStatus(AccountStatus.ACTIVE);
+            Account saved = accountRepository.save(account);
+            accountUserRepository.save(new AccountUser(saved.getId(), USER_ID));
+            accountProductRepository.save(new AccountProduct(
+                    saved.getId(),
+                    saved.getId(),
+                    AccountProductStatus.ACTIVE));
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static com.cryfirock.account.fixture.AccountTestFixtures.account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cryfirock.account.dto.AccountRequestDto;
+import com.cryfirock.account.dto.AssetClassPositionDto;
+import com.cryfirock.account.dto.CurrencyPositionDto;
+import com.cryfirock.account.dto.FxPositionsDto;
+import com.cryfirock.account.dto.JournalEntryRequestDto;
+import com.cryfirock.account.dto.PostingDto;
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.helper.FxPositionHelper;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.service.api.IFxPositionService;
+import com.cryfirock.account.service.api.IJournalService;
+import com.cryfirock.account.service.api.ITransferService;
+import com.cryfirock.account.type.AccountAssets;
+import com.cryfirock.account.type.AccountNature;
+
+/**
+ * 1. Tests de integración para las posiciones por divisa.
+ * 2. No es transaccional porque los totales se actualizan tras el commit.
+ * 3. Cada test arranca un contexto nuevo con su propia base de datos.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {
+        "account.fx.base-currency=EUR",
+        "account.fx.rates=USD:0.9,BTC:60000",
+        "spring.datasource.url=jdbc:h2:mem:positions;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+}) @ActiveProfiles("test") @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class FxPositionServiceImplIntegrationTest {
+    @Autowired
+    private IFxPositionService fxPositionService;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Autowired
+    private ITransferService transferService;
+
+    @Autowired
+    private IJournalService journalService;
+
+    @Autowired
+    private FxPositionHelper fxPositionHelper;
+
+    @Nested @DisplayName("Tests para findPositions")
+    class FindPositionsTests {
+
+        @Test @DisplayName("Debe agregar los saldos por divisa y valorarlos en la divisa base")
+        void shouldAggregatePositionsByCurrency() {
+            // Arrange.
+            Long eur = account("POS-EUR").balance("100").create(accountService);
+            Long treasury = account("POS-TRE").nature(AccountNature.TREASURY).balance("50").create(accountService);
+            Long usd = account("POS-USD").currency("USD").balance("200").create(accountService);
+            Long usdTarget = account("POS-US2").currency("USD").create(accountService);
+            account("POS-BTC").assets(AccountAssets.CRYPTO).currency("BTC").balance("0.5").create(accountService);
+            account("POS-JPY").currency("JPY").balance("1000").create(accountService);
+            transferService.transfer(new TransferRequestDto("pos", eur, treasury, new BigDecimal("30")));
+            journalService.post(new JournalEntryRequestDto("fx", null, List.of(
+                    new PostingDto(usd, new BigDecimal("-10")),
+                    new PostingDto(usdTarget, new BigDecimal("10")))));
+
+            // Act.
+            FxPositionsDto result = fxPositionService.findPositions();
+
+            // Assert.
+            assertEquals("EUR", result.baseCurrency());
+            assertEquals(
+                    List.of(
+                            new CurrencyPositionDto(AccountAssets.FIAT, "EUR", new BigDecimal("150.0000"),
+                                    BigDecimal.ONE, new BigDecimal("150.0000")),
+                            new CurrencyPositionDto(AccountAssets.FIAT, "JPY", new BigDecimal("1000.0000"),
+                                    null, null),
+                            new CurrencyPositionDto(AccountAssets.FIAT, "USD", new BigDecimal("200.0000"),
+                                    new BigDecimal("0.9"), new BigDecimal("180.0000")),
+                            new CurrencyPositionDto(AccountAssets.CRYPTO, "BTC", new BigDecimal("0.5000"),
+                                    new BigDecimal("60000"), new BigDecimal("30000.0000"))),
+                    result.positions());
+            assertEquals(
+                    List.of(
+                            new AssetClassPositionDto(AccountAssets.FIAT, new BigDecimal("330.0000")),
+                            new AssetClassPositionDto(AccountAssets.CRYPTO, new BigDecimal("30000.0000"))),
+                    result.assetClasses());
+            assertEquals(new BigDecimal("30330.0000"), result.baseTotal());
+            assertEquals(List.of("JPY"), result.unpricedCurrencies());
+        }
+
+        @Test @DisplayName("Debe trasladar el saldo al cambiar de divisa y retirarlo al eliminar la cuenta")
+        void shouldFollowUpdatesAndDeletes() {
+            // Arrange.
+            AccountRequestDto usdRequest = account("POS-MOV").currency("USD").balance("40").build();
+            Long moved = accountService.create(usdRequest).id();
+            Long deleted = account("POS-DEL").balance("10").create(accountService);
+            accountService.update(moved, account("POS-MOV").currency("GBP").balance(null).build());
+            accountService.delete(deleted);
+
+            // Act.
+            FxPositionsDto incremental = fxPositionService.findPositions();
+            fxPositionHelper.warm();
+            FxPositionsDto rebuilt = fxPositionService.findPositions();
+
+            // Assert.
+            assertEquals(
+                    List.of(new CurrencyPositionDto(AccountAssets.FIAT, "GBP", new BigDecimal("40.0000"), null, null)),
+                    incremental.positions());
+            assertEquals(incremental.positions(), rebuilt.positions());
+            assertEquals(List.of("GBP"), rebuilt.unpricedCurrencies());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.cryfirock.account.fixture.AccountTestFixtures.account;
+import static com.cryfirock.account.fixture.AccountTestFixtures.assertBalance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.AccountAvailabilityDto;
+import com.cryfirock.account.dto.HoldCaptureRequestDto;
+import com.cryfirock.account.dto.HoldRequestDto;
+import com.cryfirock.account.dto.HoldResponseDto;
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.helper.HoldWriterHelper;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.service.api.IHoldService;
+import com.cryfirock.account.service.api.ITransferService;
+import com.cryfirock.account.type.HoldStatus;
+
+/**
+ * 1. Tests de integración para el servicio de retenciones de fondos.
+ * 2. No es transaccional porque las retenciones se escriben desde otro hilo.
+ * 3. Usa un tick corto para comprobar el vencimiento sin largas esperas.
+ * 4. Usa su propia base de datos para no reiniciar las secuencias de otros contextos.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {
+        "account.holds.tick-ms=10",
+        "spring.datasource.url=jdbc:h2:mem:holds;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+}) @ActiveProfiles("test")
+class HoldServiceImplIntegrationTest {
+    @Autowired
+    private IHoldService holdService;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Autowired
+    private ITransferService transferService;
+
+    @Autowired
+    private HoldWriterHelper holdWriterHelper;
+
+    @Nested @DisplayName("Tests para create")
+    class CreateTests {
+
+        @Test @DisplayName("Debe reducir el disponible y rechazar retenciones que no cubre")
+        void shouldReserveAvailableFunds() {
+            // Arrange.
+            Long accountId = account("ES00HOLD-CREATE").balance("100").create(accountService);
+            holdService.create(new HoldRequestDto("auth-1", accountId, new BigDecimal("60"), 60L));
+
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> holdService.create(new HoldRequestDto("auth-2", accountId, new BigDecimal("40.0001"), 60L)));
+            AccountAvailabilityDto availability = holdService.findAvailability(accountId);
+
+            // Assert.
+            assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+            assertAmount("100", availability.balance());
+            assertAmount("60", availability.reserved());
+            assertAmount("40", availability.available());
+        }
+
+        @Test @DisplayName("Debe persistir la retención de forma asíncrona")
+        void shouldPersistHold() {
+            // Arrange.
+            Long accountId = account("ES00HOLD-PERSIST").balance("100").create(accountService);
+            HoldResponseDto hold = holdService.create(new HoldRequestDto("auth-3", accountId, BigDecimal.TEN, 60L));
+
+            // Act.
+            holdService.release(hold.id());
+            assertTrue(holdWriterHelper.flush(5_000));
+
+            // Assert.
+            assertEquals(HoldStatus.RELEASED, holdService.findById(hold.id()).status());
+            assertAmount("100", holdService.findAvailability(accountId).available());
+        }
+    }
+
+    @Nested @DisplayName("Tests para capture")
+    class CaptureTests {
+
+        @Test @DisplayName("Debe transferir el importe capturado y liberar el resto")
+        void shouldCapturePartially() {
+            // Arrange.
+            Long source = account("ES00HOLD-SOURCE").balance("100").create(accountService);
+            Long target = account("ES00HOLD-TARGET").create(accountService);
+            HoldResponseDto hold = holdService.create(new HoldRequestDto("auth-4", source, new BigDecimal("50"), 60L));
+
+            // Act.
+            HoldResponseDto captured = holdService.capture(
+                    hold.id(),
+                    new HoldCaptureRequestDto(target, new BigDecimal("30")));
+
+            // Assert.
+            assertEquals(HoldStatus.CAPTURED, captured.status());
+            assertAmount("30", captured.capturedAmount());
+            AccountAvailabilityDto availability = holdService.findAvailability(source);
+            assertAmount("70", availability.balance());
+            assertAmount("0", availability.reserved());
+            assertBalance(accountService, "30", target);
+            assertTrue(holdWriterHelper.flush(5_000));
+            assertEquals(HttpStatus.CONFLICT, assertThrows(
+                    ResponseStatusException.class,
+                    () -> holdService.release(hold.id())).getStatusCode());
+            assertEquals(HttpStatus.NOT_FOUND, assertThrows(
+                    ResponseStatusException.class,
+                    () -> holdService.release(UUID.randomUUID())).getStatusCode());
+        }
+
+        @Test @DisplayName("Debe guardar la captura en la transacción de la transferencia")
+        void shouldPersistCaptureWithTransfer() {
+            // Arrange.
+            Long source = account("ES00HOLD-SYNC").balance("100").create(accountService);
+            Long target = account("ES00HOLD-SYNC-TO").create(accountService);
+            HoldResponseDto hold = holdService.create(new HoldRequestDto("auth-7", source, new BigDecimal("40"), 60L));
+
+            // Act.
+            holdService.capture(hold.id(), new HoldCaptureRequestDto(target, null));
+            HoldResponseDto stored = holdService.findById(hold.id());
+
+            // Assert.
+            assertEquals(HoldStatus.CAPTURED, stored.status());
+            assertAmount("40", stored.capturedAmount());
+            assertTrue(holdWriterHelper.flush(5_000));
+            assertEquals(HoldStatus.CAPTURED, holdService.findById(hold.id()).status());
+        }
+
+        @Test @DisplayName("Debe mantener activa la retención si la transferencia falla")
+        void shouldRestoreHoldOnFailedTransfer() {
+            // Arrange.
+            Long source = account("ES00HOLD-FAILED").balance("100").create(accountService);
+            HoldResponseDto hold = holdService.create(new HoldRequestDto("auth-5", source, new BigDecimal("50"), 60L));
+
+            // Act.
+            assertThrows(
+                    ResponseStatusException.class,
+                    () -> holdService.capture(hold.id(), new HoldCaptureRequestDto(Long.MAX_VALUE, null)));
+
+            // Assert.
+            assertEquals(HoldStatus.ACTIVE, holdService.findById(hold.id()).status());
+            assertAmount("50", holdService.findAvailability(source).reserved());
+        }
+    }
+
+    @Nested @DisplayName("Tests para el disponible")
+    class AvailableTests {
+
+        @Test @DisplayName("Debe rechazar una transferencia que consume fondos retenidos")
+        void shouldRejectTransferOfHeldFunds() {
+            // Arrange.
+            Long source = account("ES00HOLD-AVAIL").balance("100").create(accountService);
+            Long target = account("ES00HOLD-AVAIL-TO").create(accountService);
+            holdService.create(new HoldRequestDto("auth-8", source, new BigDecimal("70"), 60L));
+
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> transferService.transfer(new TransferRequestDto("t", source, target, new BigDecimal("31"))));
+            transferService.transfer(new TransferRequestDto("t", source, target, new BigDecimal("30")));
+
+            // Assert.
+            assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+            assertBalance(accountService, "70", source);
+            assertAmount("0", holdService.findAvailability(source).available());
+        }
+    }
+
+    @Nested @DisplayName("Tests para el vencimiento")
+    class ExpiryTests {
+
+        @Test @DisplayName("Debe liberar la retención al vencer su plazo")
+        void shouldExpireHold() throws InterruptedException {
+            // Arrange.
+            Long accountId = account("ES00HOLD-EXPIRY").balance("100").create(accountService);
+            HoldResponseDto hold = holdService.create(new HoldRequestDto("auth-6", accountId, BigDecimal.TEN, 1L));
+
+            // Act.
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (holdService.findAvailability(accountId).reserved().signum() != 0
+                    && System.currentTimeMillis() < deadline)
+                Thread.sleep(20);
+            assertTrue(holdWriterHelper.flush(5_000));
+
+            // Assert.
+            assertAmount("100", holdService.findAvailability(accountId).available());
+            assertEquals(HoldStatus.EXPIRED, holdService.findById(hold.id()).status());
+        }
+    }
+
+    /**
+     * Compara dos importes sin tener en cuenta la escala.
+     *
+     * @param expected Importe esperado.
+     * @param actual Importe obtenido.
+     */
+    private static void assertAmount(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), "Amount: " + actual);
+    }
+}
@@ -0,0 +1,187 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.cryfirock.account.fixture.AccountTestFixtures.account;
+import static com.cryfirock.account.fixture.AccountTestFixtures.assertBalance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.InterestAccrualResultDto;
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.entity.InterestAccrualChunk;
+import com.cryfirock.account.repository.JpaInterestAccrualChunkRepository;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.service.api.IInterestAccrualService;
+import com.cryfirock.account.service.api.ITransferService;
+import com.cryfirock.account.type.AccountNature;
+import com.cryfirock.account.type.AccountOperational;
+
+/**
+ * 1. Tests de integración para el devengo diario de intereses.
+ * 2. No es transaccional porque cada bloque confirma su transacción en otro hilo.
+ * 3. Usa su propia base de datos y la recrea tras cada test.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {
+        "account.interest.annual-rate=0.01",
+        "account.interest.chunk-size=2",
+        "account.interest.workers=2",
+        "account.interest.natures=CUSTOMER,TREASURY",
+        "spring.datasource.url=jdbc:h2:mem:interest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+}) @ActiveProfiles("test") @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class InterestAccrualServiceImplIntegrationTest {
+    // Día devengado en los tests.
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2026, 10, 16);
+
+    @Autowired
+    private IInterestAccrualService interestAccrualService;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Autowired
+    private ITransferService transferService;
+
+    @Autowired
+    private JpaInterestAccrualChunkRepository chunkRepository;
+
+    @Nested @DisplayName("Tests para accrue")
+    class AccrueTests {
+
+        @Test @DisplayName("Debe devengar el interés diario de todas las cuentas por bloques")
+        void shouldAccrueAllAccounts() {
+            // Arrange.
+            Long accrual = createAccrualAccount();
+            List<Long> customers = createCustomers(5);
+            account("ES00INT-EMPTY").create(accountService);
+
+            // Act.
+            InterestAccrualResultDto result = interestAccrualService.accrue(BUSINESS_DATE);
+
+            // Assert.
+            assertEquals(3, result.chunks());
+            assertEquals(0, result.resumedChunks());
+            assertEquals(5, result.accounts());
+            for (Long customer : customers) assertBalance(accountService, "36501", customer);
+            assertBalance(accountService, "-5", accrual);
+        }
+
+        @Test @DisplayName("Debe devengar el saldo guardado en las fracciones de una cuenta concurrida")
+        void shouldAccrueSlottedBalance() {
+            // Arrange.
+            Long accrual = createAccrualAccount();
+            Long treasury = account("ES00INT-TREASURY").nature(AccountNature.TREASURY).create(accountService);
+            Long funding = account("ES00INT-FUNDING").balance("36500").create(accountService);
+            transferService.transfer(new TransferRequestDto("fund", funding, treasury, new BigDecimal("36500")));
+
+            // Act.
+            InterestAccrualResultDto result = interestAccrualService.accrue(BUSINESS_DATE);
+
+            // Assert.
+            assertEquals(1, result.accounts());
+            assertBalance(accountService, "36501", treasury);
+            assertBalance(accountService, "0", funding);
+            assertBalance(accountService, "-1", accrual);
+        }
+
+        @Test @DisplayName("Debe reanudar el día sin volver a devengar los bloques completados")
+        void shouldResumeFromCheckpoints() {
+            // Arrange.
+            Long accrual = createAccrualAccount();
+            List<Long> customers = createCustomers(5);
+            // Rango fijo de dos ids que contiene al primer cliente.
+            long after = (customers.get(0) - 1) / 2 * 2;
+            chunkRepository.save(new InterestAccrualChunk(BUSINESS_DATE, after, after + 2, 1));
+            long skipped = customers.stream().filter(customer -> customer <= after + 2).count();
+
+            // Act.
+            InterestAccrualResultDto resumed = interestAccrualService.accrue(BUSINESS_DATE);
+            InterestAccrualResultDto rerun = interestAccrualService.accrue(BUSINESS_DATE);
+
+            // Assert.
+            assertEquals(1, resumed.resumedChunks());
+            assertEquals(5 - skipped, resumed.accounts());
+            assertEquals(0, rerun.chunks());
+            assertEquals(resumed.chunks() + 1, rerun.resumedChunks());
+            for (Long customer : customers)
+                assertBalance(accountService, customer <= after + 2 ? "36500" : "36501", customer);
+            assertBalance(accountService, String.valueOf(skipped - 5), accrual);
+        }
+
+        @Test @DisplayName("Debe abonar una sola vez cada cuenta aunque se lancen dos devengos a la vez")
+        void shouldCreditOnceWithConcurrentRuns() {
+            // Arrange.
+            Long accrual = createAccrualAccount();
+            List<Long> customers = createCustomers(5);
+            CountDownLatch start = new CountDownLatch(1);
+
+            // Act.
+            List<CompletableFuture<Long>> runs = new ArrayList<>();
+            for (int i = 0; i < 2; i++)
+                runs.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                        return interestAccrualService.accrue(BUSINESS_DATE).accounts();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(exception);
+                    } catch (ResponseStatusException exception) {
+                        // El devengo que llega tarde se rechaza porque el día ya está en curso.
+                        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+                        return 0L;
+                    }
+                }));
+            start.countDown();
+            long credited = runs.stream().mapToLong(CompletableFuture::join).sum();
+
+            // Assert.
+            assertTrue(credited <= 5);
+            for (Long customer : customers) assertBalance(accountService, "36501", customer);
+            assertBalance(accountService, "-5", accrual);
+            assertEquals(0, interestAccrualService.accrue(BUSINESS_DATE).accounts());
+        }
+    }
+
+    /**
+     * Crea la cuenta de sistema que paga los intereses en euros.
+     *
+     * @return Identificador de la cuenta creada.
+     */
+    private Long createAccrualAccount() {
+        return account("ES00INT-ACCRUAL")
+                .nature(AccountNature.SYSTEM)
+                .operational(AccountOperational.INTEREST_ACCRUAL)
+                .create(accountService);
+    }
+
+    /**
+     * Crea cuentas de cliente cuyo interés diario al 1 % es una unidad.
+     *
+     * @param count Número de cuentas.
+     * @return Identificadores de las cuentas en orden de creación.
+     */
+    private List<Long> createCustomers(int count) {
+        List<Long> customers = new ArrayList<>();
+        for (int i = 0; i < count; i++)
+            customers.add(account("ES00INT-C" + i).balance("36500").create(accountService));
+        return customers;
+    }
+}
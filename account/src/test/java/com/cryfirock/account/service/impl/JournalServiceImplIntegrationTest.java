@@ -0,0 +1,198 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static com.cryfirock.account.fixture.AccountTestFixtures.account;
+import static com.cryfirock.account.fixture.AccountTestFixtures.assertBalance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.JournalEntryRequestDto;
+import com.cryfirock.account.dto.PostingDto;
+import com.cryfirock.account.repository.JpaAccountRepository;
+import com.cryfirock.account.repository.JpaPostingRepository;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.service.api.IJournalService;
+import com.cryfirock.account.type.Money;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 1. Tests de integración para el diario contable.
+ * 2. Verifica la proyección del saldo a partir de los apuntes.
+ * 3. Usa la base de datos H2 del perfil de pruebas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest @ActiveProfiles("test") @Transactional
+class JournalServiceImplIntegrationTest {
+
+    @Autowired
+    private IJournalService journalService;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Autowired
+    private JpaAccountRepository accountRepository;
+
+    @Autowired
+    private JpaPostingRepository postingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Nested @DisplayName("Tests para post")
+    class PostTests {
+
+        @Test @DisplayName("Debe mover el saldo entre cuentas y registrar los apuntes")
+        void shouldMoveBalanceBetweenAccounts() {
+            // Arrange.
+            Long source = createAccount("ES00JOURNAL1", "100.00");
+            Long target = createAccount("ES00JOURNAL2", "0");
+
+            // Act.
+            Long entryId = journalService.post(transfer(source, target, "30.25")).id();
+            entityManager.flush();
+            entityManager.clear();
+
+            // Assert.
+            assertBalance(accountService, "69.75", source);
+            assertBalance(accountService, "30.25", target);
+            assertEquals(2, postingRepository.findAllByJournalEntryId(entryId).size());
+        }
+
+        @Test @DisplayName("Debe rechazar un asiento que no cuadra")
+        void shouldRejectUnbalancedEntry() {
+            // Arrange.
+            Long source = createAccount("ES00JOURNAL3", "10");
+            JournalEntryRequestDto request = new JournalEntryRequestDto(
+                    "unbalanced",
+                    null,
+                    List.of(
+                            new PostingDto(source, new BigDecimal("-5")),
+                            new PostingDto(source, new BigDecimal("4"))));
+
+            // Act & Assert.
+            assertThrows(ResponseStatusException.class, () -> journalService.post(request));
+        }
+
+        @Test @DisplayName("Debe rechazar un asiento sobre una cuenta inexistente")
+        void shouldRejectEntryForMissingAccount() {
+            // Arrange.
+            Long source = createAccount("ES00JOURNAL4", "10");
+
+            // Act & Assert.
+            assertThrows(
+                    ResponseStatusException.class,
+                    () -> journalService.post(transfer(source, 999_999L, "1")));
+        }
+
+        @Test @DisplayName("Debe rechazar un asiento entre cuentas de distinta divisa")
+        void shouldRejectMixedCurrencyEntry() {
+            // Arrange.
+            Long source = createAccount("ES00JOURNAL9", "100", "EUR");
+            Long target = createAccount("ES00JOURNAL10", "0", "JPY");
+
+            // Act & Assert.
+            assertThrows(
+                    ResponseStatusException.class,
+                    () -> journalService.post(transfer(source, target, "100")));
+        }
+    }
+
+    @Nested @DisplayName("Tests para rebuildBalance")
+    class RebuildBalanceTests {
+
+        @Test @DisplayName("Debe reconstruir el saldo a partir de los apuntes")
+        void shouldRebuildBalanceFromPostings() {
+            // Arrange.
+            Long source = createAccount("ES00JOURNAL5", "50");
+            Long target = createAccount("ES00JOURNAL6", "0");
+            journalService.post(transfer(source, target, "20"));
+            accountRepository.setBalance(source, Money.of(new BigDecimal("999")));
+
+            // Act.
+            Money rebuilt = journalService.rebuildBalance(source);
+            entityManager.clear();
+
+            // Assert.
+            assertEquals(Money.of(new BigDecimal("30")), rebuilt);
+            assertBalance(accountService, "30", source);
+        }
+    }
+
+    @Nested @DisplayName("Tests para update de cuentas")
+    class UpdateTests {
+
+        @Test @DisplayName("Debe conservar el saldo del diario al actualizar la cuenta")
+        void shouldKeepJournalBalanceOnUpdate() {
+            // Arrange.
+            Long source = createAccount("ES00JOURNAL7", "40");
+            Long target = createAccount("ES00JOURNAL8", "0");
+            journalService.post(transfer(source, target, "15"));
+            entityManager.clear();
+
+            // Act.
+            accountService.update(source, account("ES00JOURNAL7").owner(523L).balance("1000000").build());
+            entityManager.flush();
+            entityManager.clear();
+
+            // Assert.
+            assertBalance(accountService, "25", source);
+        }
+    }
+
+    /**
+     * Crea una cuenta con el saldo de apertura indicado.
+     *
+     * @param iban IBAN de la cuenta.
+     * @param balance Saldo de apertura.
+     * @return Identificador de la cuenta creada.
+     */
+    private Long createAccount(String iban, String balance) {
+        return createAccount(iban, balance, "EUR");
+    }
+
+    /**
+     * Crea una cuenta en una divisa con el saldo de apertura indicado.
+     *
+     * @param iban IBAN de la cuenta.
+     * @param balance Saldo de apertura.
+     * @param currencyCode Divisa de la cuenta.
+     * @return Identificador de la cuenta creada.
+     */
+    private Long createAccount(String iban, String balance, String currencyCode) {
+        Long id = account(iban).owner(523L).currency(currencyCode).balance(balance).create(accountService);
+        entityManager.flush();
+        return id;
+    }
+
+    /**
+     * Construye un asiento de transferencia entre dos cuentas.
+     *
+     * @param source Cuenta de origen.
+     * @param target Cuenta de destino.
+     * @param amount Importe transferido.
+     * @return Petición del asiento.
+     */
+    private static JournalEntryRequestDto transfer(Long source, Long target, String amount) {
+        return new JournalEntryRequestDto(
+                "test",
+                null,
+                List.of(
+                        new PostingDto(source, new BigDecimal(amount).negate()),
+                        new PostingDto(target, new BigDecimal(amount))));
+    }
+}
@@ -0,0 +1,119 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static com.cryfirock.account.fixture.AccountTestFixtures.account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cryfirock.account.dto.NetPositionDto;
+import com.cryfirock.account.dto.NettingResultDto;
+import com.cryfirock.account.dto.SettlementInstructionDto;
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.service.api.INettingService;
+import com.cryfirock.account.service.api.ITransferService;
+import com.cryfirock.account.type.AccountOperational;
+
+/**
+ * 1. Tests de integración para el lote de compensación multilateral.
+ * 2. Usa su propia base de datos H2.
+ * 3. Cada obligación es un bloque y el pool tiene un hilo, así se unen bloques mientras se lee.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {
+        "account.netting.chunk-size=1",
+        "account.netting.parallelism=1",
+        "spring.datasource.url=jdbc:h2:mem:netting;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+}) @ActiveProfiles("test") @Transactional
+class NettingServiceImplIntegrationTest {
+    @Autowired
+    private INettingService nettingService;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Autowired
+    private ITransferService transferService;
+
+    @Nested @DisplayName("Tests para net")
+    class NetTests {
+
+        @Test @DisplayName("Debe compensar las obligaciones del día por participante")
+        void shouldNetObligationsByParticipant() {
+            // Arrange.
+            Long bankA = createAccount(9001L, "ES00NET-A", AccountOperational.NETTING);
+            Long bankB = createAccount(9002L, "ES00NET-B", AccountOperational.CLEARING);
+            Long bankC = createAccount(9003L, "ES00NET-C", AccountOperational.NETTING);
+            transfer(bankA, bankB, "100");
+            transfer(bankB, bankC, "100");
+            transfer(bankC, bankA, "30");
+            transfer(bankB, bankA, "20");
+
+            // Act.
+            NettingResultDto result = nettingService.net(LocalDate.now(ZoneOffset.UTC));
+
+            // Assert.
+            assertEquals(8, result.obligations());
+            assertEquals(
+                    List.of(new NetPositionDto(9001L, "EUR", new BigDecimal("-50.0000")),
+                            new NetPositionDto(9002L, "EUR", new BigDecimal("-20.0000")),
+                            new NetPositionDto(9003L, "EUR", new BigDecimal("70.0000"))),
+                    result.positions());
+            assertEquals(
+                    List.of(new SettlementInstructionDto("EUR", 9001L, 9003L, new BigDecimal("50.0000")),
+                            new SettlementInstructionDto("EUR", 9002L, 9003L, new BigDecimal("20.0000"))),
+                    result.instructions());
+        }
+
+        @Test @DisplayName("Debe ignorar los apuntes de otros días")
+        void shouldIgnoreOtherDays() {
+            // Arrange.
+            Long bankA = createAccount(9001L, "ES00NET-A", AccountOperational.NETTING);
+            Long bankB = createAccount(9002L, "ES00NET-B", AccountOperational.NETTING);
+            transfer(bankA, bankB, "100");
+
+            // Act.
+            NettingResultDto result = nettingService.net(LocalDate.now(ZoneOffset.UTC).minusDays(1));
+
+            // Assert.
+            assertEquals(0, result.obligations());
+            assertEquals(List.of(), result.instructions());
+        }
+    }
+
+    /**
+     * Crea una cuenta de compensación de un participante.
+     *
+     * @param ownerId Participante titular de la cuenta.
+     * @param iban IBAN de la cuenta.
+     * @param operational Semántica de la cuenta.
+     * @return Identificador de la cuenta creada.
+     */
+    private Long createAccount(Long ownerId, String iban, AccountOperational operational) {
+        return account(iban).owner(ownerId).operational(operational).balance("1000").create(accountService);
+    }
+
+    /**
+     * Transfiere un importe entre dos cuentas.
+     *
+     * @param source Cuenta de origen.
+     * @param target Cuenta de destino.
+     * @param amount Importe a transferir.
+     */
+    private void transfer(Long source, Long target, String amount) {
+        transferService.transfer(new TransferRequestDto("netting", source, target, new BigDecimal(amount)));
+    }
+}
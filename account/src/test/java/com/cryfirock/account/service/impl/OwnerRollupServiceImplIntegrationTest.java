@@ -0,0 +1,128 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static com.cryfirock.account.fixture.AccountTestFixtures.account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cryfirock.account.dto.OwnerBalanceDto;
+import com.cryfirock.account.dto.OwnerSummaryDto;
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.service.api.IOwnerRollupService;
+import com.cryfirock.account.service.api.ITransferService;
+import com.cryfirock.account.type.AccountNature;
+
+/**
+ * 1. Tests de integración para los resúmenes de saldos por titular.
+ * 2. No es transaccional porque los resúmenes se actualizan tras el commit.
+ * 3. Usa su propia base de datos y dos hilos para la reconstrucción.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {
+        "account.owner-rollups.workers=2",
+        "spring.datasource.url=jdbc:h2:mem:owners;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+}) @ActiveProfiles("test")
+class OwnerRollupServiceImplIntegrationTest {
+    @Autowired
+    private IOwnerRollupService ownerRollupService;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Autowired
+    private ITransferService transferService;
+
+    @Nested @DisplayName("Tests para findByOwnerId")
+    class FindByOwnerIdTests {
+
+        @Test @DisplayName("Debe mantener los saldos por titular y divisa al crear, mover y eliminar cuentas")
+        void shouldFollowAccountChanges() {
+            // Arrange.
+            Long source = account("OWN-A").owner(7001L).balance("100").create(accountService);
+            account("OWN-B").owner(7001L).nature(AccountNature.TREASURY).balance("50").create(accountService);
+            Long moved = account("OWN-C").owner(7001L).currency("USD").balance("20").create(accountService);
+            Long target = account("OWN-D").owner(7002L).balance("10").create(accountService);
+            Long deleted = account("OWN-E").owner(7002L).currency("GBP").balance("5").create(accountService);
+            transferService.transfer(new TransferRequestDto("own", source, target, new BigDecimal("30")));
+            accountService.update(moved, account("OWN-C").owner(7002L).currency("USD").balance(null).build());
+            accountService.delete(deleted);
+
+            // Act.
+            OwnerSummaryDto first = ownerRollupService.findByOwnerId(7001L);
+            OwnerSummaryDto second = ownerRollupService.findByOwnerId(7002L);
+
+            // Assert.
+            assertEquals(
+                    new OwnerSummaryDto(7001L, List.of(new OwnerBalanceDto("EUR", new BigDecimal("120.0000"), 2))),
+                    first);
+            assertEquals(
+                    new OwnerSummaryDto(7002L, List.of(
+                            new OwnerBalanceDto("EUR", new BigDecimal("40.0000"), 1),
+                            new OwnerBalanceDto("USD", new BigDecimal("20.0000"), 1))),
+                    second);
+        }
+
+        @Test @DisplayName("Debe obtener los mismos saldos tras reconstruir el modelo en paralelo")
+        void shouldRebuildSameRollups() {
+            // Arrange.
+            for (int i = 0; i < 5; i++)
+                account("OWN-R" + i).owner(7101L + i % 2).balance(String.valueOf(i + 1)).create(accountService);
+            OwnerSummaryDto odd = ownerRollupService.findByOwnerId(7101L);
+            OwnerSummaryDto even = ownerRollupService.findByOwnerId(7102L);
+
+            // Act.
+            ownerRollupService.rebuild();
+
+            // Assert.
+            assertEquals(
+                    new OwnerSummaryDto(7101L, List.of(new OwnerBalanceDto("EUR", new BigDecimal("9.0000"), 3))),
+                    odd);
+            assertEquals(odd, ownerRollupService.findByOwnerId(7101L));
+            assertEquals(even, ownerRollupService.findByOwnerId(7102L));
+        }
+
+        @Test @DisplayName("Debe contar una sola vez las transferencias confirmadas durante una reconstrucción")
+        void shouldCountTransfersDuringRebuildOnce() {
+            // Arrange.
+            Long source = account("OWN-S").owner(7201L).balance("100").create(accountService);
+            Long target = account("OWN-T").owner(7202L).create(accountService);
+            CompletableFuture<Void> transfers = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 40; i++)
+                    transferService.transfer(new TransferRequestDto("own-" + i, source, target, BigDecimal.ONE));
+            });
+
+            // Act.
+            while (!transfers.isDone()) ownerRollupService.rebuild();
+            transfers.join();
+
+            // Assert.
+            assertEquals(
+                    new OwnerSummaryDto(7201L, List.of(new OwnerBalanceDto("EUR", new BigDecimal("60.0000"), 1))),
+                    ownerRollupService.findByOwnerId(7201L));
+            assertEquals(
+                    new OwnerSummaryDto(7202L, List.of(new OwnerBalanceDto("EUR", new BigDecimal("40.0000"), 1))),
+                    ownerRollupService.findByOwnerId(7202L));
+        }
+
+        @Test @DisplayName("Debe devolver un resumen vacío si el titular no tiene cuentas")
+        void shouldReturnEmptySummary() {
+            // Act.
+            OwnerSummaryDto result = ownerRollupService.findByOwnerId(7999L);
+
+            // Assert.
+            assertEquals(new OwnerSummaryDto(7999L, List.of()), result);
+        }
+    }
+}
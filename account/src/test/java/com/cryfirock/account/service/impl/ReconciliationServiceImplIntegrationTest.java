@@ -0,0 +1,133 @@
+package com.cryfirock.account.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static com.cryfirock.account.fixture.AccountTestFixtures.account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.ReconciliationBreakDto;
+import com.cryfirock.account.dto.ReconciliationResultDto;
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.repository.JpaReconciliationBreakRepository;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.service.api.IReconciliationService;
+import com.cryfirock.account.service.api.ITransferService;
+import com.cryfirock.account.type.AccountNature;
+import com.cryfirock.account.type.ReconciliationBreakType;
+
+/**
+ * 1. Tests de integración para la conciliación de saldos con extractos.
+ * 2. No es transaccional porque cada partición confirma su transacción en otro hilo.
+ * 3. Usa particiones de dos líneas y su propia base de datos.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {
+        "account.reconciliation.partition-size=2",
+        "account.reconciliation.workers=2",
+        "spring.datasource.url=jdbc:h2:mem:reconciliation;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+}) @ActiveProfiles("test")
+class ReconciliationServiceImplIntegrationTest {
+    @Autowired
+    private IReconciliationService reconciliationService;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Autowired
+    private ITransferService transferService;
+
+    @Autowired
+    private JpaReconciliationBreakRepository breakRepository;
+
+    @Nested @DisplayName("Tests para reconcile")
+    class ReconcileTests {
+
+        @Test @DisplayName("Debe escribir en el informe las cuentas que no cuadran con el extracto")
+        void shouldReportBreaks() {
+            // Arrange.
+            Long a = account("ES00REC-A").balance("100").create(accountService);
+            Long b = account("ES00REC-B").balance("50").create(accountService);
+            Long c = account("ES00REC-C").nature(AccountNature.TREASURY).balance("10").create(accountService);
+            Long d = account("ES00REC-D").balance("20").create(accountService);
+            transferService.transfer(new TransferRequestDto("rec", a, c, new BigDecimal("5")));
+
+            // Act.
+            ReconciliationResultDto result = reconcile("""
+                    iban,balance
+                    ES00REC-A,95
+                    ES00REC-B,49.5
+                    ES00REC-C,15.0000
+                    ES00REC-E,5
+                    """);
+            List<ReconciliationBreakDto> breaks = reconciliationService.findBreaks(result.runId());
+
+            // Assert.
+            assertEquals(5, result.accounts());
+            assertEquals(2, result.matched());
+            assertEquals(3, result.breaks());
+            assertEquals(
+                    List.of(
+                            new ReconciliationBreakDto("ES00REC-B", b, new BigDecimal("50.0000"),
+                                    new BigDecimal("49.5000"), ReconciliationBreakType.AMOUNT_MISMATCH),
+                            new ReconciliationBreakDto("ES00REC-D", d, new BigDecimal("20.0000"),
+                                    null, ReconciliationBreakType.MISSING_IN_STATEMENT),
+                            new ReconciliationBreakDto("ES00REC-E", null, null,
+                                    new BigDecimal("5.0000"), ReconciliationBreakType.MISSING_IN_LEDGER)),
+                    breaks);
+        }
+
+        @Test @DisplayName("Debe rechazar un extracto que no está ordenado por IBAN")
+        void shouldRejectUnsortedStatement() {
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> reconcile("ES00REC-Z,1\nES00REC-Y,1\n"));
+
+            // Assert.
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+            assertEquals("Line 2: statement must be sorted by IBAN without duplicates", exception.getReason());
+        }
+
+        @Test @DisplayName("Debe borrar las diferencias de las particiones enviadas si se rechaza el extracto")
+        void shouldDeleteBreaksOfRejectedStatement() {
+            // Arrange.
+            long before = breakRepository.count();
+
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> reconcile("ES00REC-M1,1\nES00REC-M2,1\nES00REC-M3,1\nES00REC-M4,x\n"));
+
+            // Assert.
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+            assertEquals("Line 4: invalid balance", exception.getReason());
+            assertEquals(before, breakRepository.count());
+        }
+    }
+
+    /**
+     * Concilia un extracto en texto.
+     *
+     * @param statement Contenido del extracto.
+     * @return Resumen de la ejecución.
+     */
+    private ReconciliationResultDto reconcile(String statement) {
+        return reconciliationService.reconcile(
+                new ByteArrayInputStream(statement.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.cryfirock.account.fixture.AccountTestFixtures.account;
+import static com.cryfirock.account.fixture.AccountTestFixtures.assertBalance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.entity.AccountBalanceSlot;
+import com.cryfirock.account.repository.JpaAccountBalanceSlotRepository;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.service.api.IJournalService;
+import com.cryfirock.account.service.api.ITransferService;
+import com.cryfirock.account.type.AccountNature;
+
+/**
+ * 1. Test de concurrencia para las transferencias contra una cuenta de tesorería.
+ * 2. Varios hilos transfieren a la vez hacia la misma cuenta concurrida.
+ * 3. Verifica que no se pierde ninguna actualización del saldo.
+ * 4. No es transaccional para que cada transferencia confirme su propia transacción.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest @ActiveProfiles("test")
+class TransferServiceImplConcurrencyTest {
+    // Número de hilos que transfieren a la vez.
+    private static final int THREADS = 8;
+    // Número de transferencias de cada hilo.
+    private static final int TRANSFERS_PER_THREAD = 100;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Autowired
+    private ITransferService transferService;
+
+    @Autowired
+    private IJournalService journalService;
+
+    @Autowired
+    private JpaAccountBalanceSlotRepository slotRepository;
+
+    @Test @DisplayName("Debe no perder actualizaciones con transferencias concurrentes a tesorería")
+    void shouldNotLoseUpdatesUnderConcurrentTransfers() throws Exception {
+        // Arrange.
+        Long treasury = account("ES00STRESS-T")
+                .nature(AccountNature.TREASURY)
+                .balance("1000000")
+                .create(accountService);
+        List<Long> customers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++)
+            customers.add(account("ES00STRESS-C" + i).balance("1000").create(accountService));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act.
+        for (Long customer : customers)
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++)
+                    transferService.transfer(new TransferRequestDto(
+                            "stress",
+                            customer,
+                            treasury,
+                            BigDecimal.ONE));
+                return null;
+            }));
+        start.countDown();
+        for (Future<?> future : futures) future.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Assert.
+        BigDecimal expectedTreasury = new BigDecimal(1000000 + THREADS * TRANSFERS_PER_THREAD);
+        assertBalance(accountService, expectedTreasury, treasury);
+        for (Long customer : customers)
+            assertBalance(accountService, new BigDecimal(1000 - TRANSFERS_PER_THREAD), customer);
+        assertTrue(slotRepository
+                .findAll()
+                .stream()
+                .filter(slot -> slot.getAccountId().equals(treasury))
+                .map(AccountBalanceSlot::getBalance)
+                .filter(balance -> balance.signum() != 0)
+                .count() > 1);
+        assertEquals(0, expectedTreasury.compareTo(journalService.rebuildBalance(treasury).toBigDecimal()));
+        assertBalance(accountService, expectedTreasury, treasury);
+    }
+}
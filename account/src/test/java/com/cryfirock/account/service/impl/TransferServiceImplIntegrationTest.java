@@ -0,0 +1,114 @@
+package com.cryfirock.account.service.impl;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static com.cryfirock.account.fixture.AccountTestFixtures.account;
+import static com.cryfirock.account.fixture.AccountTestFixtures.assertBalance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.cryfirock.account.dto.TransferRequestDto;
+import com.cryfirock.account.service.api.IAccountService;
+import com.cryfirock.account.service.api.ITransferService;
+import com.cryfirock.account.type.AccountStatus;
+
+/**
+ * 1. Tests de integración para las transferencias entre cuentas.
+ * 2. Verifica que solo se mueven fondos entre cuentas activas de la misma divisa.
+ * 3. Usa la base de datos H2 del perfil de pruebas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest @ActiveProfiles("test") @Transactional
+class TransferServiceImplIntegrationTest {
+
+    @Autowired
+    private ITransferService transferService;
+
+    @Autowired
+    private IAccountService accountService;
+
+    @Nested @DisplayName("Tests para transfer")
+    class TransferTests {
+
+        @Test @DisplayName("Debe rechazar una transferencia entre cuentas de distinta divisa")
+        void shouldRejectTransferBetweenCurrencies() {
+            // Arrange.
+            Long source = createAccount("ES00TRANSFER1", "EUR", AccountStatus.ACTIVE);
+            Long target = createAccount("ES00TRANSFER2", "USD", AccountStatus.ACTIVE);
+
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> transferService.transfer(transfer(source, target)));
+
+            // Assert.
+            assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        }
+
+        @Test @DisplayName("Debe rechazar una transferencia desde una cuenta suspendida")
+        void shouldRejectTransferFromSuspendedAccount() {
+            // Arrange.
+            Long source = createAccount("ES00TRANSFER3", "EUR", AccountStatus.SUSPENDED);
+            Long target = createAccount("ES00TRANSFER4", "EUR", AccountStatus.ACTIVE);
+
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> transferService.transfer(transfer(source, target)));
+
+            // Assert.
+            assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        }
+
+        @Test @DisplayName("Debe rechazar una transferencia hacia una cuenta cerrada")
+        void shouldRejectTransferToClosedAccount() {
+            // Arrange.
+            Long source = createAccount("ES00TRANSFER5", "EUR", AccountStatus.ACTIVE);
+            Long target = createAccount("ES00TRANSFER6", "EUR", AccountStatus.CLOSED);
+
+            // Act.
+            ResponseStatusException exception = assertThrows(
+                    ResponseStatusException.class,
+                    () -> transferService.transfer(transfer(source, target)));
+
+            // Assert.
+            assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+            assertBalance(accountService, "100", source);
+        }
+    }
+
+    /**
+     * Crea una cuenta con saldo de apertura en la divisa y el estado indicados.
+     *
+     * @param iban IBAN de la cuenta.
+     * @param currencyCode Divisa de la cuenta.
+     * @param status Estado de la cuenta.
+     * @return Identificador de la cuenta creada.
+     */
+    private Long createAccount(String iban, String currencyCode, AccountStatus status) {
+        return account(iban).currency(currencyCode).status(status).balance("100").create(accountService);
+    }
+
+    /**
+     * Construye una transferencia de diez unidades entre dos cuentas.
+     *
+     * @param source Cuenta de origen.
+     * @param target Cuenta de destino.
+     * @return Petición de la transferencia.
+     */
+    private static TransferRequestDto transfer(Long source, Long target) {
+        return new TransferRequestDto("test", source, target, BigDecimal.TEN);
+    }
+}
@@ -0,0 +1,69 @@
+package com.cryfirock.account.type;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 1. Pruebas unitarias para la clase Money.
+ * 2. Verifica la conversión desde BigDecimal y la aritmética con desbordamiento.
+ * 3. Utiliza JUnit 5 para las pruebas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class MoneyTest {
+
+    @Nested @DisplayName("Tests para of")
+    class OfTests {
+
+        @Test @DisplayName("Debe convertir un decimal en unidades mínimas y de vuelta")
+        void shouldRoundTripBigDecimal() {
+            // Act.
+            Money money = Money.of(new BigDecimal("1500.75"));
+
+            // Assert.
+            assertEquals(15_007_500L, money.minorUnits());
+            assertEquals(new BigDecimal("1500.7500"), money.toBigDecimal());
+        }
+
+        @Test @DisplayName("Debe rechazar más decimales que la escala")
+        void shouldRejectExtraDecimals() {
+            assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("0.00001")));
+        }
+
+        @Test @DisplayName("Debe rechazar importes que no caben en un long")
+        void shouldRejectOverflowingAmounts() {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> Money.of(new BigDecimal("1000000000000000000")));
+        }
+    }
+
+    @Nested @DisplayName("Tests para add")
+    class AddTests {
+
+        @Test @DisplayName("Debe sumar y restar importes")
+        void shouldAddAndSubtract() {
+            // Arrange.
+            Money amount = Money.of(new BigDecimal("10.5"));
+
+            // Act.
+            Money total = amount.plus(Money.of(new BigDecimal("-0.25"))).minus(Money.of(BigDecimal.ONE));
+
+            // Assert.
+            assertEquals(Money.of(new BigDecimal("9.25")), total);
+        }
+
+        @Test @DisplayName("Debe fallar al desbordar en lugar de dar la vuelta")
+        void shouldFailOnOverflow() {
+            assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1L));
+            assertThrows(ArithmeticException.class, () -> new Money(Long.MIN_VALUE).negate());
+        }
+    }
+}
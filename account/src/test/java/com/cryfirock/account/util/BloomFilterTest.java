@@ -0,0 +1,72 @@
+package com.cryfirock.account.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 1. Pruebas unitarias para la clase BloomFilter.
+ * 2. Verifica que no hay falsos negativos y que la tasa de falsos positivos se respeta.
+ * 3. Utiliza JUnit 5 para las pruebas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class BloomFilterTest {
+
+    @Nested @DisplayName("Tests para mightContain")
+    class MightContainTests {
+
+        @Test @DisplayName("Debe encontrar todos los textos añadidos")
+        void shouldFindEveryInsertedValue() {
+            // Arrange.
+            BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+            // Act.
+            for (int i = 0; i < 10_000; i++) filter.put("ES00" + i);
+
+            // Assert.
+            for (int i = 0; i < 10_000; i++) assertTrue(filter.mightContain("ES00" + i));
+        }
+
+        @Test @DisplayName("Debe mantener los falsos positivos cerca de la tasa configurada")
+        void shouldKeepFalsePositiveRate() {
+            // Arrange.
+            BloomFilter filter = new BloomFilter(10_000, 0.01);
+            for (int i = 0; i < 10_000; i++) filter.put("ES00" + i);
+
+            // Act.
+            int falsePositives = 0;
+            for (int i = 0; i < 100_000; i++)
+                if (filter.mightContain("DE00" + i)) falsePositives++;
+
+            // Assert.
+            assertTrue(falsePositives < 2_000, "False positives: " + falsePositives);
+        }
+    }
+
+    @Nested @DisplayName("Tests para el dimensionado")
+    class SizingTests {
+
+        @Test @DisplayName("Debe calcular los bits y las funciones hash a partir de la tasa")
+        void shouldSizeFromRate() {
+            // Act.
+            BloomFilter filter = new BloomFilter(1_000_000, 0.01);
+
+            // Assert.
+            assertEquals(9_585_088, filter.bitSize());
+            assertEquals(7, filter.hashFunctions());
+        }
+
+        @Test @DisplayName("Debe rechazar parámetros fuera de rango")
+        void shouldRejectInvalidParameters() {
+            // Assert.
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+            assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.cryfirock.account.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 1. Pruebas unitarias para la clase HierarchicalTimerWheel.
+ * 2. Verifica el vencimiento en el nivel inferior y el paso entre niveles.
+ * 3. El tiempo se avanza a mano para no depender del reloj.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class HierarchicalTimerWheelTest {
+    private HierarchicalTimerWheel<String> wheel;
+    private List<String> expired;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimerWheel<>(10, 8, 0);
+        expired = new ArrayList<>();
+    }
+
+    @Nested @DisplayName("Tests para schedule")
+    class ScheduleTests {
+
+        @Test @DisplayName("Debe vencer al momento los plazos ya pasados")
+        void shouldExpirePastDeadlines() {
+            // Act.
+            wheel.schedule(5, "past", expired::add);
+
+            // Assert.
+            assertEquals(List.of("past"), expired);
+            assertEquals(0, wheel.size());
+        }
+    }
+
+    @Nested @DisplayName("Tests para advance")
+    class AdvanceTests {
+
+        @Test @DisplayName("Debe vencer los elementos en el tick de su plazo")
+        void shouldExpireOnDeadlineTick() {
+            // Arrange.
+            wheel.schedule(25, "a", expired::add);
+            wheel.schedule(45, "b", expired::add);
+
+            // Act.
+            wheel.advance(19, expired::add);
+            List<String> before = List.copyOf(expired);
+            wheel.advance(29, expired::add);
+
+            // Assert.
+            assertTrue(before.isEmpty());
+            assertEquals(List.of("a"), expired);
+            assertEquals(1, wheel.size());
+        }
+
+        @Test @DisplayName("Debe vencer en orden los plazos que superan varios niveles")
+        void shouldCascadeAcrossLevels() {
+            // Arrange.
+            long[] deadlines = { 75, 85, 650, 5_000, 42_000 };
+            for (long deadline : deadlines) wheel.schedule(deadline, Long.toString(deadline), expired::add);
+
+            // Act & Assert.
+            for (long deadline : deadlines) {
+                wheel.advance(deadline - 10, expired::add);
+                assertTrue(!expired.contains(Long.toString(deadline)), "Early expiry of " + deadline);
+                wheel.advance(deadline, expired::add);
+                assertTrue(expired.contains(Long.toString(deadline)), "Missed expiry of " + deadline);
+            }
+            assertEquals(0, wheel.size());
+        }
+
+        @Test @DisplayName("Debe entregar los vencidos sin retener el monitor de la rueda")
+        void shouldExpireOutsideMonitor() {
+            // Arrange.
+            wheel.schedule(25, "a", expired::add);
+            List<Boolean> held = new ArrayList<>();
+
+            // Act.
+            wheel.advance(29, item -> held.add(Thread.holdsLock(wheel)));
+
+            // Assert.
+            assertEquals(List.of(false), held);
+            assertEquals(0, wheel.size());
+        }
+
+        @Test @DisplayName("Debe vencer todos los elementos de un mismo tick")
+        void shouldExpireManyItems() {
+            // Arrange.
+            for (int i = 0; i < 10_000; i++) wheel.schedule(1_000 + i % 7, "item" + i, expired::add);
+
+            // Act.
+            wheel.advance(1_010, expired::add);
+
+            // Assert.
+            assertEquals(10_000, expired.size());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.cryfirock.account.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 1. Pruebas unitarias para la clase IbanValidator.
+ * 2. Verifica el módulo 97 y el formato electrónico de ISO 13616.
+ * 3. Utiliza JUnit 5 para las pruebas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class IbanValidatorTest {
+
+    @Nested @DisplayName("Tests para isValid")
+    class IsValidTests {
+
+        @Test @DisplayName("Debe aceptar IBAN con dígitos de control correctos")
+        void shouldAcceptValidIbans() {
+            // Assert.
+            assertTrue(IbanValidator.isValid("ES9121000418450200051332"));
+            assertTrue(IbanValidator.isValid("DE89370400440532013000"));
+            assertTrue(IbanValidator.isValid("GB82WEST12345698765432"));
+            assertTrue(IbanValidator.isValid("NO9386011117947"));
+        }
+
+        @Test @DisplayName("Debe rechazar IBAN con dígitos de control incorrectos")
+        void shouldRejectWrongCheckDigits() {
+            // Assert.
+            assertFalse(IbanValidator.isValid("ES9121000418450200051333"));
+            assertFalse(IbanValidator.isValid("GB82WEST12345698765423"));
+            assertFalse(IbanValidator.isValid("DE00370400440532013000"));
+        }
+
+        @Test @DisplayName("Debe rechazar IBAN fuera del formato electrónico")
+        void shouldRejectMalformedIbans() {
+            // Assert.
+            assertFalse(IbanValidator.isValid(null));
+            assertFalse(IbanValidator.isValid(""));
+            assertFalse(IbanValidator.isValid("NO938601111794"));
+            assertFalse(IbanValidator.isValid("ES91 2100 0418 4502 0005 1332"));
+            assertFalse(IbanValidator.isValid("es9121000418450200051332"));
+            assertFalse(IbanValidator.isValid("1291210004184502000513"));
+            assertFalse(IbanValidator.isValid("ESX121000418450200051332"));
+            assertFalse(IbanValidator.isValid("ES91210004184502000513320000000000000"));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.cryfirock.account.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 1. Pruebas unitarias para la clase LongArrayMultimap.
+ * 2. Verifica la inserción, eliminación y crecimiento de la tabla.
+ * 3. Utiliza JUnit 5 para las pruebas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class LongArrayMultimapTest {
+    private LongArrayMultimap multimap;
+
+    @BeforeEach
+    void setUp() {
+        multimap = new LongArrayMultimap();
+    }
+
+    @Nested @DisplayName("Tests para put")
+    class PutTests {
+
+        @Test @DisplayName("Debe añadir valores sin duplicarlos y conservar el orden")
+        void shouldAddWithoutDuplicates() {
+            // Act.
+            boolean first = multimap.put(1L, 10L);
+            boolean second = multimap.put(1L, 20L);
+            boolean duplicate = multimap.put(1L, 10L);
+
+            // Assert.
+            assertTrue(first);
+            assertTrue(second);
+            assertFalse(duplicate);
+            assertArrayEquals(new long[] { 10L, 20L }, multimap.get(1L));
+            assertEquals(1, multimap.keyCount());
+            assertEquals(2, multimap.valueCount());
+        }
+
+        @Test @DisplayName("Debe conservar todas las claves al crecer la tabla")
+        void shouldKeepKeysAfterGrowth() {
+            // Arrange.
+            long memoryBefore = multimap.memoryBytes();
+
+            // Act.
+            for (long userId = 1; userId <= 10_000; userId++) {
+                multimap.put(userId, userId * 100);
+                multimap.put(userId, userId * 100 + 1);
+                multimap.put(userId, userId * 100 + 2);
+            }
+
+            // Assert.
+            assertEquals(10_000, multimap.keyCount());
+            assertEquals(30_000, multimap.valueCount());
+            for (long userId = 1; userId <= 10_000; userId++) {
+                assertEquals(3, multimap.count(userId));
+                assertTrue(multimap.contains(userId, userId * 100 + 2));
+            }
+            assertTrue(multimap.memoryBytes() > memoryBefore);
+        }
+    }
+
+    @Nested @DisplayName("Tests para remove")
+    class RemoveTests {
+
+        @Test @DisplayName("Debe eliminar la clave al quedarse sin valores")
+        void shouldRemoveEmptyKey() {
+            // Arrange.
+            multimap.put(1L, 10L);
+            multimap.put(1L, 20L);
+
+            // Act.
+            multimap.remove(1L, 10L);
+            multimap.remove(1L, 20L);
+
+            // Assert.
+            assertEquals(0, multimap.count(1L));
+            assertEquals(0, multimap.keyCount());
+            assertEquals(0, multimap.valueCount());
+        }
+
+        @Test @DisplayName("Debe conservar las claves que comparten secuencia de sondeo")
+        void shouldKeepProbedKeys() {
+            // Arrange.
+            for (long userId = 1; userId <= 1_000; userId++) multimap.put(userId, userId);
+
+            // Act.
+            for (long userId = 1; userId <= 1_000; userId += 2) multimap.remove(userId, userId);
+
+            // Assert.
+            assertEquals(500, multimap.keyCount());
+            for (long userId = 2; userId <= 1_000; userId += 2)
+                assertTrue(multimap.contains(userId, userId));
+        }
+
+        @Test @DisplayName("Debe eliminar un valor de todas las claves")
+        void shouldRemoveValueFromAllKeys() {
+            // Arrange.
+            for (long userId = 1; userId <= 1_000; userId++) {
+                multimap.put(userId, 7L);
+                if (userId % 2 == 0) multimap.put(userId, 8L);
+            }
+
+            // Act.
+            int removed = multimap.removeValue(7L);
+
+            // Assert.
+            assertEquals(1_000, removed);
+            assertEquals(500, multimap.keyCount());
+            assertEquals(500, multimap.valueCount());
+            for (long userId = 2; userId <= 1_000; userId += 2)
+                assertArrayEquals(new long[] { 8L }, multimap.get(userId));
+        }
+    }
+}
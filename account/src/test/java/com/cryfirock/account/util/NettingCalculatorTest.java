@@ -0,0 +1,108 @@
+package com.cryfirock.account.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.cryfirock.account.util.NettingCalculator.Chunk;
+import com.cryfirock.account.util.NettingCalculator.Instruction;
+import com.cryfirock.account.util.NettingCalculator.Position;
+
+/**
+ * 1. Pruebas unitarias para la clase NettingCalculator.
+ * 2. Compara la reducción en paralelo con una suma secuencial de obligaciones sintéticas.
+ * 3. Verifica que las instrucciones saldan todas las posiciones.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class NettingCalculatorTest {
+    private ForkJoinPool pool;
+    private NettingCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        calculator = new NettingCalculator(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Nested @DisplayName("Tests para submit")
+    class SubmitTests {
+
+        @Test @DisplayName("Debe obtener las mismas posiciones que una suma secuencial")
+        void shouldMatchSequentialSum() {
+            // Arrange.
+            Random random = new Random(42);
+            String[] currencies = { "EUR", "USD", "GBP" };
+            Map<Position, Long> expected = new HashMap<>();
+            List<ForkJoinTask<Map<Position, Long>>> tasks = new ArrayList<>();
+            Chunk chunk = new Chunk(50_000);
+
+            // Act.
+            for (int i = 0; i < 200_000; i++) {
+                long participant = random.nextInt(100);
+                String currency = currencies[random.nextInt(currencies.length)];
+                long amount = random.nextLong(-1_000_000, 1_000_000);
+                expected.merge(new Position(participant, currency), amount, Long::sum);
+                chunk.add(participant, currency, amount);
+                if (chunk.isFull()) {
+                    tasks.add(calculator.submit(chunk));
+                    chunk = new Chunk(50_000);
+                }
+            }
+            Map<Position, Long> actual = new HashMap<>();
+            for (ForkJoinTask<Map<Position, Long>> task : tasks) NettingCalculator.merge(actual, task.join());
+
+            // Assert.
+            assertEquals(4, tasks.size());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Nested @DisplayName("Tests para settle")
+    class SettleTests {
+
+        @Test @DisplayName("Debe saldar todas las posiciones con como mucho n - 1 instrucciones")
+        void shouldSettleAllPositions() {
+            // Arrange.
+            Map<Position, Long> positions = new HashMap<>();
+            positions.put(new Position(1, "EUR"), -700L);
+            positions.put(new Position(2, "EUR"), -300L);
+            positions.put(new Position(3, "EUR"), 400L);
+            positions.put(new Position(4, "EUR"), 600L);
+            positions.put(new Position(5, "USD"), -50L);
+            positions.put(new Position(6, "USD"), 50L);
+
+            // Act.
+            List<Instruction> instructions = NettingCalculator.settle(positions);
+
+            // Assert.
+            assertTrue(instructions.size() <= 4);
+            Map<Position, Long> remaining = new HashMap<>(positions);
+            for (Instruction instruction : instructions) {
+                remaining.merge(new Position(instruction.payerId(), instruction.currencyCode()), instruction.minorUnits(), Long::sum);
+                remaining.merge(new Position(instruction.payeeId(), instruction.currencyCode()), -instruction.minorUnits(), Long::sum);
+            }
+            remaining.values().forEach(amount -> assertEquals(0L, amount));
+            assertEquals(new Instruction("EUR", 1, 4, 600), instructions.get(0));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.cryfirock.auth.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cryfirock.auth.helper.RolesHelper;
+
+/**
+ * 1. Controlador REST para la administración del catálogo de roles.
+ * 2. Permite solicitudes CORS desde cualquier origen.
+ * 3. Mapea las solicitudes a /api/roles.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+@RestController @CrossOrigin @RequestMapping("/api/roles")
+public class RoleController {
+    // 1. Inyección automática del helper.
+    // 2. Helper que mantiene el catálogo de roles en memoria.
+    @Autowired
+    private RolesHelper rolesHelper;
+
+    /**
+     * 1. Recarga el catálogo de roles desde la base de datos.
+     * 2. Mapea las solicitudes POST a /api/roles/refresh.
+     * 3. Requiere que el usuario tenga el rol ADMIN para acceder a este endpoint.
+     * 4. Devuelve los nombres de los roles cargados.
+     *
+     * @return ResponseEntity con los nombres de los roles del catálogo.
+     */
+    @PreAuthorize("hasRole('ADMIN')") @PostMapping("/refresh")
+    public ResponseEntity<List<String>> refresh() {
+        return ResponseEntity.ok(rolesHelper.refresh().keySet().stream().sorted().toList());
+    }
+}
@@ -0,0 +1,37 @@
+package com.cryfirock.auth.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+
+import lombok.Getter;
+
+/**
+ * 1. Excepción que indica que un login se ha rechazado antes de comprobar la contraseña.
+ * 2. Extiende AuthenticationException para que la gestione el filtro de autenticación.
+ * 3. Indica el código HTTP de la respuesta y los segundos para la cabecera Retry-After.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+@Getter
+public class LoginRejectedException extends AuthenticationException {
+    // 1. Código HTTP de la respuesta.
+    // 2. Segundos que el cliente debe esperar antes de reintentar.
+    private final HttpStatus status;
+    private final long retryAfterSeconds;
+
+    /**
+     * 1. Constructor que acepta el código HTTP, el mensaje y la espera.
+     *
+     * @param status Código HTTP de la respuesta.
+     * @param message Mensaje de error detallando la excepción.
+     * @param retryAfterSeconds Segundos antes de reintentar.
+     */
+    public LoginRejectedException(HttpStatus status, String message, long retryAfterSeconds) {
+        super(message);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
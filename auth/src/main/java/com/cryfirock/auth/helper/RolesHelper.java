@@ -2,21 +2,29 @@ package com.cryfirock.auth.helper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.stereotype.Component;
 
 import com.cryfirock.auth.entity.Role;
 import com.cryfirock.auth.entity.User;
 import com.cryfirock.auth.repository.CrudRoleRepository;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 /**
  * 1. Clase auxiliar para asignar roles a usuarios.
  * 2. Proporciona métodos para determinar y asignar roles.
+ * 3. Mantiene un catálogo inmutable de roles por nombre cargado al arrancar.
+ * 4. Asignar roles no consulta la base de datos.
+ * 5. El catálogo solo se recarga de forma explícita con refresh.
  *
  * @author Cristo Suárez
  * @version 1.0
@@ -24,7 +32,7 @@ import lombok.Setter;
  * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
  */
 @Component @Setter @Getter
-public class RolesHelper {
+public class RolesHelper implements SmartInitializingSingleton {
     // 1. Roles predefinidos en el sistema.
     // 2. ROLE_USER: Rol básico para todos los usuarios.
     // 3. ROLE_ADMIN: Rol con privilegios administrativos.
@@ -34,14 +42,46 @@ public class RolesHelper {
     private static final String ROLE_USER = "ROLE_USER";
     private static final String ROLE_ADMIN = "ROLE_ADMIN";
     private final CrudRoleRepository roleRepository;
+    // Caché de UserDetails que se invalida al cambiar los roles.
+    private final UserDetailsCacheHelper userDetailsCacheHelper;
+    // 1. Catálogo inmutable de roles por nombre.
+    // 2. Se sustituye completo en cada recarga.
+    @Setter(AccessLevel.NONE)
+    private volatile Map<String, Role> catalog = Map.of();
 
     /**
      * Constructor de la clase RolesHelper.
      *
      * @param roleRepository Repositorio de roles para acceder a los datos de roles.
+     * @param userDetailsCacheHelper Caché de UserDetails usada en el login.
      */
-    public RolesHelper(CrudRoleRepository roleRepository) {
+    public RolesHelper(
+            CrudRoleRepository roleRepository,
+            UserDetailsCacheHelper userDetailsCacheHelper) {
         this.roleRepository = roleRepository;
+        this.userDetailsCacheHelper = userDetailsCacheHelper;
+    }
+
+    /**
+     * Carga el catálogo cuando todos los beans están creados, antes de aceptar peticiones.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    /**
+     * 1. Recarga el catálogo con todos los roles de la base de datos.
+     * 2. Invalida los UserDetails en caché porque sus autoridades pueden haber cambiado.
+     *
+     * @return Catálogo de roles por nombre.
+     */
+    public Map<String, Role> refresh() {
+        catalog = StreamSupport
+                .stream(roleRepository.findAll().spliterator(), false)
+                .collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity()));
+        userDetailsCacheHelper.invalidateAll();
+        return catalog;
     }
 
     /**
@@ -54,17 +94,19 @@ public class RolesHelper {
         // 1. Verifica si el usuario es administrador.
         // 2. Si es administrador se asigna ROLE_USER y ROLE_ADMIN.
         // 3. Si no es administrador se asigna solo ROLE_USER.
-        // 4. Utiliza Streams para mapear los nombres de roles a objetos Role.
-        // 5. Lanza una excepción si un rol no se encuentra en el repositorio.
+        // 4. Utiliza Streams para mapear los nombres de roles a objetos Role del catálogo.
+        // 5. Lanza una excepción si un rol no se encuentra en el catálogo.
         // 6. Devuelve una lista de roles asignados al usuario.
         // 7. Convierte el Stream resultante en una ArrayList.
+        Map<String, Role> roles = catalog;
         return (user.isAdmin()
                 ? Stream.of(ROLE_USER, ROLE_ADMIN)
                 : Stream.of(ROLE_USER))
-                        .map(role -> roleRepository
-                                .findByName(role)
-                                .orElseThrow(
-                                        () -> new IllegalStateException("Missing role " + role)))
+                        .map(role -> {
+                            Role found = roles.get(role);
+                            if (found == null) throw new IllegalStateException("Missing role " + role);
+                            return found;
+                        })
                         .collect(Collectors.toCollection(ArrayList::new));
     }
 }
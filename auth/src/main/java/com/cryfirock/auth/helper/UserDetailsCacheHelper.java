@@ -0,0 +1,97 @@
+package com.cryfirock.auth.helper;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 1. Clase auxiliar que mantiene en memoria los UserDetails usados en el login.
+ * 2. Acota la caché por número de usuarios y por tiempo de vida.
+ * 3. Las escrituras de usuarios invalidan la entrada al momento y de nuevo tras el commit.
+ * 4. Devuelve copias porque Spring Security borra la contraseña del UserDetails autenticado.
+ * 5. Publica aciertos, fallos y expulsiones en Actuator como auth.user_details.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+@Component
+public class UserDetailsCacheHelper {
+    // Nombre de la caché en las métricas de Actuator.
+    private static final String CACHE_NAME = "auth.user_details";
+    // Caché de UserDetails por nombre de usuario.
+    private final Cache<String, UserDetails> cache;
+
+    /**
+     * Constructor que crea la caché y registra sus métricas.
+     *
+     * @param meterRegistry Registro de métricas.
+     * @param maximumSize Número máximo de usuarios en caché.
+     * @param timeToLive Tiempo de vida de cada usuario en caché.
+     */
+    public UserDetailsCacheHelper(
+            MeterRegistry meterRegistry,
+            @Value("${auth.user-details.cache.maximum-size:1000}") long maximumSize,
+            @Value("${auth.user-details.cache.ttl:5m}") Duration timeToLive) {
+        this.cache = Caffeine
+                .newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 1. Obtiene el usuario de la caché o lo carga si no está.
+     * 2. Las cargas simultáneas del mismo usuario se ejecutan una sola vez.
+     * 3. Los usuarios inexistentes no se guardan porque el cargador lanza una excepción.
+     *
+     * @param username Nombre de usuario.
+     * @param loader Función que carga el usuario desde la base de datos.
+     * @return Copia del UserDetails del usuario.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return User.withUserDetails(cache.get(username, loader)).build();
+    }
+
+    /**
+     * 1. Invalida un usuario de la caché.
+     * 2. Si hay una transacción activa se vuelve a invalidar tras el commit.
+     * 3. Así un login concurrente no deja en caché el estado anterior.
+     *
+     * @param username Nombre de usuario.
+     */
+    public void invalidate(String username) {
+        if (username == null) return;
+        cache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            cache.invalidate(username);
+                        }
+                    });
+    }
+
+    /**
+     * Invalida todos los usuarios de la caché, por ejemplo al cambiar los roles.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
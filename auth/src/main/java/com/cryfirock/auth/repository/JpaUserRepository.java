@@ -99,6 +99,20 @@ public interface JpaUserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.id = :id")
     Optional<User> findByIdWithRoles(@Param("id") Long id);
 
+    /**
+     * 1. Busca un usuario por su nombre de usuario con roles cargados.
+     * 2. Query personalizada usando JPQL.
+     * 3. Carga el usuario y sus roles en una sola consulta con LEFT JOIN FETCH.
+     * 4. WHERE u.username:
+     * - u(alias).username(campo): Donde el nombre de usuario sea igual al parámetro username.
+     * - username(parámetro): Parámetro que se pasa a la query.
+     *
+     * @param username El nombre de usuario a buscar.
+     * @return Un Optional que contiene el usuario si se encuentra, o vacío si no.
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.username = :username")
+    Optional<User> findByUsernameWithRoles(@Param("username") String username);
+
     // ============================================================================================
     // --- Métodos de SQL Nativo ---
     // ============================================================================================
@@ -26,6 +26,8 @@ import com.cryfirock.auth.security.filter.JwtAuthenticationFilter;
 import com.cryfirock.auth.security.filter.JwtValidationFilter;
 import com.cryfirock.auth.security.handler.RestAccessDeniedHandler;
 import com.cryfirock.auth.security.handler.RestAuthenticationEntryPoint;
+import com.cryfirock.auth.security.helper.JwtVerificationHelper;
+import com.cryfirock.auth.security.helper.LoginAdmissionHelper;
 
 /**
  * 1. Configuración de seguridad de Spring Security.
@@ -46,6 +48,16 @@ public class SpringSecurityConfig {
     @Autowired
     private AuthenticationConfiguration authenticationConfiguration;
 
+    // 1. Verificador de tokens JWT compartido por las solicitudes.
+    // 2. Inyectado automáticamente por Spring.
+    @Autowired
+    private JwtVerificationHelper jwtVerificationHelper;
+
+    // 1. Control de admisión de los logins.
+    // 2. Inyectado automáticamente por Spring.
+    @Autowired
+    private LoginAdmissionHelper loginAdmissionHelper;
+
     /**
      * 1. Bean que proporciona el AuthenticationManager.
      * 2. Utilizado para autenticar usuarios en el sistema.
@@ -83,7 +95,7 @@ public class SpringSecurityConfig {
     @Bean @SuppressWarnings("unused")
     SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(
-                authenticationManager());
+                authenticationManager(), loginAdmissionHelper);
         jwtAuthenticationFilter.setFilterProcessesUrl("/login");
 
         return http.authorizeHttpRequests(
@@ -101,6 +113,9 @@ public class SpringSecurityConfig {
                         .requestMatchers(HttpMethod.DELETE,
                                 "/api/users/{id}")
                         .hasAnyRole("ADMIN", "USER")
+                        .requestMatchers(HttpMethod.POST,
+                                "/api/roles/refresh")
+                        .hasRole("ADMIN")
                         .anyRequest()
                         .authenticated())
                 .csrf(csrf -> csrf.disable())
@@ -113,7 +128,7 @@ public class SpringSecurityConfig {
                                         new RestAccessDeniedHandler()))
                 .addFilter(jwtAuthenticationFilter)
                 .addFilterBefore(
-                        new JwtValidationFilter(authenticationManager()),
+                        new JwtValidationFilter(authenticationManager(), jwtVerificationHelper),
                         UsernamePasswordAuthenticationFilter.class)
                 .sessionManagement(
                         session -> session
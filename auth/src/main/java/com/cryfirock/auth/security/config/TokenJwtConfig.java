@@ -22,8 +22,12 @@ public class TokenJwtConfig {
     // 2. Encabezado HTTP para el token de autorización.
     // 3. Prefijo del token Bearer.
     // 4. Clave secreta para firmar tokens JWT con HS256.
+    // 5. Claim con la lista de autoridades del usuario.
+    // 6. Claim con el código compacto de roles definido en AuthorityUtil.
     public static final String CONTENT_TYPE = "application/json";
     public static final String HEADER_AUTHORIZATION = "Authorization";
     public static final String PREFIX_TOKEN = "Bearer";
     public static final SecretKey SECRET_KEY = Jwts.SIG.HS256.key().build();
+    public static final String CLAIM_AUTHORITIES = "authorities";
+    public static final String CLAIM_ROLE_CODE = "rc";
 }
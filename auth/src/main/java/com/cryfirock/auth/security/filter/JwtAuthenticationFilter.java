@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,15 +18,21 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.cryfirock.auth.dto.UserLoginDto;
+import com.cryfirock.auth.exception.LoginRejectedException;
+import static com.cryfirock.auth.security.config.TokenJwtConfig.CLAIM_AUTHORITIES;
+import static com.cryfirock.auth.security.config.TokenJwtConfig.CLAIM_ROLE_CODE;
 import static com.cryfirock.auth.security.config.TokenJwtConfig.CONTENT_TYPE;
 import static com.cryfirock.auth.security.config.TokenJwtConfig.HEADER_AUTHORIZATION;
 import static com.cryfirock.auth.security.config.TokenJwtConfig.PREFIX_TOKEN;
 import static com.cryfirock.auth.security.config.TokenJwtConfig.SECRET_KEY;
+import com.cryfirock.auth.security.helper.LoginAdmissionHelper;
+import com.cryfirock.auth.util.AuthorityUtil;
 import com.fasterxml.jackson.core.exc.StreamReadException;
 import com.fasterxml.jackson.databind.DatabindException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ClaimsBuilder;
 import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -45,15 +52,21 @@ import jakarta.servlet.http.HttpServletResponse;
  */
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     // 1. Gestor de autenticación de Spring Security.
+    // 2. Control de admisión que comprueba las contraseñas fuera de los hilos de Tomcat.
     private final AuthenticationManager authenticationManager;
+    private final LoginAdmissionHelper loginAdmissionHelper;
 
     /**
-     * 1. Constructor que inyecta el gestor de autenticación.
+     * 1. Constructor que inyecta el gestor de autenticación y el control de admisión.
      *
      * @param authenticationManager Gestor de autenticación.
+     * @param loginAdmissionHelper Control de admisión de logins.
      */
-    public JwtAuthenticationFilter(AuthenticationManager authenticationManager) {
+    public JwtAuthenticationFilter(
+            AuthenticationManager authenticationManager,
+            LoginAdmissionHelper loginAdmissionHelper) {
         this.authenticationManager = authenticationManager;
+        this.loginAdmissionHelper = loginAdmissionHelper;
     }
 
     /**
@@ -61,6 +74,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
      * 2. Lee el cuerpo de la solicitud como UserLoginDto.
      * 3. Crea un token de autenticación con usuario y contraseña.
      * 4. Lanza AuthenticationServiceException si hay errores de lectura.
+     * 5. La autenticación pasa por el control de admisión por usuario, IP y capacidad.
      *
      * @param request Solicitud HTTP con las credenciales.
      * @param response Respuesta HTTP.
@@ -94,14 +108,18 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                 username, password);
 
-        return authenticationManager.authenticate(authenticationToken);
+        return loginAdmissionHelper.authenticate(
+                username,
+                request.getRemoteAddr(),
+                () -> authenticationManager.authenticate(authenticationToken));
     }
 
     /**
      * 1. Maneja la autenticación exitosa.
      * 2. Genera un token JWT con las autoridades del usuario.
-     * 3. Añade el token al encabezado Authorization de la respuesta.
-     * 4. Escribe un cuerpo JSON con el token y mensaje de bienvenida.
+     * 3. Si todos los roles son conocidos añade su código compacto para la validación.
+     * 4. Añade el token al encabezado Authorization de la respuesta.
+     * 5. Escribe un cuerpo JSON con el token y mensaje de bienvenida.
      *
      * @param request Solicitud HTTP.
      * @param response Respuesta HTTP.
@@ -125,8 +143,13 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                 .map(role -> Map.of("authority", role.getAuthority()))
                 .collect(Collectors.toList());
 
-        Claims claims = Jwts.claims().add("authorities", authorities).add("username", username)
-                .build();
+        ClaimsBuilder claimsBuilder = Jwts.claims().add(CLAIM_AUTHORITIES, authorities)
+                .add("username", username);
+        int roleCode = AuthorityUtil.encode(roles);
+
+        if (roleCode != AuthorityUtil.UNKNOWN) claimsBuilder.add(CLAIM_ROLE_CODE, roleCode);
+
+        Claims claims = claimsBuilder.build();
 
         String token = Jwts.builder()
                 .subject(username)
@@ -153,6 +176,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
      * 1. Maneja la autenticación fallida.
      * 2. Construye un cuerpo JSON con el mensaje de error.
      * 3. Responde con código de estado 401 Unauthorized.
+     * 4. Un login rechazado por admisión responde con su código y la cabecera Retry-After.
      *
      * @param request Solicitud HTTP.
      * @param response Respuesta HTTP.
@@ -170,8 +194,15 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         body.put("message", "Authentication failed, credentials are not correct.");
         body.put("error", failed.getMessage());
 
+        if (failed instanceof LoginRejectedException rejected) {
+            body.put("message", "Login temporarily rejected, retry later.");
+            response.setStatus(rejected.getStatus().value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rejected.getRetryAfterSeconds()));
+        } else {
+            response.setStatus(401);
+        }
+
         response.getWriter().write(new ObjectMapper().writeValueAsString(body));
-        response.setStatus(401);
         response.setContentType(CONTENT_TYPE);
     }
 }
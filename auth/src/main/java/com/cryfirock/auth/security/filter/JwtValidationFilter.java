@@ -1,31 +1,23 @@
 package com.cryfirock.auth.security.filter;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 import static com.cryfirock.auth.security.config.TokenJwtConfig.CONTENT_TYPE;
 import static com.cryfirock.auth.security.config.TokenJwtConfig.HEADER_AUTHORIZATION;
 import static com.cryfirock.auth.security.config.TokenJwtConfig.PREFIX_TOKEN;
-import static com.cryfirock.auth.security.config.TokenJwtConfig.SECRET_KEY;
-import com.cryfirock.auth.security.jackson.SimpleGrantedAuthorityJsonCreator;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.cryfirock.auth.security.helper.JwtVerificationHelper;
+import com.cryfirock.auth.security.helper.JwtVerificationHelper.VerifiedToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -36,6 +28,7 @@ import jakarta.servlet.http.HttpServletResponse;
  * 2. Extiende BasicAuthenticationFilter de Spring Security.
  * 3. Verifica y procesa tokens JWT en solicitudes entrantes.
  * 4. Establece el contexto de seguridad si el token es válido.
+ * 5. Delega la verificación en JwtVerificationHelper, que reutiliza el parser y los tokens ya verificados.
  *
  * @author Cristo Suárez
  * @version 1.0
@@ -43,18 +36,20 @@ import jakarta.servlet.http.HttpServletResponse;
  * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
  */
 public class JwtValidationFilter extends BasicAuthenticationFilter {
-    // 1. ObjectMapper configurado para deserializar SimpleGrantedAuthority.
-    // 2. Utiliza un mixin para la creación de autoridades desde JSON.
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
-            .addMixIn(SimpleGrantedAuthority.class, SimpleGrantedAuthorityJsonCreator.class);
+    // 1. Helper que verifica los tokens y guarda en caché los ya verificados.
+    private final JwtVerificationHelper jwtVerificationHelper;
 
     /**
-     * 1. Constructor que inyecta el gestor de autenticación.
+     * 1. Constructor que inyecta el gestor de autenticación y el verificador de tokens.
      *
      * @param authenticationManager Gestor de autenticación.
+     * @param jwtVerificationHelper Verificador de tokens JWT.
      */
-    public JwtValidationFilter(AuthenticationManager authenticationManager) {
+    public JwtValidationFilter(
+            AuthenticationManager authenticationManager,
+            JwtVerificationHelper jwtVerificationHelper) {
         super(authenticationManager);
+        this.jwtVerificationHelper = jwtVerificationHelper;
     }
 
     /**
@@ -85,21 +80,15 @@ public class JwtValidationFilter extends BasicAuthenticationFilter {
         String token = header.substring(PREFIX_TOKEN.length()).trim();
 
         try {
-            Claims claims = Jwts.parser().verifyWith(SECRET_KEY).build().parseSignedClaims(token)
-                    .getPayload();
-
-            String username = claims.getSubject();
-            Object authoritiesClaims = claims.get("authorities");
-            Collection<? extends GrantedAuthority> authorities = extractAuthorities(
-                    authoritiesClaims);
+            VerifiedToken verifiedToken = jwtVerificationHelper.verify(token);
 
             UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                    username, null, authorities);
+                    verifiedToken.username(), null, verifiedToken.authorities());
 
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
 
             chain.doFilter(request, response);
-        } catch (JwtException | JsonProcessingException e) {
+        } catch (JwtException e) {
             Map<String, String> body = new HashMap<>();
 
             body.put("error", e.getMessage());
@@ -110,43 +99,4 @@ public class JwtValidationFilter extends BasicAuthenticationFilter {
             response.setContentType(CONTENT_TYPE);
         }
     }
-
-    /**
-     * 1. Extrae las autoridades del claim de autoridades del token.
-     * 2. Soporta colecciones y arrays de autoridades.
-     * 3. Convierte cada autoridad a GrantedAuthority.
-     *
-     * @param authoritiesClaims Claim con las autoridades del token.
-     * @return Colección de GrantedAuthority.
-     * @throws IOException Si ocurre un error al deserializar.
-     */
-    private Collection<? extends GrantedAuthority> extractAuthorities(Object authoritiesClaims)
-            throws IOException {
-        if (authoritiesClaims instanceof Collection<?> collection) {
-            return collection.stream().map(this::toGrantedAuthority).collect(Collectors.toList());
-        }
-
-        SimpleGrantedAuthority[] authorities = OBJECT_MAPPER.readValue(
-                OBJECT_MAPPER.writeValueAsBytes(authoritiesClaims), SimpleGrantedAuthority[].class);
-
-        return Arrays.asList(authorities);
-    }
-
-    /**
-     * 1. Convierte un objeto de autoridad a GrantedAuthority.
-     * 2. Soporta mapas con clave "authority" y valores directos.
-     *
-     * @param authorityClaim Objeto con la información de la autoridad.
-     * @return GrantedAuthority con la autoridad extraída.
-     */
-    private GrantedAuthority toGrantedAuthority(Object authorityClaim) {
-        boolean isMap = authorityClaim instanceof Map<?, ?> map && map.containsKey("authority");
-
-        if (isMap) {
-            Map<?, ?> map = (Map<?, ?>) authorityClaim;
-            return new SimpleGrantedAuthority(String.valueOf(map.get("authority")));
-        }
-
-        return new SimpleGrantedAuthority(String.valueOf(authorityClaim));
-    }
 }
@@ -0,0 +1,207 @@
+package com.cryfirock.auth.security.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import static com.cryfirock.auth.security.config.TokenJwtConfig.CLAIM_AUTHORITIES;
+import static com.cryfirock.auth.security.config.TokenJwtConfig.CLAIM_ROLE_CODE;
+import static com.cryfirock.auth.security.config.TokenJwtConfig.SECRET_KEY;
+import com.cryfirock.auth.util.AuthorityUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 1. Helper que verifica los tokens JWT de las solicitudes entrantes.
+ * 2. Reutiliza un único parser inmutable y seguro entre hilos.
+ * 3. Guarda en caché el resultado de cada token verificado hasta su expiración.
+ * 4. La clave de la caché es el SHA-256 del token para no retener tokens en memoria.
+ * 5. Publica aciertos, tasa de aciertos y latencia de verificación en Actuator.
+ * 6. Las autoridades se resuelven a los conjuntos internos de AuthorityUtil.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+@Component
+public class JwtVerificationHelper {
+    // 1. Nombre de la caché en las métricas de Actuator.
+    // 2. Prefijo de las métricas de verificación.
+    private static final String CACHE_NAME = "auth.jwt.tokens";
+    private static final String METRIC_PREFIX = "auth.jwt.";
+    // Parser compartido que verifica la firma HS256.
+    private final JwtParser parser = Jwts.parser().verifyWith(SECRET_KEY).build();
+    // Tokens verificados por resumen del token.
+    private final Cache<String, VerifiedToken> cache;
+    // 1. Latencia de las verificaciones resueltas desde la caché.
+    // 2. Latencia de las verificaciones que comprueban la firma.
+    private final Timer cachedVerifications;
+    private final Timer parsedVerifications;
+
+    /**
+     * 1. Constructor que crea la caché y registra las métricas.
+     * 2. Cada entrada expira cuando expira su token.
+     *
+     * @param meterRegistry Registro de métricas.
+     * @param maximumSize Número máximo de tokens en caché.
+     */
+    public JwtVerificationHelper(
+            MeterRegistry meterRegistry,
+            @Value("${auth.jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine
+                .newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((String digest, VerifiedToken token) -> Duration
+                        .between(Instant.now(), token.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".hit_ratio", cache, tokens -> tokens.stats().hitRate())
+                .register(meterRegistry);
+        this.cachedVerifications = verificationTimer(meterRegistry, "hit");
+        this.parsedVerifications = verificationTimer(meterRegistry, "miss");
+    }
+
+    /**
+     * 1. Verifica un token y extrae su usuario y autoridades.
+     * 2. Si el token ya se verificó y no ha expirado se devuelve el resultado guardado.
+     * 3. Lanza JwtException si la firma no es válida, el token ha expirado o sus roles no son válidos.
+     *
+     * @param token Token JWT sin el prefijo Bearer.
+     * @return Token verificado.
+     */
+    public VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        String digest = digest(token);
+        VerifiedToken verified = cache.getIfPresent(digest);
+
+        if (verified != null) {
+            cachedVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return verified;
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        verified = new VerifiedToken(
+                claims.getSubject(),
+                extractAuthorities(claims),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+
+        // Un token sin expiración se verifica siempre.
+        if (verified.expiresAt() != null) cache.put(digest, verified);
+        parsedVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return verified;
+    }
+
+    /**
+     * 1. Extrae las autoridades del código de roles del token.
+     * 2. Los tokens sin código usan la lista de autoridades y se internan si sus roles son conocidos.
+     * 3. La colección es inmutable porque se comparte entre solicitudes.
+     *
+     * @param claims Claims del token verificado.
+     * @return Colección de GrantedAuthority.
+     */
+    private Collection<? extends GrantedAuthority> extractAuthorities(Claims claims) {
+        Object roleCode = claims.get(CLAIM_ROLE_CODE);
+
+        if (roleCode instanceof Integer code) {
+            List<GrantedAuthority> authorities = AuthorityUtil.decode(code);
+            if (authorities == null) throw new MalformedJwtException("Unknown role code " + code);
+            return authorities;
+        }
+
+        Object authoritiesClaim = claims.get(CLAIM_AUTHORITIES);
+
+        if (authoritiesClaim == null) return AuthorityUtil.decode(0);
+        if (!(authoritiesClaim instanceof Collection<?> collection))
+            throw new MalformedJwtException("Invalid authorities claim");
+
+        List<GrantedAuthority> authorities = collection.stream().map(this::toGrantedAuthority).toList();
+        int code = AuthorityUtil.encode(authorities);
+
+        return code != AuthorityUtil.UNKNOWN ? AuthorityUtil.decode(code) : authorities;
+    }
+
+    /**
+     * 1. Convierte un objeto de autoridad a GrantedAuthority.
+     * 2. Soporta mapas con clave "authority" y valores directos.
+     *
+     * @param authorityClaim Objeto con la información de la autoridad.
+     * @return GrantedAuthority con la autoridad extraída.
+     */
+    private GrantedAuthority toGrantedAuthority(Object authorityClaim) {
+        boolean isMap = authorityClaim instanceof Map<?, ?> map && map.containsKey("authority");
+
+        if (isMap) {
+            Map<?, ?> map = (Map<?, ?>) authorityClaim;
+            return AuthorityUtil.intern(String.valueOf(map.get("authority")));
+        }
+
+        return AuthorityUtil.intern(String.valueOf(authorityClaim));
+    }
+
+    /**
+     * Calcula el SHA-256 de un token codificado en Base64 URL sin relleno.
+     *
+     * @param token Token JWT.
+     * @return Resumen del token.
+     */
+    private static String digest(String token) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MessageDigest
+                    .getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Registra el histograma de latencia de verificación para un resultado de la caché.
+     *
+     * @param meterRegistry Registro de métricas.
+     * @param result Resultado de la caché, hit o miss.
+     * @return Temporizador registrado.
+     */
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder(METRIC_PREFIX + "verification")
+                .tag("cache", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. Resultado de verificar un token JWT.
+     * 2. Es inmutable para compartirlo entre solicitudes.
+     *
+     * @param username Nombre de usuario del token.
+     * @param authorities Autoridades del usuario.
+     * @param expiresAt Instante de expiración del token o null si no expira.
+     */
+    public record VerifiedToken(
+            String username,
+            Collection<? extends GrantedAuthority> authorities,
+            Instant expiresAt) {
+    }
+}
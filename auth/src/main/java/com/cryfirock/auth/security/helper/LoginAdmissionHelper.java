@@ -0,0 +1,236 @@
+package com.cryfirock.auth.security.helper;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+import com.cryfirock.auth.exception.LoginRejectedException;
+import com.cryfirock.auth.util.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 1. Helper que controla la admisión de los logins antes de comprobar la contraseña.
+ * 2. Limita los intentos por usuario y por IP con cubos de fichas y responde 429 al agotarse.
+ * 3. Comprueba las contraseñas en un pool acotado de hilos con una cola de tamaño fijo.
+ * 4. Si la cola está llena el login se rechaza al momento con 503 y Retry-After.
+ * 5. Así una ráfaga de logins solo ocupa tantos hilos de Tomcat como caben en el pool y la cola.
+ * 6. Publica la latencia de la comprobación, la cola y los rechazos en Actuator.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+@Component
+public class LoginAdmissionHelper implements DisposableBean {
+    // Prefijo de las métricas de login.
+    private static final String METRIC_PREFIX = "auth.login.";
+    // 1. Pool que ejecuta la comprobación de contraseñas.
+    // 2. Cola de logins admitidos a la espera de un hilo.
+    private final ThreadPoolExecutor executor;
+    private final BlockingQueue<Runnable> queue;
+    // 1. Cubos de fichas por nombre de usuario.
+    // 2. Cubos de fichas por dirección IP.
+    private final Cache<String, TokenBucket> usernameBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    // 1. Capacidad y fichas por minuto de los cubos por usuario.
+    // 2. Capacidad y fichas por minuto de los cubos por IP.
+    private final long usernameCapacity;
+    private final long usernamePerMinute;
+    private final long ipCapacity;
+    private final long ipPerMinute;
+    // 1. Tiempo máximo de espera de un login admitido.
+    // 2. Segundos de Retry-After cuando el pool está saturado.
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+    // 1. Latencia de la comprobación de contraseñas.
+    // 2. Logins rechazados por saturación, por límite de intentos y por tiempo de espera.
+    private final Timer hashLatency;
+    private final Counter saturated;
+    private final Counter throttled;
+    private final Counter timedOut;
+
+    /**
+     * Constructor que crea el pool, los cubos y registra las métricas.
+     *
+     * @param meterRegistry Registro de métricas.
+     * @param threads Hilos del pool o 0 para uno por procesador.
+     * @param queueCapacity Número máximo de logins en cola.
+     * @param timeout Tiempo máximo de espera de un login admitido.
+     * @param retryAfter Espera indicada al cliente cuando el pool está saturado.
+     * @param usernameCapacity Intentos seguidos permitidos por usuario.
+     * @param usernamePerMinute Intentos por minuto recuperados por usuario.
+     * @param ipCapacity Intentos seguidos permitidos por IP.
+     * @param ipPerMinute Intentos por minuto recuperados por IP.
+     * @param maximumBuckets Número máximo de cubos de cada tipo en memoria.
+     */
+    public LoginAdmissionHelper(
+            MeterRegistry meterRegistry,
+            @Value("${auth.login.hash.threads:0}") int threads,
+            @Value("${auth.login.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.login.hash.timeout:10s}") Duration timeout,
+            @Value("${auth.login.retry-after:1s}") Duration retryAfter,
+            @Value("${auth.login.throttle.username.capacity:5}") long usernameCapacity,
+            @Value("${auth.login.throttle.username.per-minute:5}") long usernamePerMinute,
+            @Value("${auth.login.throttle.ip.capacity:50}") long ipCapacity,
+            @Value("${auth.login.throttle.ip.per-minute:60}") long ipPerMinute,
+            @Value("${auth.login.throttle.maximum-buckets:100000}") long maximumBuckets) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0,
+                TimeUnit.MILLISECONDS,
+                queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "auth-password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.usernameBuckets = buckets(maximumBuckets);
+        this.ipBuckets = buckets(maximumBuckets);
+        this.usernameCapacity = usernameCapacity;
+        this.usernamePerMinute = usernamePerMinute;
+        this.ipCapacity = ipCapacity;
+        this.ipPerMinute = ipPerMinute;
+        this.timeout = timeout;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.hashLatency = Timer.builder(METRIC_PREFIX + "hash")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.saturated = rejections(meterRegistry, "saturated");
+        this.throttled = rejections(meterRegistry, "throttled");
+        this.timedOut = rejections(meterRegistry, "timeout");
+        Gauge.builder(METRIC_PREFIX + "hash.queue", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * 1. Admite un login y ejecuta su autenticación en el pool de contraseñas.
+     * 2. Primero consume una ficha de la IP y otra del usuario.
+     * 3. El hilo de la petición espera el resultado sin ocupar CPU.
+     *
+     * @param username Nombre de usuario del login.
+     * @param clientIp Dirección IP del cliente.
+     * @param authentication Autenticación que comprueba la contraseña.
+     * @return Resultado de la autenticación.
+     * @throws AuthenticationException Si el login se rechaza o las credenciales no son válidas.
+     */
+    public Authentication authenticate(
+            String username,
+            String clientIp,
+            Supplier<Authentication> authentication) throws AuthenticationException {
+        throttle(ipBuckets, clientIp, ipCapacity, ipPerMinute);
+        throttle(usernameBuckets, String.valueOf(username), usernameCapacity, usernamePerMinute);
+
+        Future<Authentication> result;
+
+        try {
+            result = executor.submit(() -> hashLatency.record(authentication));
+        } catch (RejectedExecutionException e) {
+            saturated.increment();
+            throw new LoginRejectedException(
+                    HttpStatus.SERVICE_UNAVAILABLE, "Login capacity exhausted", retryAfterSeconds);
+        }
+
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new AuthenticationServiceException("Login failed", e.getCause());
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            timedOut.increment();
+            throw new LoginRejectedException(
+                    HttpStatus.SERVICE_UNAVAILABLE, "Login timed out", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Login interrupted", e);
+        }
+    }
+
+    /**
+     * Detiene el pool al cerrar la aplicación.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 1. Consume una ficha del cubo de una clave.
+     * 2. Si el cubo está vacío rechaza el login con 429 y el tiempo hasta la siguiente ficha.
+     *
+     * @param buckets Cubos por clave.
+     * @param key Usuario o IP.
+     * @param capacity Capacidad del cubo.
+     * @param perMinute Fichas por minuto.
+     */
+    private void throttle(Cache<String, TokenBucket> buckets, String key, long capacity, long perMinute) {
+        long now = System.nanoTime();
+        long waitNanos = buckets
+                .get(key, k -> new TokenBucket(capacity, perMinute, now))
+                .tryAcquire(now);
+
+        if (waitNanos == 0) return;
+
+        throttled.increment();
+        throw new LoginRejectedException(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "Too many login attempts",
+                Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+    }
+
+    /**
+     * 1. Crea la caché de cubos de fichas.
+     * 2. Un cubo sin uso durante diez minutos ya estaría lleno y se descarta.
+     *
+     * @param maximumBuckets Número máximo de cubos.
+     * @return Caché de cubos.
+     */
+    private static Cache<String, TokenBucket> buckets(long maximumBuckets) {
+        return Caffeine
+                .newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * Registra el contador de logins rechazados por un motivo.
+     *
+     * @param meterRegistry Registro de métricas.
+     * @param reason Motivo del rechazo.
+     * @return Contador registrado.
+     */
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(METRIC_PREFIX + "rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
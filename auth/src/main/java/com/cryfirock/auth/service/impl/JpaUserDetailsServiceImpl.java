@@ -6,16 +6,16 @@ import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.cryfirock.auth.entity.User;
+import com.cryfirock.auth.helper.UserDetailsCacheHelper;
 import com.cryfirock.auth.repository.JpaUserRepository;
 import com.cryfirock.auth.type.AccountStatus;
+import com.cryfirock.auth.util.AuthorityUtil;
 
 /**
  * 1. Implementación del servicio de detalles de usuario para Spring Security.
@@ -23,6 +23,7 @@ import com.cryfirock.auth.type.AccountStatus;
  * 3. Utiliza JpaUserRepository para consultar usuarios en la base de datos.
  * 4. Convierte entidades User en objetos UserDetails de Spring Security.
  * 5. Antes de la autenticación se verifica que el usuario exista y que su cuenta esté activa.
+ * 6. Los usuarios cargados se guardan en UserDetailsCacheHelper para los siguientes logins.
  *
  * @author Cristo Suárez
  * @version 1.0
@@ -36,21 +37,40 @@ public class JpaUserDetailsServiceImpl implements UserDetailsService {
     @Autowired
     private JpaUserRepository userRepository;
 
+    // 1. Caché de UserDetails por nombre de usuario.
+    // 2. Inyectado automáticamente por Spring.
+    @Autowired
+    private UserDetailsCacheHelper userDetailsCacheHelper;
+
     /**
      * 1. Carga un usuario por su nombre de usuario.
-     * 2. Marca la transacción como de solo lectura.
+     * 2. Si el usuario está en caché no se consulta la base de datos.
      * 3. Lanza UsernameNotFoundException si el usuario no existe.
-     * 4. Convierte los roles del usuario en GrantedAuthority.
-     * 5. Retorna un UserDetails con los datos del usuario.
+     * 4. Retorna un UserDetails con los datos del usuario.
      *
      * @param username Nombre de usuario a buscar.
      * @return UserDetails con la información del usuario.
      * @throws UsernameNotFoundException Si el usuario no existe.
      */
-    @Override @Transactional(readOnly = true)
+    @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // Busca un usuario por su nombre de usuario.
-        Optional<User> optionalUser = userRepository.findByUsername(username);
+        return userDetailsCacheHelper.get(username, this::loadFromDatabase);
+    }
+
+    /**
+     * 1. Carga un usuario y sus roles de la base de datos en una sola consulta.
+     * 2. No necesita transacción porque los roles llegan cargados.
+     * 3. Lanza UsernameNotFoundException si el usuario no existe.
+     * 4. Convierte los roles del usuario en las autoridades internas de AuthorityUtil.
+     * 5. Retorna un UserDetails con los datos del usuario.
+     *
+     * @param username Nombre de usuario a buscar.
+     * @return UserDetails con la información del usuario.
+     * @throws UsernameNotFoundException Si el usuario no existe.
+     */
+    private UserDetails loadFromDatabase(String username) throws UsernameNotFoundException {
+        // Busca un usuario con sus roles por su nombre de usuario.
+        Optional<User> optionalUser = userRepository.findByUsernameWithRoles(username);
 
         // Si el usuario no existe se lanza una excepción.
         if (optionalUser.isEmpty())
@@ -73,7 +93,7 @@ public class JpaUserDetailsServiceImpl implements UserDetailsService {
                 // Convierte el Set<Role> en un Stream<Role>
                 .stream()
                 // Convierte cada Role en un GrantedAuthority.
-                .map(role -> new SimpleGrantedAuthority(role.getName()))
+                .map(role -> AuthorityUtil.intern(role.getName()))
                 // Convierte el Stream<Role> en un List<Role>
                 .collect(Collectors.toList());
 
@@ -12,6 +12,7 @@ import org.springframework.validation.annotation.Validated;
 import com.cryfirock.auth.dto.UserUpdateDto;
 import com.cryfirock.auth.entity.User;
 import com.cryfirock.auth.helper.RolesHelper;
+import com.cryfirock.auth.helper.UserDetailsCacheHelper;
 import com.cryfirock.auth.mapper.UserMapper;
 import com.cryfirock.auth.repository.JpaUserRepository;
 import com.cryfirock.auth.service.api.IUserService;
@@ -24,6 +25,7 @@ import jakarta.validation.constraints.NotNull;
  * 2. Implementa la interfaz IUserService.
  * 3. Utiliza JpaUserRepository para interactuar con la base de datos.
  * 4. Proporciona métodos para CRUD de usuarios.
+ * 5. Invalida la caché de UserDetails de los usuarios que modifica o elimina.
  *
  * @author Cristo Suárez
  * @version 1.0
@@ -40,6 +42,8 @@ public class UserServiceImpl implements IUserService {
     private final UserMapper userMapper;
     // Entorno de configuración de Spring.
     private final Environment environment;
+    // Caché de UserDetails usada en el login.
+    private final UserDetailsCacheHelper userDetailsCacheHelper;
 
     /**
      * Constructor que inyecta las dependencias necesarias.
@@ -48,16 +52,19 @@ public class UserServiceImpl implements IUserService {
      * @param rolesHelper Helper para asignar roles a los usuarios.
      * @param userMapper Mapper para convertir entre entidades y DTOs de usuario.
      * @param environment Entorno de configuración de Spring.
+     * @param userDetailsCacheHelper Caché de UserDetails usada en el login.
      */
     public UserServiceImpl(
             JpaUserRepository userRepository,
             RolesHelper rolesHelper,
             UserMapper userMapper,
-            Environment environment) {
+            Environment environment,
+            UserDetailsCacheHelper userDetailsCacheHelper) {
         this.userRepository = userRepository;
         this.rolesHelper = rolesHelper;
         this.userMapper = userMapper;
         this.environment = environment;
+        this.userDetailsCacheHelper = userDetailsCacheHelper;
     }
 
     /**
@@ -164,6 +171,8 @@ public class UserServiceImpl implements IUserService {
                 // Realiza una operación sobre el Optional devuelto.
                 .map(
                         u -> {
+                            // Invalida el nombre de usuario anterior en la caché del login.
+                            userDetailsCacheHelper.invalidate(u.getUsername());
                             // Actualiza el nombre del usuario.
                             u.setGivenName(user.getGivenName());
                             // Actualiza el apellido del usuario.
@@ -192,6 +201,8 @@ public class UserServiceImpl implements IUserService {
                             u.setRoles(rolesHelper.assignRoles(user));
                             // Establece el estado del usuario.
                             u.setEnabled(user.getEnabled());
+                            // Invalida el nombre de usuario nuevo en la caché del login.
+                            userDetailsCacheHelper.invalidate(u.getUsername());
                             // Guarda el usuario en la base de datos.
                             return userRepository.save(u);
                         });
@@ -217,6 +228,8 @@ public class UserServiceImpl implements IUserService {
                 .map(
                         // Por cada usuario encontrado realiza las siguientes operaciones:
                         u -> {
+                            // Invalida el nombre de usuario anterior en la caché del login.
+                            userDetailsCacheHelper.invalidate(u.getUsername());
                             // Actualiza el usuario con los datos del DTO.
                             userMapper.update(u, userDto);
 
@@ -231,6 +244,8 @@ public class UserServiceImpl implements IUserService {
 
                             // Asigna los roles al usuario.
                             u.setRoles(rolesHelper.assignRoles(u));
+                            // Invalida el nombre de usuario nuevo en la caché del login.
+                            userDetailsCacheHelper.invalidate(u.getUsername());
                             // Guarda el usuario en la base de datos.
                             return userRepository.save(u);
                         });
@@ -257,6 +272,8 @@ public class UserServiceImpl implements IUserService {
                         user -> {
                             // Elimina el usuario de la base de datos.
                             userRepository.delete(user);
+                            // Invalida el usuario en la caché del login.
+                            userDetailsCacheHelper.invalidate(user.getUsername());
                             // Retorna el usuario eliminado.
                             return user;
                         });
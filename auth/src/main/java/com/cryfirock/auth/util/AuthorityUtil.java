@@ -0,0 +1,96 @@
+package com.cryfirock.auth.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 1. Utilidad que interna los conjuntos de autoridades del sistema.
+ * 2. Cada rol conocido ocupa un bit de un código compacto que viaja en el token.
+ * 3. Todas las combinaciones se construyen una vez como listas inmutables.
+ * 4. Decodificar un código devuelve siempre la misma instancia y no reserva memoria.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+public final class AuthorityUtil {
+    // 1. Código de un conjunto con alguna autoridad desconocida.
+    // 2. Roles conocidos en el orden de sus bits, no se deben reordenar.
+    public static final int UNKNOWN = -1;
+    private static final List<String> ROLES = List.of("ROLE_USER", "ROLE_ADMIN");
+    // 1. Autoridad única de cada rol conocido.
+    // 2. Conjunto de autoridades de cada código, el índice es el código.
+    private static final Map<String, GrantedAuthority> AUTHORITIES = ROLES.stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), SimpleGrantedAuthority::new));
+    private static final List<List<GrantedAuthority>> AUTHORITY_SETS = buildAuthoritySets();
+
+    /**
+     * Constructor privado para evitar instancias de la utilidad.
+     */
+    private AuthorityUtil() {
+    }
+
+    /**
+     * 1. Devuelve la autoridad interna de un rol conocido.
+     * 2. Los roles desconocidos se crean en cada llamada.
+     *
+     * @param authority Nombre de la autoridad.
+     * @return Autoridad.
+     */
+    public static GrantedAuthority intern(String authority) {
+        GrantedAuthority interned = AUTHORITIES.get(authority);
+        return interned != null ? interned : new SimpleGrantedAuthority(authority);
+    }
+
+    /**
+     * 1. Codifica un conjunto de autoridades en su código compacto.
+     * 2. Las autoridades repetidas no cambian el código.
+     *
+     * @param authorities Autoridades del usuario.
+     * @return Código del conjunto o UNKNOWN si contiene un rol desconocido.
+     */
+    public static int encode(Collection<? extends GrantedAuthority> authorities) {
+        int code = 0;
+        for (GrantedAuthority authority : authorities) {
+            int bit = ROLES.indexOf(authority.getAuthority());
+            if (bit < 0) return UNKNOWN;
+            code |= 1 << bit;
+        }
+        return code;
+    }
+
+    /**
+     * Devuelve el conjunto interno de autoridades de un código.
+     *
+     * @param code Código del conjunto.
+     * @return Lista inmutable de autoridades o null si el código no existe.
+     */
+    public static List<GrantedAuthority> decode(int code) {
+        return code >= 0 && code < AUTHORITY_SETS.size() ? AUTHORITY_SETS.get(code) : null;
+    }
+
+    /**
+     * 1. Construye la lista de autoridades de cada código posible.
+     * 2. Las autoridades de cada lista siguen el orden de los bits.
+     *
+     * @return Listas inmutables indexadas por código.
+     */
+    private static List<List<GrantedAuthority>> buildAuthoritySets() {
+        List<List<GrantedAuthority>> sets = new ArrayList<>(1 << ROLES.size());
+        for (int code = 0; code < 1 << ROLES.size(); code++) {
+            List<GrantedAuthority> set = new ArrayList<>();
+            for (int bit = 0; bit < ROLES.size(); bit++)
+                if ((code & 1 << bit) != 0) set.add(AUTHORITIES.get(ROLES.get(bit)));
+            sets.add(List.copyOf(set));
+        }
+        return List.copyOf(sets);
+    }
+}
@@ -0,0 +1,58 @@
+package com.cryfirock.auth.util;
+
+/**
+ * 1. Cubo de fichas para limitar la frecuencia de una operación.
+ * 2. Se rellena de forma continua hasta su capacidad.
+ * 3. Cada operación consume una ficha y se rechaza si el cubo está vacío.
+ * 4. Es seguro entre hilos y recibe el instante para poder probarse sin esperas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+public class TokenBucket {
+    // 1. Número máximo de fichas.
+    // 2. Nanosegundos que tarda en generarse una ficha.
+    private final long capacity;
+    private final long nanosPerToken;
+    // 1. Fichas disponibles en el último relleno.
+    // 2. Instante del último relleno en nanosegundos.
+    private double tokens;
+    private long refilledAt;
+
+    /**
+     * 1. Constructor que crea el cubo lleno.
+     *
+     * @param capacity Número máximo de fichas.
+     * @param tokensPerMinute Fichas generadas por minuto.
+     * @param nowNanos Instante actual en nanosegundos.
+     */
+    public TokenBucket(long capacity, long tokensPerMinute, long nowNanos) {
+        if (capacity < 1 || tokensPerMinute < 1)
+            throw new IllegalArgumentException("Capacity and rate must be positive");
+        this.capacity = capacity;
+        this.nanosPerToken = 60_000_000_000L / tokensPerMinute;
+        this.tokens = capacity;
+        this.refilledAt = nowNanos;
+    }
+
+    /**
+     * 1. Intenta consumir una ficha.
+     * 2. Si no hay fichas devuelve lo que falta para la siguiente.
+     *
+     * @param nowNanos Instante actual en nanosegundos.
+     * @return 0 si se ha consumido la ficha o los nanosegundos hasta la siguiente.
+     */
+    public synchronized long tryAcquire(long nowNanos) {
+        tokens = Math.min(capacity, tokens + (double) (nowNanos - refilledAt) / nanosPerToken);
+        refilledAt = nowNanos;
+
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+
+        return (long) Math.ceil((1 - tokens) * nanosPerToken);
+    }
+}
@@ -1,7 +1,6 @@
 package com.cryfirock.auth.helper;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -14,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -27,7 +27,8 @@ import com.cryfirock.auth.repository.CrudRoleRepository;
 /**
  * 1. Pruebas unitarias para la clase RolesHelper.
  * 2. Verifica el correcto funcionamiento de la asignación de roles.
- * 3. Utiliza JUnit 5 y Mockito para las pruebas.
+ * 3. Verifica que la asignación usa el catálogo en memoria sin consultar el repositorio.
+ * 4. Utiliza JUnit 5 y Mockito para las pruebas.
  *
  * @author Cristo Suárez
  * @version 1.0
@@ -39,6 +40,9 @@ class RolesHelperTest {
     @Mock
     private CrudRoleRepository roleRepository;
 
+    @Mock
+    private UserDetailsCacheHelper userDetailsCacheHelper;
+
     @InjectMocks
     private RolesHelper rolesHelper;
 
@@ -59,7 +63,7 @@ class RolesHelperTest {
             // Arrange.
             User user = new User();
             user.setAdmin(false);
-            when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.of(roleUser));
+            loadCatalog(roleUser, roleAdmin);
 
             // Act.
             List<Role> roles = rolesHelper.assignRoles(user);
@@ -67,8 +71,6 @@ class RolesHelperTest {
             // Assert.
             assertEquals(1, roles.size());
             assertEquals("ROLE_USER", roles.get(0).getName());
-            verify(roleRepository, times(1)).findByName("ROLE_USER");
-            verify(roleRepository, never()).findByName("ROLE_ADMIN");
         }
 
         @Test @DisplayName("Debe asignar ROLE_USER y ROLE_ADMIN a un usuario administrador")
@@ -76,8 +78,7 @@ class RolesHelperTest {
             // Arrange.
             User user = new User();
             user.setAdmin(true);
-            when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.of(roleUser));
-            when(roleRepository.findByName("ROLE_ADMIN")).thenReturn(Optional.of(roleAdmin));
+            loadCatalog(roleUser, roleAdmin);
 
             // Act.
             List<Role> roles = rolesHelper.assignRoles(user);
@@ -93,7 +94,7 @@ class RolesHelperTest {
             // Arrange.
             User user = new User();
             user.setAdmin(false);
-            when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.empty());
+            loadCatalog(roleAdmin);
 
             // Act & Assert.
             IllegalStateException exception = assertThrows(
@@ -107,8 +108,7 @@ class RolesHelperTest {
             // Arrange.
             User user = new User();
             user.setAdmin(true);
-            when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.of(roleUser));
-            when(roleRepository.findByName("ROLE_ADMIN")).thenReturn(Optional.empty());
+            loadCatalog(roleUser);
 
             // Act & Assert.
             IllegalStateException exception = assertThrows(
@@ -122,7 +122,7 @@ class RolesHelperTest {
             // Arrange.
             User user = new User();
             user.setAdmin(false);
-            when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.of(roleUser));
+            loadCatalog(roleUser);
 
             // Act.
             List<Role> roles = rolesHelper.assignRoles(user);
@@ -131,5 +131,61 @@ class RolesHelperTest {
             assertDoesNotThrow(() -> roles.add(roleAdmin));
             assertEquals(2, roles.size());
         }
+
+        @Test @DisplayName("Debe asignar roles sin consultar el repositorio")
+        void shouldAssignRolesWithoutRepositoryQueries() {
+            // Arrange.
+            User user = new User();
+            user.setAdmin(true);
+            loadCatalog(roleUser, roleAdmin);
+
+            // Act.
+            rolesHelper.assignRoles(user);
+            rolesHelper.assignRoles(user);
+
+            // Assert.
+            verify(roleRepository, times(1)).findAll();
+            verify(roleRepository, never()).findByName(any());
+        }
+    }
+
+    @Nested @DisplayName("Tests para refresh")
+    class RefreshTests {
+
+        @Test @DisplayName("Debe sustituir el catálogo e invalidar los UserDetails en caché")
+        void shouldReplaceCatalogAndInvalidateUserDetails() {
+            // Arrange.
+            User user = new User();
+            user.setAdmin(true);
+            loadCatalog(roleUser);
+
+            // Act.
+            loadCatalog(roleUser, roleAdmin);
+
+            // Assert.
+            assertEquals(2, rolesHelper.getCatalog().size());
+            assertEquals(2, rolesHelper.assignRoles(user).size());
+            verify(userDetailsCacheHelper, times(2)).invalidateAll();
+        }
+
+        @Test @DisplayName("Debe devolver un catálogo inmutable")
+        void shouldReturnImmutableCatalog() {
+            // Act.
+            loadCatalog(roleUser);
+
+            // Assert.
+            assertThrows(UnsupportedOperationException.class,
+                    () -> rolesHelper.getCatalog().put("ROLE_ADMIN", roleAdmin));
+        }
+    }
+
+    /**
+     * Carga el catálogo del helper con los roles indicados.
+     *
+     * @param roles Roles que devuelve el repositorio.
+     */
+    private void loadCatalog(Role... roles) {
+        when(roleRepository.findAll()).thenReturn(List.of(roles));
+        rolesHelper.refresh();
     }
 }
@@ -0,0 +1,184 @@
+package com.cryfirock.auth.security.helper;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import static com.cryfirock.auth.security.config.TokenJwtConfig.SECRET_KEY;
+import com.cryfirock.auth.security.helper.JwtVerificationHelper.VerifiedToken;
+import com.cryfirock.auth.util.AuthorityUtil;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 1. Pruebas unitarias para la clase JwtVerificationHelper.
+ * 2. Verifica la extracción de autoridades y la caché de tokens verificados.
+ * 3. Utiliza JUnit 5 y un registro de métricas en memoria.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+@SuppressWarnings("unused")
+class JwtVerificationHelperTest {
+    private SimpleMeterRegistry meterRegistry;
+    private JwtVerificationHelper jwtVerificationHelper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtVerificationHelper = new JwtVerificationHelper(meterRegistry, 100);
+    }
+
+    @Nested @DisplayName("Tests para verify")
+    class VerifyTests {
+
+        @Test @DisplayName("Debe extraer el usuario y las autoridades del token")
+        void shouldExtractUsernameAndAuthorities() {
+            // Arrange.
+            String token = token("admin", 3_600_000, "ROLE_USER", "ROLE_ADMIN");
+
+            // Act.
+            VerifiedToken verified = jwtVerificationHelper.verify(token);
+
+            // Assert.
+            assertEquals("admin", verified.username());
+            assertEquals(
+                    List.of("ROLE_USER", "ROLE_ADMIN"),
+                    verified.authorities().stream().map(GrantedAuthority::getAuthority).toList());
+        }
+
+        @Test @DisplayName("Debe resolver el código de roles al conjunto interno")
+        void shouldResolveRoleCodeToInternedSet() {
+            // Arrange.
+            String token = Jwts.builder()
+                    .subject("admin")
+                    .claim("rc", 3)
+                    .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                    .signWith(SECRET_KEY)
+                    .compact();
+
+            // Act.
+            VerifiedToken verified = jwtVerificationHelper.verify(token);
+
+            // Assert.
+            assertSame(AuthorityUtil.decode(3), verified.authorities());
+        }
+
+        @Test @DisplayName("Debe internar las autoridades de un token sin código de roles")
+        void shouldInternLegacyAuthorities() {
+            // Arrange.
+            String token = token("user", 3_600_000, "ROLE_USER");
+
+            // Act.
+            VerifiedToken verified = jwtVerificationHelper.verify(token);
+
+            // Assert.
+            assertSame(AuthorityUtil.decode(1), verified.authorities());
+        }
+
+        @Test @DisplayName("Debe rechazar un código de roles desconocido")
+        void shouldRejectUnknownRoleCode() {
+            // Arrange.
+            String token = Jwts.builder()
+                    .subject("user")
+                    .claim("rc", 64)
+                    .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                    .signWith(SECRET_KEY)
+                    .compact();
+
+            // Act & Assert.
+            assertThrows(MalformedJwtException.class, () -> jwtVerificationHelper.verify(token));
+        }
+
+        @Test @DisplayName("Debe conservar las autoridades desconocidas")
+        void shouldKeepUnknownAuthorities() {
+            // Arrange.
+            String token = token("user", 3_600_000, "ROLE_USER", "ROLE_AUDITOR");
+
+            // Act.
+            VerifiedToken verified = jwtVerificationHelper.verify(token);
+
+            // Assert.
+            assertEquals(2, verified.authorities().size());
+            assertTrue(verified.authorities().stream()
+                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_AUDITOR")));
+        }
+
+        @Test @DisplayName("Debe reutilizar el resultado de un token ya verificado")
+        void shouldReuseVerifiedToken() {
+            // Arrange.
+            String token = token("user", 3_600_000, "ROLE_USER");
+            VerifiedToken first = jwtVerificationHelper.verify(token);
+
+            // Act.
+            VerifiedToken second = jwtVerificationHelper.verify(token);
+
+            // Assert.
+            assertSame(first, second);
+            assertEquals(1, meterRegistry.get("auth.jwt.verification").tag("cache", "miss").timer().count());
+            assertEquals(1, meterRegistry.get("auth.jwt.verification").tag("cache", "hit").timer().count());
+            assertEquals(0.5, meterRegistry.get("auth.jwt.tokens.hit_ratio").gauge().value());
+        }
+
+        @Test @DisplayName("Debe rechazar un token expirado")
+        void shouldRejectExpiredToken() {
+            // Arrange.
+            String token = token("user", -1_000, "ROLE_USER");
+
+            // Act & Assert.
+            assertThrows(ExpiredJwtException.class, () -> jwtVerificationHelper.verify(token));
+        }
+
+        @Test @DisplayName("Debe rechazar un token firmado con otra clave")
+        void shouldRejectTokenSignedWithAnotherKey() {
+            // Arrange.
+            String token = Jwts.builder()
+                    .subject("user")
+                    .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                    .signWith(Jwts.SIG.HS256.key().build())
+                    .compact();
+
+            // Act & Assert.
+            assertThrows(JwtException.class, () -> jwtVerificationHelper.verify(token));
+        }
+    }
+
+    /**
+     * Firma un token con el mismo formato que JwtAuthenticationFilter.
+     *
+     * @param username Nombre de usuario.
+     * @param expiresInMillis Milisegundos hasta la expiración.
+     * @param roles Roles del usuario.
+     * @return Token JWT firmado.
+     */
+    private static String token(String username, long expiresInMillis, String... roles) {
+        List<Map<String, String>> authorities = Arrays.stream(roles)
+                .map(role -> Map.of("authority", role))
+                .toList();
+
+        return Jwts.builder()
+                .subject(username)
+                .claim("authorities", authorities)
+                .expiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .issuedAt(new Date())
+                .signWith(SECRET_KEY)
+                .compact();
+    }
+}
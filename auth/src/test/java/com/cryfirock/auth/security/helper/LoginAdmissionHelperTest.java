@@ -0,0 +1,175 @@
+package com.cryfirock.auth.security.helper;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.cryfirock.auth.exception.LoginRejectedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 1. Pruebas unitarias para la clase LoginAdmissionHelper.
+ * 2. Verifica la limitación por usuario e IP y el rechazo por saturación del pool.
+ * 3. Utiliza JUnit 5 y un registro de métricas en memoria.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+@SuppressWarnings("unused")
+class LoginAdmissionHelperTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoginAdmissionHelper loginAdmissionHelper;
+
+    @AfterEach
+    void tearDown() {
+        loginAdmissionHelper.destroy();
+    }
+
+    @Nested @DisplayName("Tests para authenticate")
+    class AuthenticateTests {
+
+        @Test @DisplayName("Debe devolver la autenticación calculada en el pool")
+        void shouldReturnAuthenticationFromPool() {
+            // Arrange.
+            loginAdmissionHelper = helper(2, 4, 5, 50);
+            Authentication expected = new UsernamePasswordAuthenticationToken("user", null);
+
+            // Act.
+            Authentication result = loginAdmissionHelper.authenticate("user", "10.0.0.1", () -> expected);
+
+            // Assert.
+            assertSame(expected, result);
+            assertEquals(1, meterRegistry.get("auth.login.hash").timer().count());
+        }
+
+        @Test @DisplayName("Debe propagar las credenciales incorrectas")
+        void shouldPropagateBadCredentials() {
+            // Arrange.
+            loginAdmissionHelper = helper(2, 4, 5, 50);
+
+            // Act & Assert.
+            assertThrows(BadCredentialsException.class, () -> loginAdmissionHelper.authenticate(
+                    "user", "10.0.0.1", () -> {
+                        throw new BadCredentialsException("Bad credentials");
+                    }));
+        }
+
+        @Test @DisplayName("Debe responder 429 al agotar los intentos de un usuario")
+        void shouldThrottleUsername() {
+            // Arrange.
+            loginAdmissionHelper = helper(2, 4, 2, 50);
+            loginAdmissionHelper.authenticate("user", "10.0.0.1", () -> null);
+            loginAdmissionHelper.authenticate("user", "10.0.0.2", () -> null);
+
+            // Act.
+            LoginRejectedException exception = assertThrows(
+                    LoginRejectedException.class,
+                    () -> loginAdmissionHelper.authenticate("user", "10.0.0.3", () -> null));
+
+            // Assert.
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatus());
+            assertTrue(exception.getRetryAfterSeconds() >= 1);
+            loginAdmissionHelper.authenticate("other", "10.0.0.3", () -> null);
+            assertEquals(1, meterRegistry.get("auth.login.rejected").tag("reason", "throttled").counter().count());
+        }
+
+        @Test @DisplayName("Debe responder 429 al agotar los intentos de una IP")
+        void shouldThrottleIp() {
+            // Arrange.
+            loginAdmissionHelper = helper(2, 4, 5, 1);
+            loginAdmissionHelper.authenticate("first", "10.0.0.1", () -> null);
+
+            // Act.
+            LoginRejectedException exception = assertThrows(
+                    LoginRejectedException.class,
+                    () -> loginAdmissionHelper.authenticate("second", "10.0.0.1", () -> null));
+
+            // Assert.
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatus());
+        }
+
+        @Test @DisplayName("Debe responder 503 cuando el pool y la cola están llenos")
+        void shouldRejectWhenSaturated() throws Exception {
+            // Arrange.
+            loginAdmissionHelper = helper(1, 1, 5, 50);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Authentication> running = CompletableFuture.supplyAsync(
+                    () -> loginAdmissionHelper.authenticate("first", "10.0.0.1", () -> {
+                        started.countDown();
+                        await(release);
+                        return null;
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Authentication> queued = CompletableFuture.supplyAsync(
+                    () -> loginAdmissionHelper.authenticate("second", "10.0.0.2", () -> null));
+            while (meterRegistry.get("auth.login.hash.queue").gauge().value() < 1) Thread.onSpinWait();
+
+            // Act.
+            LoginRejectedException exception = assertThrows(
+                    LoginRejectedException.class,
+                    () -> loginAdmissionHelper.authenticate("third", "10.0.0.3", () -> null));
+
+            // Assert.
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+            assertEquals(1, exception.getRetryAfterSeconds());
+            assertEquals(1, meterRegistry.get("auth.login.rejected").tag("reason", "saturated").counter().count());
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            queued.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Crea el helper con un pool y límites reducidos.
+     *
+     * @param threads Hilos del pool.
+     * @param queueCapacity Capacidad de la cola.
+     * @param usernameCapacity Intentos seguidos por usuario.
+     * @param ipCapacity Intentos seguidos por IP.
+     * @return Helper de admisión.
+     */
+    private LoginAdmissionHelper helper(int threads, int queueCapacity, long usernameCapacity, long ipCapacity) {
+        return new LoginAdmissionHelper(
+                meterRegistry,
+                threads,
+                queueCapacity,
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(1),
+                usernameCapacity,
+                1,
+                ipCapacity,
+                1,
+                1_000);
+    }
+
+    /**
+     * Espera a que se abra un cerrojo sin propagar la interrupción como excepción verificada.
+     *
+     * @param latch Cerrojo.
+     */
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.cryfirock.auth.service.impl;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,16 +17,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import com.cryfirock.auth.entity.Role;
 import com.cryfirock.auth.entity.User;
+import com.cryfirock.auth.helper.UserDetailsCacheHelper;
 import com.cryfirock.auth.repository.JpaUserRepository;
 import com.cryfirock.auth.type.AccountStatus;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * 1. Pruebas unitarias para JpaUserDetailsServiceImpl.
  * 2. Verifica el correcto funcionamiento del servicio de autenticación.
@@ -40,6 +49,10 @@ class JpaUserDetailsServiceImplTest {
     @Mock
     private JpaUserRepository userRepository;
 
+    @Spy
+    private UserDetailsCacheHelper userDetailsCacheHelper = new UserDetailsCacheHelper(
+            new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
     @InjectMocks
     private JpaUserDetailsServiceImpl userDetailsService;
 
@@ -66,7 +79,7 @@ class JpaUserDetailsServiceImplTest {
         @Test @DisplayName("Debe cargar usuario existente")
         void shouldLoadExistingUser() {
             // Arrange.
-            when(userRepository.findByUsername("juanperez")).thenReturn(Optional.of(testUser));
+            when(userRepository.findByUsernameWithRoles("juanperez")).thenReturn(Optional.of(testUser));
 
             // Act.
             UserDetails userDetails = userDetailsService.loadUserByUsername("juanperez");
@@ -81,7 +94,7 @@ class JpaUserDetailsServiceImplTest {
         @Test @DisplayName("Debe lanzar excepción si el usuario no existe")
         void shouldThrowExceptionWhenUserNotFound() {
             // Arrange.
-            when(userRepository.findByUsername("noexiste")).thenReturn(Optional.empty());
+            when(userRepository.findByUsernameWithRoles("noexiste")).thenReturn(Optional.empty());
 
             // Act & Assert.
             UsernameNotFoundException exception = assertThrows(
@@ -94,7 +107,7 @@ class JpaUserDetailsServiceImplTest {
         void shouldLoadAuthoritiesCorrectly() {
             // Arrange.
             testUser.setRoles(List.of(roleUser, roleAdmin));
-            when(userRepository.findByUsername("juanperez")).thenReturn(Optional.of(testUser));
+            when(userRepository.findByUsernameWithRoles("juanperez")).thenReturn(Optional.of(testUser));
 
             // Act.
             UserDetails userDetails = userDetailsService.loadUserByUsername("juanperez");
@@ -111,7 +124,7 @@ class JpaUserDetailsServiceImplTest {
         void shouldBeDisabledWhenAccountSuspended() {
             // Arrange.
             testUser.setEnabled(AccountStatus.SUSPENDED);
-            when(userRepository.findByUsername("juanperez")).thenReturn(Optional.of(testUser));
+            when(userRepository.findByUsernameWithRoles("juanperez")).thenReturn(Optional.of(testUser));
 
             // Act.
             UserDetails userDetails = userDetailsService.loadUserByUsername("juanperez");
@@ -124,7 +137,7 @@ class JpaUserDetailsServiceImplTest {
         void shouldBeDisabledWhenAccountBanned() {
             // Arrange.
             testUser.setEnabled(AccountStatus.BANNED);
-            when(userRepository.findByUsername("juanperez")).thenReturn(Optional.of(testUser));
+            when(userRepository.findByUsernameWithRoles("juanperez")).thenReturn(Optional.of(testUser));
 
             // Act.
             UserDetails userDetails = userDetailsService.loadUserByUsername("juanperez");
@@ -137,7 +150,7 @@ class JpaUserDetailsServiceImplTest {
         void shouldBeDisabledWhenAccountPending() {
             // Arrange.
             testUser.setEnabled(AccountStatus.PENDING);
-            when(userRepository.findByUsername("juanperez")).thenReturn(Optional.of(testUser));
+            when(userRepository.findByUsernameWithRoles("juanperez")).thenReturn(Optional.of(testUser));
 
             // Act.
             UserDetails userDetails = userDetailsService.loadUserByUsername("juanperez");
@@ -150,7 +163,7 @@ class JpaUserDetailsServiceImplTest {
         void shouldBeEnabledWhenAccountActive() {
             // Arrange.
             testUser.setEnabled(AccountStatus.ACTIVE);
-            when(userRepository.findByUsername("juanperez")).thenReturn(Optional.of(testUser));
+            when(userRepository.findByUsernameWithRoles("juanperez")).thenReturn(Optional.of(testUser));
 
             // Act.
             UserDetails userDetails = userDetailsService.loadUserByUsername("juanperez");
@@ -159,4 +172,51 @@ class JpaUserDetailsServiceImplTest {
             assertTrue(userDetails.isEnabled());
         }
     }
+
+    @Nested @DisplayName("Tests para la caché de loadUserByUsername")
+    class CacheTests {
+
+        @Test @DisplayName("Debe consultar la base de datos una sola vez por usuario")
+        void shouldQueryDatabaseOncePerUser() {
+            // Arrange.
+            when(userRepository.findByUsernameWithRoles("juanperez")).thenReturn(Optional.of(testUser));
+
+            // Act.
+            UserDetails first = userDetailsService.loadUserByUsername("juanperez");
+            UserDetails second = userDetailsService.loadUserByUsername("juanperez");
+
+            // Assert.
+            assertNotSame(first, second);
+            assertEquals(first, second);
+            verify(userRepository, times(1)).findByUsernameWithRoles("juanperez");
+        }
+
+        @Test @DisplayName("Debe conservar la contraseña aunque se borre en una copia devuelta")
+        void shouldKeepPasswordWhenCopyIsErased() {
+            // Arrange.
+            when(userRepository.findByUsernameWithRoles("juanperez")).thenReturn(Optional.of(testUser));
+            UserDetails first = userDetailsService.loadUserByUsername("juanperez");
+
+            // Act.
+            ((CredentialsContainer) first).eraseCredentials();
+            UserDetails second = userDetailsService.loadUserByUsername("juanperez");
+
+            // Assert.
+            assertEquals(testUser.getPasswordHash(), second.getPassword());
+        }
+
+        @Test @DisplayName("Debe volver a consultar la base de datos tras invalidar el usuario")
+        void shouldReloadAfterInvalidate() {
+            // Arrange.
+            when(userRepository.findByUsernameWithRoles("juanperez")).thenReturn(Optional.of(testUser));
+            userDetailsService.loadUserByUsername("juanperez");
+
+            // Act.
+            userDetailsCacheHelper.invalidate("juanperez");
+            userDetailsService.loadUserByUsername("juanperez");
+
+            // Assert.
+            verify(userRepository, times(2)).findByUsernameWithRoles("juanperez");
+        }
+    }
 }
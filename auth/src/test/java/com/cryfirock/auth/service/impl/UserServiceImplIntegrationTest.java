@@ -0,0 +1,136 @@
+package com.cryfirock.auth.service.impl;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cryfirock.auth.entity.Audit;
+import com.cryfirock.auth.entity.Role;
+import com.cryfirock.auth.entity.User;
+import com.cryfirock.auth.helper.RolesHelper;
+import com.cryfirock.auth.repository.CrudRoleRepository;
+import com.cryfirock.auth.service.api.IUserService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 1. Tests de integración para el guardado de usuarios.
+ * 2. Verifica con las estadísticas de Hibernate que guardar un usuario no consulta roles.
+ * 3. Los roles se insertan antes de cada test y se carga el catálogo de forma explícita.
+ * 4. Se omite la validación al persistir porque sus validadores de unicidad necesitan beans de Spring.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.jakarta.persistence.validation.mode=none",
+        "spring.datasource.url=jdbc:h2:mem:roles;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+}) @ActiveProfiles("test") @Transactional @SuppressWarnings("unused")
+class UserServiceImplIntegrationTest {
+
+    @Autowired
+    private IUserService userService;
+
+    @Autowired
+    private RolesHelper rolesHelper;
+
+    @Autowired
+    private CrudRoleRepository roleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        if (roleRepository.count() == 0)
+            roleRepository.saveAll(Arrays.asList(new Role("ROLE_USER"), new Role("ROLE_ADMIN")));
+        rolesHelper.refresh();
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Nested @DisplayName("Tests para save")
+    class SaveTests {
+
+        @Test @DisplayName("Debe guardar un administrador sin ninguna consulta de roles")
+        void shouldSaveWithoutRoleQueries() {
+            // Arrange.
+            statistics.clear();
+
+            // Act.
+            User saved = userService.save(user("carlosgarcia", "carlos@test.com", "611111111", true));
+            entityManager.flush();
+
+            // Assert.
+            EntityStatistics roleStatistics = statistics.getEntityStatistics(Role.class.getName());
+            assertEquals(0, roleStatistics.getLoadCount());
+            assertEquals(0, roleStatistics.getFetchCount());
+            assertTrue(Arrays.stream(statistics.getQueries()).noneMatch(query -> query.contains("Role")));
+            assertEquals(2, saved.getRoles().size());
+            assertSame(rolesHelper.getCatalog().get("ROLE_ADMIN"), saved.getRoles().get(1));
+        }
+
+        @Test @DisplayName("Debe guardar las relaciones con los roles del catálogo")
+        void shouldPersistCatalogRoles() {
+            // Arrange.
+            Long id = userService.save(user("juanperez", "juan@test.com", "622222222", false)).getId();
+            entityManager.flush();
+            entityManager.clear();
+
+            // Act.
+            User loaded = userService.findByIdWithRoles(id).orElseThrow();
+
+            // Assert.
+            assertEquals(1, loaded.getRoles().size());
+            assertEquals("ROLE_USER", loaded.getRoles().get(0).getName());
+        }
+    }
+
+    /**
+     * Construye un usuario válido.
+     *
+     * @param username Nombre de usuario.
+     * @param email Correo electrónico.
+     * @param phoneNumber Número de teléfono.
+     * @param admin Indica si es administrador.
+     * @return Usuario sin guardar.
+     */
+    private static User user(String username, String email, String phoneNumber, boolean admin) {
+        User user = new User();
+        user.setGivenName("Juan");
+        user.setFamilyName("Pérez");
+        user.setEmail(email);
+        user.setPhoneNumber(phoneNumber);
+        user.setUsername(username);
+        user.setPasswordHash("password123");
+        user.setDob(LocalDate.of(1990, 1, 1));
+        user.setAddress("Calle Test 123");
+        user.setAdmin(admin);
+        user.setAudit(new Audit());
+        return user;
+    }
+}
@@ -27,6 +27,7 @@ import com.cryfirock.auth.dto.UserUpdateDto;
 import com.cryfirock.auth.entity.Role;
 import com.cryfirock.auth.entity.User;
 import com.cryfirock.auth.helper.RolesHelper;
+import com.cryfirock.auth.helper.UserDetailsCacheHelper;
 import com.cryfirock.auth.mapper.UserMapper;
 import com.cryfirock.auth.repository.JpaUserRepository;
 import com.cryfirock.auth.type.AccountStatus;
@@ -55,6 +56,9 @@ class UserServiceImplTest {
     @Mock
     private Environment environment;
 
+    @Mock
+    private UserDetailsCacheHelper userDetailsCacheHelper;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -218,6 +222,8 @@ class UserServiceImplTest {
             assertTrue(result.isPresent());
             assertEquals("Carlos", result.get().getGivenName());
             assertEquals("García", result.get().getFamilyName());
+            verify(userDetailsCacheHelper).invalidate("juanperez");
+            verify(userDetailsCacheHelper).invalidate("carlosgarcia");
         }
 
         @Test @DisplayName("Debe retornar vacío si el usuario no existe")
@@ -325,6 +331,7 @@ class UserServiceImplTest {
             assertTrue(result.isPresent());
             assertEquals("Juan", result.get().getGivenName());
             verify(userRepository).delete(testUser);
+            verify(userDetailsCacheHelper).invalidate("juanperez");
         }
 
         @Test @DisplayName("Debe retornar vacío si el usuario no existe")
@@ -0,0 +1,89 @@
+package com.cryfirock.auth.util;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 1. Pruebas unitarias para la clase AuthorityUtil.
+ * 2. Verifica la codificación de roles y el internado de conjuntos de autoridades.
+ * 3. Utiliza JUnit 5 para las pruebas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+@SuppressWarnings("unused")
+class AuthorityUtilTest {
+    @Nested @DisplayName("Tests para encode")
+    class EncodeTests {
+
+        @Test @DisplayName("Debe codificar cada combinación de roles conocidos")
+        void shouldEncodeKnownRoles() {
+            // Assert.
+            assertEquals(0, AuthorityUtil.encode(List.of()));
+            assertEquals(1, AuthorityUtil.encode(List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+            assertEquals(3, AuthorityUtil.encode(List.of(
+                    new SimpleGrantedAuthority("ROLE_ADMIN"),
+                    new SimpleGrantedAuthority("ROLE_USER"))));
+        }
+
+        @Test @DisplayName("Debe retornar UNKNOWN si hay un rol desconocido")
+        void shouldReturnUnknownForUnknownRole() {
+            // Act.
+            int code = AuthorityUtil.encode(List.of(
+                    new SimpleGrantedAuthority("ROLE_USER"),
+                    new SimpleGrantedAuthority("ROLE_AUDITOR")));
+
+            // Assert.
+            assertEquals(AuthorityUtil.UNKNOWN, code);
+        }
+    }
+
+    @Nested @DisplayName("Tests para decode")
+    class DecodeTests {
+
+        @Test @DisplayName("Debe devolver siempre la misma lista inmutable")
+        void shouldReturnSameImmutableList() {
+            // Act.
+            List<GrantedAuthority> first = AuthorityUtil.decode(3);
+            List<GrantedAuthority> second = AuthorityUtil.decode(3);
+
+            // Assert.
+            assertSame(first, second);
+            assertEquals(List.of("ROLE_USER", "ROLE_ADMIN"),
+                    first.stream().map(GrantedAuthority::getAuthority).toList());
+            assertThrows(UnsupportedOperationException.class,
+                    () -> first.add(new SimpleGrantedAuthority("ROLE_AUDITOR")));
+        }
+
+        @Test @DisplayName("Debe retornar null para un código inexistente")
+        void shouldReturnNullForUnknownCode() {
+            // Assert.
+            assertNull(AuthorityUtil.decode(-1));
+            assertNull(AuthorityUtil.decode(4));
+        }
+    }
+
+    @Nested @DisplayName("Tests para intern")
+    class InternTests {
+
+        @Test @DisplayName("Debe devolver la misma autoridad para un rol conocido")
+        void shouldInternKnownRole() {
+            // Assert.
+            assertSame(AuthorityUtil.intern("ROLE_ADMIN"), AuthorityUtil.intern("ROLE_ADMIN"));
+            assertSame(AuthorityUtil.intern("ROLE_USER"), AuthorityUtil.decode(1).get(0));
+            assertNotSame(AuthorityUtil.intern("ROLE_AUDITOR"), AuthorityUtil.intern("ROLE_AUDITOR"));
+        }
+    }
+}
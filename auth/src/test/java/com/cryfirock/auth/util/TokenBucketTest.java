@@ -0,0 +1,62 @@
+package com.cryfirock.auth.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 1. Pruebas unitarias para la clase TokenBucket.
+ * 2. Verifica el consumo y el relleno de fichas con instantes simulados.
+ * 3. Utiliza JUnit 5 para las pruebas.
+ *
+ * @author Cristo Suárez
+ * @version 1.0
+ * @since 2026-10-17
+ * @see <a href="https://cristo.vercel.app">cristo.vercel.app</a>
+ */
+@SuppressWarnings("unused")
+class TokenBucketTest {
+    @Nested @DisplayName("Tests para tryAcquire")
+    class TryAcquireTests {
+
+        @Test @DisplayName("Debe permitir tantos intentos seguidos como su capacidad")
+        void shouldAllowUpToCapacity() {
+            // Arrange.
+            TokenBucket bucket = new TokenBucket(3, 60, 0);
+
+            // Act & Assert.
+            assertEquals(0, bucket.tryAcquire(0));
+            assertEquals(0, bucket.tryAcquire(0));
+            assertEquals(0, bucket.tryAcquire(0));
+            assertEquals(1_000_000_000L, bucket.tryAcquire(0));
+        }
+
+        @Test @DisplayName("Debe recuperar fichas con el tiempo sin superar la capacidad")
+        void shouldRefillOverTime() {
+            // Arrange.
+            TokenBucket bucket = new TokenBucket(2, 60, 0);
+            bucket.tryAcquire(0);
+            bucket.tryAcquire(0);
+
+            // Act.
+            long waitAfterHalfSecond = bucket.tryAcquire(500_000_000L);
+            long waitAfterOneHour = bucket.tryAcquire(3_600_000_000_000L);
+
+            // Assert.
+            assertTrue(waitAfterHalfSecond > 0 && waitAfterHalfSecond <= 500_000_000L);
+            assertEquals(0, waitAfterOneHour);
+            assertEquals(0, bucket.tryAcquire(3_600_000_000_000L));
+            assertTrue(bucket.tryAcquire(3_600_000_000_000L) > 0);
+        }
+
+        @Test @DisplayName("Debe rechazar parámetros no positivos")
+        void shouldRejectInvalidParameters() {
+            // Assert.
+            assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 60, 0));
+            assertThrows(IllegalArgumentException.class, () -> new TokenBucket(5, 0, 0));
+        }
+    }
+}